@@ -0,0 +1,75 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 팬아웃 페이로드 직렬화 비교
+ * - legacy: 기존 경로 (writeValueAsString -> String 발행, new String(body) -> readValue)
+ * - json: JsonChatPayloadCodec (byte[] 직접 읽기/쓰기)
+ * - binary: BinaryChatPayloadCodec
+ * 실행: ./gradlew jmh -Pjmh.includes=ChatPayloadCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatPayloadCodecBenchmark {
+
+    @Param({"legacy", "json", "binary"})
+    public String codec;
+
+    private ObjectMapper legacyMapper;
+    private ChatPayloadCodec payloadCodec;
+    private ChatPayloadResponseDto payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        legacyMapper = new ObjectMapper();
+        payloadCodec = "binary".equals(codec)
+                ? new BinaryChatPayloadCodec()
+                : new JsonChatPayloadCodec(new ObjectMapper());
+        payload = ChatPayloadResponseDto.builder()
+                .roomId(1_024L)
+                .messageId(5_123_456_789_012L)
+                .senderId(73_412L)
+                .senderRole("MENTOR")
+                .text("안녕하세요! 내일 오후 3시에 멘토링 가능할까요?")
+                .sentAtEpochMs(1_767_225_600_000L)
+                .system(false)
+                .build();
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return encode();
+    }
+
+    @Benchmark
+    public ChatPayloadResponseDto deserialize() throws Exception {
+        if ("legacy".equals(codec)) {
+            return legacyMapper.readValue(new String(encoded), ChatPayloadResponseDto.class);
+        }
+        return payloadCodec.decode(encoded);
+    }
+
+    private byte[] encode() throws Exception {
+        if ("legacy".equals(codec)) {
+            return legacyMapper.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8);
+        }
+        return payloadCodec.encode(payload);
+    }
+}
@@ -0,0 +1,64 @@
+package org.swyp.linkit.domain.chat.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 메시지 역색인 검색 후보 조회 (첫 페이지 + before 커서 다음 페이지)
+ * - messages: 채팅방 메시지 수 (메시지당 단어 6개)
+ * 실행: ./gradlew jmh -Pjmh.includes=RoomSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "안녕하세요", "멘토링", "일정", "확인", "부탁드립니다", "감사합니다", "내일", "오후", "자료", "공유",
+            "질문", "있어요", "포트폴리오", "리뷰", "면접", "준비", "코드", "스프링", "배포", "회의"
+    };
+    private static final int PAGE_SIZE = 21;
+
+    @Param({"10000", "100000"})
+    public int messages;
+
+    private RoomSearchIndex index;
+    private List<Set<String>> queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        index = new RoomSearchIndex();
+        for (long id = 1; id <= messages; id++) {
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 6; w++) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            index.add(id, content.toString());
+        }
+        queries = List.of(
+                ChatSearchTokenizer.terms("포트폴리오 리뷰"),
+                ChatSearchTokenizer.terms("멘토링 일정"),
+                ChatSearchTokenizer.terms("스프링 배포"));
+    }
+
+    @Benchmark
+    public List<Long> searchTwoPages() {
+        Set<String> terms = queries.get(cursor++ % queries.size());
+        List<Long> page = index.search(terms, null, PAGE_SIZE);
+        return page.isEmpty() ? page : index.search(terms, page.get(page.size() - 1), PAGE_SIZE);
+    }
+}
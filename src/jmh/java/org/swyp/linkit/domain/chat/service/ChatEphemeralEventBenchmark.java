@@ -0,0 +1,77 @@
+package org.swyp.linkit.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.chat.dto.response.ChatEphemeralPayloadResponseDto;
+import org.swyp.linkit.domain.chat.entity.ChatEphemeralEventType;
+import org.swyp.linkit.domain.chat.redis.RedisChatEphemeralPublisher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 중 이벤트 병합 처리량 (4개 스레드가 여러 채팅방 x 2명의 키 입력을 동시에 접수)
+ *
+ * 참여자 검증(로컬 캐시 적중) 이후 단계인 offer를 측정하고, flush는 서비스의 100ms 주기 스케줄러가 실행합니다.
+ * Redis 발행은 직렬화까지만 하고 전송은 생략합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ChatEphemeralEventBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class ChatEphemeralEventBenchmark {
+
+    @Param({"1000"})
+    public int rooms;
+
+    private ChatEphemeralEventService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate() {
+            @Override
+            public List<Object> executePipelined(RedisCallback<?> action) {
+                return List.of();
+            }
+        };
+        RedisChatEphemeralPublisher publisher = new RedisChatEphemeralPublisher(redisTemplate, new ObjectMapper(), 16);
+        // offer만 호출하므로 참여자 캐시는 사용하지 않음
+        service = new ChatEphemeralEventService(null, publisher, 100, 2000, 10000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @State(Scope.Thread)
+    public static class Keystrokes {
+        private long sequence;
+    }
+
+    @Benchmark
+    public boolean typing(Keystrokes keystrokes) {
+        long i = keystrokes.sequence++;
+        long roomId = Math.floorMod(Thread.currentThread().threadId() * 31L + i, rooms) + 1;
+        long userId = roomId * 2 + (i & 1);
+        return service.offer(ChatEphemeralPayloadResponseDto.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .type(ChatEphemeralEventType.TYPING)
+                .sentAtEpochMs(System.currentTimeMillis())
+                .build());
+    }
+}
@@ -0,0 +1,183 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.swyp.linkit.domain.exchange.dto.response.SlotDto;
+import org.swyp.linkit.domain.user.dto.AvailableScheduleDto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멘토 가능 시간 계산 비교 (기존 Set<LocalTime> 경로 vs DaySlotMask/MonthSlotCalendar 비트 연산)
+ * - daySlots: 특정 날짜의 30분 슬롯별 신청 가능 여부 (getAvailableSlots)
+ * - monthDates: 한 달 중 거래 시간만큼 연속 슬롯이 남은 날짜 (월 달력)
+ * 입력은 실제 멘토 스케줄 규모: 3개월 확장 스케줄(요일별 규칙 rulesPerDay개, 1~4시간), 날짜당 예약 0~3건
+ * 실행: ./gradlew jmh -Pjmh.includes=SlotCalendarBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlotCalendarBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);
+
+    @Param({"1", "3"})
+    public int rulesPerDay;
+
+    @Param({"60", "120"})
+    public int exchangeDuration;
+
+    private List<AvailableScheduleDto> expandedSchedules;
+    private List<LocalTime[]>[] bookingsByDay;
+    private LocalDate targetDate;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Random random = new Random(7);
+        LocalDate from = MONTH.atDay(1).minusMonths(1);
+        LocalDate to = MONTH.atEndOfMonth().plusMonths(1);
+
+        // 요일별 규칙 -> 3개월 확장 (이전 목록 방식 비교용 일정 목록)
+        List<LocalTime[]>[] weeklyRules = new List[7];
+        for (int day = 0; day < 7; day++) {
+            weeklyRules[day] = new ArrayList<>();
+            for (int i = 0; i < rulesPerDay; i++) {
+                int start = 18 + i * 8 + random.nextInt(3);
+                int length = 2 + random.nextInt(7);
+                weeklyRules[day].add(new LocalTime[]{DaySlotMask.timeOf(start), DaySlotMask.timeOf(start + length)});
+            }
+        }
+        expandedSchedules = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (LocalTime[] rule : weeklyRules[date.getDayOfWeek().getValue() - 1]) {
+                expandedSchedules.add(new AvailableScheduleDto(date, date.getDayOfWeek().name(), rule[0], rule[1]));
+            }
+        }
+
+        bookingsByDay = new List[MONTH.lengthOfMonth()];
+        for (int day = 0; day < bookingsByDay.length; day++) {
+            bookingsByDay[day] = new ArrayList<>();
+            int count = random.nextInt(4);
+            for (int i = 0; i < count; i++) {
+                int start = 18 + random.nextInt(24);
+                bookingsByDay[day].add(new LocalTime[]{DaySlotMask.timeOf(start), DaySlotMask.timeOf(start + 2)});
+            }
+        }
+        targetDate = MONTH.atDay(18);
+    }
+
+    @Benchmark
+    public List<SlotDto> daySlotsSet() {
+        Set<LocalTime> operating = new HashSet<>();
+        for (AvailableScheduleDto schedule : expandedSchedules) {
+            if (schedule.getDate().equals(targetDate)) {
+                addSlots(operating, schedule.getStartTime(), schedule.getEndTime());
+            }
+        }
+        Set<LocalTime> booked = new HashSet<>();
+        for (LocalTime[] booking : bookingsByDay[targetDate.getDayOfMonth() - 1]) {
+            addSlots(booked, booking[0], booking[1]);
+        }
+        return operating.stream()
+                .sorted()
+                .map(start -> SlotDto.of(start, isPossibleSlot(start, exchangeDuration, booked, operating)))
+                .toList();
+    }
+
+    @Benchmark
+    public List<SlotDto> daySlotsBitset() {
+        long operating = 0L;
+        for (AvailableScheduleDto schedule : expandedSchedules) {
+            if (schedule.getDate().equals(targetDate)) {
+                operating |= DaySlotMask.range(schedule.getStartTime(), schedule.getEndTime());
+            }
+        }
+        long booked = 0L;
+        for (LocalTime[] booking : bookingsByDay[targetDate.getDayOfMonth() - 1]) {
+            booked |= DaySlotMask.range(booking[0], booking[1]);
+        }
+        long starts = DaySlotMask.fitStarts(operating & ~booked, DaySlotMask.slotsFor(exchangeDuration));
+        List<SlotDto> slots = new ArrayList<>(Long.bitCount(operating));
+        for (long remaining = operating; remaining != 0; remaining &= remaining - 1) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            slots.add(SlotDto.of(DaySlotMask.timeOf(index), (starts & (1L << index)) != 0));
+        }
+        return slots;
+    }
+
+    @Benchmark
+    public List<LocalDate> monthDatesSet() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+            LocalDate date = MONTH.atDay(day);
+            Set<LocalTime> operating = new HashSet<>();
+            for (AvailableScheduleDto schedule : expandedSchedules) {
+                if (schedule.getDate().equals(date)) {
+                    addSlots(operating, schedule.getStartTime(), schedule.getEndTime());
+                }
+            }
+            Set<LocalTime> booked = new HashSet<>();
+            for (LocalTime[] booking : bookingsByDay[day - 1]) {
+                addSlots(booked, booking[0], booking[1]);
+            }
+            for (LocalTime start : operating) {
+                if (isPossibleSlot(start, exchangeDuration, booked, operating)) {
+                    dates.add(date);
+                    break;
+                }
+            }
+        }
+        return dates;
+    }
+
+    @Benchmark
+    public List<LocalDate> monthDatesBitset() {
+        MonthSlotCalendar operating = MonthSlotCalendar.empty(MONTH);
+        for (AvailableScheduleDto schedule : expandedSchedules) {
+            operating.add(schedule.getDate(), schedule.getStartTime(), schedule.getEndTime());
+        }
+        MonthSlotCalendar booked = MonthSlotCalendar.empty(MONTH);
+        for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+            for (LocalTime[] booking : bookingsByDay[day - 1]) {
+                booked.add(MONTH.atDay(day), booking[0], booking[1]);
+            }
+        }
+        return operating.andNot(booked).datesFitting(DaySlotMask.slotsFor(exchangeDuration));
+    }
+
+    // 기존 SkillExchangeServiceImpl 경로
+    private static void addSlots(Set<LocalTime> slots, LocalTime start, LocalTime end) {
+        while (start.isBefore(end)) {
+            slots.add(start);
+            start = start.plusMinutes(30);
+        }
+    }
+
+    private static boolean isPossibleSlot(LocalTime start, int exchangeDuration,
+                                          Set<LocalTime> bookedSlots, Set<LocalTime> operatingSlots) {
+        int slotsNeeded = exchangeDuration / 30;
+        for (int i = 0; i < slotsNeeded; i++) {
+            LocalTime current = start.plusMinutes(i * 30);
+            if (bookedSlots.contains(current) || !operatingSlots.contains(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
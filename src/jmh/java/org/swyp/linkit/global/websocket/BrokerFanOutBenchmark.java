@@ -0,0 +1,120 @@
+package org.swyp.linkit.global.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * STOMP 브로커 팬아웃 지연 비교
+ *
+ * 구독 세션 수를 늘려가며 채팅방 destination 하나에 메시지를 발행했을 때
+ * 두 구독자에게 프레임이 모두 전달될 때까지의 지연을 측정합니다.
+ * - 세션마다 /topic/chat.room.{세션/2} (채팅방당 2명) + /topic/notification.{세션} 구독
+ * - simple: SimpleBroker 기본 DefaultSubscriptionRegistry + 호출 스레드 전송
+ * - indexed: IndexedSubscriptionRegistry + SessionShardedExecutor 전송
+ * 실행: ./gradlew jmh -Pjmh.includes=BrokerFanOutBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrokerFanOutBenchmark {
+
+    @Param({"simple", "indexed"})
+    public String mode;
+
+    @Param({"1000", "10000", "50000"})
+    public int sessions;
+
+    private final AtomicReference<CountDownLatch> delivered = new AtomicReference<>(new CountDownLatch(0));
+    private SessionShardedExecutor shardedExecutor;
+    private SimpleBrokerMessageHandler broker;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutorSubscribableChannel outbound;
+        if ("indexed".equals(mode)) {
+            shardedExecutor = new SessionShardedExecutor("fan-out-benchmark-", 4);
+            outbound = new ExecutorSubscribableChannel(shardedExecutor);
+        } else {
+            outbound = new ExecutorSubscribableChannel(Runnable::run);
+        }
+        outbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                delivered.get().countDown();
+            }
+        });
+
+        broker = new SimpleBrokerMessageHandler(
+                new ExecutorSubscribableChannel(), outbound, new ExecutorSubscribableChannel(), List.of("/topic"));
+        broker.setSubscriptionRegistry("indexed".equals(mode)
+                ? new IndexedSubscriptionRegistry()
+                : new DefaultSubscriptionRegistry());
+        broker.start();
+
+        for (int i = 0; i < sessions; i++) {
+            String sessionId = "session-" + i;
+            // SimpleBroker는 CONNECT로 등록된 세션에만 메시지를 전달
+            broker.handleMessage(connect(sessionId));
+            broker.handleMessage(subscribe(sessionId, "sub-room", "/topic/chat.room." + (i / 2)));
+            broker.handleMessage(subscribe(sessionId, "sub-noti", "/topic/notification." + i));
+        }
+        random = new Random(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        broker.stop();
+        if (shardedExecutor != null) {
+            shardedExecutor.destroy();
+        }
+    }
+
+    @Benchmark
+    public boolean fanOut() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        delivered.set(latch);
+        broker.handleMessage(publish("/topic/chat.room." + random.nextInt(sessions / 2)));
+        return latch.await(5, TimeUnit.SECONDS);
+    }
+
+    private Message<byte[]> connect(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> publish(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("payload".getBytes(), accessor.getMessageHeaders());
+    }
+}
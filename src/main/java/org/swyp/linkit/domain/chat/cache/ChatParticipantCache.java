@@ -0,0 +1,90 @@
+package org.swyp.linkit.domain.chat.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 채팅방 참여자 캐시 (roomId -> mentorId, menteeId)
+ *
+ * STOMP 전송/입장/읽음, REST 조회마다 수행되는 참여자 검증을 메모리 조회로 처리합니다.
+ * 크기 제한(LRU 계열)과 만료 시간으로 메모리 사용량을 제한하고,
+ * 채팅방 상태 변경/삭제 시 Redis Pub/Sub으로 모든 인스턴스의 캐시를 무효화합니다.
+ * 존재하지 않는 채팅방은 캐싱하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatParticipantCache {
+
+    public static final String INVALIDATION_CHANNEL = "chat:participant:invalidate";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, ChatParticipantsDto> cache;
+
+    public ChatParticipantCache(ChatRoomRepository chatRoomRepository,
+                                StringRedisTemplate redisTemplate,
+                                @Value("${app.chat.participant-cache.max-size:10000}") long maxSize,
+                                @Value("${app.chat.participant-cache.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 채팅방 참여자 조회 (캐시 미스 시 DB 조회 후 적재)
+     */
+    public Optional<ChatParticipantsDto> get(Long roomId) {
+        return Optional.ofNullable(cache.get(roomId,
+                id -> chatRoomRepository.findParticipantsById(id).orElse(null)));
+    }
+
+    /**
+     * 사용자가 채팅방 참여자인지 확인
+     */
+    public boolean isParticipant(Long roomId, Long userId) {
+        return get(roomId)
+                .map(participants -> participants.isParticipant(userId))
+                .orElse(false);
+    }
+
+    /**
+     * 캐시 무효화 (현재 인스턴스 + 다른 인스턴스에 전파)
+     */
+    public void invalidate(Long roomId) {
+        evictLocal(roomId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(roomId));
+        log.debug("참여자 캐시 무효화 발행: roomId={}", roomId);
+    }
+
+    /**
+     * 현재 인스턴스의 캐시만 무효화 (Redis 무효화 메시지 수신 시)
+     */
+    public void evictLocal(Long roomId) {
+        cache.invalidate(roomId);
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -7,11 +7,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatMessageSliceDto;
+import org.swyp.linkit.domain.chat.dto.ChatResyncDto;
 import org.swyp.linkit.domain.chat.dto.ChatRoomDto;
-import org.swyp.linkit.domain.chat.dto.response.ChatMessageResponseDto;
+import org.swyp.linkit.domain.chat.dto.ChatRoomSliceDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatMessageSliceResponseDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatResyncResponseDto;
 import org.swyp.linkit.domain.chat.dto.response.ChatRoomResponseDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatRoomSliceResponseDto;
 import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
+import org.swyp.linkit.domain.chat.service.ChatMessageSearchService;
+import org.swyp.linkit.domain.chat.service.ChatResyncService;
 import org.swyp.linkit.domain.chat.service.ChatRoomService;
 import org.swyp.linkit.domain.chat.service.ChatService;
 import org.swyp.linkit.global.auth.oauth.CustomOAuth2User;
@@ -21,7 +27,6 @@ import org.swyp.linkit.global.swagger.annotation.ApiErrorExceptionsExample;
 import org.swyp.linkit.global.swagger.docs.ChatExceptionDocs;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -32,6 +37,8 @@ public class ChatController {
 
     private final ChatRoomService chatRoomService;
     private final ChatService chatService;
+    private final ChatMessageSearchService chatMessageSearchService;
+    private final ChatResyncService chatResyncService;
 
     // ==================== 채팅방 API ====================
 
@@ -53,17 +60,16 @@ public class ChatController {
         return ApiResponseDto.success("채팅방 조회/생성 완료", ChatRoomResponseDto.from(roomDto));
     }
 
-    @Operation(summary = "내 채팅방 목록 조회", description = "현재 사용자의 채팅방 목록을 조회합니다. 삭제된 채팅방은 제외되며, 마지막 메시지 기준 최신순으로 정렬됩니다.")
+    @Operation(summary = "내 채팅방 목록 조회", description = "현재 사용자의 채팅방 목록을 커서 기반으로 조회합니다. 삭제된 채팅방은 제외되며, 마지막 메시지 기준 최신순으로 정렬됩니다.")
     @ApiErrorExceptionsExample(ChatExceptionDocs.class)
     @GetMapping("/rooms")
-    public ApiResponseDto<List<ChatRoomResponseDto>> getMyRooms(
+    public ApiResponseDto<ChatRoomSliceResponseDto> getMyRooms(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "30") int size,
             @AuthenticationPrincipal CustomOAuth2User oAuthUser) {
         Long me = oAuthUser.getUserId();
-        List<ChatRoomDto> roomDtos = chatRoomService.findRoomsByUserId(me);
-        List<ChatRoomResponseDto> rooms = roomDtos.stream()
-                .map(ChatRoomResponseDto::from)
-                .collect(Collectors.toList());
-        return ApiResponseDto.success("채팅방 목록 조회 완료", rooms);
+        ChatRoomSliceDto slice = chatRoomService.findRoomsByUserId(me, cursor, size);
+        return ApiResponseDto.success("채팅방 목록 조회 완료", ChatRoomSliceResponseDto.from(slice));
     }
 
     @Operation(summary = "채팅방 상세 조회", description = "특정 채팅방의 상세 정보를 조회합니다. 채팅방 참여자만 조회할 수 있습니다.")
@@ -115,18 +121,45 @@ public class ChatController {
 
     // ==================== 메시지 API ====================
 
-    @Operation(summary = "메시지 목록 조회", description = "채팅방의 메시지 목록을 조회합니다. 본인이 삭제한 메시지는 제외됩니다.")
+    @Operation(summary = "메시지 목록 조회", description = "채팅방의 메시지를 커서 기반으로 조회합니다. before 커서는 과거 방향, after 커서는 최신 방향으로 조회하며, 커서가 없으면 최근 메시지를 조회합니다. 본인이 삭제한 메시지는 제외됩니다.")
     @ApiErrorExceptionsExample(ChatExceptionDocs.class)
     @GetMapping("/rooms/{roomId}/messages")
-    public ApiResponseDto<List<ChatMessageResponseDto>> getMessages(
+    public ApiResponseDto<ChatMessageSliceResponseDto> getMessages(
             @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @Parameter(description = "이 메시지 ID 이전의 메시지 조회 (과거 방향)") @RequestParam(required = false) Long before,
+            @Parameter(description = "이 메시지 ID 이후의 메시지 조회 (최신 방향)") @RequestParam(required = false) Long after,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "30") int size,
             @AuthenticationPrincipal CustomOAuth2User oAuthUser) {
         Long me = oAuthUser.getUserId();
-        List<ChatMessageDto> messageDtos = chatService.getMessages(roomId, me);
-        List<ChatMessageResponseDto> messages = messageDtos.stream()
-                .map(ChatMessageResponseDto::from)
-                .collect(Collectors.toList());
-        return ApiResponseDto.success("메시지 목록 조회 완료", messages);
+        ChatMessageSliceDto slice = chatService.getMessages(roomId, me, before, after, size);
+        return ApiResponseDto.success("메시지 목록 조회 완료", ChatMessageSliceResponseDto.from(slice));
+    }
+
+    @Operation(summary = "재연결 동기화", description = "재연결한 클라이언트가 마지막으로 받은 메시지 ID(after) 이후의 메시지와 읽음 이벤트를 chunk 단위로 조회합니다. hasNext가 true면 nextCursor를 after로 다시 요청합니다. 최근 공백은 Redis 재전송 버퍼로, 긴 공백은 DB로 처리합니다.")
+    @ApiErrorExceptionsExample(ChatExceptionDocs.class)
+    @GetMapping("/rooms/{roomId}/messages/resync")
+    public ApiResponseDto<ChatResyncResponseDto> resync(
+            @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @Parameter(description = "클라이언트가 마지막으로 받은 메시지 ID") @RequestParam Long after,
+            @Parameter(description = "chunk 크기 (최대 100)") @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal CustomOAuth2User oAuthUser) {
+        Long me = oAuthUser.getUserId();
+        ChatResyncDto chunk = chatResyncService.resync(roomId, me, after, size);
+        return ApiResponseDto.success("재연결 동기화 완료", ChatResyncResponseDto.from(chunk));
+    }
+
+    @Operation(summary = "메시지 검색", description = "채팅방의 메시지를 검색어로 조회합니다. 최신순으로 반환하며 before 커서로 다음 페이지를 조회합니다. 검색어는 두 글자 이상 이어진 단어를 포함해야 하며, 본인이 삭제한 메시지는 제외됩니다.")
+    @ApiErrorExceptionsExample(ChatExceptionDocs.class)
+    @GetMapping("/rooms/{roomId}/messages/search")
+    public ApiResponseDto<ChatMessageSliceResponseDto> searchMessages(
+            @Parameter(description = "채팅방 ID") @PathVariable Long roomId,
+            @Parameter(description = "검색어 (최대 100자)") @RequestParam("q") String query,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (없으면 최신 결과부터)") @RequestParam(required = false) Long before,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomOAuth2User oAuthUser) {
+        Long me = oAuthUser.getUserId();
+        ChatMessageSliceDto slice = chatMessageSearchService.search(roomId, me, query, before, size);
+        return ApiResponseDto.success("메시지 검색 완료", ChatMessageSliceResponseDto.from(slice));
     }
 
     @Operation(summary = "메시지 읽음 처리", description = "채팅방의 모든 메시지를 읽음 처리합니다.")
@@ -5,9 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import org.swyp.linkit.domain.chat.dto.request.ChatEphemeralEventRequestDto;
+import org.swyp.linkit.domain.chat.dto.request.ChatResyncRequestDto;
 import org.swyp.linkit.domain.chat.dto.request.ChatSendRequestDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatResyncResponseDto;
 import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.service.ChatEphemeralEventService;
+import org.swyp.linkit.domain.chat.service.ChatPresenceService;
+import org.swyp.linkit.domain.chat.service.ChatReadCoalescer;
+import org.swyp.linkit.domain.chat.service.ChatResyncService;
 import org.swyp.linkit.domain.chat.service.ChatService;
 
 import java.security.Principal;
@@ -23,7 +32,15 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class ChatStompController {
 
+    private static final String RESYNC_DESTINATION = "/queue/chat.resync";
+    private static final int RESYNC_CHUNK_SIZE = 100;
+
     private final ChatService chatService;
+    private final ChatReadCoalescer chatReadCoalescer;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatResyncService chatResyncService;
+    private final ChatEphemeralEventService chatEphemeralEventService;
+    private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * 메시지 전송
@@ -37,6 +54,12 @@ public class ChatStompController {
 
         log.info("메시지 수신: roomId={}, senderId={}", roomId, senderId);
 
+        // write-behind 모드: 참여자 검증 + 큐 적재 + Redis publish (DB 저장은 비동기 배치)
+        if (chatService.isWriteBehindEnabled()) {
+            chatService.acceptMessage(roomId, senderId, dto.getText());
+            return;
+        }
+
         // 권한 체크 (room 참여자 여부)
         chatService.assertParticipant(senderId, roomId);
 
@@ -52,11 +75,13 @@ public class ChatStompController {
      * 클라이언트 발행: /app/chat/room/{roomId}/enter
      */
     @MessageMapping("/chat/room/{roomId}/enter")
-    public void enterRoom(@DestinationVariable Long roomId, Principal principal) {
+    public void enterRoom(@DestinationVariable Long roomId, Principal principal,
+                          SimpMessageHeaderAccessor headerAccessor) {
         Long userId = Long.parseLong(principal.getName());
         log.info("채팅방 입장 요청: roomId={}, userId={}", roomId, userId);
 
-        processReadAndNotify(roomId, userId);
+        chatReadCoalescer.submit(roomId, userId);
+        chatPresenceService.enter(headerAccessor.getSessionId(), userId, roomId);
 
         log.info("채팅방 입장 완료: roomId={}, userId={}", roomId, userId);
     }
@@ -66,10 +91,13 @@ public class ChatStompController {
      * 클라이언트 발행: /app/chat/room/{roomId}/exit
      */
     @MessageMapping("/chat/room/{roomId}/exit")
-    public void exitRoom(@DestinationVariable Long roomId, Principal principal) {
+    public void exitRoom(@DestinationVariable Long roomId, Principal principal,
+                         SimpMessageHeaderAccessor headerAccessor) {
         Long userId = Long.parseLong(principal.getName());
         log.info("채팅방 퇴장 요청: roomId={}, userId={}", roomId, userId);
 
+        chatPresenceService.exit(headerAccessor.getSessionId(), userId);
+
         try {
             chatService.markAsRead(roomId, userId);
         } catch (RuntimeException e) {
@@ -86,19 +114,36 @@ public class ChatStompController {
     @MessageMapping("/chat/room/{roomId}/read")
     public void markAsRead(@DestinationVariable Long roomId, Principal principal) {
         Long userId = Long.parseLong(principal.getName());
-        log.info("읽음 처리 요청: roomId={}, userId={}", roomId, userId);
+        log.debug("읽음 처리 요청: roomId={}, userId={}", roomId, userId);
+
+        // 연속된 읽음 요청은 window 동안 병합되어 한 번만 DB 반영 + 읽음 이벤트 발행
+        chatReadCoalescer.submit(roomId, userId);
+    }
 
-        processReadAndNotify(roomId, userId);
+    /**
+     * 재연결 동기화 요청 (마지막으로 받은 메시지 ID 이후 메시지/읽음 이벤트를 chunk 단위로 전송)
+     * 클라이언트 발행: /app/chat/room/{roomId}/resync
+     * 구독: /user/queue/chat.resync
+     */
+    @MessageMapping("/chat/room/{roomId}/resync")
+    public void resync(@DestinationVariable Long roomId, @Payload ChatResyncRequestDto dto, Principal principal) {
+        Long userId = Long.parseLong(principal.getName());
+        log.info("재연결 동기화 요청: roomId={}, userId={}, after={}", roomId, userId, dto.getAfter());
 
-        log.info("읽음 처리 완료: roomId={}, userId={}", roomId, userId);
+        chatResyncService.resyncChunks(roomId, userId, dto.getAfter(), RESYNC_CHUNK_SIZE,
+                chunk -> messagingTemplate.convertAndSendToUser(principal.getName(), RESYNC_DESTINATION,
+                        ChatResyncResponseDto.from(chunk)));
     }
 
     /**
-     * 읽음 처리 공통 로직 (권한 체크 + 읽음 처리 + Redis 이벤트 발행)
+     * 실시간 이벤트 (입력 중, 입력 중지, 확인) - DB 저장/읽지 않은 수/알림 없이 병합 후 발행, 과부하 시 버림
+     * 클라이언트 발행: /app/chat/room/{roomId}/event
+     * 구독: /topic/chat.room.{roomId}.events
      */
-    private void processReadAndNotify(Long roomId, Long userId) {
-        chatService.assertParticipant(userId, roomId);
-        chatService.markAsRead(roomId, userId);
-        chatService.publishReadEvent(roomId, userId, null);
+    @MessageMapping("/chat/room/{roomId}/event")
+    public void ephemeralEvent(@DestinationVariable Long roomId, @Payload ChatEphemeralEventRequestDto dto,
+                               Principal principal) {
+        Long userId = Long.parseLong(principal.getName());
+        chatEphemeralEventService.submit(roomId, userId, dto.getType(), dto.getMessageId());
     }
 }
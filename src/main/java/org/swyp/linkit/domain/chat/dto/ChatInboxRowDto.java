@@ -0,0 +1,17 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
+
+/**
+ * 채팅방 목록 행 + 상대방의 현재 닉네임/프로필 이미지 (users PK 조인)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatInboxRowDto {
+
+    private ChatInbox inbox;
+    private String partnerNickname;
+    private String partnerProfileImageUrl;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
 import org.swyp.linkit.domain.chat.entity.ChatMessage;
 import org.swyp.linkit.domain.chat.entity.SenderRole;
 
@@ -45,4 +46,19 @@ public class ChatMessageDto {
                 .isMine(message.getSenderId().equals(currentUserId))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 팬아웃 페이로드로 생성 (재전송 버퍼용)
+     */
+    public static ChatMessageDto from(ChatPayloadResponseDto payload, Long currentUserId) {
+        return ChatMessageDto.builder()
+                .messageId(payload.getMessageId())
+                .roomId(payload.getRoomId())
+                .senderId(payload.getSenderId())
+                .senderRole(SenderRole.valueOf(payload.getSenderRole()))
+                .content(payload.getText())
+                .createdAtEpochMs(payload.getSentAtEpochMs())
+                .isMine(payload.getSenderId().equals(currentUserId))
+                .build();
+    }
+}
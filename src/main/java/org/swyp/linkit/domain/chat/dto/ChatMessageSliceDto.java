@@ -0,0 +1,27 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageSliceDto {
+
+    private List<ChatMessageDto> messages;     // 오래된 순 정렬 (메시지 검색 결과는 최신순)
+    private Long nextCursor;                   // 다음 페이지 요청 시 사용할 메시지 ID (없으면 null)
+    private boolean hasNext;
+
+    public static ChatMessageSliceDto of(List<ChatMessageDto> messages, Long nextCursor, boolean hasNext) {
+        return ChatMessageSliceDto.builder()
+                .messages(messages)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
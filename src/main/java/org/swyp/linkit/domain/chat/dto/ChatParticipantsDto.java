@@ -0,0 +1,43 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+
+/**
+ * 채팅방 참여자 정보 (참여자 검증 캐시 값)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatParticipantsDto {
+
+    private Long roomId;
+    private Long mentorId;
+    private Long menteeId;
+
+    public static ChatParticipantsDto from(ChatRoom room) {
+        return new ChatParticipantsDto(room.getId(), room.getMentorId(), room.getMenteeId());
+    }
+
+    public boolean isParticipant(Long userId) {
+        return mentorId.equals(userId) || menteeId.equals(userId);
+    }
+
+    /**
+     * 참여자의 역할 (참여자가 아니면 null)
+     */
+    public SenderRole roleOf(Long userId) {
+        if (mentorId.equals(userId)) {
+            return SenderRole.MENTOR;
+        }
+        if (menteeId.equals(userId)) {
+            return SenderRole.MENTEE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadEventDto {
+
+    private Long readerId;              // 읽음 처리한 사용자 ID
+    private Long readUpToMessageId;     // 읽음 처리된 마지막 메시지 ID
+
+    public static ChatReadEventDto of(Long readerId, Long readUpToMessageId) {
+        return ChatReadEventDto.builder()
+                .readerId(readerId)
+                .readUpToMessageId(readUpToMessageId)
+                .build();
+    }
+}
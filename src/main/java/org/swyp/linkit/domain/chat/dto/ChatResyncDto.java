@@ -0,0 +1,34 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatResyncDto {
+
+    private Long roomId;
+    private List<ChatMessageDto> messages;        // 커서 이후 놓친 메시지 (오래된 순)
+    private List<ChatReadEventDto> readEvents;    // 커서 이후 전진한 참여자별 최신 읽음 위치
+    private Long nextCursor;                      // 다음 chunk 요청 시 사용할 메시지 ID (없으면 null)
+    private boolean hasNext;
+    private boolean fromBuffer;                   // Redis 재전송 버퍼로 처리했는지 여부 (false면 DB 조회)
+
+    public static ChatResyncDto of(Long roomId, List<ChatMessageDto> messages, List<ChatReadEventDto> readEvents,
+                                   Long nextCursor, boolean hasNext, boolean fromBuffer) {
+        return ChatResyncDto.builder()
+                .roomId(roomId)
+                .messages(messages)
+                .readEvents(readEvents)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .fromBuffer(fromBuffer)
+                .build();
+    }
+}
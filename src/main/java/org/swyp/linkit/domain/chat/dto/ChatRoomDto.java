@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
 import org.swyp.linkit.domain.chat.entity.ChatRoom;
 import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
 
@@ -75,6 +76,34 @@ public class ChatRoomDto {
                 .build();
     }
 
+    /**
+     * 사용자별 채팅방 목록 행으로 생성 (현재 사용자의 읽지 않은 수만 포함)
+     */
+    public static ChatRoomDto fromInbox(ChatInboxRowDto row) {
+        ChatInbox inbox = row.getInbox();
+        Long userId = inbox.getId().getUserId();
+        boolean isMentor = inbox.isMentor();
+
+        return ChatRoomDto.builder()
+                .roomId(inbox.getId().getChatRoomId())
+                .mentorId(isMentor ? userId : inbox.getPartnerId())
+                .menteeId(isMentor ? inbox.getPartnerId() : userId)
+                .status(inbox.getStatus())
+                .isMentor(isMentor)
+                .partnerId(inbox.getPartnerId())
+                .partnerNickname(row.getPartnerNickname() != null ? row.getPartnerNickname() : "알 수 없음")
+                .partnerProfileImageUrl(row.getPartnerProfileImageUrl())
+                .lastMessageId(inbox.getLastMessageId())
+                .lastMessageContent(inbox.getLastMessagePreview())
+                .lastMessageAtEpochMs(toEpochMs(inbox.getLastMessageAt()))
+                .unreadCount(inbox.getUnreadCount())
+                .unreadMentorCount(isMentor ? inbox.getUnreadCount() : null)
+                .unreadMenteeCount(isMentor ? null : inbox.getUnreadCount())
+                .createdAtEpochMs(toEpochMs(inbox.getCreatedAt()))
+                .modifiedAtEpochMs(toEpochMs(inbox.getModifiedAt()))
+                .build();
+    }
+
     /**
      * LocalDateTime을 Unix epoch 밀리초로 변환합니다.
      * 모든 시간은 UTC 기준으로 저장 및 처리되며, 클라이언트에서 로컬 시간대로 변환하여 표시합니다.
@@ -0,0 +1,27 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatRoomSliceDto {
+
+    private List<ChatRoomDto> rooms;           // 마지막 메시지 기준 최신순 정렬
+    private String nextCursor;                 // 다음 페이지 요청 시 사용할 커서 (없으면 null)
+    private boolean hasNext;
+
+    public static ChatRoomSliceDto of(List<ChatRoomDto> rooms, String nextCursor, boolean hasNext) {
+        return ChatRoomSliceDto.builder()
+                .rooms(rooms)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package org.swyp.linkit.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방 참여자별 읽지 않은 메시지 수 (chat_room 집계 컬럼, Redis 카운터 초기 적재용)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomUnreadDto {
+
+    private Long roomId;
+    private Long mentorId;
+    private Long menteeId;
+    private Integer unreadMentorCount;
+    private Integer unreadMenteeCount;
+}
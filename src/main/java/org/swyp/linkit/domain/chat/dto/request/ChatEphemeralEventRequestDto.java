@@ -0,0 +1,20 @@
+package org.swyp.linkit.domain.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.entity.ChatEphemeralEventType;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "채팅방 실시간 이벤트 전송 요청 (저장하지 않음)")
+public class ChatEphemeralEventRequestDto {
+
+    @NotNull(message = "이벤트 종류는 필수입니다.")
+    @Schema(description = "이벤트 종류 (TYPING, TYPING_STOPPED, SEEN)", example = "TYPING")
+    private ChatEphemeralEventType type;
+
+    @Schema(description = "확인한 메시지 ID (SEEN 이벤트용)", example = "120")
+    private Long messageId;
+}
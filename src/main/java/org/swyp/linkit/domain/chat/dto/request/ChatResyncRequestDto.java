@@ -0,0 +1,16 @@
+package org.swyp.linkit.domain.chat.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "재연결 동기화 요청")
+public class ChatResyncRequestDto {
+
+    @NotNull(message = "마지막으로 받은 메시지 ID는 필수입니다.")
+    @Schema(description = "클라이언트가 마지막으로 받은 메시지 ID (이후 메시지부터 동기화)", example = "120")
+    private Long after;
+}
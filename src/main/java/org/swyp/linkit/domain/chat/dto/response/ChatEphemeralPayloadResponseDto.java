@@ -0,0 +1,31 @@
+package org.swyp.linkit.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.entity.ChatEphemeralEventType;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "WebSocket 채팅방 실시간 이벤트 페이로드 (입력 중, 확인 등 저장하지 않는 이벤트)")
+public class ChatEphemeralPayloadResponseDto {
+
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+
+    @Schema(description = "이벤트를 보낸 사용자 ID", example = "10")
+    private Long userId;
+
+    @Schema(description = "이벤트 종류 (TYPING, TYPING_STOPPED, SEEN)", example = "TYPING")
+    private ChatEphemeralEventType type;
+
+    @Schema(description = "확인한 메시지 ID (SEEN 이벤트용)", example = "120")
+    private Long messageId;
+
+    @Schema(description = "이벤트 발생 시간 (epoch milliseconds)", example = "1705651200000")
+    private Long sentAtEpochMs;
+}
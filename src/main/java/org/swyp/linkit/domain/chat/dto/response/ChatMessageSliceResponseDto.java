@@ -0,0 +1,37 @@
+package org.swyp.linkit.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.dto.ChatMessageSliceDto;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅 메시지 커서 페이지")
+public class ChatMessageSliceResponseDto {
+
+    @Schema(description = "메시지 목록 (오래된 순)")
+    private List<ChatMessageResponseDto> messages;
+
+    @Schema(description = "다음 페이지 조회용 커서 (before/after 파라미터에 그대로 전달, 마지막 페이지면 null)", example = "120")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static ChatMessageSliceResponseDto from(ChatMessageSliceDto dto) {
+        return ChatMessageSliceResponseDto.builder()
+                .messages(dto.getMessages().stream()
+                        .map(ChatMessageResponseDto::from)
+                        .toList())
+                .nextCursor(dto.getNextCursor())
+                .hasNext(dto.isHasNext())
+                .build();
+    }
+}
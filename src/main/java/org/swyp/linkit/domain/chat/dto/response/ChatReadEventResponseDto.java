@@ -0,0 +1,29 @@
+package org.swyp.linkit.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.dto.ChatReadEventDto;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "읽음 이벤트")
+public class ChatReadEventResponseDto {
+
+    @Schema(description = "읽음 처리한 사용자 ID", example = "20")
+    private Long readerId;
+
+    @Schema(description = "읽음 처리된 마지막 메시지 ID", example = "99")
+    private Long readUpToMessageId;
+
+    public static ChatReadEventResponseDto from(ChatReadEventDto dto) {
+        return ChatReadEventResponseDto.builder()
+                .readerId(dto.getReaderId())
+                .readUpToMessageId(dto.getReadUpToMessageId())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package org.swyp.linkit.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.dto.ChatResyncDto;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "재연결 동기화 chunk")
+public class ChatResyncResponseDto {
+
+    @Schema(description = "채팅방 ID", example = "10")
+    private Long roomId;
+
+    @Schema(description = "커서 이후 놓친 메시지 목록 (오래된 순)")
+    private List<ChatMessageResponseDto> messages;
+
+    @Schema(description = "커서 이후 전진한 참여자별 최신 읽음 위치")
+    private List<ChatReadEventResponseDto> readEvents;
+
+    @Schema(description = "다음 chunk 조회용 커서 (after 파라미터에 그대로 전달, 마지막 chunk면 null)", example = "120")
+    private Long nextCursor;
+
+    @Schema(description = "다음 chunk 존재 여부", example = "false")
+    private boolean hasNext;
+
+    @Schema(description = "Redis 재전송 버퍼로 처리했는지 여부 (false면 DB 조회)", example = "true")
+    private boolean fromBuffer;
+
+    public static ChatResyncResponseDto from(ChatResyncDto dto) {
+        return ChatResyncResponseDto.builder()
+                .roomId(dto.getRoomId())
+                .messages(dto.getMessages().stream()
+                        .map(ChatMessageResponseDto::from)
+                        .toList())
+                .readEvents(dto.getReadEvents().stream()
+                        .map(ChatReadEventResponseDto::from)
+                        .toList())
+                .nextCursor(dto.getNextCursor())
+                .hasNext(dto.isHasNext())
+                .fromBuffer(dto.isFromBuffer())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package org.swyp.linkit.domain.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.dto.ChatRoomSliceDto;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "채팅방 목록 커서 페이지")
+public class ChatRoomSliceResponseDto {
+
+    @Schema(description = "채팅방 목록 (마지막 메시지 기준 최신순)")
+    private List<ChatRoomResponseDto> rooms;
+
+    @Schema(description = "다음 페이지 조회용 커서 (cursor 파라미터에 그대로 전달, 마지막 페이지면 null)", example = "1705651200000000_12")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static ChatRoomSliceResponseDto from(ChatRoomSliceDto dto) {
+        return ChatRoomSliceResponseDto.builder()
+                .rooms(dto.getRooms().stream()
+                        .map(ChatRoomResponseDto::from)
+                        .toList())
+                .nextCursor(dto.getNextCursor())
+                .hasNext(dto.isHasNext())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.swyp.linkit.domain.chat.entity;
+
+/**
+ * 저장하지 않는 채팅방 실시간 이벤트 종류
+ * 같은 그룹의 이벤트는 병합 시 마지막 이벤트만 전달됩니다. (입력 중 -> 입력 중지)
+ */
+public enum ChatEphemeralEventType {
+    TYPING("typing"),
+    TYPING_STOPPED("typing"),
+    SEEN("seen");
+
+    private final String group;
+
+    ChatEphemeralEventType(String group) {
+        this.group = group;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+}
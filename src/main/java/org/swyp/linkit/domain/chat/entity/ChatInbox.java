@@ -0,0 +1,95 @@
+package org.swyp.linkit.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.global.common.domain.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 채팅방 목록 (채팅방당 참여자 두 명의 행)
+ *
+ * 채팅방 목록 조회가 (user_id, hidden, sort_at) 인덱스 범위 스캔 한 번으로 끝나도록
+ * 상대방 ID, 마지막 메시지 미리보기, 읽지 않은 수, 숨김 여부를 비정규화해 보관합니다.
+ * 메시지 저장/읽음/채팅방 삭제/상태 변경 시 함께 갱신됩니다.
+ * 상대방 닉네임/프로필 이미지는 바뀔 수 있으므로 복사하지 않고 조회 시 users PK로 조인합니다.
+ */
+@Entity
+@Table(name = "chat_inbox", indexes = {
+    @Index(name = "idx_chat_inbox_user_sort", columnList = "user_id, hidden, sort_at, chat_room_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatInbox extends BaseTimeEntity {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    @EmbeddedId
+    private ChatInboxId id;
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId;
+
+    @Column(name = "is_mentor", nullable = false)
+    private boolean mentor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChatRoomStatus status;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // 정렬 기준 (마지막 메시지 시간, 메시지가 없으면 채팅방 생성 시간)
+    @Column(name = "sort_at", nullable = false)
+    private LocalDateTime sortAt;
+
+    @Column(name = "unread_count", nullable = false)
+    private Integer unreadCount;
+
+    @Column(nullable = false)
+    private boolean hidden;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ChatInbox(ChatInboxId id, Long partnerId, boolean mentor, ChatRoomStatus status, LocalDateTime sortAt) {
+        this.id = id;
+        this.partnerId = partnerId;
+        this.mentor = mentor;
+        this.status = status;
+        this.sortAt = sortAt;
+        this.unreadCount = 0;
+        this.hidden = false;
+    }
+
+    /**
+     * 채팅방 참여자 한 명의 목록 행 생성
+     */
+    public static ChatInbox create(ChatRoom room, Long userId, Long partnerId) {
+        return ChatInbox.builder()
+                .id(new ChatInboxId(userId, room.getId()))
+                .partnerId(partnerId)
+                .mentor(room.getMentorId().equals(userId))
+                .status(room.getStatus())
+                .sortAt(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 마지막 메시지 미리보기 (앞부분만 보관)
+     */
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
+    }
+}
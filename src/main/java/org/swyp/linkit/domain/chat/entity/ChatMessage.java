@@ -10,7 +10,9 @@ import org.swyp.linkit.global.common.domain.BaseTimeEntity;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+    @Index(name = "idx_chat_room_message", columnList = "chat_room_id, chat_message_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseTimeEntity {
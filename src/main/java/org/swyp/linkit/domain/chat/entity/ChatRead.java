@@ -45,9 +45,11 @@ public class ChatRead extends BaseTimeEntity {
     }
 
     /**
-     * 마지막 읽은 메시지 업데이트
+     * 마지막 읽은 메시지 업데이트 (더 큰 메시지 ID일 때만 갱신, 읽음 위치는 되돌아가지 않음)
      */
     public void updateLastReadMessage(Long messageId) {
-        this.lastReadMessageId = messageId;
+        if (messageId != null && messageId > this.lastReadMessageId) {
+            this.lastReadMessageId = messageId;
+        }
     }
 }
@@ -0,0 +1,11 @@
+package org.swyp.linkit.domain.chat.event;
+
+import org.swyp.linkit.domain.chat.writebehind.PendingChatMessage;
+
+import java.util.List;
+
+/**
+ * write-behind 배치가 커밋되어 메시지가 DB에 저장됨 (재처리로 이미 저장되어 있던 메시지는 제외)
+ */
+public record ChatMessagesPersistedEvent(List<PendingChatMessage> messages) {
+}
@@ -0,0 +1,48 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 -> Redis Pub/Sub 채널 매핑
+ *
+ * - room: 채팅방마다 채널 하나 (chat:room:{roomId})
+ * - shard: roomId 해시로 고정 개수의 채널에 분산 (chat:room:shard:{n})
+ *   채팅방 수가 많아 SUBSCRIBE/UNSUBSCRIBE 가 잦을 때 사용하며, 같은 샤드의 다른 채팅방 메시지도 수신합니다.
+ * 두 형식 모두 기존 chat:room:* 패턴에 매칭되므로 패턴 구독 중인 인스턴스와 함께 운영할 수 있습니다.
+ */
+@Component
+public class ChatRedisChannelResolver {
+
+    public static final String CHAT_CHANNEL_PREFIX = "chat:room:";
+    private static final String SHARD_CHANNEL_PREFIX = CHAT_CHANNEL_PREFIX + "shard:";
+
+    private final boolean sharded;
+    private final int shardCount;
+
+    public ChatRedisChannelResolver(@Value("${app.chat.redis.channel-mode:room}") String channelMode,
+                                    @Value("${app.chat.redis.shard-count:64}") int shardCount) {
+        if (!"room".equalsIgnoreCase(channelMode) && !"shard".equalsIgnoreCase(channelMode)) {
+            throw new IllegalArgumentException("지원하지 않는 채팅 채널 모드입니다: " + channelMode);
+        }
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.sharded = "shard".equalsIgnoreCase(channelMode);
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 채팅방 메시지를 발행/구독할 채널
+     */
+    public String channelOf(Long roomId) {
+        if (sharded) {
+            return SHARD_CHANNEL_PREFIX + Math.floorMod(Long.hashCode(roomId), shardCount);
+        }
+        return CHAT_CHANNEL_PREFIX + roomId;
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+}
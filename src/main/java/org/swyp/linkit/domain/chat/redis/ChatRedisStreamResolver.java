@@ -0,0 +1,72 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅 팬아웃 전송 방식 선택 및 채팅방 -> Redis Stream 매핑
+ *
+ * - pubsub: 기존 Pub/Sub (발행 시점에 연결되어 있지 않은 노드는 메시지를 놓침)
+ * - stream: roomId 해시로 고정 개수의 Stream(chat:stream:{n})에 XADD 하고, 노드마다 자기 consumer group으로 읽음
+ *   노드가 잠시 끊기거나 GC로 멈춰도 MAXLEN 범위 안에서는 다시 연결된 뒤 이어서 받습니다.
+ */
+@Component
+public class ChatRedisStreamResolver {
+
+    public static final String STREAM_PREFIX = "chat:stream:";
+    public static final String PAYLOAD_FIELD = "p";
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final long maxLength;
+
+    public ChatRedisStreamResolver(@Value("${app.chat.redis.transport:pubsub}") String transport,
+                                   @Value("${app.chat.redis.stream.shard-count:16}") int shardCount,
+                                   @Value("${app.chat.redis.stream.max-length:10000}") long maxLength) {
+        if (!"pubsub".equalsIgnoreCase(transport) && !"stream".equalsIgnoreCase(transport)) {
+            throw new IllegalArgumentException("지원하지 않는 채팅 전송 방식입니다: " + transport);
+        }
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("stream shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.enabled = "stream".equalsIgnoreCase(transport);
+        this.shardCount = shardCount;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Stream 전송 모드 여부 (false면 Pub/Sub)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 채팅방 메시지를 기록할 Stream 키
+     */
+    public byte[] streamKeyOf(Long roomId) {
+        return (STREAM_PREFIX + Math.floorMod(Long.hashCode(roomId), shardCount)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 노드가 읽어야 하는 전체 Stream 키
+     */
+    public List<byte[]> streamKeys() {
+        List<byte[]> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add((STREAM_PREFIX + shard).getBytes(StandardCharsets.UTF_8));
+        }
+        return keys;
+    }
+
+    /**
+     * Stream별 근사 최대 길이 (XADD MAXLEN ~)
+     */
+    public long getMaxLength() {
+        return maxLength;
+    }
+}
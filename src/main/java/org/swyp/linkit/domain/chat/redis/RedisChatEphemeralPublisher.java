@@ -0,0 +1,99 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.response.ChatEphemeralPayloadResponseDto;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 실시간 이벤트(입력 중, 확인 등) Redis Pub/Sub 발행
+ *
+ * 저장/재전송이 필요 없는 이벤트이므로 전송 방식(app.chat.redis.transport)과 무관하게 항상 Pub/Sub을 사용합니다.
+ * 병합된 이벤트를 roomId 해시 샤드 채널(chat:event:{n})별 JSON 배열 하나로 묶어 한 파이프라인으로 발행하므로
+ * 발행 수는 이벤트 수가 아니라 flush 주기당 최대 샤드 수입니다.
+ */
+@Slf4j
+@Component
+public class RedisChatEphemeralPublisher {
+
+    public static final String CHANNEL_PREFIX = "chat:event:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int shardCount;
+
+    public RedisChatEphemeralPublisher(StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       @Value("${app.chat.ephemeral.shard-count:16}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("ephemeral shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        TypeReference<List<ChatEphemeralPayloadResponseDto>> type = new TypeReference<>() {
+        };
+        this.redisTemplate = redisTemplate;
+        this.writer = objectMapper.writerFor(type);
+        this.reader = objectMapper.readerFor(type);
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 이벤트 묶음 발행 (샤드 채널별 1건, 왕복 1회)
+     * @return 발행한 Redis 메시지 수
+     */
+    public int publishAll(Collection<ChatEphemeralPayloadResponseDto> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<ChatEphemeralPayloadResponseDto>> byChannel = new HashMap<>();
+        for (ChatEphemeralPayloadResponseDto event : events) {
+            byChannel.computeIfAbsent(channelOf(event.getRoomId()), channel -> new ArrayList<>()).add(event);
+        }
+
+        Map<byte[], byte[]> messages = new HashMap<>(byChannel.size());
+        byChannel.forEach((channel, batch) -> messages.put(channel.getBytes(StandardCharsets.UTF_8), encode(batch)));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            messages.forEach(connection::publish);
+            return null;
+        });
+        return messages.size();
+    }
+
+    /**
+     * 수신한 이벤트 묶음 디코딩
+     */
+    public List<ChatEphemeralPayloadResponseDto> decode(byte[] body) {
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new JsonSerializationException("채팅 실시간 이벤트 역직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    public String channelOf(Long roomId) {
+        return CHANNEL_PREFIX + Math.floorMod(Long.hashCode(roomId), shardCount);
+    }
+
+    private byte[] encode(List<ChatEphemeralPayloadResponseDto> batch) {
+        try {
+            return writer.writeValueAsBytes(batch);
+        } catch (IOException e) {
+            throw new JsonSerializationException("채팅 실시간 이벤트 직렬화 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.response.ChatEphemeralPayloadResponseDto;
+
+/**
+ * 채팅방 실시간 이벤트 수신 -> 로컬 구독자에게 브로드캐스트
+ * 이 인스턴스에 채팅방 구독자가 없는 이벤트는 건너뛰고, 처리 실패는 재시도 없이 버립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChatEphemeralSubscriber implements MessageListener {
+
+    public static final String DESTINATION_SUFFIX = ".events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisChatEphemeralPublisher ephemeralPublisher;
+    private final RedisChatSubscriptionManager subscriptionManager;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            for (ChatEphemeralPayloadResponseDto event : ephemeralPublisher.decode(message.getBody())) {
+                if (!subscriptionManager.hasLocalSubscribers(event.getRoomId())) {
+                    continue;
+                }
+                messagingTemplate.convertAndSend("/topic/chat.room." + event.getRoomId() + DESTINATION_SUFFIX, event);
+            }
+        } catch (Exception e) {
+            log.warn("채팅 실시간 이벤트 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * write-behind 대기 메시지 저널 (Redis Stream)
+ *
+ * 메시지를 수락하기 전에 저널에 먼저 기록하고, DB 커밋이 끝난 뒤에 레코드 ID로 제거(XDEL)합니다.
+ * 노드가 비정상 종료되어도 재기동 시 저널을 다시 읽어 저장하므로 at-least-once가 보장됩니다.
+ * 제거 비용은 저널 길이와 무관하게 항목 수에 비례합니다. (List + LREM은 항목마다 전체 스캔)
+ * 계속 저장에 실패하는 메시지는 dead-letter 스트림으로 옮겨 원인 확인 후 수동으로 재처리합니다.
+ */
+@Slf4j
+@Repository
+public class RedisChatMessageJournal {
+
+    private static final String JOURNAL_PREFIX = "chat:wb:stream:";        // 워커ID -> 저장 대기 메시지 Stream
+    private static final String DEAD_LETTER_PREFIX = "chat:wb:dead:";      // 워커ID -> 저장 실패 메시지 Stream
+    private static final String LEGACY_JOURNAL_PREFIX = "chat:wb:journal:"; // 이전 버전 List 저널
+    private static final String ENTRY_FIELD = "m";
+    private static final String REASON_FIELD = "reason";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String journalKey;
+    private final String deadLetterKey;
+    private final String legacyJournalKey;
+
+    public RedisChatMessageJournal(StringRedisTemplate redisTemplate,
+                                   @Value("${app.chat.write-behind.worker-id:0}") long workerId) {
+        this.redisTemplate = redisTemplate;
+        this.journalKey = JOURNAL_PREFIX + workerId;
+        this.deadLetterKey = DEAD_LETTER_PREFIX + workerId;
+        this.legacyJournalKey = LEGACY_JOURNAL_PREFIX + workerId;
+    }
+
+    /**
+     * 저장 대기 메시지 기록
+     * @return 저널 레코드 ID (제거 시 사용)
+     */
+    public String append(String entry) {
+        RecordId recordId = redisTemplate.opsForStream().add(
+                StreamRecords.string(Map.of(ENTRY_FIELD, entry)).withStreamKey(journalKey));
+        return recordId != null ? recordId.getValue() : null;
+    }
+
+    /**
+     * 저장 완료된 메시지 제거 (XDEL 한 번)
+     */
+    public void removeAll(Collection<String> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForStream().delete(journalKey, recordIds.toArray(String[]::new));
+        log.debug("저널 정리: key={}, count={}", journalKey, recordIds.size());
+    }
+
+    /**
+     * 단건 제거 (큐 적재 실패 시 롤백용)
+     */
+    public void remove(String recordId) {
+        redisTemplate.opsForStream().delete(journalKey, recordId);
+    }
+
+    /**
+     * 저장할 수 없는 메시지를 dead-letter 스트림으로 옮기고 저널에서 제거
+     */
+    public void deadLetter(String recordId, String entry, String reason) {
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(ENTRY_FIELD, entry, REASON_FIELD, reason))
+                .withStreamKey(deadLetterKey));
+        remove(recordId);
+    }
+
+    /**
+     * 재기동 시 복구할 전체 대기 메시지 조회 (기록 순)
+     * 이전 버전의 List 저널이 남아 있으면 스트림으로 옮긴 뒤 삭제합니다.
+     */
+    public List<JournalEntry> findAll() {
+        migrateLegacyJournal();
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(journalKey, Range.unbounded());
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<JournalEntry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object entry = record.getValue().get(ENTRY_FIELD);
+            if (entry != null) {
+                entries.add(new JournalEntry(record.getId().getValue(), entry.toString()));
+            }
+        }
+        return entries;
+    }
+
+    private void migrateLegacyJournal() {
+        List<String> legacy = redisTemplate.opsForList().range(legacyJournalKey, 0, -1);
+        if (legacy == null || legacy.isEmpty()) {
+            return;
+        }
+        legacy.forEach(this::append);
+        redisTemplate.delete(legacyJournalKey);
+        log.info("이전 List 저널을 스트림으로 이전: key={}, count={}", legacyJournalKey, legacy.size());
+    }
+
+    /**
+     * 저널 항목 (레코드 ID, 직렬화된 메시지)
+     */
+    public record JournalEntry(String recordId, String entry) {
+    }
+}
@@ -0,0 +1,33 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 발행한 채팅방 참여자 캐시 무효화 메시지 수신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChatParticipantInvalidationSubscriber implements MessageListener {
+
+    private final ChatParticipantCache chatParticipantCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long roomId = Long.parseLong(body);
+            chatParticipantCache.evictLocal(roomId);
+            log.debug("참여자 캐시 무효화 수신: roomId={}", roomId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 참여자 캐시 무효화 메시지: body={}", body);
+        }
+    }
+}
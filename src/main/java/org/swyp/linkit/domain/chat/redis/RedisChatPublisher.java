@@ -0,0 +1,59 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.redis.codec.ChatPayloadCodecs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 채팅 페이로드 Redis 팬아웃 발행
+ * 설정된 코덱으로 인코딩한 바이트를 그대로 발행합니다. (String 변환 없음)
+ * 전송 방식(app.chat.redis.transport)에 따라 Pub/Sub 채널로 PUBLISH 하거나 채팅방 Stream에 XADD 하며,
+ * 재전송 버퍼가 켜져 있으면 같은 파이프라인에서 채팅방 재전송 Stream에도 기록합니다. (왕복 1회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChatPublisher {
+
+    private static final byte[] PAYLOAD_FIELD = ChatRedisStreamResolver.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatPayloadCodecs chatPayloadCodecs;
+    private final ChatRedisChannelResolver channelResolver;
+    private final ChatRedisStreamResolver streamResolver;
+    private final RedisChatReplayBuffer replayBuffer;
+
+    public void publish(ChatPayloadResponseDto payload) {
+        Long roomId = payload.getRoomId();
+        byte[] body = chatPayloadCodecs.encode(payload);
+        if (!replayBuffer.isEnabled()) {
+            redisTemplate.execute((RedisCallback<Object>) connection -> send(connection, roomId, body));
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            send(connection, roomId, body);
+            replayBuffer.append(connection, roomId, body);
+            return null;
+        });
+    }
+
+    private Object send(RedisConnection connection, Long roomId, byte[] body) {
+        if (streamResolver.isEnabled()) {
+            return connection.streamCommands().xAdd(
+                    MapRecord.create(streamResolver.streamKeyOf(roomId), Map.of(PAYLOAD_FIELD, body)),
+                    XAddOptions.maxlen(streamResolver.getMaxLength()).approximateTrimming(true));
+        }
+        byte[] channel = channelResolver.channelOf(roomId).getBytes(StandardCharsets.UTF_8);
+        return connection.publish(channel, body);
+    }
+}
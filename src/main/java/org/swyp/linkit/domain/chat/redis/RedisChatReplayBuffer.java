@@ -0,0 +1,106 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.redis.codec.ChatPayloadCodecs;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방별 최근 팬아웃 페이로드 재전송 버퍼 (Redis Stream)
+ *
+ * 팬아웃과 같은 파이프라인에서 XADD(MAXLEN ~)로 기록하므로 추가 왕복이 없고,
+ * 재연결한 클라이언트의 짧은 공백은 DB를 조회하지 않고 이 버퍼로 채웁니다.
+ * 페이로드는 Pub/Sub과 같은 코덱 바이트로 저장하며, 일정 시간 활동이 없는 채팅방의 버퍼는 만료됩니다.
+ */
+@Slf4j
+@Repository
+public class RedisChatReplayBuffer {
+
+    private static final String REPLAY_PREFIX = "chat:replay:";        // 채팅방ID -> 최근 페이로드 Stream
+    private static final byte[] PAYLOAD_FIELD = "p".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatPayloadCodecs chatPayloadCodecs;
+    private final boolean enabled;
+    private final long maxLength;
+    private final long ttlSeconds;
+
+    public RedisChatReplayBuffer(StringRedisTemplate redisTemplate,
+                                 ChatPayloadCodecs chatPayloadCodecs,
+                                 @Value("${app.chat.resync.buffer-enabled:true}") boolean enabled,
+                                 @Value("${app.chat.resync.buffer-size:500}") long maxLength,
+                                 @Value("${app.chat.resync.buffer-ttl:PT10M}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.chatPayloadCodecs = chatPayloadCodecs;
+        this.enabled = enabled;
+        this.maxLength = maxLength;
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 페이로드 기록 (발행 파이프라인 안에서 호출, 응답은 파이프라인 결과로 반환됨)
+     */
+    public void append(RedisConnection connection, Long roomId, byte[] body) {
+        if (!enabled) {
+            return;
+        }
+        byte[] key = keyOf(roomId);
+        connection.streamCommands().xAdd(MapRecord.create(key, Map.of(PAYLOAD_FIELD, body)),
+                XAddOptions.maxlen(maxLength).approximateTrimming(true));
+        connection.keyCommands().expire(key, ttlSeconds);
+    }
+
+    /**
+     * 버퍼에 남아 있는 페이로드 전체 (기록 순)
+     */
+    public List<ChatPayloadResponseDto> findAll(Long roomId) {
+        if (!enabled) {
+            return List.of();
+        }
+        // 근사 trim은 MAXLEN보다 조금 더 남길 수 있으므로 여유를 두고 조회
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(keyOf(roomId), Range.unbounded(),
+                        Limit.limit().count((int) Math.min(Integer.MAX_VALUE, maxLength * 2))));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<ChatPayloadResponseDto> payloads = new ArrayList<>(records.size());
+        for (ByteRecord record : records) {
+            for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+                if (Arrays.equals(field.getKey(), PAYLOAD_FIELD)) {
+                    try {
+                        payloads.add(chatPayloadCodecs.decode(field.getValue()));
+                    } catch (RuntimeException e) {
+                        log.warn("재전송 버퍼 항목 디코딩 실패: roomId={}, recordId={}", roomId, record.getId(), e);
+                    }
+                }
+            }
+        }
+        return payloads;
+    }
+
+    private byte[] keyOf(Long roomId) {
+        return (REPLAY_PREFIX + roomId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,13 +2,38 @@ package org.swyp.linkit.domain.chat.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
- * Redis를 이용한 채팅 세션/입장 정보 관리
+ * Redis를 이용한 채팅 세션/입장(presence) 정보 관리
+ *
+ * 입장/퇴장/세션 해제는 Lua 스크립트로 원자적으로 처리하고,
+ * 모든 presence 키는 TTL을 가지며 각 노드의 heartbeat가 파이프라인으로 갱신합니다.
+ * heartbeat가 끊긴(죽은) 노드의 세션은 노드별 세션 소유 Hash로 찾아 다른 노드가 정리합니다.
+ * - ws:session:{sessionId} -> userId
+ * - ws:user:room:{userId} -> "{roomId}|{sessionId}" (입장한 세션)
+ * - ws:room:presence:{roomId} -> ZSet(userId, 만료 시각 epoch ms)
+ * - ws:node:sessions:{nodeId} -> Hash(sessionId, userId), ws:node:alive:{nodeId}, ws:nodes
+ * 스크립트가 건드리는 키는 모두 KEYS로 전달합니다. 현재 값에 따라 달라지는 키(이전 채팅방 presence 등)는
+ * 먼저 값을 읽어 키를 정하고, 스크립트가 값이 그대로인지 확인한 뒤 실행합니다. (바뀌었으면 다시 시도)
+ * Redis Cluster로 옮길 때는 한 스크립트의 키가 같은 슬롯에 있어야 하므로 공통 해시 태그가 필요합니다.
  */
 @Slf4j
 @Repository
@@ -18,21 +43,108 @@ public class RedisChatRepository {
     private final StringRedisTemplate redisTemplate;
 
     // Redis Key Prefix
-    private static final String SESSION_USER_PREFIX = "ws:session:";      // 세션ID -> 유저ID
-    private static final String USER_ROOM_PREFIX = "ws:user:room:";       // 유저ID -> 현재 입장한 채팅방ID
-    private static final String ROOM_USERS_PREFIX = "ws:room:users:";     // 채팅방ID -> 입장한 유저 Set
+    private static final String SESSION_USER_PREFIX = "ws:session:";          // 세션ID -> 유저ID
+    private static final String USER_ROOM_PREFIX = "ws:user:room:";           // 유저ID -> 현재 입장한 채팅방ID|세션ID
+    private static final String ROOM_PRESENCE_PREFIX = "ws:room:presence:";   // 채팅방ID -> 입장한 유저 ZSet (score: 만료 시각)
+    private static final String NODE_SESSIONS_PREFIX = "ws:node:sessions:";   // 노드ID -> 세션ID/유저ID Hash
+    private static final String NODE_ALIVE_PREFIX = "ws:node:alive:";         // 노드 heartbeat
+    private static final String NODE_SWEEP_PREFIX = "ws:node:sweep:";         // 죽은 노드 정리 락
+    private static final String NODES_KEY = "ws:nodes";                       // 노드ID Set
 
-    private static final long SESSION_TTL_HOURS = 24;
+    private static final long NONE = -1L;
+    private static final long RETRY = -2L;            // 읽어 둔 값이 바뀜 -> 키를 다시 정해 재시도
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 이전 채팅방 퇴장 + 입장 + presence 등록, 이전 채팅방 ID 반환 (없으면 -1)
+    // KEYS: 유저 입장 정보, 입장할 채팅방 presence, [이전 채팅방 presence] / ARGV[6]: 읽어 둔 입장 정보 ('' = 없음)
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>(
+            "local prev = redis.call('GET', KEYS[1]) " +
+            "if (prev or '') ~= ARGV[6] then return -2 end " +
+            "local prevRoom = prev and string.match(prev, '^[^|]+') " +
+            "if KEYS[3] then redis.call('ZREM', KEYS[3], ARGV[1]) end " +
+            "redis.call('SET', KEYS[1], ARGV[2] .. '|' .. ARGV[3], 'PX', ARGV[4]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[5]) " +
+            "redis.call('ZADD', KEYS[2], tonumber(ARGV[5]) + tonumber(ARGV[4]), ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "return prevRoom and tonumber(prevRoom) or -1", Long.class);
+
+    // 퇴장 (세션이 주어지면 그 세션이 입장한 경우에만), 퇴장한 채팅방 ID 반환 (없으면 -1)
+    // KEYS: 유저 입장 정보, [입장한 채팅방 presence] / ARGV[3]: 읽어 둔 입장 정보 ('' = 없음)
+    private static final RedisScript<Long> EXIT_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('GET', KEYS[1]) " +
+            "if (cur or '') ~= ARGV[3] then return -2 end " +
+            "if not cur then return -1 end " +
+            "local room = string.match(cur, '^[^|]+') " +
+            "local owner = string.match(cur, '|(.+)$') " +
+            "if ARGV[2] ~= '' and owner and owner ~= ARGV[2] then return -1 end " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return tonumber(room)", Long.class);
+
+    // 세션 등록 (세션-유저 매핑 + 노드 소유 Hash)
+    private static final RedisScript<Long> REGISTER_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            "return redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])", Long.class);
+
+    // 세션 해제 + 그 세션이 입장한 채팅방 퇴장, 유저 ID 반환 (없으면 -1)
+    // KEYS: 세션-유저, 노드 세션 Hash, [유저 입장 정보, [입장한 채팅방 presence]]
+    // ARGV: 세션ID, 읽어 둔 유저ID, 읽어 둔 입장 정보 ('' = 없음)
+    private static final RedisScript<Long> UNREGISTER_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local userId = redis.call('GET', KEYS[1]) or redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if (userId or '') ~= ARGV[2] then return -2 end " +
+            "local cur = KEYS[3] and redis.call('GET', KEYS[3]) " +
+            "if KEYS[3] and (cur or '') ~= ARGV[3] then return -2 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "if not userId then return -1 end " +
+            "if cur then " +
+            "  local owner = string.match(cur, '|(.+)$') " +
+            "  if owner == nil or owner == ARGV[1] then " +
+            "    redis.call('ZREM', KEYS[4], userId) " +
+            "    redis.call('DEL', KEYS[3]) " +
+            "  end " +
+            "end " +
+            "return tonumber(userId)", Long.class);
 
     // ==================== 세션-유저 매핑 ====================
 
     /**
-     * WebSocket 세션과 유저 ID 매핑 저장
+     * WebSocket 세션 등록 (세션-유저 매핑 + 노드 세션 소유 등록, 왕복 1회)
      */
-    public void saveSessionUser(String sessionId, Long userId) {
-        String key = SESSION_USER_PREFIX + sessionId;
-        redisTemplate.opsForValue().set(key, userId.toString(), SESSION_TTL_HOURS, TimeUnit.HOURS);
-        log.debug("세션-유저 매핑 저장: sessionId={}, userId={}", sessionId, userId);
+    public void registerSession(String nodeId, String sessionId, Long userId, Duration ttl) {
+        redisTemplate.execute(REGISTER_SESSION_SCRIPT,
+                List.of(SESSION_USER_PREFIX + sessionId, NODE_SESSIONS_PREFIX + nodeId),
+                userId.toString(), sessionId, Long.toString(ttl.toMillis()));
+        log.debug("세션 등록: nodeId={}, sessionId={}, userId={}", nodeId, sessionId, userId);
+    }
+
+    /**
+     * WebSocket 세션 해제 (세션 정보 삭제 + 그 세션이 입장한 채팅방 퇴장, 읽기 + 스크립트)
+     * @return 세션의 유저 ID (없으면 null)
+     */
+    public Long unregisterSession(String nodeId, String sessionId) {
+        String sessionKey = SESSION_USER_PREFIX + sessionId;
+        String nodeSessionsKey = NODE_SESSIONS_PREFIX + nodeId;
+        Long userId = executeWithRetry("unregisterSession", () -> {
+            String owner = redisTemplate.opsForValue().get(sessionKey);
+            if (owner == null) {
+                Object fromNode = redisTemplate.opsForHash().get(nodeSessionsKey, sessionId);
+                owner = fromNode != null ? fromNode.toString() : null;
+            }
+            if (owner == null) {
+                return redisTemplate.execute(UNREGISTER_SESSION_SCRIPT, List.of(sessionKey, nodeSessionsKey),
+                        sessionId, "", "");
+            }
+            String userRoomKey = USER_ROOM_PREFIX + owner;
+            String current = redisTemplate.opsForValue().get(userRoomKey);
+            List<String> keys = current == null
+                    ? List.of(sessionKey, nodeSessionsKey, userRoomKey)
+                    : List.of(sessionKey, nodeSessionsKey, userRoomKey, ROOM_PRESENCE_PREFIX + roomOf(current));
+            return redisTemplate.execute(UNREGISTER_SESSION_SCRIPT, keys,
+                    sessionId, owner, current != null ? current : "");
+        });
+        log.debug("세션 해제: nodeId={}, sessionId={}, userId={}", nodeId, sessionId, userId);
+        return toId(userId);
     }
 
     /**
@@ -52,37 +164,30 @@ public class RedisChatRepository {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
-    /**
-     * 세션-유저 매핑 삭제
-     */
-    public void deleteSessionUser(String sessionId) {
-        String key = SESSION_USER_PREFIX + sessionId;
-        redisTemplate.delete(key);
-        log.debug("세션-유저 매핑 삭제: sessionId={}", sessionId);
-    }
-
     // ==================== 유저-채팅방 입장 정보 ====================
 
     /**
-     * 유저의 채팅방 입장 정보 저장
+     * 유저의 채팅방 입장 (이전 채팅방 퇴장 포함, 읽기 + 스크립트)
+     * @return 이전에 입장해 있던 다른 채팅방 ID (없으면 null)
      */
-    public void enterChatRoom(Long userId, Long roomId) {
+    public Long enterChatRoom(Long userId, Long roomId, String sessionId, Duration ttl) {
         String userRoomKey = USER_ROOM_PREFIX + userId;
-        String roomUsersKey = ROOM_USERS_PREFIX + roomId;
-
-        // 이전에 다른 채팅방에 있었다면 퇴장 처리
-        String previousRoomId = redisTemplate.opsForValue().get(userRoomKey);
-        if (previousRoomId != null && !previousRoomId.equals(roomId.toString())) {
-            exitChatRoom(userId);
-        }
-
-        // 유저 -> 채팅방 매핑
-        redisTemplate.opsForValue().set(userRoomKey, roomId.toString());
+        String presenceKey = ROOM_PRESENCE_PREFIX + roomId;
+        Long previous = executeWithRetry("enterChatRoom", () -> {
+            String current = redisTemplate.opsForValue().get(userRoomKey);
+            String currentRoom = current != null ? roomOf(current) : null;
+            List<String> keys = currentRoom == null || currentRoom.equals(roomId.toString())
+                    ? List.of(userRoomKey, presenceKey)
+                    : List.of(userRoomKey, presenceKey, ROOM_PRESENCE_PREFIX + currentRoom);
+            return redisTemplate.execute(ENTER_SCRIPT, keys,
+                    userId.toString(), roomId.toString(), sessionId,
+                    Long.toString(ttl.toMillis()), Long.toString(System.currentTimeMillis()),
+                    current != null ? current : "");
+        });
 
-        // 채팅방 -> 유저 Set에 추가
-        redisTemplate.opsForSet().add(roomUsersKey, userId.toString());
-
-        log.info("채팅방 입장: userId={}, roomId={}", userId, roomId);
+        log.info("채팅방 입장: userId={}, roomId={}, sessionId={}", userId, roomId, sessionId);
+        Long previousRoomId = toId(previous);
+        return previousRoomId != null && !previousRoomId.equals(roomId) ? previousRoomId : null;
     }
 
     /**
@@ -90,8 +195,11 @@ public class RedisChatRepository {
      */
     public Long getCurrentRoomId(Long userId) {
         String key = USER_ROOM_PREFIX + userId;
-        String roomId = redisTemplate.opsForValue().get(key);
-        return roomId != null ? Long.parseLong(roomId) : null;
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        return Long.parseLong(roomOf(value));
     }
 
     /**
@@ -106,54 +214,181 @@ public class RedisChatRepository {
      * 유저의 채팅방 퇴장 처리
      */
     public Long exitChatRoom(Long userId) {
-        String userRoomKey = USER_ROOM_PREFIX + userId;
-        String roomIdStr = redisTemplate.opsForValue().get(userRoomKey);
-
-        if (roomIdStr != null) {
-            Long roomId = Long.parseLong(roomIdStr);
-            String roomUsersKey = ROOM_USERS_PREFIX + roomId;
-
-            // 채팅방 유저 Set에서 제거
-            redisTemplate.opsForSet().remove(roomUsersKey, userId.toString());
-
-            // 유저 -> 채팅방 매핑 삭제
-            redisTemplate.delete(userRoomKey);
+        return exitChatRoom(userId, "");
+    }
 
+    /**
+     * 주어진 세션이 입장한 경우에만 퇴장 처리 (다른 세션에서 다시 입장한 기록은 유지, 읽기 + 스크립트)
+     * @return 퇴장한 채팅방 ID (퇴장하지 않았으면 null)
+     */
+    public Long exitChatRoom(Long userId, String sessionId) {
+        String userRoomKey = USER_ROOM_PREFIX + userId;
+        Long roomId = toId(executeWithRetry("exitChatRoom", () -> {
+            String current = redisTemplate.opsForValue().get(userRoomKey);
+            if (current == null) {
+                return redisTemplate.execute(EXIT_SCRIPT, List.of(userRoomKey), userId.toString(), sessionId, "");
+            }
+            return redisTemplate.execute(EXIT_SCRIPT,
+                    List.of(userRoomKey, ROOM_PRESENCE_PREFIX + roomOf(current)),
+                    userId.toString(), sessionId, current);
+        }));
+        if (roomId != null) {
             log.info("채팅방 퇴장: userId={}, roomId={}", userId, roomId);
-            return roomId;
         }
-        return null;
+        return roomId;
     }
 
     // ==================== 채팅방 유저 관리 ====================
 
     /**
-     * 채팅방에 입장한 유저 수 조회
+     * 채팅방에 입장한 유저 수 조회 (만료되지 않은 presence만)
      */
     public Long getRoomUserCount(Long roomId) {
-        String key = ROOM_USERS_PREFIX + roomId;
-        return redisTemplate.opsForSet().size(key);
+        String key = ROOM_PRESENCE_PREFIX + roomId;
+        return redisTemplate.opsForZSet().count(key, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
     }
 
     /**
-     * 특정 유저가 특정 채팅방에 있는지 확인
+     * 특정 유저가 특정 채팅방에 있는지 확인 (만료되지 않은 presence만)
      */
     public boolean isUserInSpecificRoom(Long userId, Long roomId) {
-        String key = ROOM_USERS_PREFIX + roomId;
-        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, userId.toString()));
+        String key = ROOM_PRESENCE_PREFIX + roomId;
+        Double expiresAt = redisTemplate.opsForZSet().score(key, userId.toString());
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 주어진 유저 중 채팅방에 있는 유저 조회 (만료되지 않은 presence만, ZMSCORE 왕복 1회)
+     */
+    public Set<Long> findUsersInRoom(Long roomId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> candidates = List.copyOf(userIds);
+        List<Double> scores = redisTemplate.opsForZSet().score(ROOM_PRESENCE_PREFIX + roomId,
+                candidates.stream().map(String::valueOf).toArray());
+        if (scores == null) {
+            return Set.of();
+        }
+
+        long now = System.currentTimeMillis();
+        Set<Long> present = new HashSet<>();
+        for (int i = 0; i < candidates.size() && i < scores.size(); i++) {
+            Double expiresAt = scores.get(i);
+            if (expiresAt != null && expiresAt > now) {
+                present.add(candidates.get(i));
+            }
+        }
+        return present;
+    }
+
+    // ==================== heartbeat / 노드 정리 ====================
+
+    /**
+     * 로컬 세션과 입장 정보의 TTL 일괄 갱신 + 노드 heartbeat (파이프라인, 왕복 1회)
+     * @param sessions  세션ID -> 유저ID
+     * @param presences 입장 중인 (유저ID, 채팅방ID)
+     */
+    public void heartbeat(String nodeId, Map<String, Long> sessions, Collection<Presence> presences,
+                          Duration ttl, Duration nodeTtl) {
+        long ttlMs = ttl.toMillis();
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(bytes(NODE_ALIVE_PREFIX + nodeId), bytes("1"),
+                    Expiration.milliseconds(nodeTtl.toMillis()), SetOption.upsert());
+            connection.setCommands().sAdd(bytes(NODES_KEY), bytes(nodeId));
+
+            for (String sessionId : sessions.keySet()) {
+                connection.keyCommands().pExpire(bytes(SESSION_USER_PREFIX + sessionId), ttlMs);
+            }
+            for (Presence presence : presences) {
+                byte[] presenceKey = bytes(ROOM_PRESENCE_PREFIX + presence.roomId());
+                connection.keyCommands().pExpire(bytes(USER_ROOM_PREFIX + presence.userId()), ttlMs);
+                // 이미 퇴장한 유저를 되살리지 않도록 존재하는 멤버만 갱신
+                connection.zSetCommands().zAdd(presenceKey, expiresAt, bytes(presence.userId().toString()),
+                        ZAddArgs.ifExists());
+                connection.keyCommands().pExpire(presenceKey, ttlMs);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * heartbeat가 끊긴 다른 노드 조회
+     */
+    public Set<String> findDeadNodes(String selfNodeId) {
+        Set<String> nodes = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodes == null || nodes.isEmpty()) {
+            return Set.of();
+        }
+        return nodes.stream()
+                .filter(nodeId -> !nodeId.equals(selfNodeId))
+                .filter(nodeId -> !Boolean.TRUE.equals(redisTemplate.hasKey(NODE_ALIVE_PREFIX + nodeId)))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 죽은 노드가 소유한 세션 정리 (여러 노드가 동시에 정리하지 않도록 락 획득 후 실행)
+     * @return 정리한 세션 수 (락 획득 실패 시 0)
+     */
+    public int cleanupNode(String nodeId, Duration lockTtl) {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(NODE_SWEEP_PREFIX + nodeId, "1", lockTtl);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+
+        Set<Object> sessionIds = redisTemplate.opsForHash().keys(NODE_SESSIONS_PREFIX + nodeId);
+        int cleaned = 0;
+        if (sessionIds != null) {
+            for (Object sessionId : sessionIds) {
+                unregisterSession(nodeId, sessionId.toString());
+                cleaned++;
+            }
+        }
+        redisTemplate.delete(NODE_SESSIONS_PREFIX + nodeId);
+        redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+        return cleaned;
     }
 
     /**
-     * 유저의 전체 연결 정보 정리 (DISCONNECT 시 호출)
+     * 노드 종료 시 heartbeat 제거 (소유 세션은 각 세션 해제 시 정리)
      */
-    public void cleanupUserConnection(String sessionId) {
-        Long userId = getUserIdBySession(sessionId);
-        if (userId != null) {
-            // 채팅방에서 퇴장
-            exitChatRoom(userId);
-            // 세션 정보 삭제
-            deleteSessionUser(sessionId);
-            log.info("유저 연결 정리 완료: sessionId={}, userId={}", sessionId, userId);
+    public void removeNode(String nodeId) {
+        redisTemplate.delete(NODE_ALIVE_PREFIX + nodeId);
+        redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+    }
+
+    /**
+     * 읽어 둔 값이 스크립트 실행 전에 바뀌었으면(RETRY) 키를 다시 정해 재시도
+     */
+    private Long executeWithRetry(String operation, Supplier<Long> attempt) {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            Long result = attempt.get();
+            if (result == null || result != RETRY) {
+                return result;
+            }
         }
+        throw new IllegalStateException("presence 갱신 경합으로 재시도 초과: " + operation);
+    }
+
+    // 입장 정보 "{roomId}|{sessionId}"의 채팅방 ID (이전 형식은 "{roomId}")
+    private static String roomOf(String value) {
+        int delimiter = value.indexOf('|');
+        return delimiter < 0 ? value : value.substring(0, delimiter);
+    }
+
+    private Long toId(Long value) {
+        return value == null || value == NONE ? null : value;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 입장 중인 (유저, 채팅방)
+     */
+    public record Presence(Long userId, Long roomId) {
     }
 }
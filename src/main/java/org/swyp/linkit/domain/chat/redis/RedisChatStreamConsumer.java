@@ -0,0 +1,242 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.redis.codec.ChatPayloadCodecs;
+import org.swyp.linkit.domain.chat.service.ChatPresenceService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 팬아웃 Stream 소비자 (app.chat.redis.transport=stream)
+ *
+ * 노드마다 자기 consumer group(chat-node:{nodeId})으로 전체 채팅 Stream을 한 번의 XREADGROUP(COUNT, BLOCK)으로 읽고,
+ * 받은 배치를 모두 디코딩/브로드캐스트한 뒤 Stream별 XACK를 한 파이프라인으로 보냅니다.
+ * - 기동 시 자기 PEL(ack 전에 멈춘 메시지)부터 다시 읽은 뒤 새 메시지를 읽습니다. (node-id 고정 시 재기동 후에도 이어서 수신)
+ * - 일정 시간 읽지 않은 다른 노드의 group은 주기적으로 정리합니다. (정리된 group으로 다시 읽으면 새로 생성)
+ */
+@Slf4j
+@Component
+public class RedisChatStreamConsumer {
+
+    private static final String GROUP_PREFIX = "chat-node:";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRedisStreamResolver streamResolver;
+    private final ChatPayloadCodecs chatPayloadCodecs;
+    private final RedisChatSubscriber subscriber;
+    private final String group;
+    private final Consumer consumer;
+    private final int batchSize;
+    private final Duration blockTimeout;
+    private final Duration groupIdleTimeout;
+    private final List<byte[]> streamKeys;
+    private final byte[] payloadField = ChatRedisStreamResolver.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private volatile boolean running;
+    private volatile boolean pendingDrained;
+    private Thread poller;
+
+    public RedisChatStreamConsumer(StringRedisTemplate redisTemplate,
+                                   ChatRedisStreamResolver streamResolver,
+                                   ChatPayloadCodecs chatPayloadCodecs,
+                                   RedisChatSubscriber subscriber,
+                                   ChatPresenceService chatPresenceService,
+                                   @Value("${app.chat.redis.stream.batch-size:200}") int batchSize,
+                                   @Value("${app.chat.redis.stream.block-timeout:PT2S}") Duration blockTimeout,
+                                   @Value("${app.chat.redis.stream.group-idle-timeout:PT1H}") Duration groupIdleTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.streamResolver = streamResolver;
+        this.chatPayloadCodecs = chatPayloadCodecs;
+        this.subscriber = subscriber;
+        this.group = GROUP_PREFIX + chatPresenceService.getNodeId();
+        this.consumer = Consumer.from(group, chatPresenceService.getNodeId());
+        this.batchSize = batchSize;
+        this.blockTimeout = blockTimeout;
+        this.groupIdleTimeout = groupIdleTimeout;
+        this.streamKeys = streamResolver.streamKeys();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!streamResolver.isEnabled()) {
+            return;
+        }
+        createGroups();
+        running = true;
+        poller = new Thread(this::pollLoop, "chat-stream-consumer");
+        poller.setDaemon(true);
+        poller.start();
+        log.info("채팅 Stream 소비 시작: group={}, streams={}", group, streamKeys.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            poller.join(blockTimeout.plus(ERROR_BACKOFF).toMillis());
+        }
+    }
+
+    /**
+     * 배치 1회 수신 -> 디코딩/브로드캐스트 -> XACK
+     * @return 처리한 메시지 수
+     */
+    int pollOnce() {
+        ReadOffset offset = pendingDrained ? ReadOffset.lastConsumed() : ReadOffset.from("0");
+        @SuppressWarnings("unchecked")
+        StreamOffset<byte[]>[] offsets = streamKeys.stream()
+                .map(key -> StreamOffset.create(key, offset))
+                .toArray(StreamOffset[]::new);
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize).block(blockTimeout);
+
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xReadGroup(consumer, options, offsets));
+        if (records == null || records.isEmpty()) {
+            // PEL을 모두 처리했으면 새 메시지(>)부터 읽음
+            pendingDrained = true;
+            return 0;
+        }
+
+        Map<String, List<RecordId>> acks = new LinkedHashMap<>();
+        for (ByteRecord record : records) {
+            dispatch(record);
+            acks.computeIfAbsent(new String(record.getStream(), StandardCharsets.UTF_8), key -> new ArrayList<>())
+                    .add(record.getId());
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            acks.forEach((key, ids) -> connection.streamCommands()
+                    .xAck(key.getBytes(StandardCharsets.UTF_8), group, ids.toArray(RecordId[]::new)));
+            return null;
+        });
+        return records.size();
+    }
+
+    /**
+     * 오래 읽지 않은 다른 노드의 consumer group 정리
+     */
+    @Scheduled(fixedDelayString = "${app.chat.redis.stream.group-sweep-interval-ms:300000}",
+            initialDelayString = "${app.chat.redis.stream.group-sweep-interval-ms:300000}")
+    public void sweepIdleGroups() {
+        if (!streamResolver.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                for (byte[] key : streamKeys) {
+                    XInfoGroups groups = connection.streamCommands().xInfoGroups(key);
+                    for (XInfoGroup info : groups) {
+                        String name = info.groupName();
+                        if (name.equals(group) || !name.startsWith(GROUP_PREFIX)) {
+                            continue;
+                        }
+                        XInfoConsumers consumers = connection.streamCommands().xInfoConsumers(key, name);
+                        boolean idle = consumers.stream()
+                                .allMatch(c -> c.idleTimeMs() > groupIdleTimeout.toMillis());
+                        if (idle) {
+                            connection.streamCommands().xGroupDestroy(key, name);
+                            log.info("유휴 채팅 Stream group 정리: stream={}, group={}",
+                                    new String(key, StandardCharsets.UTF_8), name);
+                        }
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("채팅 Stream group 정리 실패", e);
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                pollOnce();
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("채팅 Stream 수신 실패, {}ms 후 재시도", ERROR_BACKOFF.toMillis(), e);
+                if (isNoGroup(e)) {
+                    // 유휴 정리로 group이 삭제된 경우 다시 생성
+                    recreateGroups();
+                }
+                try {
+                    Thread.sleep(ERROR_BACKOFF);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(ByteRecord record) {
+        for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+            if (!Arrays.equals(field.getKey(), payloadField)) {
+                continue;
+            }
+            try {
+                subscriber.broadcast(chatPayloadCodecs.decode(field.getValue()));
+            } catch (RuntimeException e) {
+                // 처리할 수 없는 메시지는 ack 하여 다시 받지 않음
+                log.error("채팅 Stream 메시지 처리 실패: recordId={}", record.getId(), e);
+            }
+        }
+    }
+
+    private void recreateGroups() {
+        try {
+            createGroups();
+        } catch (RuntimeException e) {
+            log.warn("채팅 Stream group 재생성 실패: group={}", group, e);
+        }
+    }
+
+    private void createGroups() {
+        for (byte[] key : streamKeys) {
+            try {
+                redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.streamCommands().xGroupCreate(key, group, ReadOffset.latest(), true));
+            } catch (RuntimeException e) {
+                if (!isBusyGroup(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean isBusyGroup(RuntimeException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains("BUSYGROUP");
+    }
+
+    private boolean isNoGroup(RuntimeException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.contains("NOGROUP");
+    }
+}
@@ -1,6 +1,5 @@
 package org.swyp.linkit.domain.chat.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -8,6 +7,8 @@ import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.redis.codec.ChatPayloadCodecs;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
 
 @Slf4j
 @Component
@@ -15,23 +16,34 @@ import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
 public class RedisChatSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatPayloadCodecs chatPayloadCodecs;
+    private final RedisChatSubscriptionManager subscriptionManager;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String body = new String(message.getBody());
-            String channel = new String(message.getChannel());
-
-            ChatPayloadResponseDto payload = objectMapper.readValue(body, ChatPayloadResponseDto.class);
-            String dest = "/topic/chat.room." + payload.getRoomId();
-            messagingTemplate.convertAndSend(dest, payload);
-
-            log.info("Redis -> WebSocket 브로드캐스트: channel={}, roomId={}", channel, payload.getRoomId());
-        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            // 첫 바이트로 형식(JSON/바이너리)을 판별해 byte[]에서 바로 디코딩
+            broadcast(chatPayloadCodecs.decode(message.getBody()));
+        } catch (JsonSerializationException e) {
             log.error("Redis 메시지 역직렬화 실패", e);
         } catch (Exception e) {
             log.error("Redis 메시지 처리 중 알 수 없는 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 로컬 구독자에게 브로드캐스트 (Pub/Sub, Stream 전송 방식 공통)
+     * @return 로컬 구독자가 있어 전달했으면 true
+     */
+    public boolean broadcast(ChatPayloadResponseDto payload) {
+        // shard 채널/Stream은 다른 채팅방 메시지도 함께 수신하므로 로컬 구독자가 없으면 건너뜀
+        if (!subscriptionManager.hasLocalSubscribers(payload.getRoomId())) {
+            return false;
+        }
+        String dest = "/topic/chat.room." + payload.getRoomId();
+        messagingTemplate.convertAndSend(dest, payload);
+
+        log.debug("Redis -> WebSocket 브로드캐스트: roomId={}", payload.getRoomId());
+        return true;
+    }
+}
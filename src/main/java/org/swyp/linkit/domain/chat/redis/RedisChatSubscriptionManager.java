@@ -0,0 +1,219 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로컬 STOMP 구독 기반 Redis 채널 동적 구독 관리
+ *
+ * /topic/chat.room.{roomId} 구독이 이 인스턴스에 처음 생기면 해당 채널을 SUBSCRIBE 하고,
+ * 마지막 구독이 해제(UNSUBSCRIBE/DISCONNECT)되면 UNSUBSCRIBE 합니다.
+ * 따라서 각 인스턴스는 로컬 클라이언트가 있는 채팅방의 메시지만 수신/디코딩합니다.
+ * Stream 전송 방식에서는 노드가 전체 Stream을 consumer group으로 읽으므로 채널은 구독하지 않고 로컬 구독 수만 관리합니다.
+ *
+ * 구독 수는 ConcurrentHashMap 의 원자적 merge/compute 로 관리해 hasLocalSubscribers 조회는 락 없이 수행되고,
+ * Redis SUBSCRIBE/UNSUBSCRIBE 는 공유 락 밖에서 한 번에 한 스레드만 변경된 채널을 구독 수에 맞춰 반영합니다.
+ */
+@Slf4j
+@Component
+public class RedisChatSubscriptionManager {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat.room.";
+
+    private final ObjectProvider<RedisMessageListenerContainer> containerProvider;
+    private final ObjectProvider<RedisChatSubscriber> subscriberProvider;
+    private final ChatRedisChannelResolver channelResolver;
+    private final ChatRedisStreamResolver streamResolver;
+
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // roomId -> 로컬 구독 수
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+    // Redis 채널 -> 로컬 구독 수 (shard 모드에서는 여러 채팅방이 한 채널을 공유)
+    private final Map<String, Integer> channelSubscriberCounts = new ConcurrentHashMap<>();
+    // 실제로 SUBSCRIBE 된 채널과 구독 수 0 <-> 1 전환으로 다시 맞춰야 하는 채널
+    private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingChannels = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public RedisChatSubscriptionManager(ObjectProvider<RedisMessageListenerContainer> containerProvider,
+                                        ObjectProvider<RedisChatSubscriber> subscriberProvider,
+                                        ChatRedisChannelResolver channelResolver,
+                                        ChatRedisStreamResolver streamResolver) {
+        this.containerProvider = containerProvider;
+        this.subscriberProvider = subscriberProvider;
+        this.channelResolver = channelResolver;
+        this.streamResolver = streamResolver;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    /**
+     * 로컬 구독 등록
+     */
+    public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, roomId);
+        if (previous != null) {
+            release(previous);
+        }
+        roomSubscriberCounts.merge(roomId, 1, Integer::sum);
+        if (streamResolver.isEnabled()) {
+            return;
+        }
+
+        String channel = channelResolver.channelOf(roomId);
+        if (channelSubscriberCounts.merge(channel, 1, Integer::sum) == 1) {
+            reconcile(channel);
+        }
+    }
+
+    /**
+     * 로컬 구독 해제
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        // 빈 구독 맵은 같은 세션의 동시 SUBSCRIBE 와 경합하지 않도록 세션 종료 시 함께 제거
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    /**
+     * 세션 종료 시 해당 세션의 모든 구독 해제 (DISCONNECT 이벤트는 중복 발생할 수 있음)
+     */
+    public void removeSession(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::release);
+    }
+
+    /**
+     * 이 인스턴스에 해당 채팅방 구독자가 있는지 확인
+     */
+    public boolean hasLocalSubscribers(Long roomId) {
+        return roomSubscriberCounts.containsKey(roomId);
+    }
+
+    /**
+     * 현재 구독 중인 Redis 채널 수
+     */
+    public int getSubscribedChannelCount() {
+        return channelSubscriberCounts.size();
+    }
+
+    private void release(Long roomId) {
+        roomSubscriberCounts.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+        if (streamResolver.isEnabled()) {
+            return;
+        }
+
+        String channel = channelResolver.channelOf(roomId);
+        Integer remaining = channelSubscriberCounts.computeIfPresent(channel, (c, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            reconcile(channel);
+        }
+    }
+
+    /**
+     * 채널의 SUBSCRIBE 상태를 현재 구독 수에 맞춤
+     * 다른 스레드가 반영 중이면 대기하지 않고 채널만 남겨두며, 반영 중인 스레드가 남은 채널까지 처리합니다.
+     * 반영은 한 번에 한 스레드만 수행하므로 같은 채널의 SUBSCRIBE/UNSUBSCRIBE 순서가 뒤바뀌지 않습니다.
+     */
+    private void reconcile(String channel) {
+        pendingChannels.add(channel);
+        while (!pendingChannels.isEmpty() && reconciling.compareAndSet(false, true)) {
+            try {
+                Iterator<String> iterator = pendingChannels.iterator();
+                while (iterator.hasNext()) {
+                    String pending = iterator.next();
+                    iterator.remove();
+                    boolean wanted = channelSubscriberCounts.containsKey(pending);
+                    if (wanted && subscribedChannels.add(pending)) {
+                        try {
+                            addListener(pending);
+                        } catch (RuntimeException e) {
+                            // 다음 0 -> 1 전환에서 다시 SUBSCRIBE 하도록 상태를 되돌림
+                            subscribedChannels.remove(pending);
+                            throw e;
+                        }
+                    } else if (!wanted && subscribedChannels.remove(pending)) {
+                        removeListener(pending);
+                    }
+                }
+            } finally {
+                reconciling.set(false);
+            }
+        }
+    }
+
+    private void addListener(String channel) {
+        RedisMessageListenerContainer container = containerProvider.getIfAvailable();
+        if (container != null) {
+            container.addMessageListener(subscriberProvider.getObject(), new ChannelTopic(channel));
+        }
+        log.info("Redis 채널 구독: channel={}", channel);
+    }
+
+    private void removeListener(String channel) {
+        RedisMessageListenerContainer container = containerProvider.getIfAvailable();
+        if (container != null) {
+            container.removeMessageListener(subscriberProvider.getObject(), new ChannelTopic(channel));
+        }
+        log.info("Redis 채널 구독 해제: channel={}", channel);
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Redis Hash 기반 채팅 읽지 않은 메시지 수 관리
+ *
+ * 사용자별 Hash 하나에 채팅방별 카운트와 합계(total) 필드를 함께 저장합니다.
+ * - chat:unread:{userId} -> { {roomId}: count, total: sum }
+ * 채팅방 카운트와 합계는 Lua 스크립트로 함께 갱신되어 항상 일치하며, 조회는 HGET 한 번입니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisChatUnreadCounter {
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";   // 유저ID -> 채팅방별 읽지 않은 수 Hash
+    private static final String TOTAL_FIELD = "total";
+
+    // 채팅방 카운트 증가 + 합계 증가
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local c = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[2]) " +
+            "return c", Long.class);
+
+    // 채팅방 카운트 삭제 + 합계에서 차감, 이전 값 반환
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+            "local c = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if c ~= 0 then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "  redis.call('HINCRBY', KEYS[1], ARGV[2], -c) " +
+            "end " +
+            "return c", Long.class);
+
+    // 채팅방 카운트를 주어진 값으로 교정 + 합계에 차이 반영, 이전 값 반환
+    private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(
+            "local old = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "local new = tonumber(ARGV[2]) " +
+            "if new == 0 then redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "else redis.call('HSET', KEYS[1], ARGV[1], new) end " +
+            "if new ~= old then redis.call('HINCRBY', KEYS[1], ARGV[3], new - old) end " +
+            "return old", Long.class);
+
+    // 읽지 않은 메시지가 있는 채팅방 수 (합계 필드 제외, 0인 채팅방 필드는 삭제되므로 필드 수와 같음)
+    private static final RedisScript<Long> ROOM_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('HLEN', KEYS[1]) " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then n = n - 1 end " +
+            "return n", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수 증가
+     */
+    public void increment(Long userId, Long roomId, long delta) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)),
+                roomId.toString(), Long.toString(delta), TOTAL_FIELD);
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수 초기화
+     */
+    public void reset(Long userId, Long roomId) {
+        redisTemplate.execute(RESET_SCRIPT, List.of(key(userId)), roomId.toString(), TOTAL_FIELD);
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수를 DB 기준 값으로 교정
+     * @return 교정 전 값
+     */
+    public long overwrite(Long userId, Long roomId, long count) {
+        Long previous = redisTemplate.execute(SET_SCRIPT, List.of(key(userId)),
+                roomId.toString(), Long.toString(count), TOTAL_FIELD);
+        return previous != null ? previous : 0L;
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수 조회
+     */
+    public long get(Long userId, Long roomId) {
+        return toLong(redisTemplate.opsForHash().get(key(userId), roomId.toString()));
+    }
+
+    /**
+     * 전체 채팅방의 읽지 않은 메시지 수 합계 조회
+     */
+    public long getTotal(Long userId) {
+        return Math.max(0L, toLong(redisTemplate.opsForHash().get(key(userId), TOTAL_FIELD)));
+    }
+
+    /**
+     * 읽지 않은 메시지가 있는 채팅방 수 조회
+     */
+    public long getUnreadRoomCount(Long userId) {
+        Long count = redisTemplate.execute(ROOM_COUNT_SCRIPT, List.of(key(userId)), TOTAL_FIELD);
+        return count != null ? Math.max(0L, count) : 0L;
+    }
+
+    private String key(Long userId) {
+        return UNREAD_KEY_PREFIX + userId;
+    }
+
+    private long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
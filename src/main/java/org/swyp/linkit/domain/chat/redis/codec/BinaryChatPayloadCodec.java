@@ -0,0 +1,185 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 컴팩트 바이너리 형식
+ *
+ * [magic 1B][field flags 1B][option flags 1B][필드들...]
+ * - field flags: 값이 있는 필드만 비트로 표시
+ * - option flags: system 여부
+ * - 숫자 필드: unsigned varint (LEB128), 음수는 지원하지 않음
+ * - 문자열 필드: varint 길이 + UTF-8 바이트
+ * 필드 순서는 FLAG_* 정의 순서와 같으며, 필드를 추가할 때는 뒤에만 추가해야 합니다.
+ */
+public class BinaryChatPayloadCodec implements ChatPayloadCodec {
+
+    public static final String NAME = "binary";
+
+    // JSON('{')이나 UTF-8 텍스트의 첫 바이트로 나올 수 없는 값
+    static final byte MAGIC = (byte) 0xC1;
+
+    private static final int FLAG_ROOM_ID = 1;
+    private static final int FLAG_MESSAGE_ID = 1 << 1;
+    private static final int FLAG_SENDER_ID = 1 << 2;
+    private static final int FLAG_SENDER_ROLE = 1 << 3;
+    private static final int FLAG_TEXT = 1 << 4;
+    private static final int FLAG_SENT_AT = 1 << 5;
+    private static final int FLAG_READ_UP_TO = 1 << 6;
+    private static final int FLAG_READER_ID = 1 << 7;
+    private static final int OPTION_SYSTEM = 1;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(byte firstByte) {
+        return firstByte == MAGIC;
+    }
+
+    @Override
+    public byte[] encode(ChatPayloadResponseDto payload) {
+        byte[] senderRole = utf8(payload.getSenderRole());
+        byte[] text = utf8(payload.getText());
+
+        int flags = 0;
+        flags |= payload.getRoomId() != null ? FLAG_ROOM_ID : 0;
+        flags |= payload.getMessageId() != null ? FLAG_MESSAGE_ID : 0;
+        flags |= payload.getSenderId() != null ? FLAG_SENDER_ID : 0;
+        flags |= senderRole != null ? FLAG_SENDER_ROLE : 0;
+        flags |= text != null ? FLAG_TEXT : 0;
+        flags |= payload.getSentAtEpochMs() != null ? FLAG_SENT_AT : 0;
+        flags |= payload.getReadUpToMessageId() != null ? FLAG_READ_UP_TO : 0;
+        flags |= payload.getReaderId() != null ? FLAG_READER_ID : 0;
+
+        // 최대 크기로 할당 후 잘라냄 (varint 최대 10바이트)
+        int capacity = 3 + 10 * 8
+                + (senderRole != null ? senderRole.length : 0)
+                + (text != null ? text.length : 0);
+        Writer out = new Writer(capacity);
+        out.writeByte(MAGIC);
+        out.writeByte(flags);
+        out.writeByte(payload.isSystem() ? OPTION_SYSTEM : 0);
+
+        out.writeVarLong(payload.getRoomId());
+        out.writeVarLong(payload.getMessageId());
+        out.writeVarLong(payload.getSenderId());
+        out.writeBytes(senderRole);
+        out.writeBytes(text);
+        out.writeVarLong(payload.getSentAtEpochMs());
+        out.writeVarLong(payload.getReadUpToMessageId());
+        out.writeVarLong(payload.getReaderId());
+        return out.toByteArray();
+    }
+
+    @Override
+    public ChatPayloadResponseDto decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        if (in.readByte() != MAGIC) {
+            throw new JsonSerializationException("ChatPayload 바이너리 형식이 아닙니다.");
+        }
+        int flags = in.readByte() & 0xFF;
+        int options = in.readByte() & 0xFF;
+
+        return ChatPayloadResponseDto.builder()
+                .roomId((flags & FLAG_ROOM_ID) != 0 ? in.readVarLong() : null)
+                .messageId((flags & FLAG_MESSAGE_ID) != 0 ? in.readVarLong() : null)
+                .senderId((flags & FLAG_SENDER_ID) != 0 ? in.readVarLong() : null)
+                .senderRole((flags & FLAG_SENDER_ROLE) != 0 ? in.readString() : null)
+                .text((flags & FLAG_TEXT) != 0 ? in.readString() : null)
+                .sentAtEpochMs((flags & FLAG_SENT_AT) != 0 ? in.readVarLong() : null)
+                .readUpToMessageId((flags & FLAG_READ_UP_TO) != 0 ? in.readVarLong() : null)
+                .readerId((flags & FLAG_READER_ID) != 0 ? in.readVarLong() : null)
+                .system((options & OPTION_SYSTEM) != 0)
+                .build();
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static final class Writer {
+        private final byte[] buf;
+        private int pos;
+
+        private Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        private void writeByte(int b) {
+            buf[pos++] = (byte) b;
+        }
+
+        private void writeVarLong(Long value) {
+            if (value == null) {
+                return;
+            }
+            long v = value;
+            if (v < 0) {
+                throw new JsonSerializationException("ChatPayload 바이너리 형식은 음수를 지원하지 않습니다: " + v);
+            }
+            while ((v & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[pos++] = (byte) v;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            if (bytes == null) {
+                return;
+            }
+            writeVarLong((long) bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        private Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        private byte readByte() {
+            if (pos >= buf.length) {
+                throw new JsonSerializationException("ChatPayload 바이너리 데이터가 잘렸습니다.");
+            }
+            return buf[pos++];
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new JsonSerializationException("ChatPayload 바이너리 varint 형식이 잘못되었습니다.");
+        }
+
+        private String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || pos + length > buf.length) {
+                throw new JsonSerializationException("ChatPayload 바이너리 문자열 길이가 잘못되었습니다.");
+            }
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+    }
+}
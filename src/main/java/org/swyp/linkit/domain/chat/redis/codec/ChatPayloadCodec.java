@@ -0,0 +1,23 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+
+/**
+ * Redis 채팅 팬아웃 페이로드 직렬화 방식
+ */
+public interface ChatPayloadCodec {
+
+    /**
+     * 설정값(app.chat.redis.codec)에서 사용하는 이름
+     */
+    String name();
+
+    /**
+     * 인코딩 결과의 첫 바이트로 해당 형식인지 판별
+     */
+    boolean supports(byte firstByte);
+
+    byte[] encode(ChatPayloadResponseDto payload);
+
+    ChatPayloadResponseDto decode(byte[] bytes);
+}
@@ -0,0 +1,51 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import java.util.List;
+
+/**
+ * 채팅 팬아웃 코덱 선택기
+ *
+ * 발행은 app.chat.redis.codec 설정(json | binary)의 형식을 사용하고,
+ * 수신은 첫 바이트로 형식을 판별해 디코딩합니다.
+ * 따라서 인스턴스별로 설정을 순차 변경(롤링 배포)하는 동안에도 서로의 메시지를 읽을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ChatPayloadCodecs {
+
+    private final List<ChatPayloadCodec> codecs;
+    private final ChatPayloadCodec encoder;
+
+    public ChatPayloadCodecs(ObjectMapper objectMapper,
+                             @Value("${app.chat.redis.codec:json}") String codecName) {
+        this.codecs = List.of(new JsonChatPayloadCodec(objectMapper), new BinaryChatPayloadCodec());
+        this.encoder = codecs.stream()
+                .filter(codec -> codec.name().equalsIgnoreCase(codecName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 채팅 코덱입니다: " + codecName));
+        log.info("채팅 Redis 코덱: {}", encoder.name());
+    }
+
+    public byte[] encode(ChatPayloadResponseDto payload) {
+        return encoder.encode(payload);
+    }
+
+    public ChatPayloadResponseDto decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new JsonSerializationException("빈 ChatPayload 입니다.");
+        }
+        for (ChatPayloadCodec codec : codecs) {
+            if (codec.supports(bytes[0])) {
+                return codec.decode(bytes);
+            }
+        }
+        throw new JsonSerializationException("알 수 없는 ChatPayload 형식입니다. firstByte=" + bytes[0]);
+    }
+}
@@ -0,0 +1,54 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import java.io.IOException;
+
+/**
+ * JSON 형식 (기존 방식, 기본값)
+ * 타입이 고정된 ObjectReader/ObjectWriter를 재사용하고, String 변환 없이 byte[]를 직접 읽고 씁니다.
+ */
+public class JsonChatPayloadCodec implements ChatPayloadCodec {
+
+    public static final String NAME = "json";
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JsonChatPayloadCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(ChatPayloadResponseDto.class);
+        this.reader = objectMapper.readerFor(ChatPayloadResponseDto.class);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(byte firstByte) {
+        return firstByte == '{';
+    }
+
+    @Override
+    public byte[] encode(ChatPayloadResponseDto payload) {
+        try {
+            return writer.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new JsonSerializationException("ChatPayload JSON 직렬화 실패");
+        }
+    }
+
+    @Override
+    public ChatPayloadResponseDto decode(byte[] bytes) {
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new JsonSerializationException("ChatPayload JSON 역직렬화 실패");
+        }
+    }
+}
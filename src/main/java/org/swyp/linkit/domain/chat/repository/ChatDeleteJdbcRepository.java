@@ -0,0 +1,59 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 본인 기준 메시지/채팅방 삭제 기록 일괄 저장 (JDBC batch insert)
+ *
+ * 엔티티를 하나씩 save 하면 삭제 건수만큼 INSERT 문이 실행되므로, 삭제 기록은 한 번의 batch로 저장합니다.
+ * 동시에 같은 삭제 요청이 들어와도 INSERT IGNORE 로 중복 키 오류 없이 한 건만 남습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatDeleteJdbcRepository {
+
+    private static final String INSERT_MESSAGE_DELETE_SQL =
+            "INSERT IGNORE INTO chat_message_delete (chat_message_id, user_id, deleted_at, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ROOM_DELETE_SQL =
+            "INSERT IGNORE INTO chat_room_delete (chat_room_id, user_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 삭제 기록 일괄 저장
+     */
+    public void insertMessageDeletes(Long userId, Collection<Long> messageIds, LocalDateTime now) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = messageIds.stream()
+                .map(messageId -> new Object[]{messageId, userId, timestamp, timestamp, timestamp})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_DELETE_SQL, rows);
+    }
+
+    /**
+     * 채팅방 삭제 기록 일괄 저장
+     */
+    public void insertRoomDeletes(Long userId, Collection<Long> roomIds, LocalDateTime now) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = roomIds.stream()
+                .map(roomId -> new Object[]{roomId, userId, timestamp, timestamp})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_ROOM_DELETE_SQL, rows);
+    }
+}
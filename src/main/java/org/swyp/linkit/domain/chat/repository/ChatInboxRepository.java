@@ -0,0 +1,128 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swyp.linkit.domain.chat.dto.ChatInboxRowDto;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
+import org.swyp.linkit.domain.chat.entity.ChatInboxId;
+import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, ChatInboxId> {
+
+    /**
+     * 사용자의 채팅방 목록 첫 페이지 (최신순, 숨긴 채팅방 제외, 상대방 현재 프로필은 users PK 조인)
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.dto.ChatInboxRowDto(i, u.nickname, u.profileImageUrl) " +
+           "FROM ChatInbox i LEFT JOIN User u ON u.id = i.partnerId " +
+           "WHERE i.id.userId = :userId AND i.hidden = false " +
+           "ORDER BY i.sortAt DESC, i.id.chatRoomId DESC")
+    List<ChatInboxRowDto> findVisibleByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * (sortAt, chatRoomId) 커서 이전의 채팅방 목록 (최신순, 숨긴 채팅방 제외, 상대방 현재 프로필은 users PK 조인)
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.dto.ChatInboxRowDto(i, u.nickname, u.profileImageUrl) " +
+           "FROM ChatInbox i LEFT JOIN User u ON u.id = i.partnerId " +
+           "WHERE i.id.userId = :userId AND i.hidden = false " +
+           "AND (i.sortAt < :sortAt OR (i.sortAt = :sortAt AND i.id.chatRoomId < :roomId)) " +
+           "ORDER BY i.sortAt DESC, i.id.chatRoomId DESC")
+    List<ChatInboxRowDto> findVisibleByUserIdBefore(@Param("userId") Long userId,
+                                              @Param("sortAt") LocalDateTime sortAt,
+                                              @Param("roomId") Long roomId,
+                                              Limit limit);
+
+    /**
+     * 새 메시지 반영 (채팅방 참여자 두 행을 단일 UPDATE로 갱신)
+     * - 읽지 않은 수는 역할별 증가분을 현재 값에 더함
+     * - 마지막 메시지는 더 큰 메시지 ID일 때만 갱신
+     * MySQL은 SET 절을 왼쪽부터 적용하므로 lastMessageId를 마지막에 갱신해야 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatInbox i SET " +
+           "i.unreadCount = i.unreadCount + CASE WHEN i.mentor = true THEN :mentorIncrement ELSE :menteeIncrement END, " +
+           "i.lastMessagePreview = CASE WHEN i.lastMessageId IS NULL OR i.lastMessageId < :messageId " +
+           "THEN :preview ELSE i.lastMessagePreview END, " +
+           "i.lastMessageAt = CASE WHEN i.lastMessageId IS NULL OR i.lastMessageId < :messageId " +
+           "THEN :messageAt ELSE i.lastMessageAt END, " +
+           "i.sortAt = CASE WHEN i.lastMessageId IS NULL OR i.lastMessageId < :messageId " +
+           "THEN :messageAt ELSE i.sortAt END, " +
+           "i.lastMessageId = CASE WHEN i.lastMessageId IS NULL OR i.lastMessageId < :messageId " +
+           "THEN :messageId ELSE i.lastMessageId END, " +
+           "i.modifiedAt = :now " +
+           "WHERE i.id.chatRoomId = :roomId")
+    int applyNewMessage(@Param("roomId") Long roomId,
+                        @Param("messageId") Long messageId,
+                        @Param("preview") String preview,
+                        @Param("messageAt") LocalDateTime messageAt,
+                        @Param("mentorIncrement") int mentorIncrement,
+                        @Param("menteeIncrement") int menteeIncrement,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 읽지 않은 메시지 수 초기화
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatInbox i SET i.unreadCount = 0, i.modifiedAt = :now " +
+           "WHERE i.id.userId = :userId AND i.id.chatRoomId = :roomId")
+    int resetUnreadCount(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 채팅방 일괄 숨김 (본인 기준 채팅방 삭제)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatInbox i SET i.hidden = true, i.modifiedAt = :now " +
+           "WHERE i.id.userId = :userId AND i.id.chatRoomId IN :roomIds")
+    int hideAll(@Param("roomIds") Collection<Long> roomIds, @Param("userId") Long userId,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 채팅방 상태 반영
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatInbox i SET i.status = :status, i.modifiedAt = :now WHERE i.id.chatRoomId = :roomId")
+    int updateStatus(@Param("roomId") Long roomId, @Param("status") ChatRoomStatus status,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 목록 행이 없는 기존 채팅방의 멘토 행 생성 (배포 전 생성된 채팅방 이관용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_inbox (user_id, chat_room_id, partner_id, is_mentor, status, " +
+                   "last_message_id, last_message_preview, last_message_at, sort_at, unread_count, hidden, " +
+                   "created_at, modified_at) " +
+                   "SELECT r.mentor_id, r.chat_room_id, r.mentee_id, TRUE, r.status, " +
+                   "r.last_message_id, LEFT(m.content, 100), r.last_message_at, COALESCE(r.last_message_at, r.created_at), " +
+                   "r.unread_mentor_count, " +
+                   "EXISTS (SELECT 1 FROM chat_room_delete d WHERE d.chat_room_id = r.chat_room_id AND d.user_id = r.mentor_id), " +
+                   "r.created_at, r.modified_at " +
+                   "FROM chat_room r " +
+                   "LEFT JOIN chat_message m ON m.chat_message_id = r.last_message_id " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM chat_inbox i WHERE i.user_id = r.mentor_id AND i.chat_room_id = r.chat_room_id)",
+           nativeQuery = true)
+    int backfillMentorRows();
+
+    /**
+     * 목록 행이 없는 기존 채팅방의 멘티 행 생성 (배포 전 생성된 채팅방 이관용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_inbox (user_id, chat_room_id, partner_id, is_mentor, status, " +
+                   "last_message_id, last_message_preview, last_message_at, sort_at, unread_count, hidden, " +
+                   "created_at, modified_at) " +
+                   "SELECT r.mentee_id, r.chat_room_id, r.mentor_id, FALSE, r.status, " +
+                   "r.last_message_id, LEFT(m.content, 100), r.last_message_at, COALESCE(r.last_message_at, r.created_at), " +
+                   "r.unread_mentee_count, " +
+                   "EXISTS (SELECT 1 FROM chat_room_delete d WHERE d.chat_room_id = r.chat_room_id AND d.user_id = r.mentee_id), " +
+                   "r.created_at, r.modified_at " +
+                   "FROM chat_room r " +
+                   "LEFT JOIN chat_message m ON m.chat_message_id = r.last_message_id " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM chat_inbox i WHERE i.user_id = r.mentee_id AND i.chat_room_id = r.chat_room_id)",
+           nativeQuery = true)
+    int backfillMenteeRows();
+}
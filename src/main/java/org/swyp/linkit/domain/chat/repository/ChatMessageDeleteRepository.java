@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.swyp.linkit.domain.chat.entity.ChatMessageDelete;
 import org.swyp.linkit.domain.chat.entity.ChatMessageDeleteId;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatMessageDeleteRepository extends JpaRepository<ChatMessageDelete, ChatMessageDeleteId> {
@@ -20,4 +21,12 @@ public interface ChatMessageDeleteRepository extends JpaRepository<ChatMessageDe
      * 특정 사용자가 해당 메시지를 삭제했는지 확인
      */
     boolean existsById_ChatMessageIdAndId_UserId(Long chatMessageId, Long userId);
+
+    /**
+     * 주어진 메시지 중 특정 사용자가 이미 삭제한 메시지 ID 조회
+     */
+    @Query("SELECT d.id.chatMessageId FROM ChatMessageDelete d " +
+           "WHERE d.id.userId = :userId AND d.id.chatMessageId IN :messageIds")
+    List<Long> findDeletedMessageIdsByUserIdAndMessageIdIn(@Param("userId") Long userId,
+                                                           @Param("messageIds") Collection<Long> messageIds);
 }
\ No newline at end of file
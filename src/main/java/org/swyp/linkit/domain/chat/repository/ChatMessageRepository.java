@@ -1,10 +1,13 @@
 package org.swyp.linkit.domain.chat.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.search.ChatSearchDocument;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -16,9 +19,31 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     List<ChatMessage> findTop50ByChatRoomIdOrderByIdDesc(@Param("roomId") Long roomId);
 
     /**
-     * 채팅방의 모든 메시지 조회 (생성순)
+     * 채팅방의 최신 메시지 조회 (최신순, 커서 없는 첫 페이지, 사용자가 삭제한 메시지 제외)
      */
-    List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId " +
+           "AND NOT EXISTS (SELECT 1 FROM ChatMessageDelete d WHERE d.id.chatMessageId = m.id AND d.id.userId = :userId) " +
+           "ORDER BY m.id DESC")
+    List<ChatMessage> findVisibleLatestByChatRoomId(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                                                    Limit limit);
+
+    /**
+     * 특정 메시지 ID 이전의 메시지 조회 (최신순, 과거 방향 커서 페이지, 사용자가 삭제한 메시지 제외)
+     */
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id < :messageId " +
+           "AND NOT EXISTS (SELECT 1 FROM ChatMessageDelete d WHERE d.id.chatMessageId = m.id AND d.id.userId = :userId) " +
+           "ORDER BY m.id DESC")
+    List<ChatMessage> findVisibleByChatRoomIdAndIdLessThan(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                                                           @Param("messageId") Long messageId, Limit limit);
+
+    /**
+     * 특정 메시지 ID 이후의 메시지 조회 (생성순, 최신 방향 커서 페이지, 사용자가 삭제한 메시지 제외)
+     */
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id > :messageId " +
+           "AND NOT EXISTS (SELECT 1 FROM ChatMessageDelete d WHERE d.id.chatMessageId = m.id AND d.id.userId = :userId) " +
+           "ORDER BY m.id ASC")
+    List<ChatMessage> findVisibleByChatRoomIdAndIdGreaterThan(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                                                              @Param("messageId") Long messageId, Limit limit);
 
     /**
      * 특정 메시지 ID 이후의 메시지 조회
@@ -37,4 +62,40 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
      */
     @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id > :messageId")
     long countByChatRoomIdAndIdGreaterThan(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자가 마지막으로 읽은 메시지 이후 상대방이 보낸 메시지 수 (ChatRead 기준 읽지 않은 수)
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.senderId <> :userId " +
+           "AND m.id > COALESCE((SELECT cr.lastReadMessageId FROM ChatRead cr " +
+           "WHERE cr.id.chatRoomId = :roomId AND cr.id.userId = :userId), 0)")
+    long countUnreadByChatRoomIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    /**
+     * 주어진 메시지 ID 중 해당 채팅방에 속한 ID 조회 (일괄 삭제 검증용)
+     */
+    @Query("SELECT m.id FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id IN :messageIds")
+    List<Long> findIdsByChatRoomIdAndIdIn(@Param("roomId") Long roomId,
+                                          @Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 특정 메시지 ID 이후의 색인 대상 메시지 조회 (생성순, 검색 색인 백필/재동기화용)
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.search.ChatSearchDocument(m.id, m.content, m.createdAt) " +
+           "FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id > :messageId ORDER BY m.id ASC")
+    List<ChatSearchDocument> findSearchDocumentsAfter(@Param("roomId") Long roomId,
+                                                      @Param("messageId") Long messageId, Limit limit);
+
+    /**
+     * 주어진 ID의 메시지 조회 (사용자가 삭제한 메시지 제외, 검색 후보 확인용)
+     */
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id IN :messageIds " +
+           "AND NOT EXISTS (SELECT 1 FROM ChatMessageDelete d WHERE d.id.chatMessageId = m.id AND d.id.userId = :userId)")
+    List<ChatMessage> findVisibleByChatRoomIdAndIdIn(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                                                     @Param("messageIds") Collection<Long> messageIds);
+
+    /**
+     * 특정 ID 이상의 메시지 존재 여부 (write-behind 모드 ID 범위 확인용)
+     */
+    boolean existsByIdGreaterThanEqual(Long id);
+}
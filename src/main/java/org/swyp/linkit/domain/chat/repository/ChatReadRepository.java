@@ -1,9 +1,14 @@
 package org.swyp.linkit.domain.chat.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.swyp.linkit.domain.chat.entity.ChatRead;
 import org.swyp.linkit.domain.chat.entity.ChatReadId;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatReadRepository extends JpaRepository<ChatRead, ChatReadId> {
@@ -12,4 +17,27 @@ public interface ChatReadRepository extends JpaRepository<ChatRead, ChatReadId>
      * 특정 사용자의 채팅방 읽음 정보 조회
      */
     Optional<ChatRead> findById_ChatRoomIdAndId_UserId(Long chatRoomId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 메시지 ID 이후까지 읽은 채팅방 참여자들의 읽음 정보 조회 (재연결 동기화용)
+     */
+    List<ChatRead> findById_ChatRoomIdAndLastReadMessageIdGreaterThan(Long chatRoomId, Long messageId);
+
+    /**
+     * 마지막 읽은 메시지 ID 전진 (읽음 기록이 없으면 생성, 더 큰 메시지 ID일 때만 갱신)
+     * 확인 후 insert 하면 동시에 읽음 기록을 만드는 요청과 PK 중복이 나 트랜잭션(메시지 저장)이 롤백되므로
+     * 단일 upsert 로 처리합니다. (modified_at 은 갱신 전 값과 비교해야 하므로 먼저 대입)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO chat_read (chat_room_id, user_id, last_read_message_id, created_at, modified_at) " +
+                   "VALUES (:roomId, :userId, :messageId, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "modified_at = CASE WHEN last_read_message_id < VALUES(last_read_message_id) " +
+                   "THEN VALUES(modified_at) ELSE modified_at END, " +
+                   "last_read_message_id = GREATEST(last_read_message_id, VALUES(last_read_message_id))",
+           nativeQuery = true)
+    void upsertLastReadMessageId(@Param("roomId") Long roomId,
+                                 @Param("userId") Long userId,
+                                 @Param("messageId") Long messageId,
+                                 @Param("now") LocalDateTime now);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.swyp.linkit.domain.chat.entity.ChatRoomDelete;
 import org.swyp.linkit.domain.chat.entity.ChatRoomDeleteId;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatRoomDeleteRepository extends JpaRepository<ChatRoomDelete, ChatRoomDeleteId> {
@@ -20,4 +21,11 @@ public interface ChatRoomDeleteRepository extends JpaRepository<ChatRoomDelete,
      * 특정 사용자가 해당 채팅방을 삭제했는지 확인
      */
     boolean existsById_ChatRoomIdAndId_UserId(Long chatRoomId, Long userId);
+
+    /**
+     * 주어진 채팅방 중 특정 사용자가 이미 삭제한 채팅방 ID 조회
+     */
+    @Query("SELECT d.id.chatRoomId FROM ChatRoomDelete d WHERE d.id.userId = :userId AND d.id.chatRoomId IN :roomIds")
+    List<Long> findDeletedRoomIdsByUserIdAndRoomIdIn(@Param("userId") Long userId,
+                                                     @Param("roomIds") Collection<Long> roomIds);
 }
\ No newline at end of file
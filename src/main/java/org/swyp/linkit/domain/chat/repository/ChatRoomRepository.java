@@ -1,11 +1,17 @@
 package org.swyp.linkit.domain.chat.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
+import org.swyp.linkit.domain.chat.dto.ChatRoomUnreadDto;
 import org.swyp.linkit.domain.chat.entity.ChatRoom;
 import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,19 +32,6 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT r FROM ChatRoom r WHERE r.mentorId = :userId OR r.menteeId = :userId ORDER BY COALESCE(r.lastMessageAt, r.createdAt) DESC")
     List<ChatRoom> findAllByUserId(@Param("userId") Long userId);
 
-    /**
-     * 특정 사용자가 참여한 모든 채팅방 조회 (멘토, 멘티, 마지막 메시지 함께 JOIN)
-     * 결과: [ChatRoom, User(mentor), User(mentee), ChatMessage(lastMessage)]
-     */
-    @Query("SELECT r, mentor, mentee, msg " +
-           "FROM ChatRoom r " +
-           "LEFT JOIN User mentor ON r.mentorId = mentor.id " +
-           "LEFT JOIN User mentee ON r.menteeId = mentee.id " +
-           "LEFT JOIN ChatMessage msg ON r.lastMessageId = msg.id " +
-           "WHERE r.mentorId = :userId OR r.menteeId = :userId " +
-           "ORDER BY COALESCE(r.lastMessageAt, r.createdAt) DESC")
-    List<Object[]> findAllByUserIdWithDetails(@Param("userId") Long userId);
-
     /**
      * 특정 사용자가 멘토로 참여한 채팅방 조회
      */
@@ -60,4 +53,76 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM ChatRoom r " +
            "WHERE r.id = :roomId AND (r.mentorId = :userId OR r.menteeId = :userId)")
     boolean existsByIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 최근 메시지가 있었던 채팅방 ID 조회 (최신순, 검색 색인 워밍업용)
+     */
+    @Query("SELECT r.id FROM ChatRoom r WHERE r.lastMessageAt IS NOT NULL ORDER BY r.lastMessageAt DESC")
+    List<Long> findRecentlyActiveIds(Limit limit);
+
+    /**
+     * 주어진 채팅방 중 사용자가 참여자인 채팅방 ID 조회 (일괄 삭제 검증용)
+     */
+    @Query("SELECT r.id FROM ChatRoom r WHERE r.id IN :roomIds AND (r.mentorId = :userId OR r.menteeId = :userId)")
+    List<Long> findIdsByIdInAndUserId(@Param("roomIds") Collection<Long> roomIds, @Param("userId") Long userId);
+
+    /**
+     * 새 메시지 반영 (엔티티 로딩 없이 단일 UPDATE)
+     * - 읽지 않은 메시지 수는 현재 값 기준으로 증가시켜 동시 전송 시에도 유실되지 않음
+     * - 마지막 메시지는 더 큰 메시지 ID일 때만 갱신 (커밋 순서가 뒤바뀌어도 되돌아가지 않음)
+     * MySQL은 SET 절을 왼쪽부터 적용하므로 lastMessageAt을 lastMessageId보다 먼저 갱신해야 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom r SET " +
+           "r.unreadMentorCount = r.unreadMentorCount + :mentorIncrement, " +
+           "r.unreadMenteeCount = r.unreadMenteeCount + :menteeIncrement, " +
+           "r.lastMessageAt = CASE WHEN r.lastMessageId IS NULL OR r.lastMessageId < :messageId " +
+           "THEN :messageAt ELSE r.lastMessageAt END, " +
+           "r.lastMessageId = CASE WHEN r.lastMessageId IS NULL OR r.lastMessageId < :messageId " +
+           "THEN :messageId ELSE r.lastMessageId END, " +
+           "r.modifiedAt = :now " +
+           "WHERE r.id = :roomId")
+    int applyNewMessage(@Param("roomId") Long roomId,
+                        @Param("messageId") Long messageId,
+                        @Param("messageAt") LocalDateTime messageAt,
+                        @Param("mentorIncrement") int mentorIncrement,
+                        @Param("menteeIncrement") int menteeIncrement,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 멘토의 읽지 않은 메시지 수 초기화 (단일 UPDATE)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom r SET r.unreadMentorCount = 0, r.modifiedAt = :now WHERE r.id = :roomId")
+    int resetUnreadMentorCount(@Param("roomId") Long roomId, @Param("now") LocalDateTime now);
+
+    /**
+     * 멘티의 읽지 않은 메시지 수 초기화 (단일 UPDATE)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom r SET r.unreadMenteeCount = 0, r.modifiedAt = :now WHERE r.id = :roomId")
+    int resetUnreadMenteeCount(@Param("roomId") Long roomId, @Param("now") LocalDateTime now);
+
+    /**
+     * 채팅방 참여자(멘토, 멘티) ID만 조회
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.dto.ChatParticipantsDto(r.id, r.mentorId, r.menteeId) " +
+           "FROM ChatRoom r WHERE r.id = :roomId")
+    Optional<ChatParticipantsDto> findParticipantsById(@Param("roomId") Long roomId);
+
+    /**
+     * 특정 시각 이후 메시지가 있었던 채팅방의 참여자 조회
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.dto.ChatParticipantsDto(r.id, r.mentorId, r.menteeId) " +
+           "FROM ChatRoom r WHERE r.lastMessageAt >= :since")
+    List<ChatParticipantsDto> findParticipantsByLastMessageAtAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 읽지 않은 메시지가 있는 채팅방의 참여자별 집계 (ID 순 keyset 페이지, Redis 카운터 초기 적재용)
+     */
+    @Query("SELECT new org.swyp.linkit.domain.chat.dto.ChatRoomUnreadDto(" +
+           "r.id, r.mentorId, r.menteeId, r.unreadMentorCount, r.unreadMenteeCount) " +
+           "FROM ChatRoom r WHERE r.id > :afterId AND (r.unreadMentorCount > 0 OR r.unreadMenteeCount > 0) " +
+           "ORDER BY r.id ASC")
+    List<ChatRoomUnreadDto> findUnreadAfterId(@Param("afterId") Long afterId, Limit limit);
+}
@@ -0,0 +1,9 @@
+package org.swyp.linkit.domain.chat.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인 대상 메시지 (백필/재동기화 시 엔티티 대신 필요한 컬럼만 조회)
+ */
+public record ChatSearchDocument(Long messageId, String content, LocalDateTime createdAt) {
+}
@@ -0,0 +1,162 @@
+package org.swyp.linkit.domain.chat.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채팅방별 메시지 역색인 (프로세스 내 메모리)
+ *
+ * - 백필: 채팅방을 처음 검색할 때 DB 메시지를 ID 순으로 chunk 단위로 읽어 색인을 만들고 (같은 채팅방 동시 요청은 한 번만 빌드),
+ *   기동 시 최근 활동 채팅방을 백그라운드에서 미리 색인합니다.
+ * - 증분: 이 인스턴스에서 저장된 메시지는 바로 색인하고, 다른 인스턴스에서 저장된 메시지는 검색 직전에
+ *   마지막 동기화 지점 이후 메시지를 (chat_room_id, chat_message_id) 인덱스 범위로 읽어 따라잡습니다.
+ * - 메모리: 색인 term 수(posting 수) 기준 가중치로 상한을 두고, 밀려난 채팅방은 다음 검색 때 다시 빌드합니다.
+ *   posting 1개는 long 8바이트에 배열 여유분/term 맵을 더해 약 16바이트로 잡으므로, 기본 200만이면 약 32MB입니다.
+ *   상한은 힙의 10% 이내(posting 수 ≈ 힙 바이트 / 160)로 맞춰 늘립니다.
+ * 삭제는 본인 기준이므로 색인에서 지우지 않고, 검색 결과를 DB에서 확인할 때 ChatMessageDelete 기준으로 제외합니다.
+ */
+@Slf4j
+@Component
+public class ChatSearchIndex {
+
+    // 다른 인스턴스의 write-behind 배치는 ID 순서와 다르게 커밋될 수 있으므로, 이 시간 이내 메시지는 다음 동기화 때 다시 읽음
+    private static final Duration SYNC_LAG = Duration.ofSeconds(10);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<Long, RoomSearchIndex> indexes;
+    private final int chunkSize;
+    private final int warmupRooms;
+    private final ExecutorService warmupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-search-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatSearchIndex(ChatMessageRepository chatMessageRepository,
+                           ChatRoomRepository chatRoomRepository,
+                           @Value("${app.chat.search.max-postings:2000000}") long maxPostings,
+                           @Value("${app.chat.search.expire-after-access:PT1H}") Duration expireAfterAccess,
+                           @Value("${app.chat.search.backfill-chunk-size:2000}") int chunkSize,
+                           @Value("${app.chat.search.warmup-rooms:0}") int warmupRooms) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chunkSize = chunkSize;
+        this.warmupRooms = warmupRooms;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxPostings)
+                .weigher((Long roomId, RoomSearchIndex index) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(1, index.getPostingCount())))
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 새 메시지 색인 (이미 색인이 적재된 채팅방만, 적재되지 않은 채팅방은 빌드할 때 DB에서 읽음)
+     */
+    public void onMessageSaved(Long roomId, Long messageId, String content) {
+        RoomSearchIndex index = indexes.getIfPresent(roomId);
+        if (index != null) {
+            index.add(messageId, content);
+        }
+    }
+
+    /**
+     * 검색용 채팅방 색인 (없으면 빌드, 있으면 마지막 동기화 이후 메시지를 따라잡음)
+     */
+    public RoomSearchIndex acquire(Long roomId) {
+        boolean[] built = {false};
+        RoomSearchIndex index = indexes.get(roomId, id -> {
+            built[0] = true;
+            return build(id);
+        });
+        if (built[0]) {
+            // 빌드 후 posting 수로 가중치를 다시 계산
+            indexes.put(roomId, index);
+        } else {
+            catchUp(roomId, index);
+        }
+        return index;
+    }
+
+    /**
+     * 적재된 채팅방 색인 수
+     */
+    public long residentRoomCount() {
+        indexes.cleanUp();
+        return indexes.estimatedSize();
+    }
+
+    /**
+     * 기동 시 최근 활동 채팅방 색인 백필 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (warmupRooms <= 0) {
+            return;
+        }
+        warmupExecutor.execute(() -> {
+            try {
+                List<Long> roomIds = chatRoomRepository.findRecentlyActiveIds(Limit.of(warmupRooms));
+                long start = System.currentTimeMillis();
+                roomIds.forEach(this::acquire);
+                log.info("채팅 검색 색인 워밍업 완료: rooms={}, elapsedMs={}",
+                        roomIds.size(), System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                log.warn("채팅 검색 색인 워밍업 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmupExecutor.shutdownNow();
+    }
+
+    private RoomSearchIndex build(Long roomId) {
+        long start = System.currentTimeMillis();
+        RoomSearchIndex index = new RoomSearchIndex();
+        catchUp(roomId, index);
+        log.info("채팅 검색 색인 빌드: roomId={}, messages={}, postings={}, elapsedMs={}",
+                roomId, index.getDocumentCount(), index.getPostingCount(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private void catchUp(Long roomId, RoomSearchIndex index) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(SYNC_LAG);
+        long cursor = index.getSyncedUpTo();
+        boolean settled = true;
+
+        while (true) {
+            List<ChatSearchDocument> chunk = chatMessageRepository.findSearchDocumentsAfter(
+                    roomId, cursor, Limit.of(chunkSize));
+            for (ChatSearchDocument document : chunk) {
+                index.add(document.messageId(), document.content());
+                cursor = document.messageId();
+                // 최근 메시지 이전까지만 동기화 지점을 전진 (늦게 커밋된 더 작은 ID를 놓치지 않도록)
+                settled = settled && document.createdAt() != null && document.createdAt().isBefore(settledBefore);
+                if (settled) {
+                    index.markSyncedUpTo(cursor);
+                }
+            }
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.swyp.linkit.domain.chat.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 메시지 검색용 n-gram 토크나이저
+ *
+ * 한국어는 띄어쓰기/조사 결합이 자유로워 형태소 분석 없이도 부분 일치가 되도록 bigram(2-gram)으로 색인합니다.
+ * NFKC 정규화 + 소문자화 후 글자/숫자가 이어진 구간(run)을 나누고, 구간마다 인접한 두 글자를 term으로 만듭니다.
+ * 한 글자짜리 구간은 색인하지 않으므로 검색어는 두 글자 이상인 구간을 하나 이상 포함해야 합니다.
+ */
+public final class ChatSearchTokenizer {
+
+    private static final int GRAM = 2;
+
+    private ChatSearchTokenizer() {
+    }
+
+    /**
+     * 검색 비교용 정규화 (NFKC + 소문자)
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자/숫자가 이어진 구간 목록 (정규화된 문자열 기준)
+     */
+    public static List<String> runs(String normalized) {
+        List<String> runs = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+
+    /**
+     * 색인/검색 term (중복 제거된 bigram)
+     */
+    public static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String run : runs(normalize(text))) {
+            for (int i = 0; i + GRAM <= run.length(); i++) {
+                terms.add(run.substring(i, i + GRAM));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 정규화된 본문이 검색어의 모든 구간을 포함하는지 확인 (bigram 교집합의 오탐 제거)
+     */
+    public static boolean matches(String normalizedContent, List<String> queryRuns) {
+        for (String run : queryRuns) {
+            if (!normalizedContent.contains(run)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package org.swyp.linkit.domain.chat.search;
+
+import java.util.Arrays;
+
+/**
+ * term 하나의 메시지 ID 목록 (오름차순 정렬된 long 배열)
+ *
+ * 새 메시지는 대부분 가장 큰 ID이므로 끝에 추가되고, 백필/재동기화로 들어오는 과거 ID만 이진 탐색 위치에 삽입됩니다.
+ * 같은 ID를 다시 추가해도 한 번만 저장됩니다. 동기화는 RoomSearchIndex의 락이 담당합니다.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return 새로 추가되었으면 true (이미 있으면 false)
+     */
+    boolean add(long id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return true;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * before보다 작은 ID 중 가장 큰 ID의 위치 (없으면 -1)
+     */
+    int lastIndexBefore(long before) {
+        int index = Arrays.binarySearch(ids, 0, size, before);
+        return (index >= 0 ? index : -index - 1) - 1;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
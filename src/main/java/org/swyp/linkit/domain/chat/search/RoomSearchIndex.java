@@ -0,0 +1,127 @@
+package org.swyp.linkit.domain.chat.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅방 하나의 역색인 (term -> 메시지 ID 목록)
+ *
+ * 검색은 term들의 메시지 ID 목록 교집합을 최신 ID부터 내려가며 구합니다.
+ * 가장 짧은 목록을 기준으로 순회하고 나머지 목록은 이진 탐색으로 확인하므로,
+ * 비용은 채팅방 전체 메시지 수가 아니라 가장 드문 term의 빈도와 요청한 후보 수에 비례합니다.
+ */
+public class RoomSearchIndex {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long documentCount;
+    private long postingCount;
+    // 이 ID 이하의 DB 메시지는 모두 색인됨 (이후 메시지는 재동기화 대상)
+    private volatile long syncedUpTo;
+
+    /**
+     * 메시지 색인 (같은 메시지를 다시 색인해도 결과는 같음)
+     */
+    public void add(long messageId, String content) {
+        if (content == null) {
+            return;
+        }
+        Collection<String> terms = ChatSearchTokenizer.terms(content);
+        lock.writeLock().lock();
+        try {
+            boolean added = false;
+            for (String term : terms) {
+                if (postings.computeIfAbsent(term, t -> new PostingList()).add(messageId)) {
+                    postingCount++;
+                    added = true;
+                }
+            }
+            if (added) {
+                documentCount++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 term을 포함하는 메시지 ID 후보 (최신순)
+     * @param before 이 ID 미만만 조회 (null이면 처음부터)
+     * @param limit  최대 후보 수
+     */
+    public List<Long> search(Collection<String> terms, Long before, int limit) {
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList rarest = lists.get(0);
+            List<PostingList> others = lists.subList(1, lists.size());
+            int start = before != null ? rarest.lastIndexBefore(before) : rarest.size() - 1;
+
+            List<Long> candidates = new ArrayList<>(Math.min(limit, start + 1));
+            for (int i = start; i >= 0 && candidates.size() < limit; i--) {
+                long id = rarest.get(i);
+                if (containsAll(others, id)) {
+                    candidates.add(id);
+                }
+            }
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getSyncedUpTo() {
+        return syncedUpTo;
+    }
+
+    public synchronized void markSyncedUpTo(long messageId) {
+        if (messageId > syncedUpTo) {
+            syncedUpTo = messageId;
+        }
+    }
+
+    public long getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getPostingCount() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsAll(List<PostingList> lists, long id) {
+        for (PostingList list : lists) {
+            if (!list.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
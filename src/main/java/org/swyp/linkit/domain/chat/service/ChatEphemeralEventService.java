@@ -0,0 +1,178 @@
+package org.swyp.linkit.domain.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.response.ChatEphemeralPayloadResponseDto;
+import org.swyp.linkit.domain.chat.entity.ChatEphemeralEventType;
+import org.swyp.linkit.domain.chat.redis.RedisChatEphemeralPublisher;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방 실시간 이벤트(입력 중, 확인 등) 경량 전송
+ *
+ * DB 저장/읽지 않은 수/알림 없이 참여자 캐시 확인 후 메모리에만 적재하고, flush 주기마다 모아서 Redis로 발행합니다.
+ * - 병합: (채팅방, 사용자, 이벤트 그룹)별로 flush 전까지 마지막 이벤트만 남김 (키 입력마다 오는 TYPING은 주기당 1건)
+ * - 제한: 같은 종류의 이벤트는 min-interval 안에 다시 발행하지 않음 (클라이언트는 TYPING 표시를 일정 시간 유지)
+ * - 유실 허용: 대기 중인 키가 max-pending을 넘거나 Redis 발행이 실패하면 재시도 없이 버림
+ */
+@Slf4j
+@Service
+public class ChatEphemeralEventService {
+
+    private final ChatParticipantCache chatParticipantCache;
+    private final RedisChatEphemeralPublisher ephemeralPublisher;
+    private final long minIntervalMs;
+    private final int maxPending;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final ConcurrentHashMap<EventKey, ChatEphemeralPayloadResponseDto> pending = new ConcurrentHashMap<>();
+    // 마지막으로 발행한 이벤트 (같은 종류 반복 발행 제한용)
+    private final ConcurrentHashMap<EventKey, ChatEphemeralPayloadResponseDto> lastPublished = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder publishedMessages = new LongAdder();
+
+    public ChatEphemeralEventService(ChatParticipantCache chatParticipantCache,
+                                     RedisChatEphemeralPublisher ephemeralPublisher,
+                                     @Value("${app.chat.ephemeral.flush-interval-ms:100}") long flushIntervalMs,
+                                     @Value("${app.chat.ephemeral.min-interval-ms:2000}") long minIntervalMs,
+                                     @Value("${app.chat.ephemeral.max-pending:10000}") int maxPending) {
+        this.chatParticipantCache = chatParticipantCache;
+        this.ephemeralPublisher = ephemeralPublisher;
+        this.minIntervalMs = minIntervalMs;
+        this.maxPending = maxPending;
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "chat-ephemeral-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이벤트 접수 (참여자 검증 후 병합 대기열에 적재)
+     * @return 대기열에 적재되었으면 true (반복 제한/과부하로 버려졌으면 false)
+     */
+    public boolean submit(Long roomId, Long userId, ChatEphemeralEventType type, Long messageId) {
+        if (!chatParticipantCache.isParticipant(roomId, userId)) {
+            log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, userId);
+            throw new ChatNotParticipantException(roomId, userId);
+        }
+        return offer(ChatEphemeralPayloadResponseDto.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .type(type)
+                .messageId(messageId)
+                .sentAtEpochMs(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 병합 대기열에 적재 (참여자 검증 이후 단계)
+     */
+    boolean offer(ChatEphemeralPayloadResponseDto event) {
+        EventKey key = new EventKey(event.getRoomId(), event.getUserId(), event.getType().getGroup());
+
+        ChatEphemeralPayloadResponseDto last = lastPublished.get(key);
+        if (last != null && last.getType() == event.getType()
+                && (event.getType() != ChatEphemeralEventType.SEEN || sameMessage(last, event))
+                && event.getSentAtEpochMs() - last.getSentAtEpochMs() < minIntervalMs) {
+            rateLimited.increment();
+            return false;
+        }
+
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            dropped.increment();
+            return false;
+        }
+        if (pending.put(key, event) != null) {
+            coalesced.increment();
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * 대기 중인 이벤트를 모아서 발행
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ChatEphemeralPayloadResponseDto> batch = new ArrayList<>(pending.size());
+        for (EventKey key : pending.keySet()) {
+            ChatEphemeralPayloadResponseDto event = pending.remove(key);
+            if (event != null) {
+                batch.add(event);
+                lastPublished.put(key, event);
+            }
+        }
+
+        try {
+            publishedMessages.add(ephemeralPublisher.publishAll(batch));
+            publishedEvents.add(batch.size());
+        } catch (RuntimeException e) {
+            dropped.add(batch.size());
+            log.warn("채팅 실시간 이벤트 발행 실패 (버림): events={}", batch.size(), e);
+        }
+
+        // 반복 제한 기간이 지난 기록 정리
+        long expiredBefore = System.currentTimeMillis() - minIntervalMs;
+        lastPublished.values().removeIf(event -> event.getSentAtEpochMs() < expiredBefore);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getPublishedEventCount() {
+        return publishedEvents.sum();
+    }
+
+    public long getPublishedMessageCount() {
+        return publishedMessages.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean sameMessage(ChatEphemeralPayloadResponseDto a, ChatEphemeralPayloadResponseDto b) {
+        return a.getMessageId() == null ? b.getMessageId() == null : a.getMessageId().equals(b.getMessageId());
+    }
+
+    private record EventKey(Long roomId, Long userId, String group) {
+    }
+}
@@ -0,0 +1,217 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swyp.linkit.domain.chat.dto.ChatInboxRowDto;
+import org.swyp.linkit.domain.chat.dto.ChatRoomDto;
+import org.swyp.linkit.domain.chat.dto.ChatRoomSliceDto;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
+import org.swyp.linkit.domain.chat.repository.ChatInboxRepository;
+import org.swyp.linkit.global.error.exception.ChatInvalidCursorException;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 채팅방 목록(chat_inbox) 관리
+ *
+ * 채팅방 생성/메시지 저장/읽음/삭제/상태 변경 시 호출되어 목록 행을 갱신하고,
+ * 채팅방 목록은 (sortAt, roomId) 키셋 커서로 페이지 조회합니다.
+ * 갱신은 호출한 서비스의 트랜잭션에 함께 참여합니다.
+ * 목록 행이 없는 채팅방(배포 전 생성되었거나 롤링 배포 중 이전 버전 노드가 만든 채팅방)은
+ * 기동 시와 주기적으로 이관합니다. (이관 쿼리는 멱등이며 여러 인스턴스 중 하나만 실행)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ChatInboxService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "_";
+    private static final String BACKFILL_LOCK_KEY = "chat:inbox:backfill:lock";
+    private static final Duration BACKFILL_LOCK_TTL = Duration.ofMinutes(10);
+    // 커서 정렬 시간 허용 범위 (MySQL DATETIME 범위)
+    private static final LocalDateTime MIN_SORT_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_SORT_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_000);
+
+    private final ChatInboxRepository chatInboxRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+
+    public ChatInboxService(ChatInboxRepository chatInboxRepository,
+                            StringRedisTemplate redisTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.chat.inbox.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.chatInboxRepository = chatInboxRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    /**
+     * 사용자의 채팅방 목록 페이지 조회 (최신순, 숨긴 채팅방 제외)
+     * @param cursor 이전 페이지의 nextCursor (없으면 첫 페이지)
+     */
+    public ChatRoomSliceDto getInbox(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // size + 1 건을 조회해 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+        List<ChatInboxRowDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = chatInboxRepository.findVisibleByUserId(userId, limit);
+        } else {
+            Cursor parsed = parseCursor(cursor);
+            rows = chatInboxRepository.findVisibleByUserIdBefore(userId, parsed.sortAt(), parsed.roomId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatInboxRowDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? toCursor(page.get(page.size() - 1).getInbox()) : null;
+
+        List<ChatRoomDto> rooms = page.stream()
+                .map(ChatRoomDto::fromInbox)
+                .toList();
+        return ChatRoomSliceDto.of(rooms, nextCursor, hasNext);
+    }
+
+    /**
+     * 새 채팅방의 참여자 두 명의 목록 행 생성
+     */
+    @Transactional
+    public void onRoomCreated(ChatRoom room) {
+        chatInboxRepository.saveAll(List.of(
+                ChatInbox.create(room, room.getMentorId(), room.getMenteeId()),
+                ChatInbox.create(room, room.getMenteeId(), room.getMentorId())
+        ));
+    }
+
+    /**
+     * 새 메시지 반영 (마지막 메시지 미리보기 + 역할별 읽지 않은 수 증가)
+     */
+    @Transactional
+    public void onMessageSaved(Long roomId, Long messageId, String content, LocalDateTime messageAt,
+                               int mentorIncrement, int menteeIncrement) {
+        chatInboxRepository.applyNewMessage(roomId, messageId, ChatInbox.preview(content), messageAt,
+                mentorIncrement, menteeIncrement, LocalDateTime.now());
+    }
+
+    /**
+     * 읽음 처리 반영
+     */
+    @Transactional
+    public void onRead(Long roomId, Long userId) {
+        chatInboxRepository.resetUnreadCount(roomId, userId, LocalDateTime.now());
+    }
+
+    /**
+     * 본인 기준 채팅방 삭제 반영 (목록에서 숨김, 단일 UPDATE)
+     */
+    @Transactional
+    public void onRoomsDeleted(Collection<Long> roomIds, Long userId) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        chatInboxRepository.hideAll(roomIds, userId, LocalDateTime.now());
+    }
+
+    /**
+     * 채팅방 상태 변경 반영
+     */
+    @Transactional
+    public void onStatusChanged(Long roomId, ChatRoomStatus status) {
+        chatInboxRepository.updateStatus(roomId, status, LocalDateTime.now());
+    }
+
+    /**
+     * 기동 시 목록 행이 없는 채팅방 이관
+     * 완료 표시를 남기지 않고 매 기동마다 실행해, 이전 기동 이후 다른 버전 노드가 만든 채팅방도 이관합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * 주기적 이관 (롤링 배포 중 마지막 기동 이후 이전 버전 노드가 만든 채팅방 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.chat.inbox.backfill-interval-ms:600000}",
+            initialDelayString = "${app.chat.inbox.backfill-interval-ms:600000}")
+    public void scheduledBackfill() {
+        backfill();
+    }
+
+    /**
+     * 목록 행이 없는 채팅방의 멘토/멘티 행 생성 (멱등, 여러 인스턴스 중 하나만 실행)
+     * 락은 해제하지 않고 TTL 동안 유지해 클러스터 전체에서 TTL 당 한 번만 실행되도록 합니다.
+     */
+    public void backfill() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, "1", BACKFILL_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            Integer created = transactionTemplate.execute(status ->
+                    chatInboxRepository.backfillMentorRows() + chatInboxRepository.backfillMenteeRows());
+            if (created != null && created > 0) {
+                log.info("채팅방 목록 이관 완료: rows={}", created);
+            }
+        } catch (RuntimeException e) {
+            // 이관 쿼리는 멱등이므로 다음 실행 때 다시 시도
+            log.error("채팅방 목록 이관 실패", e);
+        }
+    }
+
+    // ==================== Cursor ====================
+
+    /**
+     * 커서 형식: {sortAt epoch 마이크로초}_{채팅방 ID}
+     */
+    private String toCursor(ChatInbox inbox) {
+        Instant sortAt = inbox.getSortAt().toInstant(ZoneOffset.UTC);
+        long epochMicros = ChronoUnit.MICROS.between(Instant.EPOCH, sortAt);
+        return epochMicros + CURSOR_DELIMITER + inbox.getId().getChatRoomId();
+    }
+
+    private Cursor parseCursor(String cursor) {
+        String[] parts = cursor.split(CURSOR_DELIMITER);
+        if (parts.length != 2) {
+            throw new ChatInvalidCursorException(cursor);
+        }
+        try {
+            long epochMicros = Long.parseLong(parts[0]);
+            LocalDateTime sortAt = LocalDateTime.ofInstant(
+                    Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS), ZoneOffset.UTC);
+            if (sortAt.isBefore(MIN_SORT_AT) || sortAt.isAfter(MAX_SORT_AT)) {
+                throw new ChatInvalidCursorException(cursor);
+            }
+            return new Cursor(sortAt, Long.parseLong(parts[1]));
+        } catch (NumberFormatException | ArithmeticException | DateTimeException e) {
+            // 범위를 벗어난 epoch 값이 Instant 연산/LocalDateTime 변환에서 실패하는 경우
+            throw new ChatInvalidCursorException(cursor);
+        }
+    }
+
+    private record Cursor(LocalDateTime sortAt, Long roomId) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.event.ChatMessagesPersistedEvent;
+import org.swyp.linkit.domain.chat.search.ChatSearchIndex;
+import org.swyp.linkit.domain.chat.writebehind.PendingChatMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * write-behind 저장 후속 처리 (검색 색인, 읽지 않은 수, 알림, 읽음 이벤트)
+ *
+ * 배치가 커밋된 뒤 writer 스레드에서 호출되며, 저장에 실패하거나 dead-letter 로 옮겨진 메시지는
+ * 배지/알림/검색 결과에 남지 않습니다. (수락 시점 팬아웃은 그대로 즉시 처리)
+ * 채팅방을 보고 있던 수신자는 배치에서 읽음 위치가 전진했으므로 (채팅방, 수신자)별 마지막 메시지로 읽음 이벤트를 한 번 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePersistedListener {
+
+    private final ChatSearchIndex chatSearchIndex;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatNotificationService chatNotificationService;
+    private final ChatService chatService;
+
+    @EventListener
+    public void onMessagesPersisted(ChatMessagesPersistedEvent event) {
+        Map<ReadKey, Long> lastReadMessageIds = new LinkedHashMap<>();
+        for (PendingChatMessage message : event.messages()) {
+            chatSearchIndex.onMessageSaved(message.getRoomId(), message.getMessageId(), message.getContent());
+            if (message.isRecipientViewing()) {
+                lastReadMessageIds.merge(new ReadKey(message.getRoomId(), message.getRecipientId()),
+                        message.getMessageId(), Math::max);
+            } else {
+                chatUnreadCountService.onMessageSaved(message.getRoomId(), message.getRecipientId());
+                chatNotificationService.onMessageSaved(message.getRoomId(), message.getSenderId(),
+                        message.getRecipientId());
+            }
+        }
+        lastReadMessageIds.forEach((key, messageId) ->
+                chatService.publishReadEvent(key.roomId(), key.userId(), messageId));
+        log.debug("write-behind 저장 후속 처리: size={}, readEvents={}",
+                event.messages().size(), lastReadMessageIds.size());
+    }
+
+    private record ReadKey(Long roomId, Long userId) {
+    }
+}
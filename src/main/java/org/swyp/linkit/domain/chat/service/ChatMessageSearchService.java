@@ -0,0 +1,97 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatMessageSliceDto;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.search.ChatSearchIndex;
+import org.swyp.linkit.domain.chat.search.ChatSearchTokenizer;
+import org.swyp.linkit.domain.chat.search.RoomSearchIndex;
+import org.swyp.linkit.global.error.exception.ChatInvalidSearchQueryException;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅방 메시지 검색
+ *
+ * 역색인(ChatSearchIndex)에서 검색어의 bigram을 모두 포함하는 메시지 ID 후보를 최신순으로 구한 뒤,
+ * 후보만 PK로 조회해 본인이 삭제한 메시지를 제외하고 본문에 검색어가 실제로 포함되는지 확인합니다.
+ * content 컬럼 LIKE 검색과 달리 조회 비용이 채팅방 메시지 수에 비례하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ChatMessageSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatParticipantCache chatParticipantCache;
+    private final ChatSearchIndex chatSearchIndex;
+    private final ChatMessageRepository chatMessageRepository;
+    private final int maxQueryLength;
+
+    public ChatMessageSearchService(ChatParticipantCache chatParticipantCache,
+                                    ChatSearchIndex chatSearchIndex,
+                                    ChatMessageRepository chatMessageRepository,
+                                    @Value("${app.chat.search.max-query-length:100}") int maxQueryLength) {
+        this.chatParticipantCache = chatParticipantCache;
+        this.chatSearchIndex = chatSearchIndex;
+        this.chatMessageRepository = chatMessageRepository;
+        this.maxQueryLength = maxQueryLength;
+    }
+
+    /**
+     * 채팅방 메시지 검색 (최신순, 본인이 삭제한 메시지 제외)
+     * @param before 이 메시지 ID 이전(과거) 결과만 조회 (다음 페이지 커서)
+     */
+    public ChatMessageSliceDto search(Long roomId, Long userId, String query, Long before, int size) {
+        if (!chatParticipantCache.isParticipant(roomId, userId)) {
+            log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, userId);
+            throw new ChatNotParticipantException(roomId, userId);
+        }
+
+        if (query == null || query.isBlank() || query.length() > maxQueryLength) {
+            throw new ChatInvalidSearchQueryException(query);
+        }
+        Set<String> terms = ChatSearchTokenizer.terms(query);
+        if (terms.isEmpty()) {
+            throw new ChatInvalidSearchQueryException(query);
+        }
+        List<String> queryRuns = ChatSearchTokenizer.runs(ChatSearchTokenizer.normalize(query));
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        RoomSearchIndex index = chatSearchIndex.acquire(roomId);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 모음
+        List<ChatMessage> matched = new ArrayList<>(pageSize + 1);
+        Long cursor = before;
+        while (matched.size() <= pageSize) {
+            List<Long> candidates = index.search(terms, cursor, pageSize + 1);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            chatMessageRepository.findVisibleByChatRoomIdAndIdIn(roomId, userId, candidates).stream()
+                    .filter(m -> ChatSearchTokenizer.matches(ChatSearchTokenizer.normalize(m.getContent()), queryRuns))
+                    .sorted(Comparator.comparing(ChatMessage::getId).reversed())
+                    .limit(pageSize + 1L - matched.size())
+                    .forEach(matched::add);
+            cursor = candidates.get(candidates.size() - 1);
+        }
+
+        boolean hasNext = matched.size() > pageSize;
+        List<ChatMessage> page = hasNext ? matched.subList(0, pageSize) : matched;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        List<ChatMessageDto> messages = page.stream()
+                .map(m -> ChatMessageDto.from(m, userId))
+                .toList();
+        return ChatMessageSliceDto.of(messages, nextCursor, hasNext);
+    }
+}
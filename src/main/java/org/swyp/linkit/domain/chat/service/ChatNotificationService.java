@@ -0,0 +1,98 @@
+package org.swyp.linkit.domain.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swyp.linkit.domain.notification.service.NotificationService;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메시지 알림 (CHAT_MESSAGE) 서비스
+ *
+ * 채팅방을 보고 있지 않은 수신자에게만 호출되며, 채팅방별 미읽음 알림은 하나로 합쳐집니다.
+ * 알림 저장/푸시는 메시지 커밋 이후 전용 스레드에서 별도 트랜잭션으로 처리합니다.
+ * (커밋 콜백 안에서 새 트랜잭션을 열면 메시지 트랜잭션의 커넥션을 쥔 채로 커넥션을 하나 더 요구하므로)
+ * 큐가 가득 차거나 처리에 실패해도 메시지 처리를 실패시키지 않습니다.
+ */
+@Slf4j
+@Service
+public class ChatNotificationService {
+
+    private final NotificationService notificationService;
+    private final ThreadPoolExecutor executor;
+
+    public ChatNotificationService(NotificationService notificationService,
+                                   @Value("${app.chat.notification.threads:2}") int threads,
+                                   @Value("${app.chat.notification.queue-capacity:10000}") int queueCapacity) {
+        this.notificationService = notificationService;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "chat-notification-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 새 메시지 알림 (채팅방에 없는 수신자)
+     */
+    public void onMessageSaved(Long roomId, Long senderId, Long recipientId) {
+        afterCommit(() -> submit(roomId, senderId, recipientId));
+    }
+
+    /**
+     * 읽음 처리한 채팅방의 메시지 알림 읽음 처리 (다음 메시지부터 다시 알림)
+     */
+    public void onRead(Long roomId, Long userId) {
+        notificationService.markChatRoomAsRead(userId, roomId);
+    }
+
+    private void submit(Long roomId, Long senderId, Long recipientId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    notificationService.createChatMessageNotification(recipientId, senderId, roomId);
+                } catch (RuntimeException e) {
+                    log.warn("채팅 메시지 알림 처리 실패: roomId={}, recipientId={}", roomId, recipientId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 메시지 알림 큐 포화로 알림 생략: roomId={}, recipientId={}", roomId, recipientId);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 알림 처리
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("채팅 메시지 알림 스레드 종료 대기 시간 초과: 남은 작업={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package org.swyp.linkit.domain.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.swyp.linkit.domain.chat.redis.RedisChatRepository;
+import org.swyp.linkit.domain.chat.redis.RedisChatRepository.Presence;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 presence(접속/채팅방 입장) 관리
+ *
+ * 이 노드에 연결된 STOMP 세션과 세션별 입장 채팅방을 메모리에 보관하고,
+ * heartbeat 주기마다 Redis presence TTL을 파이프라인으로 일괄 갱신합니다.
+ * 노드가 비정상 종료되면 TTL 만료로 presence가 사라지고, 살아 있는 노드가 죽은 노드의 세션을 정리합니다.
+ * Redis 장애 시에도 채팅 자체는 동작하도록 presence 갱신 실패는 로그만 남깁니다.
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    private final RedisChatRepository redisChatRepository;
+    private final String nodeId;
+    private final Duration ttl;
+    private final Duration nodeTtl;
+
+    // 세션ID -> 유저ID
+    private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+    // 세션ID -> 입장한 채팅방 (유저ID, 채팅방ID)
+    private final Map<String, Presence> sessionPresences = new ConcurrentHashMap<>();
+
+    public ChatPresenceService(RedisChatRepository redisChatRepository,
+                               @Value("${app.chat.presence.node-id:}") String nodeId,
+                               @Value("${app.chat.presence.ttl:PT30S}") Duration ttl,
+                               @Value("${app.chat.presence.node-ttl:PT30S}") Duration nodeTtl) {
+        this.redisChatRepository = redisChatRepository;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.ttl = ttl;
+        this.nodeTtl = nodeTtl;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // ==================== 세션 ====================
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Principal user = event.getUser();
+        if (accessor.getSessionId() == null || user == null) {
+            return;
+        }
+        connect(accessor.getSessionId(), Long.parseLong(user.getName()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 세션 연결 등록
+     */
+    public void connect(String sessionId, Long userId) {
+        sessions.put(sessionId, userId);
+        try {
+            redisChatRepository.registerSession(nodeId, sessionId, userId, ttl);
+        } catch (RuntimeException e) {
+            log.warn("세션 등록 실패: sessionId={}, userId={}", sessionId, userId, e);
+        }
+    }
+
+    /**
+     * 세션 연결 해제 (입장한 채팅방 퇴장 포함)
+     */
+    public void disconnect(String sessionId) {
+        Long userId = sessions.remove(sessionId);
+        sessionPresences.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+        try {
+            redisChatRepository.unregisterSession(nodeId, sessionId);
+        } catch (RuntimeException e) {
+            log.warn("세션 해제 실패: sessionId={}, userId={}", sessionId, userId, e);
+        }
+    }
+
+    // ==================== 채팅방 입장 ====================
+
+    /**
+     * 채팅방 입장 (같은 유저가 다른 채팅방에 있었다면 그 채팅방은 퇴장)
+     */
+    public void enter(String sessionId, Long userId, Long roomId) {
+        Presence presence = new Presence(userId, roomId);
+        if (sessionId != null) {
+            // 같은 유저의 다른 세션이 입장한 기록은 Redis에서 대체되므로 로컬 heartbeat 대상에서도 제외
+            sessionPresences.values().removeIf(p -> p.userId().equals(userId));
+            sessionPresences.put(sessionId, presence);
+        }
+        try {
+            redisChatRepository.enterChatRoom(userId, roomId, sessionId != null ? sessionId : "", ttl);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 입장 기록 실패: userId={}, roomId={}", userId, roomId, e);
+        }
+    }
+
+    /**
+     * 채팅방 퇴장 (이 세션이 입장한 경우에만)
+     */
+    public void exit(String sessionId, Long userId) {
+        if (sessionId != null) {
+            sessionPresences.remove(sessionId);
+        }
+        try {
+            redisChatRepository.exitChatRoom(userId, sessionId != null ? sessionId : "");
+        } catch (RuntimeException e) {
+            log.warn("채팅방 퇴장 기록 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 유저가 채팅방을 보고 있는지 확인
+     */
+    public boolean isInRoom(Long userId, Long roomId) {
+        try {
+            return redisChatRepository.isUserInSpecificRoom(userId, roomId);
+        } catch (RuntimeException e) {
+            log.warn("presence 조회 실패: userId={}, roomId={}", userId, roomId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 주어진 유저 중 채팅방을 보고 있는 유저 조회 (왕복 1회, 조회 실패 시 아무도 없는 것으로 간주)
+     */
+    public Set<Long> findViewers(Long roomId, Collection<Long> userIds) {
+        try {
+            return redisChatRepository.findUsersInRoom(roomId, userIds);
+        } catch (RuntimeException e) {
+            log.warn("presence 일괄 조회 실패: roomId={}, userIds={}", roomId, userIds, e);
+            return Set.of();
+        }
+    }
+
+    public int getLocalSessionCount() {
+        return sessions.size();
+    }
+
+    // ==================== heartbeat / 정리 ====================
+
+    /**
+     * 로컬 세션/입장 정보 TTL 갱신 + 노드 heartbeat
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        try {
+            redisChatRepository.heartbeat(nodeId, Map.copyOf(sessions), List.copyOf(sessionPresences.values()),
+                    ttl, nodeTtl);
+        } catch (RuntimeException e) {
+            log.warn("presence heartbeat 실패: nodeId={}, sessions={}", nodeId, sessions.size(), e);
+        }
+    }
+
+    /**
+     * heartbeat가 끊긴 노드의 세션 정리
+     */
+    @Scheduled(fixedDelayString = "${app.chat.presence.sweep-interval-ms:30000}",
+            initialDelayString = "${app.chat.presence.sweep-interval-ms:30000}")
+    public void sweepDeadNodes() {
+        try {
+            Set<String> deadNodes = redisChatRepository.findDeadNodes(nodeId);
+            for (String deadNode : deadNodes) {
+                int cleaned = redisChatRepository.cleanupNode(deadNode, nodeTtl);
+                if (cleaned > 0) {
+                    log.info("죽은 노드 세션 정리: nodeId={}, sessions={}", deadNode, cleaned);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("죽은 노드 정리 실패", e);
+        }
+    }
+
+    /**
+     * 정상 종료 시 로컬 세션 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (String sessionId : List.copyOf(sessions.keySet())) {
+            disconnect(sessionId);
+        }
+        try {
+            redisChatRepository.removeNode(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("노드 heartbeat 제거 실패: nodeId={}", nodeId, e);
+        }
+    }
+}
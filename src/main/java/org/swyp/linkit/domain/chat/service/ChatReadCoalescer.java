@@ -0,0 +1,116 @@
+package org.swyp.linkit.domain.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방 읽음/입장 이벤트 병합기
+ *
+ * 스크롤 중 연속으로 들어오는 read/enter 프레임을 (채팅방, 사용자) 단위로 모아
+ * window 동안 한 번만 DB 읽음 처리와 읽음 이벤트 발행을 수행합니다.
+ * - 창의 첫 요청이 들어온 시점부터 window 후에 반영 (이후 요청은 같은 창에 병합)
+ * - 반영 시점의 마지막 메시지까지 읽음 처리하고 DB에서는 더 큰 메시지 ID일 때만 갱신하므로 읽음 진행이 유실되지 않음
+ * - window가 0이면 병합 없이 즉시 처리
+ */
+@Slf4j
+@Component
+public class ChatReadCoalescer {
+
+    private final ChatService chatService;
+    private final long windowMs;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final ConcurrentHashMap<ReadKey, Boolean> pending = new ConcurrentHashMap<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+
+    public ChatReadCoalescer(ChatService chatService,
+                             @Value("${app.chat.read-coalesce.window-ms:300}") long windowMs,
+                             @Value("${app.chat.read-coalesce.flush-threads:2}") int flushThreads) {
+        this.chatService = chatService;
+        this.windowMs = windowMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chat-read-flush-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 읽음 요청 접수
+     * 참여자 검증은 즉시 수행해 권한 오류는 요청한 클라이언트에 바로 전달됩니다.
+     */
+    public void submit(Long roomId, Long userId) {
+        chatService.assertParticipant(userId, roomId);
+        submitted.increment();
+
+        if (windowMs <= 0) {
+            flush(new ReadKey(roomId, userId));
+            return;
+        }
+
+        ReadKey key = new ReadKey(roomId, userId);
+        if (pending.putIfAbsent(key, Boolean.TRUE) == null) {
+            scheduler.schedule(() -> flush(key), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 대기 중인 (채팅방, 사용자) 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    private void flush(ReadKey key) {
+        // 반영 전에 제거해 처리 중 들어온 요청은 새 창으로 이어지도록 함
+        pending.remove(key);
+        try {
+            Long lastReadMessageId = chatService.markAsRead(key.roomId(), key.userId());
+            chatService.publishReadEvent(key.roomId(), key.userId(), lastReadMessageId);
+            flushed.increment();
+        } catch (RuntimeException e) {
+            log.warn("읽음 처리 반영 실패: roomId={}, userId={}", key.roomId(), key.userId(), e);
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 읽음 처리를 즉시 반영
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("읽음 처리 스레드 종료 대기 시간 초과");
+        }
+
+        List<ReadKey> remaining = List.copyOf(pending.keySet());
+        remaining.forEach(this::flush);
+        if (!remaining.isEmpty()) {
+            log.info("종료 전 대기 중인 읽음 처리 반영: count={}", remaining.size());
+        }
+    }
+
+    private record ReadKey(Long roomId, Long userId) {
+    }
+}
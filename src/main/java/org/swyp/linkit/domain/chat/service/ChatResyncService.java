@@ -0,0 +1,202 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatReadEventDto;
+import org.swyp.linkit.domain.chat.dto.ChatResyncDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.redis.RedisChatReplayBuffer;
+import org.swyp.linkit.domain.chat.repository.ChatMessageDeleteRepository;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatReadRepository;
+import org.swyp.linkit.global.error.exception.ChatInvalidCursorException;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 재연결 동기화 (클라이언트가 마지막으로 받은 메시지 ID 이후의 메시지/읽음 이벤트를 chunk 단위로 조회)
+ *
+ * - 버퍼: 채팅방 재전송 버퍼(Redis Stream)에 커서 메시지 이하가 남아 있으면 그 이후 구간은 모두 버퍼에 있으므로
+ *   메시지 본문을 DB에서 읽지 않고 버퍼로 채웁니다. (본인 삭제 여부만 chat_message_delete PK로 확인)
+ * - DB: 버퍼가 비었거나 공백이 버퍼보다 길면 (chat_room_id, chat_message_id) 인덱스 범위로 chunk 조회합니다.
+ * 같은 트랜잭션으로 묶을 필요가 없어 버퍼 경로에서는 DB 커넥션을 잡지 않도록 트랜잭션을 선언하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ChatResyncService {
+
+    private static final int MAX_CHUNK_SIZE = 100;
+
+    private final ChatParticipantCache chatParticipantCache;
+    private final RedisChatReplayBuffer replayBuffer;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageDeleteRepository chatMessageDeleteRepository;
+    private final ChatReadRepository chatReadRepository;
+    private final int maxChunksPerRequest;
+
+    public ChatResyncService(ChatParticipantCache chatParticipantCache,
+                             RedisChatReplayBuffer replayBuffer,
+                             ChatMessageRepository chatMessageRepository,
+                             ChatMessageDeleteRepository chatMessageDeleteRepository,
+                             ChatReadRepository chatReadRepository,
+                             @Value("${app.chat.resync.max-chunks-per-request:10}") int maxChunksPerRequest) {
+        this.chatParticipantCache = chatParticipantCache;
+        this.replayBuffer = replayBuffer;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageDeleteRepository = chatMessageDeleteRepository;
+        this.chatReadRepository = chatReadRepository;
+        this.maxChunksPerRequest = maxChunksPerRequest;
+    }
+
+    /**
+     * 커서 이후 chunk 하나 조회
+     * @param after 클라이언트가 마지막으로 받은 메시지 ID (이 ID 초과부터 조회)
+     */
+    public ChatResyncDto resync(Long roomId, Long userId, Long after, int size) {
+        validate(roomId, userId, after);
+        int chunkSize = Math.min(Math.max(size, 1), MAX_CHUNK_SIZE);
+        ReplayWindow window = loadReplayWindow(roomId, userId, after);
+        return window != null
+                ? resyncFromBuffer(window, roomId, userId, after, chunkSize)
+                : resyncFromDatabase(roomId, userId, after, chunkSize);
+    }
+
+    /**
+     * 커서 이후 chunk를 순서대로 전달 (STOMP 재연결용, 요청당 최대 chunk 수 제한)
+     * 참여자 확인과 버퍼 조회는 요청당 한 번만 하고, 버퍼로 채울 수 있으면 chunk는 메모리에서 이어서 자릅니다.
+     * 마지막으로 전달된 chunk의 hasNext가 true면 클라이언트가 nextCursor로 다시 요청합니다.
+     */
+    public void resyncChunks(Long roomId, Long userId, Long after, int size, Consumer<ChatResyncDto> sink) {
+        validate(roomId, userId, after);
+        int chunkSize = Math.min(Math.max(size, 1), MAX_CHUNK_SIZE);
+        // 커서가 버퍼 구간 안이면 이후 커서도 모두 버퍼 구간 안에 있음
+        ReplayWindow window = loadReplayWindow(roomId, userId, after);
+
+        Long cursor = after;
+        for (int i = 0; i < maxChunksPerRequest; i++) {
+            ChatResyncDto chunk = window != null
+                    ? resyncFromBuffer(window, roomId, userId, cursor, chunkSize)
+                    : resyncFromDatabase(roomId, userId, cursor, chunkSize);
+            sink.accept(chunk);
+            if (!chunk.isHasNext()) {
+                return;
+            }
+            cursor = chunk.getNextCursor();
+        }
+    }
+
+    private void validate(Long roomId, Long userId, Long after) {
+        if (!chatParticipantCache.isParticipant(roomId, userId)) {
+            log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, userId);
+            throw new ChatNotParticipantException(roomId, userId);
+        }
+        if (after == null || after < 0) {
+            throw new ChatInvalidCursorException(after);
+        }
+    }
+
+    /**
+     * 재전송 버퍼에서 커서 이후 메시지(본인 삭제 제외)와 참여자별 최신 읽음 위치를 읽음
+     * @return 커서 이후 구간 전체가 버퍼에 없으면 null
+     */
+    private ReplayWindow loadReplayWindow(Long roomId, Long userId, Long after) {
+        List<ChatPayloadResponseDto> payloads = replayBuffer.findAll(roomId);
+
+        // 커서 메시지(또는 그 이전 메시지)가 아직 버퍼에 있어야 그 이후 발행분이 빠짐없이 남아 있음
+        boolean covered = false;
+        TreeMap<Long, ChatPayloadResponseDto> missed = new TreeMap<>();
+        Map<Long, Long> readUpTo = new LinkedHashMap<>();
+        for (ChatPayloadResponseDto payload : payloads) {
+            if (!payload.isSystem() && payload.getMessageId() != null) {
+                if (payload.getMessageId() <= after) {
+                    covered = true;
+                } else {
+                    missed.put(payload.getMessageId(), payload);
+                }
+            } else if (payload.getReaderId() != null && payload.getReadUpToMessageId() != null
+                    && payload.getReadUpToMessageId() > after) {
+                readUpTo.merge(payload.getReaderId(), payload.getReadUpToMessageId(), Math::max);
+            }
+        }
+        if (!covered) {
+            return null;
+        }
+
+        if (!missed.isEmpty()) {
+            Set<Long> deleted = new HashSet<>(
+                    chatMessageDeleteRepository.findDeletedMessageIdsByUserIdAndMessageIdIn(userId, missed.keySet()));
+            missed.keySet().removeAll(deleted);
+        }
+        return new ReplayWindow(missed, readUpTo);
+    }
+
+    /**
+     * 재전송 버퍼로 동기화 (커서 이후 chunk를 메모리에서 자름)
+     */
+    private ChatResyncDto resyncFromBuffer(ReplayWindow window, Long roomId, Long userId, Long after, int chunkSize) {
+        List<ChatMessageDto> messages = new ArrayList<>(chunkSize);
+        boolean hasNext = false;
+        for (ChatPayloadResponseDto payload : window.messages().tailMap(after, false).values()) {
+            if (messages.size() == chunkSize) {
+                hasNext = true;
+                break;
+            }
+            messages.add(ChatMessageDto.from(payload, userId));
+        }
+        Long nextCursor = hasNext ? messages.get(messages.size() - 1).getMessageId() : null;
+
+        List<ChatReadEventDto> readEvents = window.readUpTo().entrySet().stream()
+                .filter(entry -> entry.getValue() > after)
+                .map(entry -> ChatReadEventDto.of(entry.getKey(), entry.getValue()))
+                .toList();
+
+        log.debug("재연결 동기화 (버퍼): roomId={}, userId={}, after={}, messages={}, hasNext={}",
+                roomId, userId, after, messages.size(), hasNext);
+        return ChatResyncDto.of(roomId, messages, readEvents, nextCursor, hasNext, true);
+    }
+
+    /**
+     * DB로 동기화 (커서 이후 메시지 chunk + 커서 이후까지 읽은 참여자의 읽음 위치)
+     */
+    private ChatResyncDto resyncFromDatabase(Long roomId, Long userId, Long after, int chunkSize) {
+        // 다음 chunk 존재 여부 확인을 위해 한 건 더 조회
+        List<ChatMessage> rows = chatMessageRepository.findVisibleByChatRoomIdAndIdGreaterThan(
+                roomId, userId, after, Limit.of(chunkSize + 1));
+
+        boolean hasNext = rows.size() > chunkSize;
+        List<ChatMessage> chunk = hasNext ? rows.subList(0, chunkSize) : rows;
+        Long nextCursor = hasNext ? chunk.get(chunk.size() - 1).getId() : null;
+
+        List<ChatMessageDto> messages = chunk.stream()
+                .map(m -> ChatMessageDto.from(m, userId))
+                .toList();
+        List<ChatReadEventDto> readEvents = chatReadRepository
+                .findById_ChatRoomIdAndLastReadMessageIdGreaterThan(roomId, after).stream()
+                .map(read -> ChatReadEventDto.of(read.getId().getUserId(), read.getLastReadMessageId()))
+                .toList();
+
+        log.debug("재연결 동기화 (DB): roomId={}, userId={}, after={}, messages={}, hasNext={}",
+                roomId, userId, after, messages.size(), hasNext);
+        return ChatResyncDto.of(roomId, messages, readEvents, nextCursor, hasNext, false);
+    }
+
+    /**
+     * 버퍼에서 읽은 커서 이후 구간 (메시지 ID 순, 참여자별 최신 읽음 위치)
+     */
+    private record ReplayWindow(NavigableMap<Long, ChatPayloadResponseDto> messages, Map<Long, Long> readUpTo) {
+    }
+}
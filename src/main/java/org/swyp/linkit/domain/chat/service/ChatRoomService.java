@@ -4,24 +4,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
 import org.swyp.linkit.domain.chat.dto.ChatRoomDto;
-import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.dto.ChatRoomSliceDto;
 import org.swyp.linkit.domain.chat.entity.ChatRoom;
-import org.swyp.linkit.domain.chat.entity.ChatRoomDelete;
 import org.swyp.linkit.domain.chat.entity.ChatRoomStatus;
+import org.swyp.linkit.domain.chat.repository.ChatDeleteJdbcRepository;
 import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
 import org.swyp.linkit.domain.chat.repository.ChatRoomDeleteRepository;
 import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
-import org.swyp.linkit.domain.user.entity.User;
 import org.swyp.linkit.domain.user.repository.UserRepository;
 import org.swyp.linkit.global.error.exception.ChatInvalidUserException;
 import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
 import org.swyp.linkit.global.error.exception.ChatRoomNotFoundException;
 import org.swyp.linkit.global.error.exception.ChatSameUserException;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,8 +33,11 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomDeleteRepository chatRoomDeleteRepository;
+    private final ChatDeleteJdbcRepository chatDeleteJdbcRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
+    private final ChatParticipantCache chatParticipantCache;
+    private final ChatInboxService chatInboxService;
 
     /**
      * 1:1 채팅방 생성 또는 조회 (멘토-멘티)
@@ -51,46 +56,19 @@ public class ChatRoomService {
                     // 새 채팅방 생성
                     ChatRoom newRoom = ChatRoom.create(mentorId, menteeId);
                     chatRoomRepository.save(newRoom);
+                    chatInboxService.onRoomCreated(newRoom);
                     log.info("새로운 채팅방 생성: roomId={}, mentorId={}, menteeId={}", newRoom.getId(), mentorId, menteeId);
                     return ChatRoomDto.from(newRoom);
                 });
     }
 
     /**
-     * 사용자가 참여한 모든 채팅방 조회 (삭제된 채팅방 제외, 마지막 메시지 내용 포함)
+     * 사용자가 참여한 채팅방 목록 조회 (삭제된 채팅방 제외, 마지막 메시지 기준 최신순 커서 페이지)
+     * 사용자별 목록 테이블(chat_inbox)을 인덱스 범위 스캔으로 조회합니다.
      */
-    public List<ChatRoomDto> findRoomsByUserId(Long userId) {
+    public ChatRoomSliceDto findRoomsByUserId(Long userId, String cursor, int size) {
         validateUserExists(userId);
-
-        Set<Long> deletedRoomIds = Set.copyOf(chatRoomDeleteRepository.findDeletedRoomIdsByUserId(userId));
-
-        // JPQL JOIN으로 한 번에 조회 (N+1 해결)
-        // 결과: [ChatRoom, User(mentor), User(mentee), ChatMessage(lastMessage)]
-        List<Object[]> results = chatRoomRepository.findAllByUserIdWithDetails(userId);
-
-        return results.stream()
-                .filter(row -> {
-                    ChatRoom room = (ChatRoom) row[0];
-                    return !deletedRoomIds.contains(room.getId());
-                })
-                .map(row -> {
-                    ChatRoom room = (ChatRoom) row[0];
-                    User mentor = (User) row[1];
-                    User mentee = (User) row[2];
-                    ChatMessage lastMessage = (ChatMessage) row[3];
-
-                    // 마지막 메시지 내용
-                    String lastMessageContent = lastMessage != null ? lastMessage.getContent() : null;
-
-                    // 상대방 정보
-                    boolean isMentor = room.getMentorId().equals(userId);
-                    User partner = isMentor ? mentee : mentor;
-                    String partnerNickname = partner != null ? partner.getNickname() : "알 수 없음";
-                    String partnerProfileImageUrl = partner != null ? partner.getProfileImageUrl() : null;
-
-                    return ChatRoomDto.fromWithPartner(room, userId, partnerNickname, partnerProfileImageUrl, lastMessageContent);
-                })
-                .collect(Collectors.toList());
+        return chatInboxService.getInbox(userId, cursor, size);
     }
 
     /**
@@ -116,40 +94,48 @@ public class ChatRoomService {
     public void updateStatus(Long roomId, ChatRoomStatus status) {
         ChatRoom room = findById(roomId);
         room.changeStatus(status);
+        chatInboxService.onStatusChanged(roomId, status);
+        chatParticipantCache.invalidate(roomId);
         log.info("채팅방 상태 변경: roomId={}, status={}", roomId, status);
     }
 
     /**
      * 채팅방 삭제 (본인 기준)
+     * 삭제할 채팅방 수와 무관하게 참여자 검증 1회 + 기존 삭제 기록 조회 1회 + batch insert + 목록 숨김 1회로 처리합니다.
      */
     @Transactional
     public void deleteRooms(Long userId, List<Long> roomIds) {
         validateUserExists(userId);
 
-        for (Long roomId : roomIds) {
-            // 참여자 확인
-            if (!isParticipant(roomId, userId)) {
+        Set<Long> requested = new LinkedHashSet<>(roomIds);
+        if (requested.isEmpty()) {
+            return;
+        }
+
+        // 참여자 확인 (참여하지 않았거나 없는 채팅방이 하나라도 있으면 전체 거절)
+        Set<Long> participating = new HashSet<>(chatRoomRepository.findIdsByIdInAndUserId(requested, userId));
+        for (Long roomId : requested) {
+            if (!participating.contains(roomId)) {
                 throw new ChatNotParticipantException(roomId, userId);
             }
+        }
 
-            // 이미 삭제했는지 확인
-            if (chatRoomDeleteRepository.existsById_ChatRoomIdAndId_UserId(roomId, userId)) {
-                continue;
-            }
+        // 이미 삭제한 채팅방 제외
+        List<Long> alreadyDeleted = chatRoomDeleteRepository.findDeletedRoomIdsByUserIdAndRoomIdIn(userId, requested);
+        requested.removeAll(alreadyDeleted);
 
-            ChatRoom room = findById(roomId);
-            ChatRoomDelete roomDelete = ChatRoomDelete.create(room, userId);
-            chatRoomDeleteRepository.save(roomDelete);
-        }
+        chatDeleteJdbcRepository.insertRoomDeletes(userId, requested, LocalDateTime.now());
+        chatInboxService.onRoomsDeleted(requested, userId);
+        requested.forEach(chatParticipantCache::invalidate);
 
-        log.info("채팅방 삭제: userId={}, count={}", userId, roomIds.size());
+        log.info("채팅방 삭제: userId={}, requested={}, deleted={}", userId, roomIds.size(), requested.size());
     }
 
     /**
-     * 사용자가 해당 채팅방의 참여자인지 확인
+     * 사용자가 해당 채팅방의 참여자인지 확인 (참여자 캐시 조회)
      */
     public boolean isParticipant(Long roomId, Long userId) {
-        return chatRoomRepository.existsByIdAndUserId(roomId, userId);
+        return chatParticipantCache.isParticipant(roomId, userId);
     }
 
     /**
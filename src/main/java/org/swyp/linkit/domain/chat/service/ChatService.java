@@ -1,19 +1,29 @@
 package org.swyp.linkit.domain.chat.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
 import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatMessageSliceDto;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
 import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
 import org.swyp.linkit.domain.chat.entity.*;
+import org.swyp.linkit.domain.chat.redis.RedisChatPublisher;
+import org.swyp.linkit.domain.chat.repository.ChatDeleteJdbcRepository;
 import org.swyp.linkit.domain.chat.repository.ChatMessageDeleteRepository;
 import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
 import org.swyp.linkit.domain.chat.repository.ChatReadRepository;
 import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.domain.chat.search.ChatSearchIndex;
+import org.swyp.linkit.domain.chat.writebehind.ChatMessageIdGenerator;
+import org.swyp.linkit.domain.chat.writebehind.ChatMessageWriteBehindWriter;
+import org.swyp.linkit.domain.chat.writebehind.PendingChatMessage;
+import org.swyp.linkit.global.error.exception.ChatInvalidCursorException;
 import org.swyp.linkit.global.error.exception.ChatInvalidMessageException;
 import org.swyp.linkit.global.error.exception.ChatMessageNotFoundException;
 import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
@@ -21,7 +31,11 @@ import org.swyp.linkit.global.error.exception.ChatRoomNotFoundException;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,25 +48,23 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatReadRepository chatReadRepository;
     private final ChatMessageDeleteRepository chatMessageDeleteRepository;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    private static final String CHAT_CHANNEL_PREFIX = "chat:room:";
+    private final ChatDeleteJdbcRepository chatDeleteJdbcRepository;
+    private final RedisChatPublisher redisChatPublisher;
+    private final ChatParticipantCache chatParticipantCache;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatInboxService chatInboxService;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatNotificationService chatNotificationService;
+    private final ChatSearchIndex chatSearchIndex;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final Optional<ChatMessageWriteBehindWriter> writeBehindWriter;
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * 사용자가 채팅방 참여자인지 확인
+     * 사용자가 채팅방 참여자인지 확인 (참여자 캐시 조회)
      */
     public void assertParticipant(Long userId, Long roomId) {
-        // 디버깅: 채팅방 정보 조회
-        ChatRoom room = chatRoomRepository.findById(roomId).orElse(null);
-        if (room != null) {
-            log.debug("참여자 검증 - roomId={}, userId={}, mentorId={}, menteeId={}",
-                    roomId, userId, room.getMentorId(), room.getMenteeId());
-        } else {
-            log.warn("참여자 검증 - 채팅방이 존재하지 않음: roomId={}", roomId);
-        }
-
-        boolean isParticipant = chatRoomRepository.existsByIdAndUserId(roomId, userId);
+        boolean isParticipant = chatParticipantCache.isParticipant(roomId, userId);
         if (!isParticipant) {
             log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, userId);
             throw new ChatNotParticipantException(roomId, userId);
@@ -61,49 +73,138 @@ public class ChatService {
 
     /**
      * 메시지 저장
+     * 채팅방 엔티티를 로딩하지 않고, 읽지 않은 수/마지막 메시지는 단일 UPDATE로 원자적으로 반영합니다.
+     * 수신자가 채팅방을 보고 있으면(presence) 읽지 않은 수를 올리지 않고 읽음 위치를 바로 전진시키며 알림도 만들지 않습니다.
+     * 이때 발신자 화면의 읽음 표시가 갱신되도록 커밋 이후 읽음 이벤트를 발행합니다.
      */
     @Transactional
     public ChatMessage saveMessage(Long roomId, Long senderId, String content) {
-        ChatRoom room = chatRoomRepository.findById(roomId)
+        ChatParticipantsDto participants = chatParticipantCache.get(roomId)
                 .orElseThrow(() -> new ChatRoomNotFoundException(roomId));
 
         // 발신자 역할 결정
-        SenderRole senderRole = room.getMentorId().equals(senderId) ? SenderRole.MENTOR : SenderRole.MENTEE;
+        SenderRole senderRole = participants.getMentorId().equals(senderId) ? SenderRole.MENTOR : SenderRole.MENTEE;
+        boolean fromMentor = senderRole == SenderRole.MENTOR;
+        Long recipientId = fromMentor ? participants.getMenteeId() : participants.getMentorId();
+        boolean recipientViewing = isViewing(roomId, recipientId);
 
-        ChatMessage message = ChatMessage.create(room, senderId, senderRole, content);
+        ChatMessage message = ChatMessage.create(chatRoomRepository.getReferenceById(roomId), senderId, senderRole, content);
 
         ChatMessage saved = chatMessageRepository.save(message);
 
-        // 채팅방의 마지막 메시지 정보 업데이트
-        room.updateLastMessage(saved.getId(), saved.getCreatedAt());
-
-        // 상대방의 읽지 않은 메시지 수 증가
-        if (senderRole == SenderRole.MENTOR) {
-            room.incrementUnreadMenteeCount();
+        // 마지막 메시지 갱신 + (채팅방에 없는) 상대방의 읽지 않은 메시지 수 증가
+        int increment = recipientViewing ? 0 : 1;
+        int mentorIncrement = fromMentor ? 0 : increment;
+        int menteeIncrement = fromMentor ? increment : 0;
+        chatRoomRepository.applyNewMessage(roomId, saved.getId(), saved.getCreatedAt(),
+                mentorIncrement, menteeIncrement, LocalDateTime.now());
+        chatInboxService.onMessageSaved(roomId, saved.getId(), content, saved.getCreatedAt(),
+                mentorIncrement, menteeIncrement);
+        chatSearchIndex.onMessageSaved(roomId, saved.getId(), content);
+
+        if (recipientViewing) {
+            Long messageId = saved.getId();
+            advanceRead(roomId, recipientId, messageId, LocalDateTime.now());
+            afterCommit(() -> publishReadEvent(roomId, recipientId, messageId));
         } else {
-            room.incrementUnreadMentorCount();
+            chatUnreadCountService.onMessageSaved(roomId, recipientId);
+            chatNotificationService.onMessageSaved(roomId, senderId, recipientId);
         }
 
-        log.info("메시지 저장: roomId={}, senderId={}, messageId={}", roomId, senderId, saved.getId());
+        log.info("메시지 저장: roomId={}, senderId={}, messageId={}, recipientViewing={}",
+                roomId, senderId, saved.getId(), recipientViewing);
         return saved;
     }
 
     /**
-     * 채팅방 메시지 목록 조회 (삭제된 메시지 제외)
+     * write-behind 저장 모드 여부 (app.chat.write-behind.enabled)
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehindWriter.isPresent();
+    }
+
+    /**
+     * 메시지 수락 (write-behind 모드)
+     * 참여자 캐시로 참여자 검증과 발신자 역할을 함께 결정하고,
+     * ID를 미리 발급해 저장 큐에 넣은 뒤 DB 커밋을 기다리지 않고 바로 팬아웃합니다.
+     * 배지/알림/검색 색인처럼 저장된 메시지를 가리키는 상태는 배치 커밋 이후에 반영합니다.
+     */
+    public PendingChatMessage acceptMessage(Long roomId, Long senderId, String content) {
+        ChatMessageWriteBehindWriter writer = writeBehindWriter
+                .orElseThrow(() -> new IllegalStateException("write-behind 모드가 비활성화되어 있습니다."));
+
+        ChatParticipantsDto participants = chatParticipantCache.get(roomId)
+                .orElseThrow(() -> new ChatRoomNotFoundException(roomId));
+
+        SenderRole senderRole = participants.roleOf(senderId);
+        if (senderRole == null) {
+            log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, senderId);
+            throw new ChatNotParticipantException(roomId, senderId);
+        }
+
+        Long recipientId = senderRole == SenderRole.MENTOR ? participants.getMenteeId() : participants.getMentorId();
+        boolean recipientViewing = isViewing(roomId, recipientId);
+
+        PendingChatMessage message = PendingChatMessage.builder()
+                .messageId(chatMessageIdGenerator.nextId())
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderRole(senderRole)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .recipientId(recipientId)
+                .recipientViewing(recipientViewing)
+                .build();
+
+        // 채팅방을 보고 있는 수신자의 읽음 위치 전진은 writer가 같은 배치에서 반영하고,
+        // 읽지 않은 수/검색 색인/알림은 커밋 이후 ChatMessagePersistedListener에서 반영
+        writer.enqueue(message);
+        publishToRedis(message);
+
+        log.info("메시지 수락: roomId={}, senderId={}, messageId={}", roomId, senderId, message.getMessageId());
+        return message;
+    }
+
+    /**
+     * 채팅방 메시지 커서 페이지 조회 (삭제된 메시지 제외)
+     * - before: 해당 메시지 ID 이전(과거) 메시지를 조회
+     * - after: 해당 메시지 ID 이후(최신) 메시지를 조회
+     * - 둘 다 없으면 가장 최근 페이지를 조회
+     * 조회 범위는 (chat_room_id, chat_message_id) 인덱스 범위 스캔으로 한정되어 채팅방 메시지 수와 무관하며,
+     * 삭제 여부는 chat_message_delete PK에 대한 NOT EXISTS로 DB에서 걸러 사용자의 삭제 이력 수와도 무관합니다.
      */
-    public List<ChatMessageDto> getMessages(Long roomId, Long userId) {
+    public ChatMessageSliceDto getMessages(Long roomId, Long userId, Long before, Long after, int size) {
         assertParticipant(userId, roomId);
 
-        // 사용자가 삭제한 메시지 ID 목록 조회
-        List<Long> deletedMessageIds = chatMessageDeleteRepository.findDeletedMessageIdsByUserId(userId);
+        if (before != null && after != null) {
+            throw new ChatInvalidCursorException(before, after);
+        }
 
-        // 메시지 조회 (생성순)
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(roomId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
 
-        return messages.stream()
-                .filter(m -> !deletedMessageIds.contains(m.getId()))
+        List<ChatMessage> rows;
+        if (after != null) {
+            rows = chatMessageRepository.findVisibleByChatRoomIdAndIdGreaterThan(roomId, userId, after, limit);
+        } else if (before != null) {
+            rows = chatMessageRepository.findVisibleByChatRoomIdAndIdLessThan(roomId, userId, before, limit);
+        } else {
+            rows = chatMessageRepository.findVisibleLatestByChatRoomId(roomId, userId, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatMessage> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+
+        // 화면 표시는 항상 오래된 순
+        List<ChatMessage> ordered = after != null ? page : page.reversed();
+
+        List<ChatMessageDto> messages = ordered.stream()
                 .map(m -> ChatMessageDto.from(m, userId))
                 .collect(Collectors.toList());
+
+        return ChatMessageSliceDto.of(messages, nextCursor, hasNext);
     }
 
     /**
@@ -112,101 +213,152 @@ public class ChatService {
     public List<ChatMessageDto> getRecentMessages(Long roomId, Long userId, int limit) {
         assertParticipant(userId, roomId);
 
-        List<Long> deletedMessageIds = chatMessageDeleteRepository.findDeletedMessageIdsByUserId(userId);
-        List<ChatMessage> messages = chatMessageRepository.findTop50ByChatRoomIdOrderByIdDesc(roomId);
+        List<ChatMessage> messages = chatMessageRepository.findVisibleLatestByChatRoomId(
+                roomId, userId, Limit.of(Math.min(limit, MAX_PAGE_SIZE)));
 
         return messages.stream()
-                .filter(m -> !deletedMessageIds.contains(m.getId()))
-                .limit(limit)
                 .map(m -> ChatMessageDto.from(m, userId))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 메시지 읽음 처리
+     * 메시지 읽음 처리 (채팅방의 마지막 메시지까지 읽음)
+     * 읽음 위치는 단조 증가하므로 늦게 도착한 요청이 더 앞선 읽음 위치를 되돌리지 않습니다.
+     * @return 읽음 처리된 마지막 메시지 ID (메시지가 없으면 null)
      */
     @Transactional
-    public void markAsRead(Long roomId, Long userId) {
-        ChatRoom room = chatRoomRepository.findById(roomId)
+    public Long markAsRead(Long roomId, Long userId) {
+        ChatParticipantsDto participants = chatParticipantCache.get(roomId)
                 .orElseThrow(() -> new ChatRoomNotFoundException(roomId));
-
-        assertParticipant(userId, roomId);
+        if (!participants.isParticipant(userId)) {
+            log.warn("참여자 검증 실패 - roomId={}, userId={}", roomId, userId);
+            throw new ChatNotParticipantException(roomId, userId);
+        }
 
         // 마지막 메시지 ID 조회
         ChatMessage lastMessage = chatMessageRepository.findLastMessageByChatRoomId(roomId);
         if (lastMessage == null) {
-            return; // 메시지가 없으면 처리할 것 없음
+            return null; // 메시지가 없으면 처리할 것 없음
         }
 
-        // ChatRead 업데이트 또는 생성
-        ChatReadId readId = new ChatReadId(roomId, userId);
-        ChatRead chatRead = chatReadRepository.findById(readId)
-                .orElseGet(() -> ChatRead.create(room, userId, 0L));
+        // ChatRead 전진 또는 생성
+        LocalDateTime now = LocalDateTime.now();
+        advanceRead(roomId, userId, lastMessage.getId(), now);
 
-        chatRead.updateLastReadMessage(lastMessage.getId());
-        chatReadRepository.save(chatRead);
-
-        // 읽지 않은 메시지 수 초기화
-        boolean isMentor = room.getMentorId().equals(userId);
-        if (isMentor) {
-            room.resetUnreadMentorCount();
+        // 읽지 않은 메시지 수 초기화 (엔티티 전체 UPDATE 시 동시에 증가한 상대 카운터를 덮어쓰지 않도록 단일 컬럼 UPDATE)
+        if (participants.getMentorId().equals(userId)) {
+            chatRoomRepository.resetUnreadMentorCount(roomId, now);
         } else {
-            room.resetUnreadMenteeCount();
+            chatRoomRepository.resetUnreadMenteeCount(roomId, now);
         }
+        chatInboxService.onRead(roomId, userId);
+        chatUnreadCountService.onRead(roomId, userId);
+        chatNotificationService.onRead(roomId, userId);
 
         log.info("메시지 읽음 처리: roomId={}, userId={}, lastReadMessageId={}", roomId, userId, lastMessage.getId());
+        return lastMessage.getId();
+    }
+
+    /**
+     * 수신자가 채팅방을 보고 있는지 확인 (presence 일괄 조회, 왕복 1회)
+     */
+    private boolean isViewing(Long roomId, Long recipientId) {
+        return chatPresenceService.findViewers(roomId, List.of(recipientId)).contains(recipientId);
+    }
+
+    /**
+     * 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행, 실패는 기록만 함)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runQuietly(action);
+                }
+            });
+        } else {
+            runQuietly(action);
+        }
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("커밋 이후 Redis 발행 실패", e);
+        }
+    }
+
+    /**
+     * 읽음 위치 전진 (없으면 생성, 더 앞선 읽음 위치는 되돌리지 않음)
+     */
+    private void advanceRead(Long roomId, Long userId, Long messageId, LocalDateTime now) {
+        chatReadRepository.upsertLastReadMessageId(roomId, userId, messageId, now);
     }
 
     /**
      * 메시지 삭제 (본인 기준)
+     * 삭제할 메시지 수와 무관하게 채팅방 소속 검증 1회 + 기존 삭제 기록 조회 1회 + batch insert로 처리합니다.
      */
     @Transactional
     public void deleteMessages(Long roomId, Long userId, List<Long> messageIds) {
         assertParticipant(userId, roomId);
 
-        for (Long messageId : messageIds) {
-            // 이미 삭제했는지 확인
-            if (chatMessageDeleteRepository.existsById_ChatMessageIdAndId_UserId(messageId, userId)) {
-                continue;
-            }
-
-            ChatMessage message = chatMessageRepository.findById(messageId)
-                    .orElseThrow(() -> new ChatMessageNotFoundException(messageId));
+        Set<Long> requested = new LinkedHashSet<>(messageIds);
+        if (requested.isEmpty()) {
+            return;
+        }
 
-            // 해당 채팅방의 메시지인지 확인
-            if (!message.getChatRoom().getId().equals(roomId)) {
+        // 해당 채팅방의 메시지인지 확인 (하나라도 아니면 전체 거절)
+        Set<Long> inRoom = new HashSet<>(chatMessageRepository.findIdsByChatRoomIdAndIdIn(roomId, requested));
+        for (Long messageId : requested) {
+            if (!inRoom.contains(messageId)) {
+                if (!chatMessageRepository.existsById(messageId)) {
+                    throw new ChatMessageNotFoundException(messageId);
+                }
                 throw new ChatInvalidMessageException(messageId);
             }
-
-            ChatMessageDelete messageDelete = ChatMessageDelete.create(message, userId);
-            chatMessageDeleteRepository.save(messageDelete);
         }
 
-        log.info("메시지 삭제: roomId={}, userId={}, count={}", roomId, userId, messageIds.size());
+        // 이미 삭제한 메시지 제외
+        requested.removeAll(chatMessageDeleteRepository.findDeletedMessageIdsByUserIdAndMessageIdIn(userId, requested));
+        chatDeleteJdbcRepository.insertMessageDeletes(userId, requested, LocalDateTime.now());
+
+        log.info("메시지 삭제: roomId={}, userId={}, requested={}, deleted={}",
+                roomId, userId, messageIds.size(), requested.size());
     }
 
     /**
      * Redis Pub/Sub을 통해 메시지 발행
      */
     public void publishToRedis(ChatMessage message) {
+        publishMessage(message.getChatRoom().getId(), message.getId(), message.getSenderId(),
+                message.getSenderRole(), message.getContent(), message.getCreatedAt());
+    }
+
+    /**
+     * Redis Pub/Sub을 통해 메시지 발행 (DB 저장 전 메시지)
+     */
+    public void publishToRedis(PendingChatMessage message) {
+        publishMessage(message.getRoomId(), message.getMessageId(), message.getSenderId(),
+                message.getSenderRole(), message.getContent(), message.getCreatedAt());
+    }
+
+    private void publishMessage(Long roomId, Long messageId, Long senderId, SenderRole senderRole,
+                                String content, LocalDateTime createdAt) {
         ChatPayloadResponseDto payload = ChatPayloadResponseDto.builder()
-                .roomId(message.getChatRoom().getId())
-                .messageId(message.getId())
-                .senderId(message.getSenderId())
-                .senderRole(message.getSenderRole().name())
-                .text(message.getContent())
-                .sentAtEpochMs(message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli())
+                .roomId(roomId)
+                .messageId(messageId)
+                .senderId(senderId)
+                .senderRole(senderRole.name())
+                .text(content)
+                .sentAtEpochMs(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli())
                 .system(false)
                 .build();
 
-        try {
-            String json = objectMapper.writeValueAsString(payload);
-            String channel = CHAT_CHANNEL_PREFIX + message.getChatRoom().getId();
-            redisTemplate.convertAndSend(channel, json);
-            log.info("Redis 메시지 발행: channel={}, messageId={}", channel, message.getId());
-        } catch (JsonProcessingException e) {
-            log.error("ChatPayload 직렬화 실패", e);
-        }
+        redisChatPublisher.publish(payload);
+        log.info("Redis 메시지 발행: roomId={}, messageId={}", roomId, messageId);
     }
 
     /**
@@ -220,13 +372,7 @@ public class ChatService {
                 .system(true)
                 .build();
 
-        try {
-            String json = objectMapper.writeValueAsString(payload);
-            String channel = CHAT_CHANNEL_PREFIX + roomId;
-            redisTemplate.convertAndSend(channel, json);
-            log.info("읽음 이벤트 발행: channel={}, readerId={}", channel, userId);
-        } catch (JsonProcessingException e) {
-            log.error("읽음 이벤트 직렬화 실패", e);
-        }
+        redisChatPublisher.publish(payload);
+        log.info("읽음 이벤트 발행: roomId={}, readerId={}", roomId, userId);
     }
 }
\ No newline at end of file
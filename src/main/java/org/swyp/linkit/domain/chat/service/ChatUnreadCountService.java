@@ -0,0 +1,72 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.swyp.linkit.domain.chat.redis.RedisChatUnreadCounter;
+
+/**
+ * 채팅 읽지 않은 메시지 수 (배지) 서비스
+ *
+ * 메시지 저장/읽음 처리 시 Redis 카운터를 갱신하고, 배지 조회는 Redis에서 O(1)로 처리합니다.
+ * DB 트랜잭션 안에서 호출되면 커밋 이후에 반영하며, Redis 오류는 메시지 처리를 실패시키지 않고
+ * ChatUnreadReconciler가 주기적으로 ChatRead 기준으로 교정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCountService {
+
+    private final RedisChatUnreadCounter redisChatUnreadCounter;
+
+    /**
+     * 새 메시지 수신자의 읽지 않은 수 증가
+     */
+    public void onMessageSaved(Long roomId, Long recipientId) {
+        afterCommit(() -> redisChatUnreadCounter.increment(recipientId, roomId, 1));
+    }
+
+    /**
+     * 읽음 처리한 사용자의 읽지 않은 수 초기화
+     */
+    public void onRead(Long roomId, Long userId) {
+        afterCommit(() -> redisChatUnreadCounter.reset(userId, roomId));
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수
+     */
+    public long getUnreadCount(Long userId, Long roomId) {
+        return redisChatUnreadCounter.get(userId, roomId);
+    }
+
+    /**
+     * 읽지 않은 메시지가 있는 채팅방 수 (채팅방별로 하나로 합쳐지는 CHAT_MESSAGE 미읽음 알림 수와 같은 의미)
+     */
+    public long getUnreadRoomCount(Long userId) {
+        return redisChatUnreadCounter.getUnreadRoomCount(userId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runQuietly(action);
+                }
+            });
+        } else {
+            runQuietly(action);
+        }
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 메시지 수 Redis 반영 실패 (주기적 교정 대상)", e);
+        }
+    }
+}
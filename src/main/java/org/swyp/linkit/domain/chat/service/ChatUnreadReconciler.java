@@ -0,0 +1,148 @@
+package org.swyp.linkit.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
+import org.swyp.linkit.domain.chat.dto.ChatRoomUnreadDto;
+import org.swyp.linkit.domain.chat.redis.RedisChatUnreadCounter;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Redis 읽지 않은 메시지 수 교정 작업
+ *
+ * 최근 메시지가 있었던 채팅방만 대상으로 ChatRead.lastReadMessageId 이후 상대방이 보낸 메시지 수를
+ * DB에서 다시 계산해 Redis 카운터를 덮어씁니다. 여러 인스턴스 중 하나만 실행되도록 Redis 락을 사용합니다.
+ * 최초 배포 시에는 기존 배지가 0으로 보이지 않도록 chat_room 집계 컬럼으로 Redis 카운터를 한 번 적재합니다.
+ * (완료 표시 키가 있으면 건너뛰므로 재기동 시 다시 실행되지 않음)
+ */
+@Slf4j
+@Component
+public class ChatUnreadReconciler {
+
+    private static final String LOCK_KEY = "chat:unread:reconcile:lock";
+    private static final String SEED_LOCK_KEY = "chat:unread:seed:lock";
+    private static final String SEEDED_KEY = "chat:unread:seeded";   // 초기 적재 완료 표시 (만료 없음)
+    private static final int SEED_PAGE_SIZE = 1000;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final RedisChatUnreadCounter redisChatUnreadCounter;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lookback;
+    private final Duration lockTtl;
+
+    public ChatUnreadReconciler(ChatRoomRepository chatRoomRepository,
+                                ChatMessageRepository chatMessageRepository,
+                                RedisChatUnreadCounter redisChatUnreadCounter,
+                                StringRedisTemplate redisTemplate,
+                                @Value("${app.chat.unread.reconcile-lookback:PT10M}") Duration lookback,
+                                @Value("${app.chat.unread.reconcile-lock-ttl:PT4M}") Duration lockTtl) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.redisChatUnreadCounter = redisChatUnreadCounter;
+        this.redisTemplate = redisTemplate;
+        this.lookback = lookback;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * 기동 시 Redis 카운터 초기 적재 (한 번만, 여러 인스턴스 중 하나만 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnce() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY))) {
+                return;
+            }
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, "1", lockTtl);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            int seeded = seed();
+            redisTemplate.opsForValue().set(SEEDED_KEY, LocalDateTime.now().toString());
+            log.info("읽지 않은 메시지 수 초기 적재 완료: counters={}", seeded);
+        } catch (RuntimeException e) {
+            // 완료 표시를 남기지 않았으므로 다음 기동 때 다시 시도
+            log.error("읽지 않은 메시지 수 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * chat_room의 참여자별 읽지 않은 수로 Redis 카운터 덮어쓰기 (ID 순 keyset 페이지)
+     * @return 적재된 (채팅방, 사용자) 수
+     */
+    public int seed() {
+        int seeded = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<ChatRoomUnreadDto> rooms = chatRoomRepository.findUnreadAfterId(afterId, Limit.of(SEED_PAGE_SIZE));
+            for (ChatRoomUnreadDto room : rooms) {
+                if (room.getUnreadMentorCount() > 0) {
+                    redisChatUnreadCounter.overwrite(room.getMentorId(), room.getRoomId(), room.getUnreadMentorCount());
+                    seeded++;
+                }
+                if (room.getUnreadMenteeCount() > 0) {
+                    redisChatUnreadCounter.overwrite(room.getMenteeId(), room.getRoomId(), room.getUnreadMenteeCount());
+                    seeded++;
+                }
+            }
+            if (rooms.size() < SEED_PAGE_SIZE) {
+                return seeded;
+            }
+            afterId = rooms.get(rooms.size() - 1).getRoomId();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.unread.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.chat.unread.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+        try {
+            reconcile(LocalDateTime.now().minus(lookback));
+        } catch (RuntimeException e) {
+            log.error("읽지 않은 메시지 수 교정 실패", e);
+        }
+    }
+
+    /**
+     * since 이후 메시지가 있었던 채팅방의 참여자 카운터 교정
+     * @return 교정된 (채팅방, 사용자) 수
+     */
+    public int reconcile(LocalDateTime since) {
+        List<ChatParticipantsDto> rooms = chatRoomRepository.findParticipantsByLastMessageAtAfter(since);
+
+        int corrected = 0;
+        for (ChatParticipantsDto room : rooms) {
+            corrected += reconcile(room.getRoomId(), room.getMentorId());
+            corrected += reconcile(room.getRoomId(), room.getMenteeId());
+        }
+
+        log.info("읽지 않은 메시지 수 교정 완료: rooms={}, corrected={}", rooms.size(), corrected);
+        return corrected;
+    }
+
+    private int reconcile(Long roomId, Long userId) {
+        long actual = chatMessageRepository.countUnreadByChatRoomIdAndUserId(roomId, userId);
+        long previous = redisChatUnreadCounter.overwrite(userId, roomId, actual);
+        if (previous != actual) {
+            log.info("읽지 않은 메시지 수 불일치 교정: roomId={}, userId={}, redis={}, db={}",
+                    roomId, userId, previous, actual);
+            return 1;
+        }
+        return 0;
+    }
+}
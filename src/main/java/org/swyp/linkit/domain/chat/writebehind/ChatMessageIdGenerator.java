@@ -0,0 +1,89 @@
+package org.swyp.linkit.domain.chat.writebehind;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Snowflake 방식 채팅 메시지 ID 생성기
+ *
+ * 클라이언트(JavaScript Number)에서 정밀도 손실이 없도록 53비트 안에 배치합니다.
+ * [ 1bit: 범위 표시(MIN_ID) | 40bit: 기준 시각 이후 경과 ms | 5bit: 워커 ID | 7bit: ms 내 시퀀스 ]
+ * - 시간 순으로 증가하므로 (chat_room_id, chat_message_id) 키셋 페이지 정렬과 그대로 호환됩니다.
+ * - 항상 MIN_ID 이상이므로 동기 저장 모드의 AUTO_INCREMENT ID와 범위가 겹치지 않고,
+ *   모드 전환 후에도 메시지 순서가 유지됩니다. (혼용 방지는 ChatMessageIdRangeGuard 참고)
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-12-29T00:00:00Z (프로젝트 시작일)
+    private static final long EPOCH_MS = Instant.parse("2025-12-29T00:00:00Z").toEpochMilli();
+
+    /**
+     * write-behind 모드에서 발급하는 메시지 ID의 하한 (2^52)
+     */
+    public static final long MIN_ID = 1L << 52;
+
+    private static final int WORKER_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(@Value("${app.chat.write-behind.worker-id:0}") long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("worker-id는 0 ~ " + MAX_WORKER_ID + " 사이여야 합니다. workerId=" + workerId);
+        }
+        this.workerId = workerId;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = currentTimeMillis();
+
+        // 시계가 뒤로 간 경우 마지막 발급 시각을 계속 사용하여 단조 증가를 보장
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 내 시퀀스 소진 시 다음 ms까지 대기
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return MIN_ID
+                | ((timestamp - EPOCH_MS) << (WORKER_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /**
+     * ID에 포함된 발급 시각(epoch ms) 추출
+     */
+    public static long extractEpochMillis(long id) {
+        return ((id & ~MIN_ID) >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+    }
+
+    private long waitNextMillis(long last) {
+        long timestamp = currentTimeMillis();
+        while (timestamp <= last) {
+            Thread.onSpinWait();
+            timestamp = currentTimeMillis();
+        }
+        return timestamp;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,30 @@
+package org.swyp.linkit.domain.chat.writebehind;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+
+/**
+ * 동기 저장 모드와 write-behind 모드 혼용 방지
+ *
+ * chat_message_id 는 동기 저장 모드의 AUTO_INCREMENT 와 write-behind 모드의 Snowflake ID가 함께 쓰는 컬럼입니다.
+ * Snowflake ID(MIN_ID 이상)가 저장된 뒤 동기 저장 모드로 INSERT 하면 AUTO_INCREMENT 가 Snowflake 범위로 넘어가
+ * 이후 발급되는 Snowflake ID와 충돌할 수 있으므로, 이미 write-behind 로 저장된 메시지가 있으면 기동을 중단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.chat.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class ChatMessageIdRangeGuard implements InitializingBean {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (chatMessageRepository.existsByIdGreaterThanEqual(ChatMessageIdGenerator.MIN_ID)) {
+            throw new IllegalStateException("write-behind 모드로 저장된 메시지가 있어 동기 저장 모드로 기동할 수 없습니다. " +
+                    "app.chat.write-behind.enabled=true 로 기동하세요.");
+        }
+    }
+}
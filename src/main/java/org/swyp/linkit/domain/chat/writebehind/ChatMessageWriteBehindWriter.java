@@ -0,0 +1,438 @@
+package org.swyp.linkit.domain.chat.writebehind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.domain.chat.event.ChatMessagesPersistedEvent;
+import org.swyp.linkit.domain.chat.redis.RedisChatMessageJournal;
+import org.swyp.linkit.domain.chat.redis.RedisChatMessageJournal.JournalEntry;
+import org.swyp.linkit.global.error.exception.ChatWriteBackPressureException;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장기
+ *
+ * 수락된 메시지를 bounded 큐에 적재하고, 단일 writer 스레드가 batch-size 단위로 모아
+ * JDBC batch insert + 채팅방별 집계/목록(chat_inbox) update 를 한 트랜잭션으로 커밋합니다.
+ * 채팅방을 보고 있던 수신자의 메시지는 읽지 않은 수 대신 읽음 위치(chat_read)를 전진시킵니다.
+ * - back-pressure: 큐가 가득 차면 offer-timeout 동안 대기 후 거절
+ * - at-least-once: 큐 적재 전에 Redis 저널에 기록하고, 커밋 이후 저널에서 제거
+ * - 재시도/재기동으로 같은 메시지가 다시 들어와도 이미 저장된 ID는 건너뛰어 중복 저장/집계되지 않습니다.
+ *   (INSERT IGNORE 는 FK 위반/값 잘림까지 삼켜 dead-letter 로 가지 않으므로 사용하지 않음)
+ * - 같은 배치가 isolate-after-failures 회 연속 실패하거나 제약 조건 위반이면 한 건씩 저장해,
+ *   계속 실패하는 메시지만 dead-letter 로 옮기고 나머지는 저장을 이어갑니다.
+ * - 커밋 이후 ChatMessagesPersistedEvent 를 발행해 읽지 않은 수/검색 색인/알림은 저장된 메시지에만 반영됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.chat.write-behind.enabled", havingValue = "true")
+public class ChatMessageWriteBehindWriter implements SmartLifecycle {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message " +
+            "(chat_message_id, chat_room_id, sender_id, sender_role, content, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_EXISTING_IDS_SQL =
+            "SELECT chat_message_id FROM chat_message WHERE chat_message_id IN (%s)";
+
+    private static final String UPDATE_ROOM_SQL =
+            "UPDATE chat_room SET " +
+            "unread_mentor_count = unread_mentor_count + ?, " +
+            "unread_mentee_count = unread_mentee_count + ?, " +
+            "last_message_at = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE last_message_at END, " +
+            "last_message_id = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE last_message_id END, " +
+            "modified_at = ? " +
+            "WHERE chat_room_id = ?";
+
+    private static final String UPDATE_INBOX_SQL =
+            "UPDATE chat_inbox SET " +
+            "unread_count = unread_count + CASE WHEN is_mentor THEN ? ELSE ? END, " +
+            "last_message_preview = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE last_message_preview END, " +
+            "last_message_at = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE last_message_at END, " +
+            "sort_at = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE sort_at END, " +
+            "last_message_id = CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE last_message_id END, " +
+            "modified_at = ? " +
+            "WHERE chat_room_id = ?";
+
+    private static final String ADVANCE_READ_SQL =
+            "UPDATE chat_read SET last_read_message_id = ?, modified_at = ? " +
+            "WHERE chat_room_id = ? AND user_id = ? AND last_read_message_id < ?";
+
+    private static final String INSERT_READ_SQL =
+            "INSERT IGNORE INTO chat_read (chat_room_id, user_id, last_read_message_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final long INITIAL_RETRY_BACKOFF_MS = 100;
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisChatMessageJournal journal;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final BlockingQueue<QueuedMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final int isolateAfterFailures;
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    public ChatMessageWriteBehindWriter(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        RedisChatMessageJournal journal,
+                                        ObjectMapper objectMapper,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${app.chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${app.chat.write-behind.batch-size:200}") int batchSize,
+                                        @Value("${app.chat.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+                                        @Value("${app.chat.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+                                        @Value("${app.chat.write-behind.isolate-after-failures:3}") int isolateAfterFailures) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.journal = journal;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.isolateAfterFailures = Math.max(isolateAfterFailures, 1);
+    }
+
+    /**
+     * 메시지 저장 요청 (저널 기록 후 큐 적재)
+     * 큐가 가득 차 있으면 ChatWriteBackPressureException
+     */
+    public void enqueue(PendingChatMessage message) {
+        String entry = serialize(message);
+        String recordId = journal.append(entry);
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(new QueuedMessage(message, entry, recordId), offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            journal.remove(recordId);
+            log.warn("write-behind 큐 포화로 메시지 거절: roomId={}, senderId={}, queueSize={}",
+                    message.getRoomId(), message.getSenderId(), queue.size());
+            throw new ChatWriteBackPressureException(queue.size());
+        }
+    }
+
+    /**
+     * 현재 저장 대기 중인 메시지 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        recoverFromJournal();
+        running = true;
+        writerThread = new Thread(this::runLoop, "chat-write-behind");
+        writerThread.setDaemon(false);
+        writerThread.start();
+        log.info("채팅 write-behind writer 시작: batchSize={}, flushIntervalMs={}, capacity={}",
+                batchSize, flushIntervalMs, queue.remainingCapacity() + queue.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                // 남은 메시지를 모두 저장할 때까지 대기 (저장하지 못한 메시지는 저널에 남아 재기동 시 복구)
+                writerThread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("채팅 write-behind writer 종료: 미저장 메시지={}", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Writer Loop ====================
+
+    private void runLoop() {
+        List<QueuedMessage> batch = new ArrayList<>(batchSize);
+        long backoffMs = INITIAL_RETRY_BACKOFF_MS;
+        int failures = 0;
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    QueuedMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+
+                if (failures >= isolateAfterFailures) {
+                    flushIndividually(batch);
+                } else {
+                    flush(batch);
+                    batch.clear();
+                }
+                failures = 0;
+                backoffMs = INITIAL_RETRY_BACKOFF_MS;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 실패한 배치는 버리지 않고 재시도 (그 동안 큐가 차면 back-pressure로 이어짐)
+                // 제약 조건 위반은 재시도해도 같으므로 바로 한 건씩 저장해 원인 메시지를 격리
+                failures = isUnrecoverable(e) ? isolateAfterFailures : failures + 1;
+                log.error("write-behind 배치 저장 실패, {}ms 후 재시도: size={}, failures={}",
+                        backoffMs, batch.size(), failures, e);
+                if (!sleepQuietly(backoffMs)) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * 반복 실패한 배치를 한 건씩 저장
+     * 저장할 수 없는 메시지(제약 조건 위반 등)는 dead-letter 로 옮기고,
+     * 일시적 오류(커넥션 등)는 남은 메시지를 배치에 둔 채 그대로 던져 재시도합니다.
+     */
+    private void flushIndividually(List<QueuedMessage> batch) {
+        Iterator<QueuedMessage> iterator = batch.iterator();
+        while (iterator.hasNext()) {
+            QueuedMessage queued = iterator.next();
+            try {
+                flush(List.of(queued));
+            } catch (RuntimeException e) {
+                if (!isUnrecoverable(e)) {
+                    throw e;
+                }
+                deadLetter(queued, e);
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 재시도해도 같은 결과인 실패 (제약 조건 위반, 메시지 자체의 오류)
+     * DB/Redis 연결, 트랜잭션 시작/커밋 실패는 일시적 오류로 보고 재시도합니다.
+     */
+    private boolean isUnrecoverable(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return true;
+        }
+        return !(e instanceof DataAccessException) && !(e instanceof TransactionException);
+    }
+
+    private void deadLetter(QueuedMessage queued, RuntimeException cause) {
+        PendingChatMessage m = queued.message();
+        log.error("write-behind 저장 불가 메시지를 dead-letter 로 이동: messageId={}, roomId={}, senderId={}",
+                m.getMessageId(), m.getRoomId(), m.getSenderId(), cause);
+        try {
+            journal.deadLetter(queued.recordId(), queued.entry(), String.valueOf(cause.getMessage()));
+        } catch (RuntimeException e) {
+            // 저널에 남은 항목은 재기동 시 다시 시도됨
+            log.warn("dead-letter 기록 실패: messageId={}", m.getMessageId(), e);
+        }
+    }
+
+    private void flush(List<QueuedMessage> batch) {
+        List<PendingChatMessage> persisted = transactionTemplate.execute(status -> {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            // 이미 저장된 메시지(재시도/저널 복구로 다시 들어온 메시지)는 건너뛰고 새 메시지만 insert
+            // 단일 writer 스레드가 같은 트랜잭션에서 확인 후 insert 하므로, 그 외의 insert 실패는 모두 예외로 전파되어 격리됩니다.
+            List<PendingChatMessage> insertedMessages = excludePersisted(batch);
+
+            List<Object[]> messageRows = insertedMessages.stream()
+                    .map(m -> {
+                        Timestamp createdAt = Timestamp.valueOf(m.getCreatedAt());
+                        return new Object[]{m.getMessageId(), m.getRoomId(), m.getSenderId(),
+                                m.getSenderRole().name(), m.getContent(), createdAt, createdAt};
+                    })
+                    .toList();
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messageRows);
+
+            // 실제로 insert 된 메시지만 채팅방 집계에 반영 (재시도/복구 시 중복 집계 방지)
+            Map<Long, RoomDelta> deltas = new LinkedHashMap<>();
+            for (PendingChatMessage m : insertedMessages) {
+                deltas.computeIfAbsent(m.getRoomId(), id -> new RoomDelta()).add(m);
+            }
+
+            List<Object[]> roomRows = deltas.entrySet().stream()
+                    .map(e -> {
+                        RoomDelta d = e.getValue();
+                        Timestamp lastAt = Timestamp.valueOf(d.lastMessage.getCreatedAt());
+                        Long lastId = d.lastMessage.getMessageId();
+                        return new Object[]{d.unreadMentor, d.unreadMentee,
+                                lastId, lastAt, lastId, lastId, now, e.getKey()};
+                    })
+                    .toList();
+            jdbcTemplate.batchUpdate(UPDATE_ROOM_SQL, roomRows);
+
+            // 사용자별 채팅방 목록 (chat_inbox) 반영
+            List<Object[]> inboxRows = deltas.entrySet().stream()
+                    .map(e -> {
+                        RoomDelta d = e.getValue();
+                        Timestamp lastAt = Timestamp.valueOf(d.lastMessage.getCreatedAt());
+                        Long lastId = d.lastMessage.getMessageId();
+                        String preview = ChatInbox.preview(d.lastMessage.getContent());
+                        return new Object[]{d.unreadMentor, d.unreadMentee,
+                                lastId, preview, lastId, lastAt, lastId, lastAt, lastId, lastId, now, e.getKey()};
+                    })
+                    .toList();
+            jdbcTemplate.batchUpdate(UPDATE_INBOX_SQL, inboxRows);
+
+            // 채팅방을 보고 있던 수신자의 읽음 위치 전진 (없으면 생성)
+            List<Object[]> advanceRows = new ArrayList<>();
+            List<Object[]> insertReadRows = new ArrayList<>();
+            deltas.forEach((roomId, d) -> d.readAdvances.forEach((userId, messageId) -> {
+                advanceRows.add(new Object[]{messageId, now, roomId, userId, messageId});
+                insertReadRows.add(new Object[]{roomId, userId, messageId, now, now});
+            }));
+            if (!advanceRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(ADVANCE_READ_SQL, advanceRows);
+                jdbcTemplate.batchUpdate(INSERT_READ_SQL, insertReadRows);
+            }
+            return insertedMessages;
+        });
+
+        // 커밋 이후 저널 정리 (정리 전에 중단되어도 재기동 시 이미 저장된 ID는 건너뛰어 안전하게 재처리)
+        journal.removeAll(batch.stream().map(QueuedMessage::recordId).toList());
+        log.debug("write-behind 배치 저장 완료: size={}", batch.size());
+
+        if (persisted != null && !persisted.isEmpty()) {
+            try {
+                eventPublisher.publishEvent(new ChatMessagesPersistedEvent(persisted));
+            } catch (RuntimeException e) {
+                // 이미 커밋된 배치를 재시도하지 않도록 후속 처리 실패는 기록만 함
+                log.warn("write-behind 저장 후속 처리 실패: size={}", persisted.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 배치에서 이미 chat_message 에 저장된 메시지와 배치 내 중복을 제외
+     */
+    private List<PendingChatMessage> excludePersisted(List<QueuedMessage> batch) {
+        Map<Long, PendingChatMessage> pending = new LinkedHashMap<>();
+        for (QueuedMessage queued : batch) {
+            pending.putIfAbsent(queued.message().getMessageId(), queued.message());
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(pending.size(), "?"));
+        List<Long> existingIds = jdbcTemplate.queryForList(
+                SELECT_EXISTING_IDS_SQL.formatted(placeholders), Long.class, pending.keySet().toArray());
+        existingIds.forEach(pending::remove);
+        return new ArrayList<>(pending.values());
+    }
+
+    private void recoverFromJournal() {
+        List<JournalEntry> entries = journal.findAll();
+        int recovered = 0;
+        for (JournalEntry journalEntry : entries) {
+            String entry = journalEntry.entry();
+            try {
+                PendingChatMessage message = objectMapper.readValue(entry, PendingChatMessage.class);
+                if (!queue.offer(new QueuedMessage(message, entry, journalEntry.recordId()))) {
+                    // 큐 용량을 넘는 나머지는 저널에 남겨두고 다음 기동 시 복구
+                    break;
+                }
+                recovered++;
+            } catch (JsonProcessingException e) {
+                log.error("저널 항목 역직렬화 실패, dead-letter 로 이동: entry={}", entry, e);
+                journal.deadLetter(journalEntry.recordId(), entry, "deserialization failed");
+            }
+        }
+        if (recovered > 0) {
+            log.info("write-behind 저널 복구: count={}", recovered);
+        }
+    }
+
+    private String serialize(PendingChatMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new JsonSerializationException();
+        }
+    }
+
+    private boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record QueuedMessage(PendingChatMessage message, String entry, String recordId) {
+    }
+
+    /**
+     * 배치 내 채팅방별 집계 (읽지 않은 수 증가분, 읽음 위치 전진, 마지막 메시지)
+     */
+    private static class RoomDelta {
+        private int unreadMentor;
+        private int unreadMentee;
+        private final Map<Long, Long> readAdvances = new LinkedHashMap<>();
+        private PendingChatMessage lastMessage;
+
+        private void add(PendingChatMessage message) {
+            if (message.isRecipientViewing() && message.getRecipientId() != null) {
+                // 채팅방을 보고 있던 수신자는 이 메시지까지 바로 읽음
+                readAdvances.merge(message.getRecipientId(), message.getMessageId(), Math::max);
+            } else if (message.getSenderRole() == SenderRole.MENTOR) {
+                // 멘토가 보내면 멘티의 읽지 않은 수 증가, 반대도 동일
+                unreadMentee++;
+            } else {
+                unreadMentor++;
+            }
+            if (lastMessage == null || lastMessage.getMessageId() < message.getMessageId()) {
+                lastMessage = message;
+            }
+        }
+    }
+}
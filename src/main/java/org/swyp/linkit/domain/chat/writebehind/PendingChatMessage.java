@@ -0,0 +1,29 @@
+package org.swyp.linkit.domain.chat.writebehind;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팬아웃은 끝났지만 아직 DB에 저장되지 않은 채팅 메시지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingChatMessage {
+
+    private Long messageId;
+    private Long roomId;
+    private Long senderId;
+    private SenderRole senderRole;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long recipientId;
+    // 수신자가 채팅방을 보고 있으면 읽지 않은 수를 올리지 않고 읽음 위치를 이 메시지까지 전진
+    private boolean recipientViewing;
+}
@@ -0,0 +1,144 @@
+package org.swyp.linkit.domain.exchange.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.linkit.domain.exchange.dto.BookedTimeDto;
+import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
+import org.swyp.linkit.domain.exchange.event.SkillExchangeBookedEvent;
+import org.swyp.linkit.domain.exchange.repository.SkillExchangeRepository;
+import org.swyp.linkit.domain.exchange.slot.MonthSlotCalendar;
+import org.swyp.linkit.domain.user.event.AvailableScheduleChangedEvent;
+import org.swyp.linkit.domain.user.service.AvailableScheduleService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 멘토 월별 예약 가능 날짜 캐시 (mentorId -> (월, 필요 슬롯 수, 기준일) -> 날짜 목록)
+ *
+ * 가능 시간 달력(주간 마스크)에서 그 달의 예약(월 단위 조회 1회)을 빼고,
+ * 거래 시간만큼 연속 슬롯이 남은 날짜만 계산해 둡니다.
+ * - 예약 가능 기간이 날짜에 따라 바뀌므로 기준일(오늘)을 키에 포함
+ * - 거래 신청/가능 일정 변경 커밋 후 멘토 단위로 무효화하고 Redis Pub/Sub으로 다른 인스턴스에 전파
+ * - Pub/Sub 유실 대비 expire-after-write로 만료
+ */
+@Slf4j
+@Component
+public class MentorMonthAvailabilityCache {
+
+    public static final String INVALIDATION_CHANNEL = "mentor:month-availability:invalidate";
+
+    private final AvailableScheduleService availableScheduleService;
+    private final SkillExchangeRepository exchangeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, Map<MonthKey, List<LocalDate>>> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public MentorMonthAvailabilityCache(AvailableScheduleService availableScheduleService,
+                                        SkillExchangeRepository exchangeRepository,
+                                        StringRedisTemplate redisTemplate,
+                                        @Value("${app.exchange.month-availability-cache.max-size:10000}") long maxSize,
+                                        @Value("${app.exchange.month-availability-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.availableScheduleService = availableScheduleService;
+        this.exchangeRepository = exchangeRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * 그 달에 연속 슬롯 slotsNeeded개가 남아 있는 예약 가능 날짜 (오름차순, 미스 시 계산 후 적재)
+     */
+    public List<LocalDate> get(Long mentorId, YearMonth month, int slotsNeeded) {
+        MonthKey key = new MonthKey(month, slotsNeeded, LocalDate.now());
+        Map<MonthKey, List<LocalDate>> months = cache.get(mentorId, id -> new ConcurrentHashMap<>());
+        List<LocalDate> dates = months.get(key);
+        if (dates != null) {
+            hits.increment();
+            return dates;
+        }
+        return months.computeIfAbsent(key, k -> load(mentorId, month, slotsNeeded));
+    }
+
+    /**
+     * 멘토의 모든 월 캐시 무효화 (현재 인스턴스 + 다른 인스턴스에 전파)
+     */
+    public void invalidate(Long mentorId) {
+        evictLocal(mentorId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(mentorId));
+            log.debug("월별 가능 날짜 캐시 무효화 발행: mentorId={}", mentorId);
+        } catch (RuntimeException e) {
+            log.warn("월별 가능 날짜 캐시 무효화 전파 실패 (로컬만 무효화): mentorId={}", mentorId, e);
+        }
+    }
+
+    /**
+     * 현재 인스턴스의 캐시만 무효화 (Redis 무효화 메시지 수신 시)
+     */
+    public void evictLocal(Long mentorId) {
+        cache.invalidate(mentorId);
+    }
+
+    /**
+     * 예약 변경 커밋 후 무효화 (트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooked(SkillExchangeBookedEvent event) {
+        invalidate(event.mentorId());
+    }
+
+    /**
+     * 가능 일정 규칙 변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(AvailableScheduleChangedEvent event) {
+        invalidate(event.mentorId());
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    private List<LocalDate> load(Long mentorId, YearMonth month, int slotsNeeded) {
+        loads.increment();
+        MonthSlotCalendar operating = availableScheduleService.getOperatingCalendar(mentorId, month);
+        List<LocalDate> operatingDates = operating.datesFitting(slotsNeeded);
+        if (operatingDates.isEmpty()) {
+            return List.of();
+        }
+
+        // 가능 날짜가 있는 구간만 한 번에 조회해서 날짜별 예약 마스크로 묶음
+        List<BookedTimeDto> bookings = exchangeRepository.findBookedTimesByReceiverIdAndDateBetween(mentorId,
+                operatingDates.get(0), operatingDates.get(operatingDates.size() - 1), ExchangeStatus.CANCELED);
+        if (bookings.isEmpty()) {
+            return List.copyOf(operatingDates);
+        }
+        MonthSlotCalendar booked = MonthSlotCalendar.empty(month);
+        for (BookedTimeDto booking : bookings) {
+            booked.add(booking.getScheduledDate(), booking.getStartTime(), booking.getEndTime());
+        }
+        return List.copyOf(operating.andNot(booked).datesFitting(slotsNeeded));
+    }
+
+    private record MonthKey(YearMonth month, int slotsNeeded, LocalDate today) {
+    }
+}
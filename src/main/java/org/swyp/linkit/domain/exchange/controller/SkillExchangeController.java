@@ -37,7 +37,7 @@ public class SkillExchangeController {
      */
     @Operation(
             summary = "멘토의 월별 거래 가능 날짜 조회",
-            description = "월별 멘토의 거래 가능 날짜를 조회합니다."
+            description = "월별 멘토의 거래 가능 날짜를 조회합니다. 스킬 ID를 함께 보내면 그 스킬의 거래 시간만큼 예약이 비어 있는 날짜만 응답합니다."
     )
     @ApiErrorExceptionsExample(SkillExchangeExceptionDocs.GetAvailableDates.class)
     @GetMapping(value = "/mentors/{mentorId}/available-dates", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -45,10 +45,13 @@ public class SkillExchangeController {
             @Parameter(description = "멘토의 사용자 ID", example = "1")
             @PathVariable Long mentorId,
 
+            @Parameter(description = "조회하고자 하는 멘토의 스킬 ID (생략 시 30분 기준)", example = "10")
+            @RequestParam(required = false) Long skillId,
+
             @Parameter(description = "조회할 년-월 (YYYY-MM)", example = "2026-01")
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month){
 
-        AvailableDatesResponseDto responseDto = exchangeService.getAvailableDates(mentorId, month.toString());
+        AvailableDatesResponseDto responseDto = exchangeService.getAvailableDates(mentorId, skillId, month.toString());
         return ResponseEntity.ok(ApiResponseDto.success("요청이 정상적으로 처리되었습니다.", responseDto));
     }
 
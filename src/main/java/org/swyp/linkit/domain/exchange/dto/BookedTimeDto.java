@@ -0,0 +1,19 @@
+package org.swyp.linkit.domain.exchange.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 멘토의 예약된 시간대 (월 단위 예약 조회 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class BookedTimeDto {
+
+    private LocalDate scheduledDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
@@ -0,0 +1,28 @@
+package org.swyp.linkit.domain.exchange.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.swyp.linkit.global.common.domain.BaseTimeEntity;
+
+/**
+ * 멘토의 30분 슬롯 점유 기록 (멘토, 날짜, 슬롯) 당 한 행
+ *
+ * 기본 키가 (mentor_id, slot_date, slot_index)라서 같은 슬롯을 두 거래가 동시에 점유하면 DB가 중복 키로 거부합니다.
+ * 거래 신청 시 MentorSlotReservationJdbcRepository의 다중 행 INSERT 한 번으로 저장합니다.
+ */
+@Entity
+@Table(name = "mentor_slot_reservation", indexes = {
+    @Index(name = "idx_mentor_slot_reservation_exchange", columnList = "skill_exchange_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MentorSlotReservation extends BaseTimeEntity {
+
+    @EmbeddedId
+    private MentorSlotReservationId id;
+
+    @Column(name = "skill_exchange_id", nullable = false)
+    private Long skillExchangeId;
+}
@@ -0,0 +1,29 @@
+package org.swyp.linkit.domain.exchange.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MentorSlotReservationId implements Serializable {
+
+    @Column(name = "mentor_id")
+    private Long mentorId;
+
+    @Column(name = "slot_date")
+    private LocalDate slotDate;
+
+    // 30분 슬롯 인덱스 (0 = 00:00, 47 = 23:30)
+    @Column(name = "slot_index")
+    private Integer slotIndex;
+}
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@Table(name = "skill_exchange", indexes = {
+    @Index(name = "idx_skill_exchange_receiver_date", columnList = "receiver_id, scheduled_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class SkillExchange extends BaseTimeEntity {
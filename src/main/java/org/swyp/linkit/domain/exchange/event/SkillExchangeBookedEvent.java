@@ -0,0 +1,9 @@
+package org.swyp.linkit.domain.exchange.event;
+
+import java.time.LocalDate;
+
+/**
+ * 멘토의 예약 시간대가 바뀜 (거래 신청 등, 커밋 후 월별 가능 날짜 캐시 무효화)
+ */
+public record SkillExchangeBookedEvent(Long mentorId, LocalDate scheduledDate) {
+}
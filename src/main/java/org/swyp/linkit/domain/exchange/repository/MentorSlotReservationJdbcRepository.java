@@ -0,0 +1,59 @@
+package org.swyp.linkit.domain.exchange.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 멘토 슬롯 점유 저장 (다중 행 INSERT 한 번)
+ *
+ * 슬롯 수만큼 VALUES 행을 붙인 INSERT 하나로 저장하므로 DB 왕복은 한 번이고,
+ * 이미 점유된 슬롯이 하나라도 있으면 문장 전체가 중복 키(DuplicateKeyException)로 실패합니다.
+ * 행은 슬롯 인덱스 오름차순이라 겹치는 요청끼리도 같은 순서로 키를 잡습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MentorSlotReservationJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO mentor_slot_reservation (mentor_id, slot_date, slot_index, skill_exchange_id, created_at, modified_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * slots 마스크의 슬롯을 거래 skillExchangeId로 점유 (저장한 행 수 반환)
+     */
+    public int reserve(Long mentorId, LocalDate date, long slots, Long skillExchangeId, LocalDateTime now) {
+        int count = Long.bitCount(slots & DaySlotMask.FULL_DAY);
+        if (count == 0) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + count * (ROW.length() + 2)).append(INSERT_PREFIX);
+        Object[] args = new Object[count * COLUMNS];
+        Date slotDate = Date.valueOf(date);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int i = 0;
+        for (long remaining = slots & DaySlotMask.FULL_DAY; remaining != 0; remaining &= remaining - 1) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args[i++] = mentorId;
+            args[i++] = slotDate;
+            args[i++] = Long.numberOfTrailingZeros(remaining);
+            args[i++] = skillExchangeId;
+            args[i++] = timestamp;
+            args[i++] = timestamp;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -0,0 +1,23 @@
+package org.swyp.linkit.domain.exchange.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.swyp.linkit.domain.exchange.entity.MentorSlotReservation;
+import org.swyp.linkit.domain.exchange.entity.MentorSlotReservationId;
+
+import java.util.List;
+
+public interface MentorSlotReservationRepository extends JpaRepository<MentorSlotReservation, MentorSlotReservationId> {
+
+    // 거래가 점유한 슬롯 조회
+    List<MentorSlotReservation> findAllBySkillExchangeId(Long skillExchangeId);
+
+    /**
+     *  거래가 점유한 슬롯 해제 (거래 취소/거절 시 슬롯을 다시 예약 가능하게)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM MentorSlotReservation r WHERE r.skillExchangeId = :skillExchangeId")
+    int deleteAllBySkillExchangeId(@Param("skillExchangeId") Long skillExchangeId);
+}
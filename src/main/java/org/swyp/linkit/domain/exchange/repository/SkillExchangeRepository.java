@@ -1,10 +1,9 @@
 package org.swyp.linkit.domain.exchange.repository;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.swyp.linkit.domain.exchange.dto.BookedTimeDto;
 import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
 import org.swyp.linkit.domain.exchange.entity.SkillExchange;
 
@@ -15,9 +14,8 @@ public interface SkillExchangeRepository extends JpaRepository<SkillExchange, Lo
 
     /**
      *  receiverId, date, ExchangeStatus 로 SkillExchange, UserSkill Fetch Join
-     *  비관적 락 사용
+     *  잠금 없이 조회 (중복 예약 방지는 mentor_slot_reservation 기본 키가 담당)
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT se FROM SkillExchange se " +
             "JOIN FETCH se.receiverSkill " +
             "WHERE se.receiver.id = :receiverId " +
@@ -26,4 +24,18 @@ public interface SkillExchangeRepository extends JpaRepository<SkillExchange, Lo
     List<SkillExchange> findAllByReceiverIdAndDate(@Param("receiverId") Long receiverId,
                                                    @Param("date")LocalDate date,
                                                    @Param("canceled") ExchangeStatus canceled);
+
+    /**
+     *  receiverId 의 [from, to] 기간 예약 시간대 조회 (취소 제외, 월별 가능 날짜 계산용)
+     *  날짜별 조회 대신 한 달을 한 번에 조회해서 날짜별로 묶어 사용
+     */
+    @Query("SELECT new org.swyp.linkit.domain.exchange.dto.BookedTimeDto(se.scheduledDate, se.startTime, se.endTime) " +
+            "FROM SkillExchange se " +
+            "WHERE se.receiver.id = :receiverId " +
+            "AND se.scheduledDate BETWEEN :from AND :to " +
+            "AND se.exchangeStatus != :canceled ")
+    List<BookedTimeDto> findBookedTimesByReceiverIdAndDateBetween(@Param("receiverId") Long receiverId,
+                                                                 @Param("from") LocalDate from,
+                                                                 @Param("to") LocalDate to,
+                                                                 @Param("canceled") ExchangeStatus canceled);
 }
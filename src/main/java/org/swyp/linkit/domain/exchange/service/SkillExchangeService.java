@@ -10,9 +10,9 @@ import java.time.LocalDate;
 public interface SkillExchangeService {
 
     /**
-     *  멘토의 거래 가능 날짜 조회
+     *  멘토의 거래 가능 날짜 조회 (receiverSkillId가 null이면 30분 슬롯 기준)
      */
-    AvailableDatesResponseDto getAvailableDates(Long mentorId, String month);
+    AvailableDatesResponseDto getAvailableDates(Long mentorId, Long receiverSkillId, String month);
     /**
      *  멘토의 날짜 별 거래 가능 시간 조회
      */
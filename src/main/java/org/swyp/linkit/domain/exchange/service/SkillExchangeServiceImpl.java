@@ -2,6 +2,9 @@ package org.swyp.linkit.domain.exchange.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.swyp.linkit.domain.credit.dto.CreditBalanceUpdateDto;
@@ -9,6 +12,7 @@ import org.swyp.linkit.domain.credit.entity.HistoryType;
 import org.swyp.linkit.domain.credit.entity.SupplyType;
 import org.swyp.linkit.domain.credit.service.CreditHistoryService;
 import org.swyp.linkit.domain.credit.service.CreditService;
+import org.swyp.linkit.domain.exchange.cache.MentorMonthAvailabilityCache;
 import org.swyp.linkit.domain.exchange.dto.SkillExchangeDto;
 import org.swyp.linkit.domain.exchange.dto.response.AvailableDatesResponseDto;
 import org.swyp.linkit.domain.exchange.dto.response.AvailableSlotsResponseDto;
@@ -16,7 +20,10 @@ import org.swyp.linkit.domain.exchange.dto.response.SkillExchangeResponseDto;
 import org.swyp.linkit.domain.exchange.dto.response.SlotDto;
 import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
 import org.swyp.linkit.domain.exchange.entity.SkillExchange;
+import org.swyp.linkit.domain.exchange.event.SkillExchangeBookedEvent;
+import org.swyp.linkit.domain.exchange.repository.MentorSlotReservationJdbcRepository;
 import org.swyp.linkit.domain.exchange.repository.SkillExchangeRepository;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
 import org.swyp.linkit.domain.user.dto.AvailableScheduleDto;
 import org.swyp.linkit.domain.user.entity.User;
 import org.swyp.linkit.domain.user.entity.UserSkill;
@@ -26,10 +33,11 @@ import org.swyp.linkit.domain.user.service.UserSkillService;
 import org.swyp.linkit.global.error.exception.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.HashSet;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 import static org.swyp.linkit.domain.exchange.entity.SkillExchange.CREDIT_EXCHANGE_RATE_MINUTES;
 
@@ -44,31 +52,37 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
     private final UserSkillService userSkillService;
     private final CreditService creditService;
     private final CreditHistoryService historyService;
+    private final MentorMonthAvailabilityCache monthAvailabilityCache;
+    private final MentorSlotReservationJdbcRepository slotReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 멘토의 거래 가능 날짜 조회
+     * receiverSkillId가 있으면 그 스킬의 거래 시간만큼, 없으면 30분 슬롯 하나라도 예약 가능한 날짜만 반환
      */
     @Transactional(readOnly = true)
     @Override
-    public AvailableDatesResponseDto getAvailableDates(Long mentorId, String month) {
-        // 1. 멘토 존재 여부 검증 -> MentorNotFound Exception
-        getMentorAndValidation(mentorId);
-
-        // 2. 멘토의 2일 뒤 ~ 3달 까지의 가능한 날짜 조회 (등록된 스케줄이 없다면 List.of() 반환) 및 월별 필터링
-        List<String> filteredSchedules = availableScheduleService.getExpandedSchedules(mentorId).stream()
-                .map(dto -> dto.getDate().toString())
-                .filter(date -> date.startsWith(month))
-                .distinct()
-                .sorted()
+    public AvailableDatesResponseDto getAvailableDates(Long mentorId, Long receiverSkillId, String month) {
+        // 1. 멘토(스킬) 존재 여부 검증 -> MentorNotFound, UserSkillNotFound, SkillMentorMissMatchException Exception
+        int slotsNeeded = 1;
+        if (receiverSkillId != null) {
+            slotsNeeded = DaySlotMask.slotsFor(getMentorSkillAndValidation(mentorId, receiverSkillId).getExchangeDuration());
+        } else {
+            getMentorAndValidation(mentorId);
+        }
+
+        // 2. 해당 월의 (가능 시간 - 예약) 달력에서 연속 슬롯이 남은 날짜 조회 (예약 가능 기간인 2일 뒤 ~ 3달 안쪽만, 캐시)
+        List<String> availableDates = monthAvailabilityCache.get(mentorId, YearMonth.parse(month), slotsNeeded).stream()
+                .map(LocalDate::toString)
                 .toList();
 
         // 3. 가능한 날짜가 존재 검증 -> ScheduleNotFoundException
-        if (filteredSchedules.isEmpty()) {
+        if (availableDates.isEmpty()) {
             throw new ScheduleNotFoundException(month + "해당 월에 멘토의 스케줄이 존재하지 않습니다.");
         }
 
         // 4. 응답 Dto 변환
-        return AvailableDatesResponseDto.of(month, filteredSchedules);
+        return AvailableDatesResponseDto.of(month, availableDates);
     }
 
     /**
@@ -81,10 +95,10 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
         UserSkill mentorSkill = getMentorSkillAndValidation(mentorId, receiverSkillId);
         int exchangeDuration = mentorSkill.getExchangeDuration();
 
-        // 2. 멘토의 가능 시간 조회 및 date로 필터링, 30분 단위로 변환
-        Set<LocalTime> operatingSlots = getOperatingSlots(mentorId, date);
-        // 3. date 기준 멘토의 예약 조회 및 30분 단위로 변환
-        Set<LocalTime> bookedSlots = getBookedSlots(mentorId, date);
+        // 2. 멘토의 가능 시간 조회 및 date로 필터링, 30분 슬롯 마스크로 변환
+        long operatingSlots = getOperatingSlots(mentorId, date);
+        // 3. date 기준 멘토의 예약 조회 및 30분 슬롯 마스크로 변환
+        long bookedSlots = getBookedSlots(mentorId, date);
 
         // 4. exchangeDuration 기준 예약 가능한 시간 처리
         List<SlotDto> finalSlots = calculateAvailableSlots(operatingSlots, exchangeDuration, bookedSlots);
@@ -102,7 +116,8 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
         User mentee = userService.getUserById(requesterId);
 
         // 2. 멘토의 스킬, 멘토 조회 및 존재 여부 검증 -> UserSkillNotFound, SkillMentorMissMatchException Exception
-        UserSkill mentorSkill = getMentorSkillWithLockAndValidation(dto.getReceiverId(), dto.getReceiverSkillId());
+        // 잠금 없이 조회, 동시 신청의 중복 예약은 9-1의 슬롯 점유(mentor_slot_reservation 기본 키)에서 DB가 거부
+        UserSkill mentorSkill = getMentorSkillAndValidation(dto.getReceiverId(), dto.getReceiverSkillId());
         User mentor = mentorSkill.getUserProfile().getUser();
 
         // 3. 공개된 skill인지 검증
@@ -120,10 +135,10 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
         LocalTime endTime = startTime.plusMinutes(mentorSkill.getExchangeDuration());
 
         // 6. 신청한 시간(startTime ~ endTime)이 가능한지 검증
-        // 멘토의 가능 시간 조회 및 date로 필터링, 30분 단위로 변환
-        Set<LocalTime> operatingSlots = getOperatingSlots(dto.getReceiverId(), dto.getRequestedDate());
-        // date 기준 멘토의 예약 조회 및 30분 단위로 변환
-        Set<LocalTime> bookedSlots = getBookedSlots(dto.getReceiverId(), dto.getRequestedDate());
+        // 멘토의 가능 시간 조회 및 date로 필터링, 30분 슬롯 마스크로 변환
+        long operatingSlots = getOperatingSlots(dto.getReceiverId(), dto.getRequestedDate());
+        // date 기준 멘토의 예약 조회 및 30분 슬롯 마스크로 변환
+        long bookedSlots = getBookedSlots(dto.getReceiverId(), dto.getRequestedDate());
 
         // 7. 신청한 시간대(startTime ~ endTime)가 유효한지 검증
         validateTimeSlotAvailability(startTime, endTime, operatingSlots, bookedSlots, mentorSkill.getExchangeDuration());
@@ -144,6 +159,12 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
         );
         SkillExchange savedSkillExchange = exchangeRepository.save(skillExchange);
 
+        // 9-1. 신청 슬롯 점유 (다중 행 INSERT 한 번, 이미 점유된 슬롯이 있으면 롤백) -> AlreadyBookedExchangeTimeException
+        reserveSlots(mentor.getId(), dto.getRequestedDate(), startTime, mentorSkill.getExchangeDuration(),
+                savedSkillExchange.getId());
+        // 커밋 후 멘토의 월별 가능 날짜 캐시 무효화
+        eventPublisher.publishEvent(new SkillExchangeBookedEvent(mentor.getId(), dto.getRequestedDate()));
+
         // 10. 멘티의 CreditHistory 생성
         historyService.createExchangeHistory(
                 mentee,
@@ -164,43 +185,53 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
     /**
      * 신청한 시간대(startTime ~ endTime)가 유효한지 검증
      */
-    private void validateTimeSlotAvailability(LocalTime start, LocalTime end, Set<LocalTime> operating,
-                                              Set<LocalTime> booked, int exchangeDuration) {
+    private void validateTimeSlotAvailability(LocalTime start, LocalTime end, long operating,
+                                              long booked, int exchangeDuration) {
         // 스킬 교환은 선택한 날짜의 자정까지 완료되어야한다.
         if (start.isAfter(end) && !end.equals(LocalTime.MIDNIGHT)) {
             throw new OverExchangeDurationMidnightException();
         }
 
-        // 30분 단위로 쪼개서 가능한 슬릇 확인
-        int slotsNeeded = exchangeDuration / 30;
-        LocalTime checkSlot = start;
+        // 30분 슬롯 단위로 가능 여부 확인 (30분 단위가 아닌 시작 시간은 운영 슬롯에 맞지 않음)
+        int startSlot = DaySlotMask.indexOf(start);
+        int slotsNeeded = DaySlotMask.slotsFor(exchangeDuration);
+        if (startSlot < 0) {
+            throw new UnavailableExchangeTimeException();
+        }
 
-        for (int i = 0; i < slotsNeeded; i++) {
+        // 앞 슬롯부터 처음 문제가 되는 슬롯 기준으로 예외 결정 (운영 시간 밖 -> 이미 예약됨 순)
+        long requested = DaySlotMask.range(startSlot, startSlot + slotsNeeded);
+        long invalid = (~operating | booked) & requested;
+        if (startSlot + slotsNeeded > DaySlotMask.SLOTS_PER_DAY) {
+            invalid |= 1L << DaySlotMask.SLOTS_PER_DAY;
+        }
+        if (invalid == 0) {
+            return;
+        }
+        long firstInvalid = Long.lowestOneBit(invalid);
+        if ((operating & firstInvalid) == 0) {
             // 멘토가 설정한 가능한 시간 충족 여부 검증
-            if (!operating.contains(checkSlot)) {
-                throw new UnavailableExchangeTimeException();
-            }
-            // 이미 예약된 시간 여부 검증
-            if (booked.contains(checkSlot)) {
-                throw new AlreadyBookedExchangeTimeException();
-            }
-            checkSlot = checkSlot.plusMinutes(30);
+            throw new UnavailableExchangeTimeException();
         }
+        // 이미 예약된 시간 여부 검증
+        throw new AlreadyBookedExchangeTimeException();
     }
 
     /**
-     *  멘토의 스킬 존재 여부 검증
-     *  비관적 락 적용
+     *  (멘토, 날짜, 30분 슬롯) 점유
+     *  같은 슬롯을 먼저 점유한 트랜잭션이 있으면 중복 키로 실패하므로 이미 예약된 시간으로 처리
+     *  (커밋 전 경합은 DB가 잡은 키 잠금 대기 후 중복 키 또는 잠금 실패로 끝남)
      */
-    private UserSkill getMentorSkillWithLockAndValidation(Long mentorId, Long receiverSkillId) {
-        // 멘토의 스킬 존재 여부 조회 및 검증 -> UserSkillNotFoundException
-        // 비관적 락 적용
-        UserSkill mentorSkill = userSkillService.getUserSkillWithProfileAndUserAndLock(receiverSkillId);
-        // 멘토의 스킬과 멘토 정보가 일치하는지 검증 -> SkillMentorMissMatchException
-        if(!mentorSkill.getUserProfile().getUser().getId().equals(mentorId)){
-            throw new SkillMentorMissMatchException();
+    private void reserveSlots(Long mentorId, LocalDate date, LocalTime startTime, int exchangeDuration,
+                              Long skillExchangeId) {
+        int startSlot = DaySlotMask.indexOf(startTime);
+        long slots = DaySlotMask.range(startSlot, startSlot + DaySlotMask.slotsFor(exchangeDuration));
+        try {
+            slotReservationRepository.reserve(mentorId, date, slots, skillExchangeId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            log.info("슬롯 점유 경합으로 거래 신청 거부. mentorId= {}, date= {}, startTime= {}", mentorId, date, startTime);
+            throw new AlreadyBookedExchangeTimeException();
         }
-        return mentorSkill;
     }
 
     /**
@@ -228,75 +259,46 @@ public class SkillExchangeServiceImpl implements SkillExchangeService {
     }
 
     /**
-     *  date 기준 멘토의 예약 조회 및 30분 단위로 변환
+     *  date 기준 멘토의 예약 조회 및 30분 슬롯 마스크로 변환
      */
-    private Set<LocalTime> getBookedSlots(Long mentorId, LocalDate date) {
+    private long getBookedSlots(Long mentorId, LocalDate date) {
         // date 기준 멘토의 예약 조회
         List<SkillExchange> bookedExchanges = exchangeRepository
                 .findAllByReceiverIdAndDate(mentorId, date, ExchangeStatus.CANCELED);
 
-        // 조회된 예약을 30분 단위로 변환
-        Set<LocalTime> bookedSlots = new HashSet<>();
+        // 조회된 예약을 30분 슬롯 마스크로 변환
+        long bookedSlots = 0L;
         for (SkillExchange exchange : bookedExchanges) {
-            LocalTime start = exchange.getStartTime();
-            LocalTime end = exchange.getEndTime();
-
-            while (start.isBefore(end)) {
-                bookedSlots.add(start);
-                start = start.plusMinutes(30);
-            }
+            bookedSlots |= DaySlotMask.range(exchange.getStartTime(), exchange.getEndTime());
         }
         return bookedSlots;
     }
 
     /**
-     *  멘토의 특정 날짜의 가능 스케줄을 30분 단위로 변환
+     *  멘토의 특정 날짜의 가능 스케줄을 30분 슬롯 마스크로 변환
      */
-    private Set<LocalTime> getOperatingSlots(Long mentorId, LocalDate date) {
-        // 멘토의 2일 뒤 ~ 3달 까지의 가능한 날짜 조회 (등록된 스케줄이 없다면 List.of() 반환), 멘토의 특정 날짜의 가능 스케줄 필터링
-        List<AvailableScheduleDto> availableSchedules = availableScheduleService.getExpandedSchedules(mentorId).stream()
-                .filter(dto -> dto.getDate().equals(date))
-                .toList();
-        Set<LocalTime> totalOperatingSlots = new HashSet<>();
-        for (AvailableScheduleDto available : availableSchedules) {
-            LocalTime start = available.getStartTime();
-            LocalTime end = available.getEndTime();
-
-            while (start.isBefore(end)) {
-                totalOperatingSlots.add(start);
-                start = start.plusMinutes(30);
-            }
+    private long getOperatingSlots(Long mentorId, LocalDate date) {
+        // 멘토의 특정 날짜 요일 규칙만 조회 (예약 가능 기간인 2일 뒤 ~ 3달 밖이면 List.of() 반환)
+        long totalOperatingSlots = 0L;
+        for (AvailableScheduleDto available : availableScheduleService.rulesFor(mentorId, date)) {
+            totalOperatingSlots |= DaySlotMask.range(available.getStartTime(), available.getEndTime());
         }
         return totalOperatingSlots;
     }
 
     /**
      *  exchangeDuration 기준 예약 가능한 시간 처리
+     *  운영 슬롯마다 (운영 & ~예약)에서 exchangeDuration 만큼 연속 슬롯이 시작 가능한지 비트로 확인
      */
-    private List<SlotDto> calculateAvailableSlots(Set<LocalTime> operatingSlots, int exchangeDuration, Set<LocalTime> bookedSlots) {
-        return operatingSlots.stream()
-                .sorted()
-                .map(start -> SlotDto.of(start, isPossibleSlot(start, exchangeDuration, bookedSlots, operatingSlots)))
-                .toList();
-    }
-
-    /**
-     * 특정 시작 시간부터 exchangeDuration 동안
-     * 모든 슬롯이 비어있고 멘토가 운영 중(operating O)인지 확인
-     */
-    private boolean isPossibleSlot(LocalTime start,
-                                   int exchangeDuration,
-                                   Set<LocalTime> bookedSlots,
-                                   Set<LocalTime> totalOperatingSlots) {
-
-        int slotsNeeded = exchangeDuration / 30;
-
-        for (int i = 0; i < slotsNeeded; i++) {
-            LocalTime current = start.plusMinutes(i * 30);
-            if (bookedSlots.contains(current) || !totalOperatingSlots.contains(current)) {
-                return false;
-            }
+    private List<SlotDto> calculateAvailableSlots(long operatingSlots, int exchangeDuration, long bookedSlots) {
+        long possibleStarts = DaySlotMask.fitStarts(operatingSlots & ~bookedSlots,
+                DaySlotMask.slotsFor(exchangeDuration));
+
+        List<SlotDto> slots = new ArrayList<>(Long.bitCount(operatingSlots));
+        for (long remaining = operatingSlots; remaining != 0; remaining &= remaining - 1) {
+            int index = Long.numberOfTrailingZeros(remaining);
+            slots.add(SlotDto.of(DaySlotMask.timeOf(index), (possibleStarts & (1L << index)) != 0));
         }
-        return true;
+        return slots;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import java.time.LocalTime;
+
+/**
+ * 하루 30분 슬롯 48개를 long 하나의 하위 48비트로 표현하는 비트 마스크 연산
+ *
+ * bit i = i번째 슬롯 (00:00 + 30분 * i), 48번째 이상 비트는 항상 0입니다.
+ * - 가능 시간 합치기 OR, 예약 제외 ANDNOT(operating & ~booked)
+ * - N개 연속 슬롯이 들어가는 시작 위치는 free & free>>>1 & ... & free>>>(N-1) (자정을 넘는 구간은 자동으로 제외)
+ */
+public final class DaySlotMask {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    private DaySlotMask() {
+    }
+
+    /**
+     * [start, end) 구간에 완전히 포함되는 슬롯 마스크
+     * end가 자정(00:00)이면 하루 끝(24:00)으로 보고, 그 외 end <= start면 빈 마스크입니다.
+     * 30분 단위가 아닌 시작/종료는 구간 안쪽 슬롯만 포함합니다.
+     */
+    public static long range(LocalTime start, LocalTime end) {
+        int from = (start.toSecondOfDay() + SLOT_MINUTES * 60 - 1) / (SLOT_MINUTES * 60);
+        int to = end.equals(LocalTime.MIDNIGHT) ? SLOTS_PER_DAY : end.toSecondOfDay() / (SLOT_MINUTES * 60);
+        return range(from, to);
+    }
+
+    /**
+     * [from, to) 슬롯 인덱스 구간 마스크
+     */
+    public static long range(int from, int to) {
+        if (from >= to) {
+            return 0L;
+        }
+        long upTo = to >= Long.SIZE ? -1L : (1L << to) - 1;
+        return upTo & ~((1L << from) - 1) & FULL_DAY;
+    }
+
+    /**
+     * 시각의 슬롯 인덱스 (30분 단위가 아니면 -1)
+     */
+    public static int indexOf(LocalTime time) {
+        int seconds = time.toSecondOfDay();
+        if (seconds % (SLOT_MINUTES * 60) != 0) {
+            return -1;
+        }
+        return seconds / (SLOT_MINUTES * 60);
+    }
+
+    public static LocalTime timeOf(int index) {
+        return LocalTime.ofSecondOfDay((long) index * SLOT_MINUTES * 60);
+    }
+
+    /**
+     * 거래 시간(분)에 필요한 슬롯 수
+     */
+    public static int slotsFor(int durationMinutes) {
+        return durationMinutes / SLOT_MINUTES;
+    }
+
+    /**
+     * free에서 needed개 연속 슬롯이 들어가는 시작 슬롯 마스크
+     * 겹쳐 쌓은 길이를 두 배씩 늘려 log2(needed)번의 shift/AND로 계산합니다.
+     */
+    public static long fitStarts(long free, int needed) {
+        if (needed <= 0) {
+            return free & FULL_DAY;
+        }
+        long fits = free & FULL_DAY;
+        int covered = 1;
+        while (covered < needed) {
+            int shift = Math.min(covered, needed - covered);
+            fits &= fits >>> shift;
+            covered += shift;
+        }
+        return fits;
+    }
+
+    /**
+     * start 슬롯부터 needed개가 모두 mask에 포함되는지
+     */
+    public static boolean containsRun(long mask, int start, int needed) {
+        if (start < 0 || needed <= 0 || start + needed > SLOTS_PER_DAY) {
+            return false;
+        }
+        long run = range(start, start + needed);
+        return (mask & run) == run;
+    }
+
+    /**
+     * start 슬롯부터 needed개 중 하나라도 mask와 겹치는지
+     */
+    public static boolean intersectsRun(long mask, int start, int needed) {
+        if (start < 0 || needed <= 0) {
+            return false;
+        }
+        return (mask & range(start, Math.min(start + needed, SLOTS_PER_DAY))) != 0;
+    }
+}
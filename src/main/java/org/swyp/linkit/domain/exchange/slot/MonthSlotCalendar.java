@@ -0,0 +1,118 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 달의 30분 슬롯 달력 (long[일수], 원소 = 그날의 DaySlotMask)
+ *
+ * 가능 시간 달력에서 예약 달력을 빼고(andNot) 날짜별로 연속 슬롯 검색을 하면
+ * 월 단위 예약 가능 날짜를 날짜당 비트 연산 몇 번으로 구할 수 있습니다.
+ */
+public class MonthSlotCalendar {
+
+    private final YearMonth month;
+    private final long[] days;
+
+    private MonthSlotCalendar(YearMonth month, long[] days) {
+        this.month = month;
+        this.days = days;
+    }
+
+    public static MonthSlotCalendar empty(YearMonth month) {
+        return new MonthSlotCalendar(month, new long[month.lengthOfMonth()]);
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * 날짜의 [start, end) 구간 슬롯 추가 (다른 달의 날짜는 무시)
+     */
+    public void add(LocalDate date, LocalTime start, LocalTime end) {
+        if (!contains(date)) {
+            return;
+        }
+        days[date.getDayOfMonth() - 1] |= DaySlotMask.range(start, end);
+    }
+
+    public void addMask(LocalDate date, long mask) {
+        if (!contains(date)) {
+            return;
+        }
+        days[date.getDayOfMonth() - 1] |= mask & DaySlotMask.FULL_DAY;
+    }
+
+    public long maskOf(LocalDate date) {
+        if (!contains(date)) {
+            return 0L;
+        }
+        return days[date.getDayOfMonth() - 1];
+    }
+
+    /**
+     * 이 달력에서 other의 슬롯을 뺀 새 달력 (가능 시간 - 예약)
+     */
+    public MonthSlotCalendar andNot(MonthSlotCalendar other) {
+        requireSameMonth(other);
+        long[] result = new long[days.length];
+        for (int i = 0; i < days.length; i++) {
+            result[i] = days[i] & ~other.days[i];
+        }
+        return new MonthSlotCalendar(month, result);
+    }
+
+    /**
+     * 두 달력에 모두 있는 슬롯만 남긴 새 달력
+     */
+    public MonthSlotCalendar and(MonthSlotCalendar other) {
+        requireSameMonth(other);
+        long[] result = new long[days.length];
+        for (int i = 0; i < days.length; i++) {
+            result[i] = days[i] & other.days[i];
+        }
+        return new MonthSlotCalendar(month, result);
+    }
+
+    /**
+     * 연속 슬롯 needed개가 들어가는 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> datesFitting(int needed) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < days.length; i++) {
+            if (days[i] != 0 && DaySlotMask.fitStarts(days[i], needed) != 0) {
+                dates.add(month.atDay(i + 1));
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 슬롯이 하나라도 있는 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> datesWithSlots() {
+        return datesFitting(1);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(days, days.length);
+    }
+
+    /**
+     * 이 달의 날짜인지 (YearMonth.from보다 가벼운 필드 비교)
+     */
+    public boolean contains(LocalDate date) {
+        return date.getYear() == month.getYear() && date.getMonthValue() == month.getMonthValue();
+    }
+
+    private void requireSameMonth(MonthSlotCalendar other) {
+        if (!month.equals(other.month)) {
+            throw new IllegalArgumentException("다른 달의 달력과 연산할 수 없습니다: " + month + ", " + other.month);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 요일별 30분 슬롯 마스크 7개 (월 ~ 일, 원소 = 그 요일의 DaySlotMask)
+ *
+ * 멘토의 주간 가능 일정 규칙을 한 번 컴파일해 두면 날짜별 가능 시간은 배열 조회 한 번입니다.
+ * Redis 저장용으로 16진수 7개를 콤마로 이은 문자열로 직렬화합니다.
+ */
+public final class WeeklySlotMask {
+
+    public static final WeeklySlotMask EMPTY = new WeeklySlotMask(new long[7]);
+
+    private final long[] days;
+
+    private WeeklySlotMask(long[] days) {
+        this.days = days;
+    }
+
+    /**
+     * 요일별 마스크(월요일부터 7개)로 생성 (48번째 이상 비트는 버림)
+     */
+    public static WeeklySlotMask of(long[] days) {
+        if (days.length != 7) {
+            throw new IllegalArgumentException("요일별 마스크는 7개여야 합니다: " + days.length);
+        }
+        long[] copy = new long[7];
+        for (int i = 0; i < 7; i++) {
+            copy[i] = days[i] & DaySlotMask.FULL_DAY;
+        }
+        return new WeeklySlotMask(copy);
+    }
+
+    public long maskOf(DayOfWeek dayOfWeek) {
+        return days[dayOfWeek.getValue() - 1];
+    }
+
+    public long maskOf(LocalDate date) {
+        return maskOf(date.getDayOfWeek());
+    }
+
+    public boolean isEmpty() {
+        for (long day : days) {
+            if (day != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * "월,화,...,일" 16진수 문자열 (Redis 저장용)
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder(7 * 13);
+        for (int i = 0; i < 7; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(Long.toHexString(days[i]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * encode() 결과 복원 (형식이 다르면 IllegalArgumentException)
+     */
+    public static WeeklySlotMask decode(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 7) {
+            throw new IllegalArgumentException("주간 슬롯 마스크 형식이 아닙니다: " + value);
+        }
+        long[] days = new long[7];
+        for (int i = 0; i < 7; i++) {
+            days[i] = Long.parseUnsignedLong(parts[i], 16);
+        }
+        return of(days);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeeklySlotMask other && Arrays.equals(days, other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(days);
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklySlotMask[" + encode() + "]";
+    }
+}
@@ -20,6 +20,13 @@ public interface NotificationService {
      */
     NotificationDto createSystemNotification(Long receiverId, NotificationType type, Long refId);
 
+    /**
+     * 채팅 메시지 알림 생성 (채팅방별 미읽음 알림이 이미 있으면 새로 만들지 않음)
+     * 메시지 커밋 이후 호출되므로 별도 트랜잭션에서 저장합니다.
+     * @return 생성된 알림 (이미 미읽음 알림이 있으면 null)
+     */
+    NotificationDto createChatMessageNotification(Long receiverId, Long senderId, Long chatRoomId);
+
     // ===== 미읽음 개수 조회 =====
 
     /**
@@ -27,12 +34,12 @@ public interface NotificationService {
      * - 요청 관리 탭: REQUEST_RECEIVED + REQUEST_SENT + REQUEST_STATUS_CHANGED
      * - 받은 요청: REQUEST_RECEIVED
      * - 보낸 요청: REQUEST_SENT + REQUEST_STATUS_CHANGED
-     * - 메시지 탭: CHAT_MESSAGE
+     * - 메시지 탭: 읽지 않은 메시지가 있는 채팅방 수 (Redis 카운터, 채팅방별 CHAT_MESSAGE 미읽음 알림 수와 같은 의미)
      */
     UnreadCountResponseDto getUnreadCounts(Long userId);
 
     /**
-     * 특정 채팅방의 미읽음 알림 개수 조회
+     * 특정 채팅방의 읽지 않은 메시지 수 조회 (Redis 카운터)
      */
     ChatRoomUnreadCountResponseDto getChatRoomUnreadCount(Long userId, Long chatRoomId);
 
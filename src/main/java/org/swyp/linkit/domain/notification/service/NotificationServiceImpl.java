@@ -6,7 +6,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.swyp.linkit.domain.chat.service.ChatUnreadCountService;
 import org.swyp.linkit.domain.notification.dto.NotificationDto;
 import org.swyp.linkit.domain.notification.dto.NotificationMessageDto;
 import org.swyp.linkit.domain.notification.dto.response.ChatRoomUnreadCountResponseDto;
@@ -37,6 +39,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final UserRepository userRepository;
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ChatUnreadCountService chatUnreadCountService;
 
     private static final String NOTIFICATION_CHANNEL_PREFIX = "notification:user:";
 
@@ -89,6 +92,16 @@ public class NotificationServiceImpl implements NotificationService {
         return NotificationDto.from(savedNotification);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public NotificationDto createChatMessageNotification(Long receiverId, Long senderId, Long chatRoomId) {
+        // 채팅방별 미읽음 알림은 하나로 합침 (연속 메시지마다 알림 INSERT/푸시하지 않음)
+        if (notificationRepository.countUnreadChatByUserIdAndRoomId(receiverId, chatRoomId) > 0) {
+            return null;
+        }
+        return createNotification(receiverId, senderId, NotificationType.CHAT_MESSAGE, chatRoomId);
+    }
+
     // ===== 미읽음 개수 조회 =====
 
     @Override
@@ -102,15 +115,15 @@ public class NotificationServiceImpl implements NotificationService {
         // 보낸 요청 탭 (보낸 요청 + 상태 변경)
         long sentRequestCount = notificationRepository.countUnreadByUserIdAndTypes(userId, SENT_REQUEST_TYPES);
 
-        // 메시지 탭
-        long messageTabCount = notificationRepository.countUnreadByUserIdAndType(userId, NotificationType.CHAT_MESSAGE);
+        // 메시지 탭 (읽지 않은 메시지가 있는 채팅방 수, 채팅방별로 합쳐진 CHAT_MESSAGE 미읽음 알림 수와 같은 의미)
+        long messageTabCount = chatUnreadCountService.getUnreadRoomCount(userId);
 
         return UnreadCountResponseDto.of(requestTabCount, receivedRequestCount, sentRequestCount, messageTabCount);
     }
 
     @Override
     public ChatRoomUnreadCountResponseDto getChatRoomUnreadCount(Long userId, Long chatRoomId) {
-        long unreadCount = notificationRepository.countUnreadChatByUserIdAndRoomId(userId, chatRoomId);
+        long unreadCount = chatUnreadCountService.getUnreadCount(userId, chatRoomId);
         return ChatRoomUnreadCountResponseDto.of(chatRoomId, unreadCount);
     }
 
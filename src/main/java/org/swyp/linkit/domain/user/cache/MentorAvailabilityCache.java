@@ -0,0 +1,202 @@
+package org.swyp.linkit.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+import org.swyp.linkit.domain.exchange.slot.WeeklySlotMask;
+import org.swyp.linkit.domain.user.entity.AvailableSchedule;
+import org.swyp.linkit.domain.user.event.AvailableScheduleChangedEvent;
+import org.swyp.linkit.domain.user.repository.AvailableScheduleRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 멘토 주간 가능 시간 캐시 (mentorId -> 요일별 30분 슬롯 마스크 7개)
+ *
+ * 가능 날짜/시간 조회마다 수행되던 주간 규칙 조회를 로컬(Caffeine) -> Redis -> DB 순으로 처리합니다.
+ * - 규칙이 없는 멘토도 빈 마스크로 캐싱 (반복 조회 차단)
+ * - 규칙 변경은 AvailableScheduleEntityListener 이벤트를 커밋 후 받아 Redis 키 삭제 + Pub/Sub으로 모든 인스턴스의 로컬 캐시를 무효화
+ * - 무효화는 멘토별 버전 키를 올리고, DB에서 적재한 값은 DB 조회 전에 읽은 버전이 그대로일 때만 Redis에 저장
+ *   (다른 인스턴스의 무효화와 겹친 이전 값이 Redis ttl 동안 남아 예약 검증에 쓰이지 않도록)
+ * - Pub/Sub 유실에 대비해 로컬은 expire-after-write, Redis는 ttl로 만료
+ */
+@Slf4j
+@Component
+public class MentorAvailabilityCache {
+
+    public static final String INVALIDATION_CHANNEL = "mentor:availability:invalidate";
+    private static final String KEY_PREFIX = "mentor:availability:";
+    private static final String VERSION_KEY_PREFIX = "mentor:availability:version:";   // 무효화마다 증가
+
+    // 버전이 읽어 둔 값('' = 없음)과 같을 때만 저장, 저장했으면 1
+    private static final RedisScript<Long> WRITE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    // 버전 증가(값 ttl 동안 유지) + 값 삭제
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return version", Long.class);
+
+    private final AvailableScheduleRepository availableScheduleRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration redisTtl;
+    private final Cache<Long, WeeklySlotMask> cache;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder dbLoads = new LongAdder();
+
+    public MentorAvailabilityCache(AvailableScheduleRepository availableScheduleRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   @Value("${app.exchange.availability-cache.max-size:10000}") long maxSize,
+                                   @Value("${app.exchange.availability-cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+                                   @Value("${app.exchange.availability-cache.redis-ttl:PT24H}") Duration redisTtl) {
+        this.availableScheduleRepository = availableScheduleRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 멘토의 요일별 가능 슬롯 마스크 (로컬 미스 시 Redis, Redis 미스 시 DB에서 컴파일 후 적재)
+     */
+    public WeeklySlotMask get(Long mentorId) {
+        return cache.get(mentorId, this::load);
+    }
+
+    /**
+     * 캐시 무효화 (버전 증가 + Redis 키 삭제 + 현재 인스턴스 + 다른 인스턴스에 전파)
+     */
+    public void invalidate(Long mentorId) {
+        evictLocal(mentorId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(VERSION_KEY_PREFIX + mentorId, KEY_PREFIX + mentorId),
+                    Long.toString(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(mentorId));
+            log.debug("가능 시간 캐시 무효화 발행: mentorId={}", mentorId);
+        } catch (RuntimeException e) {
+            log.warn("가능 시간 캐시 무효화 전파 실패 (로컬만 무효화): mentorId={}", mentorId, e);
+        }
+    }
+
+    /**
+     * 현재 인스턴스의 캐시만 무효화 (Redis 무효화 메시지 수신 시)
+     */
+    public void evictLocal(Long mentorId) {
+        cache.invalidate(mentorId);
+    }
+
+    /**
+     * 가능 일정 규칙 변경 커밋 후 무효화 (트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(AvailableScheduleChangedEvent event) {
+        invalidate(event.mentorId());
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getRedisHitCount() {
+        return redisHits.sum();
+    }
+
+    public long getDbLoadCount() {
+        return dbLoads.sum();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    private WeeklySlotMask load(Long mentorId) {
+        String key = KEY_PREFIX + mentorId;
+        WeeklySlotMask cached = readRedis(key);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+
+        // DB 조회 전에 버전을 읽어 두고, 그 사이 무효화되었으면 Redis에 저장하지 않음
+        String versionKey = VERSION_KEY_PREFIX + mentorId;
+        String version = readVersion(versionKey);
+
+        dbLoads.increment();
+        WeeklySlotMask compiled = compile(availableScheduleRepository.findAllByUser_Id(mentorId));
+        if (version != null) {
+            writeRedis(key, versionKey, version, compiled);
+        }
+        return compiled;
+    }
+
+    private WeeklySlotMask compile(List<AvailableSchedule> rules) {
+        if (rules.isEmpty()) {
+            return WeeklySlotMask.EMPTY;
+        }
+        // Weekday 선언 순서(MON ~ SUN) = 월요일부터의 인덱스
+        long[] days = new long[7];
+        for (AvailableSchedule rule : rules) {
+            days[rule.getDayOfWeek().ordinal()] |= DaySlotMask.range(rule.getStartTime(), rule.getEndTime());
+        }
+        return WeeklySlotMask.of(days);
+    }
+
+    private WeeklySlotMask readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? WeeklySlotMask.decode(value) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 가능 시간 캐시 값 (DB에서 다시 적재): key={}", key);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("가능 시간 캐시 Redis 조회 실패 (DB 조회): key={}, error={}", key, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * @return 현재 버전 (없으면 "", Redis 장애로 알 수 없으면 null)
+     */
+    private String readVersion(String versionKey) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey);
+            return version != null ? version : "";
+        } catch (RuntimeException e) {
+            log.warn("가능 시간 캐시 버전 조회 실패 (Redis 저장 생략): key={}, error={}", versionKey, e.toString());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String versionKey, String version, WeeklySlotMask value) {
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_VERSION_SCRIPT, List.of(key, versionKey),
+                    version, value.encode(), Long.toString(redisTtl.toMillis()));
+            if (written != null && written == 0) {
+                log.debug("적재 중 무효화되어 Redis 저장 생략: key={}", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("가능 시간 캐시 Redis 저장 실패: key={}, error={}", key, e.toString());
+        }
+    }
+}
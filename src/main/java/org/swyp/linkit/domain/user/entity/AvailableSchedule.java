@@ -2,6 +2,7 @@ package org.swyp.linkit.domain.user.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +22,7 @@ import org.swyp.linkit.global.common.domain.BaseTimeEntity;
 import java.time.LocalTime;
 
 @Entity
+@EntityListeners(AvailableScheduleEntityListener.class)
 @Table(name = "available_schedule")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -44,6 +47,11 @@ public class AvailableSchedule extends BaseTimeEntity {
     @Column(name = "end_time", nullable = false)
     private LocalTime endTime;
 
+    // 연관관계가 끊긴(orphan 삭제 대상) 일정의 원래 사용자 ID (캐시 무효화 대상 식별용)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Long previousUserId;
+
     @Builder(access = AccessLevel.PRIVATE)
     private AvailableSchedule(User user, Weekday dayOfWeek, LocalTime startTime, LocalTime endTime) {
         this.user = user;
@@ -71,6 +79,14 @@ public class AvailableSchedule extends BaseTimeEntity {
 
     // 사용자 연관관계 설정
     protected void assignUser(User user) {
+        if (this.user != null && user == null) {
+            this.previousUserId = this.user.getId();
+        }
         this.user = user;
     }
+
+    // 일정 소유 사용자 ID (연관관계가 끊긴 뒤에는 원래 사용자 ID)
+    public Long getOwnerId() {
+        return user != null ? user.getId() : previousUserId;
+    }
 }
@@ -0,0 +1,31 @@
+package org.swyp.linkit.domain.user.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.swyp.linkit.domain.user.event.AvailableScheduleChangedEvent;
+
+/**
+ * 가능 일정 규칙 변경 감지 (User.addAvailableSchedule / removeAvailableSchedule / clearAvailableSchedules,
+ * AvailableSchedule.updateSchedule 이후 flush 시점)
+ *
+ * Hibernate가 SpringBeanContainer로 생성하므로 ApplicationEventPublisher를 주입받아 이벤트만 발행하고,
+ * 캐시 무효화는 커밋 후 MentorAvailabilityCache에서 처리합니다.
+ */
+@RequiredArgsConstructor
+public class AvailableScheduleEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(AvailableSchedule schedule) {
+        Long mentorId = schedule.getOwnerId();
+        if (mentorId != null) {
+            eventPublisher.publishEvent(new AvailableScheduleChangedEvent(mentorId));
+        }
+    }
+}
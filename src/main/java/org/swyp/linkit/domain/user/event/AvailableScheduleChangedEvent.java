@@ -0,0 +1,7 @@
+package org.swyp.linkit.domain.user.event;
+
+/**
+ * 멘토의 주간 가능 일정 규칙이 추가/수정/삭제됨 (AvailableScheduleEntityListener에서 발행)
+ */
+public record AvailableScheduleChangedEvent(Long mentorId) {
+}
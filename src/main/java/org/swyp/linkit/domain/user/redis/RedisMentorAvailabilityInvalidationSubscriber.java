@@ -0,0 +1,33 @@
+package org.swyp.linkit.domain.user.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.swyp.linkit.domain.user.cache.MentorAvailabilityCache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 발행한 멘토 가능 시간 캐시 무효화 메시지 수신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMentorAvailabilityInvalidationSubscriber implements MessageListener {
+
+    private final MentorAvailabilityCache mentorAvailabilityCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long mentorId = Long.parseLong(body);
+            mentorAvailabilityCache.evictLocal(mentorId);
+            log.debug("가능 시간 캐시 무효화 수신: mentorId={}", mentorId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 가능 시간 캐시 무효화 메시지: body={}", body);
+        }
+    }
+}
@@ -2,68 +2,90 @@ package org.swyp.linkit.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+import org.swyp.linkit.domain.exchange.slot.MonthSlotCalendar;
+import org.swyp.linkit.domain.exchange.slot.WeeklySlotMask;
+import org.swyp.linkit.domain.user.cache.MentorAvailabilityCache;
 import org.swyp.linkit.domain.user.dto.AvailableScheduleDto;
-import org.swyp.linkit.domain.user.entity.AvailableSchedule;
 import org.swyp.linkit.domain.user.entity.Weekday;
-import org.swyp.linkit.domain.user.repository.AvailableScheduleRepository;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * 멘토 가능 일정 조회 (주간 규칙은 MentorAvailabilityCache에서 읽으므로 캐시 적중 시 DB를 조회하지 않습니다)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AvailableScheduleService {
 
-    private final AvailableScheduleRepository availableScheduleRepository;
+    // 예약 가능 기간: 현재 날짜 기준 2일 후 ~ 3개월 후
+    private static final int BOOKABLE_FROM_DAYS = 2;
+    private static final int BOOKABLE_TO_MONTHS = 3;
 
-    // 현재 날짜 기준 2일 후부터 ~ 3개월 후까지의 가능한 날짜 반환
-    public List<AvailableScheduleDto> getExpandedSchedules(Long mentorUserId) {
+    private final MentorAvailabilityCache mentorAvailabilityCache;
 
-        LocalDate from = LocalDate.now().plusDays(2);
-        LocalDate to = LocalDate.now().plusMonths(3);
-
-        List<AvailableSchedule> weeklyRules = availableScheduleRepository.findAllByUser_Id(mentorUserId);
-        if (weeklyRules.isEmpty()) {
-            return List.of();
+    /**
+     * 한 달의 가능 시간 달력 (예약 가능 기간에 속하는 날짜만, 날짜별 값은 그 요일의 슬롯 마스크)
+     */
+    public MonthSlotCalendar getOperatingCalendar(Long mentorUserId, YearMonth month) {
+        MonthSlotCalendar calendar = MonthSlotCalendar.empty(month);
+        LocalDate today = LocalDate.now();
+        LocalDate start = max(month.atDay(1), today.plusDays(BOOKABLE_FROM_DAYS));
+        LocalDate end = min(month.atEndOfMonth(), today.plusMonths(BOOKABLE_TO_MONTHS));
+        if (start.isAfter(end)) {
+            return calendar;
         }
 
-        // 요일별로 묶기
-        Map<Weekday, List<AvailableSchedule>> byDay = weeklyRules.stream()
-                .collect(Collectors.groupingBy(AvailableSchedule::getDayOfWeek));
+        WeeklySlotMask weekly = mentorAvailabilityCache.get(mentorUserId);
+        if (weekly.isEmpty()) {
+            return calendar;
+        }
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            calendar.addMask(date, weekly.maskOf(date));
+        }
+        return calendar;
+    }
 
-        long days = ChronoUnit.DAYS.between(from, to);
+    /**
+     * 특정 날짜의 가능 일정 (캐시된 그 요일 마스크의 구간, 시작시간 순)
+     * 예약 가능 기간 밖의 날짜면 빈 목록입니다.
+     */
+    public List<AvailableScheduleDto> rulesFor(Long mentorUserId, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date.isBefore(today.plusDays(BOOKABLE_FROM_DAYS)) || date.isAfter(today.plusMonths(BOOKABLE_TO_MONTHS))) {
+            return List.of();
+        }
 
         List<AvailableScheduleDto> result = new ArrayList<>();
+        addRuns(result, date, mentorAvailabilityCache.get(mentorUserId).maskOf(date));
+        return result;
+    }
 
-        // to 날짜 포함
-        for (long i = 0; i <= days; i++) {
-            LocalDate date = from.plusDays(i);
-            Weekday weekday = toWeekday(date);
-
-            List<AvailableSchedule> rules = byDay.getOrDefault(weekday, List.of());
-            for (AvailableSchedule rule : rules) {
-                result.add(new AvailableScheduleDto(
-                        date,
-                        weekday.name(),
-                        rule.getStartTime(),
-                        rule.getEndTime()
-                ));
-            }
+    /**
+     * 마스크의 연속 슬롯 구간을 [시작, 종료) 일정으로 추가 (하루 끝까지 이어지면 종료는 00:00)
+     */
+    private void addRuns(List<AvailableScheduleDto> result, LocalDate date, long mask) {
+        String weekday = toWeekday(date).name();
+        long remaining = mask;
+        while (remaining != 0) {
+            int from = Long.numberOfTrailingZeros(remaining);
+            int to = from + Long.numberOfTrailingZeros(~(remaining >>> from));
+            LocalTime endTime = to >= DaySlotMask.SLOTS_PER_DAY ? LocalTime.MIDNIGHT : DaySlotMask.timeOf(to);
+            result.add(new AvailableScheduleDto(date, weekday, DaySlotMask.timeOf(from), endTime));
+            remaining &= ~DaySlotMask.range(from, to);
         }
+    }
 
-        // 정렬: 날짜 -> 시작시간
-        result.sort(Comparator
-                .comparing(AvailableScheduleDto::getDate)
-                .thenComparing(AvailableScheduleDto::getStartTime));
+    private LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
 
-        return result;
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
     }
 
     private Weekday toWeekday(LocalDate date) {
@@ -77,4 +99,4 @@ public class AvailableScheduleService {
             case SUNDAY -> Weekday.SUN;
         };
     }
-}
\ No newline at end of file
+}
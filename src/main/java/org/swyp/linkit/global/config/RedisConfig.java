@@ -5,16 +5,22 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.swyp.linkit.domain.chat.redis.RedisChatSubscriber;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.redis.RedisChatEphemeralPublisher;
+import org.swyp.linkit.domain.chat.redis.RedisChatEphemeralSubscriber;
+import org.swyp.linkit.domain.chat.redis.RedisChatParticipantInvalidationSubscriber;
+import org.swyp.linkit.domain.exchange.cache.MentorMonthAvailabilityCache;
+import org.swyp.linkit.domain.exchange.redis.RedisMentorMonthAvailabilityInvalidationSubscriber;
+import org.swyp.linkit.domain.user.cache.MentorAvailabilityCache;
+import org.swyp.linkit.domain.user.redis.RedisMentorAvailabilityInvalidationSubscriber;
 
 @Profile("!test")
 @Configuration
 public class RedisConfig {
 
-    private static final String CHAT_CHANNEL_PATTERN = "chat:room:*";
-
     @Bean
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
@@ -23,11 +29,23 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            RedisChatSubscriber redisChatSubscriber) {
+            RedisChatParticipantInvalidationSubscriber participantInvalidationSubscriber,
+            RedisChatEphemeralSubscriber ephemeralSubscriber,
+            RedisMentorAvailabilityInvalidationSubscriber availabilityInvalidationSubscriber,
+            RedisMentorMonthAvailabilityInvalidationSubscriber monthAvailabilityInvalidationSubscriber) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(redisChatSubscriber, new PatternTopic(CHAT_CHANNEL_PATTERN));
+        // 채팅방 채널은 로컬 STOMP 구독에 따라 RedisChatSubscriptionManager가 동적으로 구독
+        container.addMessageListener(participantInvalidationSubscriber,
+                new ChannelTopic(ChatParticipantCache.INVALIDATION_CHANNEL));
+        // 실시간 이벤트(입력 중 등)는 전송 방식과 무관하게 고정 개수의 샤드 채널을 항상 구독
+        container.addMessageListener(ephemeralSubscriber,
+                new PatternTopic(RedisChatEphemeralPublisher.CHANNEL_PREFIX + "*"));
+        container.addMessageListener(availabilityInvalidationSubscriber,
+                new ChannelTopic(MentorAvailabilityCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(monthAvailabilityInvalidationSubscriber,
+                new ChannelTopic(MentorMonthAvailabilityCache.INVALIDATION_CHANNEL));
         return container;
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package org.swyp.linkit.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Profile("!test")
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
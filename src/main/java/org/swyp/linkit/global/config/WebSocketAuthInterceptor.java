@@ -39,20 +39,20 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         accessor.setLeaveMutable(true);
 
         StompCommand command = accessor.getCommand();
-        log.info("STOMP Command 수신: {}, isMutable={}", command, accessor.isMutable());
+        log.debug("STOMP Command 수신: {}, isMutable={}", command, accessor.isMutable());
 
         if (StompCommand.CONNECT.equals(command)) {
             handleConnect(accessor);
         } else if (StompCommand.SUBSCRIBE.equals(command)) {
-            log.info("SUBSCRIBE 요청: destination={}, user={}",
+            log.debug("SUBSCRIBE 요청: destination={}, user={}",
                     accessor.getDestination(),
                     accessor.getUser() != null ? accessor.getUser().getName() : "null");
         } else if (StompCommand.SEND.equals(command)) {
-            log.info("SEND 요청: destination={}, user={}",
+            log.debug("SEND 요청: destination={}, user={}",
                     accessor.getDestination(),
                     accessor.getUser() != null ? accessor.getUser().getName() : "null");
         } else if (StompCommand.DISCONNECT.equals(command)) {
-            log.info("DISCONNECT 요청: user={}",
+            log.debug("DISCONNECT 요청: user={}",
                     accessor.getUser() != null ? accessor.getUser().getName() : "null");
         }
 
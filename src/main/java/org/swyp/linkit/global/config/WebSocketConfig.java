@@ -1,16 +1,29 @@
 package org.swyp.linkit.global.config;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.swyp.linkit.global.handler.StompErrorHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.swyp.linkit.global.websocket.InstrumentedChannelExecutor;
+import org.swyp.linkit.global.websocket.SessionShardedExecutor;
+import org.swyp.linkit.global.websocket.StompRateLimitInterceptor;
+import org.swyp.linkit.global.websocket.WebSocketChannelMetricsReporter;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
@@ -18,7 +31,9 @@ import org.swyp.linkit.global.handler.StompErrorHandler;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
     private final StompErrorHandler stompErrorHandler;
+    private final WebSocketChannelMetricsReporter channelMetricsReporter;
 
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -32,6 +47,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${backend.prod-url}")
     private String backendProdUrl;
 
+    // simple: 기본 SimpleBroker, indexed: destination 인덱스 레지스트리 + 세션 샤딩 outbound executor
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.outbound-shards:0}")
+    private int outboundShards;
+
+    // 채널 executor 종류 - pool: 스레드 풀, virtual: 메시지당 가상 스레드, sharded: 세션 샤딩 (미지정 시 outbound는 broker 모드에 따름)
+    @Value("${app.websocket.inbound.executor:pool}")
+    private String inboundExecutorType;
+
+    @Value("${app.websocket.inbound.core-pool-size:0}")
+    private int inboundCorePoolSize;
+
+    @Value("${app.websocket.inbound.max-pool-size:0}")
+    private int inboundMaxPoolSize;
+
+    @Value("${app.websocket.inbound.queue-capacity:0}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.websocket.outbound.executor:}")
+    private String outboundExecutorType;
+
+    @Value("${app.websocket.outbound.core-pool-size:0}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.max-pool-size:0}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:0}")
+    private int outboundQueueCapacity;
+
+    private final List<Object> managedExecutors = new ArrayList<>();
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 구독할 prefix (서버 -> 클라이언트)
@@ -59,9 +108,59 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setErrorHandler(stompErrorHandler);
     }
 
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        String type = outboundExecutorType.isBlank()
+                ? ("indexed".equalsIgnoreCase(brokerMode) ? "sharded" : "pool")
+                : outboundExecutorType;
+        registration.executor(createExecutor("outbound", type,
+                outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // 인증 인터셉터 등록
-        registration.interceptors(webSocketAuthInterceptor);
+        // 인증 인터셉터 -> 속도 제한 인터셉터 순서로 등록
+        registration.interceptors(webSocketAuthInterceptor, stompRateLimitInterceptor);
+        registration.executor(createExecutor("inbound", inboundExecutorType,
+                inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+    }
+
+    @PreDestroy
+    public void shutdownChannelExecutors() throws InterruptedException {
+        for (Object executor : managedExecutors) {
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                pool.shutdown();
+            } else if (executor instanceof SessionShardedExecutor sharded) {
+                sharded.destroy();
+            }
+        }
+    }
+
+    /**
+     * 채널 executor 생성 후 지표 수집 래퍼로 감싸서 반환
+     * 풀 크기/큐 용량이 0이면 Spring 기본값 (코어 = CPU * 2, 최대/큐 = 무제한)
+     */
+    private Executor createExecutor(String channel, String type, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        String threadNamePrefix = "ws-" + channel + "-";
+        Executor executor = switch (type.toLowerCase()) {
+            case "virtual" -> new VirtualThreadTaskExecutor(threadNamePrefix);
+            case "sharded" -> new SessionShardedExecutor(threadNamePrefix,
+                    outboundShards > 0 ? outboundShards : Runtime.getRuntime().availableProcessors() * 2);
+            case "pool" -> {
+                ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+                pool.setThreadNamePrefix(threadNamePrefix);
+                pool.setCorePoolSize(corePoolSize > 0 ? corePoolSize : Runtime.getRuntime().availableProcessors() * 2);
+                pool.setMaxPoolSize(maxPoolSize > 0 ? maxPoolSize : Integer.MAX_VALUE);
+                pool.setQueueCapacity(queueCapacity > 0 ? queueCapacity : Integer.MAX_VALUE);
+                pool.setAllowCoreThreadTimeOut(true);
+                pool.initialize();
+                yield pool;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 STOMP 채널 executor: " + type);
+        };
+        managedExecutors.add(executor);
+        log.info("STOMP {} 채널 executor 구성: type={}", channel, type);
+
+        return new InstrumentedChannelExecutor(executor, channelMetricsReporter.register(channel));
     }
 }
@@ -89,6 +89,18 @@ public enum ErrorCode implements BaseErrorCode {
     @ExplainError("멘토와 멘티가 동일한 사용자인 경우 발생합니다.")
     CHAT_SAME_USER(HttpStatus.BAD_REQUEST, "CH006", "멘토와 멘티는 서로 다른 사용자여야 합니다."),
 
+    @ExplainError("메시지 조회 시 before와 after 커서를 동시에 전달했거나, 채팅방 목록 커서 형식이 잘못된 경우 발생합니다.")
+    CHAT_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "CH007", "유효하지 않은 커서입니다."),
+
+    @ExplainError("메시지 저장 대기열이 가득 차 일시적으로 메시지를 받을 수 없는 경우 발생합니다.")
+    CHAT_WRITE_BACK_PRESSURE(HttpStatus.SERVICE_UNAVAILABLE, "CH008", "메시지 전송량이 많아 잠시 후 다시 시도해주세요."),
+
+    @ExplainError("메시지 검색어가 비어 있거나, 두 글자 이상 이어진 단어가 없거나, 최대 길이를 넘은 경우 발생합니다.")
+    CHAT_INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "CH009", "유효하지 않은 검색어입니다."),
+
+    @ExplainError("STOMP 연결 또는 사용자별 메시지 전송/읽음/입장 요청이 허용량을 넘은 경우 발생합니다.")
+    CHAT_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "CH010", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 크레딧
     @ExplainError("사용자의 크레딧 정보가 존재하지 않는 경우 발생합니다.")
     NOT_FOUND_CREDIT(HttpStatus.NOT_FOUND, "CR001", "크레딧 정보를 찾을 수 없습니다."),
@@ -0,0 +1,23 @@
+package org.swyp.linkit.global.error.exception;
+
+import org.swyp.linkit.global.error.ErrorCode;
+import org.swyp.linkit.global.error.exception.base.BusinessException;
+
+public class ChatInvalidCursorException extends BusinessException {
+
+    public ChatInvalidCursorException() {
+        super(ErrorCode.CHAT_INVALID_CURSOR);
+    }
+
+    public ChatInvalidCursorException(Long before, Long after) {
+        super(ErrorCode.CHAT_INVALID_CURSOR, "before와 after 커서는 동시에 사용할 수 없습니다. before=" + before + ", after=" + after);
+    }
+
+    public ChatInvalidCursorException(Long after) {
+        super(ErrorCode.CHAT_INVALID_CURSOR, "유효하지 않은 동기화 커서입니다. after=" + after);
+    }
+
+    public ChatInvalidCursorException(String cursor) {
+        super(ErrorCode.CHAT_INVALID_CURSOR, "유효하지 않은 채팅방 목록 커서입니다. cursor=" + cursor);
+    }
+}
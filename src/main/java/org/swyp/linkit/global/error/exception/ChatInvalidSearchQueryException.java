@@ -0,0 +1,15 @@
+package org.swyp.linkit.global.error.exception;
+
+import org.swyp.linkit.global.error.ErrorCode;
+import org.swyp.linkit.global.error.exception.base.BusinessException;
+
+public class ChatInvalidSearchQueryException extends BusinessException {
+
+    public ChatInvalidSearchQueryException() {
+        super(ErrorCode.CHAT_INVALID_SEARCH_QUERY);
+    }
+
+    public ChatInvalidSearchQueryException(String query) {
+        super(ErrorCode.CHAT_INVALID_SEARCH_QUERY, "유효하지 않은 검색어입니다. query=" + query);
+    }
+}
@@ -0,0 +1,15 @@
+package org.swyp.linkit.global.error.exception;
+
+import org.swyp.linkit.global.error.ErrorCode;
+import org.swyp.linkit.global.error.exception.base.BusinessException;
+
+public class ChatRateLimitedException extends BusinessException {
+
+    public ChatRateLimitedException() {
+        super(ErrorCode.CHAT_RATE_LIMITED);
+    }
+
+    public ChatRateLimitedException(String category) {
+        super(ErrorCode.CHAT_RATE_LIMITED, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요. category=" + category);
+    }
+}
@@ -0,0 +1,15 @@
+package org.swyp.linkit.global.error.exception;
+
+import org.swyp.linkit.global.error.ErrorCode;
+import org.swyp.linkit.global.error.exception.base.BusinessException;
+
+public class ChatWriteBackPressureException extends BusinessException {
+
+    public ChatWriteBackPressureException() {
+        super(ErrorCode.CHAT_WRITE_BACK_PRESSURE);
+    }
+
+    public ChatWriteBackPressureException(int pendingCount) {
+        super(ErrorCode.CHAT_WRITE_BACK_PRESSURE, "메시지 저장 대기열이 가득 찼습니다. pending=" + pendingCount);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+import org.swyp.linkit.global.error.exception.ChatRateLimitedException;
 import org.swyp.linkit.global.error.exception.InvalidTokenException;
 import org.swyp.linkit.global.error.exception.UnauthorizedException;
 import org.swyp.linkit.global.error.exception.base.BusinessException;
@@ -21,6 +22,15 @@ public class StompErrorHandler extends StompSubProtocolErrorHandler {
     public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
         Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
 
+        // 속도 제한 초과는 정상 방어 동작이므로 에러 로그 없이 응답
+        // ERROR 프레임은 연결을 끊으므로 SEND/ENTER 초과만 여기로 옴 (READ/EVENT 초과는 인터셉터에서 버림)
+        if (cause instanceof ChatRateLimitedException rateLimitedException) {
+            return createErrorMessage(
+                    rateLimitedException.getErrorCode().getCode(),
+                    rateLimitedException.getMessage()
+            );
+        }
+
         log.error("STOMP 에러 발생: {}", cause.getMessage());
 
         // 인증 관련 예외 처리
@@ -59,4 +59,32 @@ public class ChatExceptionDocs {
             return ErrorCode.CHAT_SAME_USER;
         }
     }
+
+    public static class ChatInvalidCursorException implements SwaggerExampleExceptions {
+        @Override
+        public BaseErrorCode getErrorCode() {
+            return ErrorCode.CHAT_INVALID_CURSOR;
+        }
+    }
+
+    public static class ChatWriteBackPressureException implements SwaggerExampleExceptions {
+        @Override
+        public BaseErrorCode getErrorCode() {
+            return ErrorCode.CHAT_WRITE_BACK_PRESSURE;
+        }
+    }
+
+    public static class ChatInvalidSearchQueryException implements SwaggerExampleExceptions {
+        @Override
+        public BaseErrorCode getErrorCode() {
+            return ErrorCode.CHAT_INVALID_SEARCH_QUERY;
+        }
+    }
+
+    public static class ChatRateLimitedException implements SwaggerExampleExceptions {
+        @Override
+        public BaseErrorCode getErrorCode() {
+            return ErrorCode.CHAT_RATE_LIMITED;
+        }
+    }
 }
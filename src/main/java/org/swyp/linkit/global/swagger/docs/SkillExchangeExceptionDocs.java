@@ -30,6 +30,13 @@ public class SkillExchangeExceptionDocs {
             }
         }
 
+        public static class UserSkillNotFoundException implements SwaggerExampleExceptions {
+            @Override
+            public BaseErrorCode getErrorCode() {
+                return ErrorCode.USER_SKILL_NOT_FOUND;
+            }
+        }
+
         public static class ScheduleNotFoundException implements SwaggerExampleExceptions {
             @Override
             public BaseErrorCode getErrorCode() {
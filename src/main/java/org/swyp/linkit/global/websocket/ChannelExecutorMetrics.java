@@ -0,0 +1,115 @@
+package org.swyp.linkit.global.websocket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 채널 executor 지표
+ *
+ * - queueDepth: 제출되었지만 아직 실행되지 않은 작업 수
+ * - activeCount: 실행 중인 작업 수
+ * - 대기/실행 지연: 마지막 스냅샷 이후 구간의 평균, 최대값
+ */
+public class ChannelExecutorMetrics {
+
+    private final String channel;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // 스냅샷 구간 누적값
+    private final LongAdder intervalCompleted = new LongAdder();
+    private final LongAdder intervalWaitNanos = new LongAdder();
+    private final LongAdder intervalExecNanos = new LongAdder();
+    private final AtomicLong intervalMaxWaitNanos = new AtomicLong();
+    private final AtomicLong intervalMaxExecNanos = new AtomicLong();
+
+    public ChannelExecutorMetrics(String channel) {
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    void onSubmit() {
+        submitted.increment();
+        queueDepth.incrementAndGet();
+    }
+
+    void onRejected() {
+        queueDepth.decrementAndGet();
+        failed.increment();
+    }
+
+    void onStart(long waitNanos) {
+        queueDepth.decrementAndGet();
+        activeCount.incrementAndGet();
+        intervalWaitNanos.add(waitNanos);
+        intervalMaxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    void onComplete(long execNanos, boolean success) {
+        activeCount.decrementAndGet();
+        completed.increment();
+        if (!success) {
+            failed.increment();
+        }
+        intervalCompleted.increment();
+        intervalExecNanos.add(execNanos);
+        intervalMaxExecNanos.accumulateAndGet(execNanos, Math::max);
+    }
+
+    /**
+     * 현재 지표 스냅샷 (지연 통계는 조회 후 초기화)
+     */
+    public Snapshot snapshotAndReset() {
+        long count = intervalCompleted.sumThenReset();
+        long waitNanos = intervalWaitNanos.sumThenReset();
+        long execNanos = intervalExecNanos.sumThenReset();
+        long maxWait = intervalMaxWaitNanos.getAndSet(0);
+        long maxExec = intervalMaxExecNanos.getAndSet(0);
+
+        return new Snapshot(
+                channel,
+                queueDepth.get(),
+                activeCount.get(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                count,
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(waitNanos / count),
+                TimeUnit.NANOSECONDS.toMicros(maxWait),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(execNanos / count),
+                TimeUnit.NANOSECONDS.toMicros(maxExec)
+        );
+    }
+
+    public record Snapshot(
+            String channel,
+            int queueDepth,
+            int activeCount,
+            long submitted,
+            long completed,
+            long failed,
+            long intervalCompleted,
+            long avgWaitMicros,
+            long maxWaitMicros,
+            long avgExecMicros,
+            long maxExecMicros
+    ) {
+    }
+}
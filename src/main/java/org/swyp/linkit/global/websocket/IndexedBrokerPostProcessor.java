@@ -0,0 +1,26 @@
+package org.swyp.linkit.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * app.websocket.broker.mode=indexed 일 때 SimpleBroker의 SubscriptionRegistry를
+ * IndexedSubscriptionRegistry로 교체 (브로커 시작 전)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "indexed")
+public class IndexedBrokerPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SimpleBrokerMessageHandler handler) {
+            handler.setSubscriptionRegistry(new IndexedSubscriptionRegistry());
+            log.info("STOMP 브로커 모드: indexed (beanName={})", beanName);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,130 @@
+package org.swyp.linkit.global.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * destination -> 구독 세션 인덱스 기반 SubscriptionRegistry
+ *
+ * DefaultSubscriptionRegistry는 destination 캐시(기본 1024개)를 벗어나면 전체 구독을 순회하므로,
+ * 채팅방처럼 destination 수가 많은 경우 세션 수에 비례해 팬아웃 비용이 커집니다.
+ * 이 구현은 정확히 일치하는 destination을 해시 인덱스로 조회하고, destination별 구독 목록을
+ * 불변 스냅샷으로 유지해 메시지 발행 시 O(구독자 수)로 동작하며 추가 할당이 없습니다.
+ * - 와일드카드 패턴 구독(예: /topic/chat.room.*)은 별도 목록으로 관리해 패턴 구독이 있을 때만 매칭합니다.
+ * - selector 헤더는 지원하지 않습니다.
+ */
+public class IndexedSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final MultiValueMap<String, String> EMPTY = CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    // destination -> (sessionId -> subscriptionIds) 불변 스냅샷
+    private final Map<String, MultiValueMap<String, String>> destinationIndex = new ConcurrentHashMap<>();
+    // 패턴 destination -> (sessionId -> subscriptionIds) 불변 스냅샷
+    private final Map<String, MultiValueMap<String, String>> patternIndex = new ConcurrentHashMap<>();
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessionIndex = new HashMap<>();
+
+    @Override
+    protected synchronized void addSubscriptionInternal(String sessionId, String subscriptionId,
+                                                        String destination, Message<?> message) {
+        Map<String, String> subscriptions = sessionIndex.computeIfAbsent(sessionId, id -> new HashMap<>());
+        String previous = subscriptions.put(subscriptionId, destination);
+        if (previous != null) {
+            removeFromIndex(previous, sessionId, subscriptionId);
+        }
+        indexFor(destination).compute(destination, (d, current) -> {
+            LinkedMultiValueMap<String, String> copy = current != null
+                    ? new LinkedMultiValueMap<>(current.size() + 1) : new LinkedMultiValueMap<>(1);
+            if (current != null) {
+                current.forEach((s, ids) -> copy.put(s, List.copyOf(ids)));
+            }
+            copy.add(sessionId, subscriptionId);
+            return CollectionUtils.unmodifiableMultiValueMap(copy);
+        });
+    }
+
+    @Override
+    protected synchronized void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessionIndex.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionIndex.remove(sessionId);
+        }
+        if (destination != null) {
+            removeFromIndex(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @Override
+    public synchronized void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessionIndex.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, destination) -> removeFromIndex(destination, sessionId, subscriptionId));
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        MultiValueMap<String, String> exact = destinationIndex.getOrDefault(destination, EMPTY);
+        if (patternIndex.isEmpty()) {
+            return exact;
+        }
+
+        LinkedMultiValueMap<String, String> result = new LinkedMultiValueMap<>(exact);
+        patternIndex.forEach((pattern, subscribers) -> {
+            if (pathMatcher.match(pattern, destination)) {
+                subscribers.forEach((sessionId, ids) -> ids.forEach(id -> result.add(sessionId, id)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 구독 중인 destination 수 (패턴 제외)
+     */
+    public int getDestinationCount() {
+        return destinationIndex.size();
+    }
+
+    /**
+     * 구독 중인 세션 수
+     */
+    public synchronized int getSessionCount() {
+        return sessionIndex.size();
+    }
+
+    private void removeFromIndex(String destination, String sessionId, String subscriptionId) {
+        indexFor(destination).computeIfPresent(destination, (d, current) -> {
+            LinkedMultiValueMap<String, String> copy = new LinkedMultiValueMap<>(current.size());
+            current.forEach((s, ids) -> {
+                List<String> remaining = s.equals(sessionId)
+                        ? ids.stream().filter(id -> !id.equals(subscriptionId)).toList()
+                        : ids;
+                if (!remaining.isEmpty()) {
+                    copy.put(s, remaining);
+                }
+            });
+            return copy.isEmpty() ? null : CollectionUtils.unmodifiableMultiValueMap(copy);
+        });
+    }
+
+    private Map<String, MultiValueMap<String, String>> indexFor(String destination) {
+        return pathMatcher.isPattern(destination) ? patternIndex : destinationIndex;
+    }
+}
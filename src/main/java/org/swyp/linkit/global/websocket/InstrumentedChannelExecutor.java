@@ -0,0 +1,89 @@
+package org.swyp.linkit.global.websocket;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 작업의 대기/실행 시간을 ChannelExecutorMetrics에 기록하는 Executor 래퍼
+ *
+ * MessageHandlingRunnable은 같은 인터페이스로 감싸서 전달하므로
+ * SessionShardedExecutor처럼 메시지 헤더를 보고 배정하는 executor와도 함께 사용할 수 있습니다.
+ * (채널 executor 빈은 TaskExecutor 타입으로 주입되므로 TaskExecutor로 노출)
+ */
+public class InstrumentedChannelExecutor implements TaskExecutor {
+
+    private final Executor delegate;
+    private final ChannelExecutorMetrics metrics;
+
+    public InstrumentedChannelExecutor(Executor delegate, ChannelExecutorMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public Executor getDelegate() {
+        return delegate;
+    }
+
+    public ChannelExecutorMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        Runnable instrumented = task instanceof MessageHandlingRunnable runnable
+                ? new InstrumentedMessageHandlingRunnable(runnable, submittedAt)
+                : () -> runInstrumented(task, submittedAt);
+
+        metrics.onSubmit();
+        try {
+            delegate.execute(instrumented);
+        } catch (RejectedExecutionException e) {
+            metrics.onRejected();
+            throw e;
+        }
+    }
+
+    private void runInstrumented(Runnable task, long submittedAt) {
+        long startedAt = System.nanoTime();
+        metrics.onStart(startedAt - submittedAt);
+        boolean success = false;
+        try {
+            task.run();
+            success = true;
+        } finally {
+            metrics.onComplete(System.nanoTime() - startedAt, success);
+        }
+    }
+
+    private class InstrumentedMessageHandlingRunnable implements MessageHandlingRunnable {
+
+        private final MessageHandlingRunnable task;
+        private final long submittedAt;
+
+        private InstrumentedMessageHandlingRunnable(MessageHandlingRunnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public Message<?> getMessage() {
+            return task.getMessage();
+        }
+
+        @Override
+        public MessageHandler getMessageHandler() {
+            return task.getMessageHandler();
+        }
+
+        @Override
+        public void run() {
+            runInstrumented(task, submittedAt);
+        }
+    }
+}
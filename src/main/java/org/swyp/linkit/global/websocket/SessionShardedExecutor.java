@@ -0,0 +1,76 @@
+package org.swyp.linkit.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 ID 기준으로 작업을 샤드(단일 스레드)에 배정하는 Executor
+ *
+ * clientOutboundChannel에 사용하면 같은 세션으로 가는 프레임은 항상 같은 스레드에서 순서대로 처리되고,
+ * 서로 다른 세션은 샤드 수만큼 병렬로 전송됩니다. (세션별 전송 락 경합과 순서 역전을 함께 방지)
+ * WebSocketMessageBrokerStats가 채널 executor를 TaskExecutor로 주입받으므로 TaskExecutor로 구현합니다.
+ */
+@Slf4j
+public class SessionShardedExecutor implements TaskExecutor, DisposableBean {
+
+    private final ExecutorService[] shards;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public SessionShardedExecutor(String threadNamePrefix, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.shards = new ExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = Executors.newSingleThreadExecutor(namedThreadFactory(threadNamePrefix + i));
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        shards[shardOf(task)].execute(task);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            if (!shard.awaitTermination(5, TimeUnit.SECONDS)) {
+                shard.shutdownNow();
+            }
+        }
+    }
+
+    private int shardOf(Runnable task) {
+        if (task instanceof MessageHandlingRunnable runnable) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(runnable.getMessage().getHeaders());
+            if (sessionId != null) {
+                return Math.floorMod(sessionId.hashCode(), shards.length);
+            }
+        }
+        return Math.floorMod(roundRobin.getAndIncrement(), shards.length);
+    }
+
+    private static ThreadFactory namedThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package org.swyp.linkit.global.websocket;
+
+/**
+ * STOMP SEND 프레임 속도 제한 분류 (destination 기준)
+ *
+ * - READ: 읽음 처리 (/read)
+ * - ENTER: 채팅방 입장/퇴장/재연결 동기화 (/enter, /exit, /resync)
+ * - EVENT: 입력 중 등 실시간 이벤트 (/event)
+ * - SEND: 그 외 (메시지 전송 등)
+ * READ/EVENT는 뒤따르는 프레임이 앞선 프레임을 대신하므로 제한 초과 시 연결을 끊지 않고 버립니다.
+ */
+public enum StompFrameCategory {
+    SEND,
+    READ,
+    ENTER,
+    EVENT;
+
+    /**
+     * 제한 초과 시 ERROR 프레임(연결 종료) 대신 조용히 버리는 분류
+     */
+    public boolean isDroppable() {
+        return this == READ || this == EVENT;
+    }
+
+    public static StompFrameCategory of(String destination) {
+        if (destination == null) {
+            return SEND;
+        }
+        if (destination.endsWith("/read")) {
+            return READ;
+        }
+        if (destination.endsWith("/enter") || destination.endsWith("/exit") || destination.endsWith("/resync")) {
+            return ENTER;
+        }
+        if (destination.endsWith("/event")) {
+            return EVENT;
+        }
+        return SEND;
+    }
+}
@@ -0,0 +1,185 @@
+package org.swyp.linkit.global.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.swyp.linkit.global.error.exception.ChatRateLimitedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP SEND 프레임 속도 제한 (인증 인터셉터 다음에 실행)
+ *
+ * 연결(세션)별, 사용자별로 분류(SEND/READ/ENTER/EVENT)마다 토큰 버킷을 두고 둘 중 하나라도 비면 거부합니다.
+ * - 사용자 버킷은 세션 버킷의 user-multiplier배 (여러 탭/기기 동시 접속 허용)
+ * - 세션 버킷은 연결 종료 시, 사용자 버킷은 일정 시간 사용하지 않으면 정리
+ * - global.enabled=true면 로컬 제한을 통과한 요청을 Redis 분 단위 카운터로 한 번 더 확인 (전체 노드 합산, Redis 장애 시 허용)
+ * 거부 시 READ/EVENT 프레임은 조용히 버리고(null 반환), SEND/ENTER 프레임은 ChatRateLimitedException을 던져
+ * StompErrorHandler가 ERROR 프레임(CH010)으로 응답합니다. STOMP ERROR 프레임은 연결을 끊고 세션 버킷도 정리되므로,
+ * 빠른 입력 중/읽음 이벤트만으로 연결이 끊겨 재연결하면서 제한이 초기화되지 않도록 ERROR는 메시지 전송 남용에만 씁니다.
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final String GLOBAL_KEY_PREFIX = "ws:rate:";
+    private static final Duration GLOBAL_WINDOW = Duration.ofMinutes(1);
+    private static final Duration USER_BUCKET_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final boolean globalEnabled;
+    private final int userMultiplier;
+    private final int[] capacities = new int[StompFrameCategory.values().length];
+    private final double[] refillPerSeconds = new double[StompFrameCategory.values().length];
+    private final LongAdder[] rejected = new LongAdder[StompFrameCategory.values().length];
+
+    private final ConcurrentHashMap<String, TokenBucket[]> sessionBuckets = new ConcurrentHashMap<>();
+    private final Cache<String, TokenBucket[]> userBuckets;
+
+    public StompRateLimitInterceptor(StringRedisTemplate redisTemplate,
+                                     @Value("${app.websocket.rate-limit.enabled:true}") boolean enabled,
+                                     @Value("${app.websocket.rate-limit.user-multiplier:3}") int userMultiplier,
+                                     @Value("${app.websocket.rate-limit.send.capacity:20}") int sendCapacity,
+                                     @Value("${app.websocket.rate-limit.send.refill-per-second:5}") double sendRefill,
+                                     @Value("${app.websocket.rate-limit.read.capacity:30}") int readCapacity,
+                                     @Value("${app.websocket.rate-limit.read.refill-per-second:10}") double readRefill,
+                                     @Value("${app.websocket.rate-limit.enter.capacity:10}") int enterCapacity,
+                                     @Value("${app.websocket.rate-limit.enter.refill-per-second:2}") double enterRefill,
+                                     @Value("${app.websocket.rate-limit.event.capacity:50}") int eventCapacity,
+                                     @Value("${app.websocket.rate-limit.event.refill-per-second:20}") double eventRefill,
+                                     @Value("${app.websocket.rate-limit.global.enabled:false}") boolean globalEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.globalEnabled = globalEnabled;
+        this.userMultiplier = Math.max(userMultiplier, 1);
+        limit(StompFrameCategory.SEND, sendCapacity, sendRefill);
+        limit(StompFrameCategory.READ, readCapacity, readRefill);
+        limit(StompFrameCategory.ENTER, enterCapacity, enterRefill);
+        limit(StompFrameCategory.EVENT, eventCapacity, eventRefill);
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = new LongAdder();
+        }
+        this.userBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(USER_BUCKET_IDLE_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        StompFrameCategory category = StompFrameCategory.of(accessor.getDestination());
+        long now = System.nanoTime();
+
+        String sessionId = accessor.getSessionId();
+        if (sessionId != null && !acquire(sessionBucketsOf(sessionId, now), category, now)) {
+            return reject(category, "session", sessionId);
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            return message;
+        }
+        if (!acquire(userBuckets.get(user.getName(), id -> newBuckets(userMultiplier, now)), category, now)) {
+            return reject(category, "user", user.getName());
+        }
+        if (globalEnabled && !acquireGlobal(user.getName(), category)) {
+            return reject(category, "global", user.getName());
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    public long getRejectedCount(StompFrameCategory category) {
+        return rejected[category.ordinal()].sum();
+    }
+
+    public int getSessionCount() {
+        return sessionBuckets.size();
+    }
+
+    private TokenBucket[] sessionBucketsOf(String sessionId, long now) {
+        // 이미 있는 세션은 bin 잠금 없이 조회
+        TokenBucket[] buckets = sessionBuckets.get(sessionId);
+        return buckets != null ? buckets : sessionBuckets.computeIfAbsent(sessionId, id -> newBuckets(1, now));
+    }
+
+    private boolean acquire(TokenBucket[] buckets, StompFrameCategory category, long now) {
+        return buckets[category.ordinal()].tryAcquire(now);
+    }
+
+    /**
+     * 전체 노드 합산 사용자 제한 (분 단위 고정 구간 카운터, 허용량 = 사용자 버킷 용량 + 1분 충전량)
+     */
+    private boolean acquireGlobal(String userName, StompFrameCategory category) {
+        int index = category.ordinal();
+        long limit = (long) ((capacities[index] + refillPerSeconds[index] * GLOBAL_WINDOW.toSeconds()) * userMultiplier);
+        long window = System.currentTimeMillis() / GLOBAL_WINDOW.toMillis();
+        byte[] key = (GLOBAL_KEY_PREFIX + category.name().toLowerCase() + ":" + userName + ":" + window)
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().incr(key);
+                connection.keyCommands().expire(key, GLOBAL_WINDOW.multipliedBy(2).toSeconds());
+                return null;
+            });
+            return !(results.get(0) instanceof Long count) || count <= limit;
+        } catch (RuntimeException e) {
+            log.warn("STOMP 전체 속도 제한 확인 실패 (허용): user={}, category={}", userName, category, e);
+            return true;
+        }
+    }
+
+    /**
+     * 제한 초과 처리 (버릴 수 있는 분류는 null을 반환해 프레임만 버리고 연결은 유지)
+     */
+    private Message<?> reject(StompFrameCategory category, String scope, String key) {
+        rejected[category.ordinal()].increment();
+        log.debug("STOMP 속도 제한 초과: scope={}, key={}, category={}", scope, key, category);
+        if (category.isDroppable()) {
+            return null;
+        }
+        throw new ChatRateLimitedException(category.name());
+    }
+
+    private TokenBucket[] newBuckets(int multiplier, long now) {
+        TokenBucket[] buckets = new TokenBucket[capacities.length];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new TokenBucket(capacities[i] * multiplier, refillPerSeconds[i] * multiplier, now);
+        }
+        return buckets;
+    }
+
+    private void limit(StompFrameCategory category, int capacity, double refillPerSecond) {
+        capacities[category.ordinal()] = capacity;
+        refillPerSeconds[category.ordinal()] = refillPerSecond;
+    }
+}
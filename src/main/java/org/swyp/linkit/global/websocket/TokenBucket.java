@@ -0,0 +1,44 @@
+package org.swyp.linkit.global.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA 방식)
+ *
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 예정 시각" 하나만 AtomicLong으로 두고 CAS로 갱신합니다.
+ * - 요청마다 예정 시각을 토큰 1개 충전 시간만큼 미루고, 현재 시각보다 용량(capacity)만큼 이상 앞서면 거부
+ * - 처음에는 가득 찬 상태(capacity개 연속 허용)에서 시작
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "토큰 버킷 용량/충전 속도는 0보다 커야 합니다: capacity=" + capacity + ", refill=" + refillPerSecond);
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     * @return 허용되면 true
+     */
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            if (next - nowNanos > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+}
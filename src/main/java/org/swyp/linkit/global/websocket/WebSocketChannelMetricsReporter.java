@@ -0,0 +1,64 @@
+package org.swyp.linkit.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * STOMP 채널 executor 지표 리포터
+ *
+ * 주기적으로 채널별 큐 깊이, 실행 중 작업 수, 대기/실행 지연을 로그로 남기고
+ * 큐 깊이나 대기 지연이 임계값을 넘으면 클라이언트 타임아웃 전에 포화 경고를 남깁니다.
+ */
+@Slf4j
+@Component
+public class WebSocketChannelMetricsReporter {
+
+    private final List<ChannelExecutorMetrics> channels = new CopyOnWriteArrayList<>();
+    private final int saturationQueueDepth;
+    private final long saturationWaitMillis;
+
+    public WebSocketChannelMetricsReporter(
+            @Value("${app.websocket.metrics.saturation-queue-depth:1000}") int saturationQueueDepth,
+            @Value("${app.websocket.metrics.saturation-wait-ms:500}") long saturationWaitMillis) {
+        this.saturationQueueDepth = saturationQueueDepth;
+        this.saturationWaitMillis = saturationWaitMillis;
+    }
+
+    public ChannelExecutorMetrics register(String channel) {
+        ChannelExecutorMetrics metrics = new ChannelExecutorMetrics(channel);
+        channels.add(metrics);
+        return metrics;
+    }
+
+    public List<ChannelExecutorMetrics> getChannels() {
+        return List.copyOf(channels);
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.metrics.report-interval-ms:60000}",
+            initialDelayString = "${app.websocket.metrics.report-interval-ms:60000}")
+    public void report() {
+        for (ChannelExecutorMetrics metrics : channels) {
+            ChannelExecutorMetrics.Snapshot s = metrics.snapshotAndReset();
+
+            if (isSaturated(s)) {
+                log.warn("STOMP 채널 포화: channel={}, queueDepth={}, active={}, avgWait={}us, maxWait={}us, avgExec={}us",
+                        s.channel(), s.queueDepth(), s.activeCount(), s.avgWaitMicros(), s.maxWaitMicros(), s.avgExecMicros());
+            } else {
+                log.info("STOMP 채널 지표: channel={}, queueDepth={}, active={}, completed={}, failed={}, " +
+                                "avgWait={}us, maxWait={}us, avgExec={}us, maxExec={}us",
+                        s.channel(), s.queueDepth(), s.activeCount(), s.intervalCompleted(), s.failed(),
+                        s.avgWaitMicros(), s.maxWaitMicros(), s.avgExecMicros(), s.maxExecMicros());
+            }
+        }
+    }
+
+    boolean isSaturated(ChannelExecutorMetrics.Snapshot snapshot) {
+        return snapshot.queueDepth() >= saturationQueueDepth
+                || snapshot.maxWaitMicros() >= saturationWaitMillis * 1_000;
+    }
+}
@@ -0,0 +1,86 @@
+package org.swyp.linkit.domain.chat.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ChatParticipantCache 테스트")
+class ChatParticipantCacheTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    private final StringRedisTemplate redisTemplate = Mockito.mock(StringRedisTemplate.class);
+
+    private ChatParticipantCache cache;
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        roomId = em.persist(ChatRoom.create(1L, 2L)).getId();
+        em.flush();
+        em.clear();
+        cache = new ChatParticipantCache(chatRoomRepository, redisTemplate, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("첫 조회만 DB에서 적재하고 이후 참여자 검증은 캐시에서 처리한다")
+    public void isParticipant_cachesParticipants() {
+        //when
+        boolean mentor = cache.isParticipant(roomId, 1L);
+        boolean mentee = cache.isParticipant(roomId, 2L);
+        boolean stranger = cache.isParticipant(roomId, 3L);
+
+        //then
+        assertThat(mentor).isTrue();
+        assertThat(mentee).isTrue();
+        assertThat(stranger).isFalse();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채팅방은 캐싱하지 않는다")
+    public void isParticipant_unknownRoomNotCached() {
+        //when
+        boolean result = cache.isParticipant(roomId + 100, 1L);
+
+        //then
+        assertThat(result).isFalse();
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시를 비우고 다른 인스턴스에 무효화 메시지를 발행한다")
+    public void invalidate_evictsAndPublishes() {
+        //given
+        cache.isParticipant(roomId, 1L);
+
+        //when
+        cache.invalidate(roomId);
+        cache.isParticipant(roomId, 1L);
+
+        //then
+        verify(redisTemplate).convertAndSend(ChatParticipantCache.INVALIDATION_CHANNEL, String.valueOf(roomId));
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+}
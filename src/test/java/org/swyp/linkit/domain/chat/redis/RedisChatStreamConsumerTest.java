@@ -0,0 +1,154 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.redis.codec.ChatPayloadCodecs;
+import org.swyp.linkit.domain.chat.service.ChatPresenceService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisChatStreamConsumer 단위 테스트")
+class RedisChatStreamConsumerTest {
+
+    private static final String GROUP = "chat-node:node-1";
+    private static final byte[] PAYLOAD_FIELD = ChatRedisStreamResolver.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock RedisConnection connection;
+    @Mock RedisStreamCommands streamCommands;
+    @Mock RedisChatSubscriber subscriber;
+    @Mock ChatPresenceService chatPresenceService;
+
+    private final ChatRedisStreamResolver streamResolver = new ChatRedisStreamResolver("stream", 2, 10000);
+    private final ChatPayloadCodecs codecs = new ChatPayloadCodecs(new ObjectMapper(), "json");
+    private final Queue<List<ByteRecord>> batches = new LinkedList<>();
+    private final List<ReadOffset> readOffsets = new ArrayList<>();
+
+    private RedisChatStreamConsumer streamConsumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        when(chatPresenceService.getNodeId()).thenReturn("node-1");
+        streamConsumer = new RedisChatStreamConsumer(redisTemplate, streamResolver, codecs, subscriber,
+                chatPresenceService, 100, Duration.ofMillis(10), Duration.ofHours(1));
+
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        when(streamCommands.xReadGroup(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class)))
+                .thenAnswer(invocation -> {
+                    readOffsets.add(((StreamOffset<?>) invocation.getArgument(2)).getOffset());
+                    List<ByteRecord> batch = batches.poll();
+                    return batch != null ? batch : List.of();
+                });
+    }
+
+    @Test
+    @DisplayName("PEL부터 읽고 배치를 모두 브로드캐스트한 뒤 Stream별로 한 번씩 XACK 한다")
+    @SuppressWarnings("unchecked")
+    public void pollOnce_broadcastsBatchAndAcksPerStream() {
+        //given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        batches.add(List.of(
+                record("chat:stream:0", "1-0", payload(2L, 100L)),
+                record("chat:stream:1", "1-0", payload(1L, 101L)),
+                record("chat:stream:0", "2-0", payload(4L, 102L))));
+
+        //when
+        int first = streamConsumer.pollOnce();   // 기동 직후 PEL(0)부터
+        int second = streamConsumer.pollOnce();  // PEL 비었음 -> 이후부터 새 메시지(>)
+        streamConsumer.pollOnce();
+
+        //then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isZero();
+        assertThat(readOffsets).containsExactly(ReadOffset.from("0"), ReadOffset.from("0"), ReadOffset.lastConsumed());
+
+        ArgumentCaptor<ChatPayloadResponseDto> broadcasted = ArgumentCaptor.forClass(ChatPayloadResponseDto.class);
+        verify(subscriber, times(3)).broadcast(broadcasted.capture());
+        assertThat(broadcasted.getAllValues()).extracting(ChatPayloadResponseDto::getMessageId)
+                .containsExactly(100L, 101L, 102L);
+
+        ArgumentCaptor<RecordId> stream0Ids = ArgumentCaptor.forClass(RecordId.class);
+        verify(streamCommands).xAck(eq("chat:stream:0".getBytes(StandardCharsets.UTF_8)), eq(GROUP),
+                stream0Ids.capture(), stream0Ids.capture());
+        assertThat(stream0Ids.getAllValues()).containsExactly(RecordId.of("1-0"), RecordId.of("2-0"));
+        verify(streamCommands).xAck(eq("chat:stream:1".getBytes(StandardCharsets.UTF_8)), eq(GROUP),
+                eq(RecordId.of("1-0")));
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 메시지도 ack 하여 반복 수신하지 않는다")
+    @SuppressWarnings("unchecked")
+    public void pollOnce_acksPoisonMessage() {
+        //given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        batches.add(List.of(record("chat:stream:0", "1-0", new byte[]{(byte) 0xFF})));
+
+        //when
+        int processed = streamConsumer.pollOnce();
+
+        //then
+        assertThat(processed).isEqualTo(1);
+        verify(subscriber, times(0)).broadcast(any());
+        verify(streamCommands).xAck(eq("chat:stream:0".getBytes(StandardCharsets.UTF_8)), eq(GROUP),
+                eq(RecordId.of("1-0")));
+    }
+
+    private byte[] payload(Long roomId, Long messageId) {
+        return codecs.encode(ChatPayloadResponseDto.builder()
+                .roomId(roomId)
+                .messageId(messageId)
+                .senderId(10L)
+                .senderRole("MENTOR")
+                .text("hello")
+                .sentAtEpochMs(1_705_651_200_000L)
+                .build());
+    }
+
+    private ByteRecord record(String stream, String id, byte[] body) {
+        return StreamRecords.newRecord()
+                .in(stream.getBytes(StandardCharsets.UTF_8))
+                .withId(id)
+                .ofBytes(Map.of(PAYLOAD_FIELD, body));
+    }
+}
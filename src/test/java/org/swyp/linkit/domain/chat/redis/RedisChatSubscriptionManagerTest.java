@@ -0,0 +1,197 @@
+package org.swyp.linkit.domain.chat.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisChatSubscriptionManager 단위 테스트")
+class RedisChatSubscriptionManagerTest {
+
+    @Mock
+    ObjectProvider<RedisMessageListenerContainer> containerProvider;
+
+    @Mock
+    ObjectProvider<RedisChatSubscriber> subscriberProvider;
+
+    @Mock
+    RedisMessageListenerContainer container;
+
+    @Mock
+    RedisChatSubscriber subscriber;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(containerProvider.getIfAvailable()).thenReturn(container);
+        lenient().when(subscriberProvider.getObject()).thenReturn(subscriber);
+    }
+
+    @Nested
+    @DisplayName("채팅방 채널 모드")
+    class RoomMode {
+
+        private RedisChatSubscriptionManager manager;
+
+        @BeforeEach
+        void setup() {
+            manager = new RedisChatSubscriptionManager(containerProvider, subscriberProvider,
+                    new ChatRedisChannelResolver("room", 64), new ChatRedisStreamResolver("pubsub", 16, 10000));
+        }
+
+        @Test
+        @DisplayName("첫 로컬 구독에서만 채널을 구독하고 마지막 구독 해제 시 채널 구독을 해제한다")
+        public void subscribe_refCounted() {
+            //when
+            manager.subscribe("s1", "sub-1", 10L);
+            manager.subscribe("s2", "sub-1", 10L);
+
+            //then
+            verify(container, times(1)).addMessageListener(subscriber, new ChannelTopic("chat:room:10"));
+            assertThat(manager.hasLocalSubscribers(10L)).isTrue();
+
+            //when
+            manager.unsubscribe("s1", "sub-1");
+
+            //then
+            verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+            //when
+            manager.removeSession("s2");
+            manager.removeSession("s2"); // DISCONNECT 중복 발생
+
+            //then
+            verify(container, times(1)).removeMessageListener(subscriber, new ChannelTopic("chat:room:10"));
+            assertThat(manager.hasLocalSubscribers(10L)).isFalse();
+            assertThat(manager.getSubscribedChannelCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 구독/해제해도 채널 구독 상태는 최종 구독 수와 일치한다")
+        public void subscribe_concurrent() throws Exception {
+            //given
+            AtomicInteger listeners = new AtomicInteger();
+            doAnswer(invocation -> listeners.incrementAndGet())
+                    .when(container).addMessageListener(any(), any(ChannelTopic.class));
+            doAnswer(invocation -> listeners.decrementAndGet())
+                    .when(container).removeMessageListener(any(), any(ChannelTopic.class));
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+
+            //when: 각 스레드가 같은 채팅방을 반복해서 구독/해제하고, 마지막 한 세션만 구독을 유지
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String sessionId = "s" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        manager.subscribe(sessionId, "sub-" + i, 10L);
+                        manager.unsubscribe(sessionId, "sub-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            manager.subscribe("last", "sub-1", 10L);
+
+            //then
+            assertThat(manager.hasLocalSubscribers(10L)).isTrue();
+            assertThat(listeners.get()).isEqualTo(1);
+
+            //when
+            manager.removeSession("last");
+
+            //then
+            assertThat(manager.hasLocalSubscribers(10L)).isFalse();
+            assertThat(listeners.get()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("샤드 채널 모드")
+    class ShardMode {
+
+        private RedisChatSubscriptionManager manager;
+
+        @BeforeEach
+        void setup() {
+            manager = new RedisChatSubscriptionManager(containerProvider, subscriberProvider,
+                    new ChatRedisChannelResolver("shard", 4), new ChatRedisStreamResolver("pubsub", 16, 10000));
+        }
+
+        @Test
+        @DisplayName("같은 샤드의 채팅방은 채널 하나를 공유한다")
+        public void subscribe_sharedShardChannel() {
+            //when: 1과 5는 같은 샤드 (shard-count=4)
+            manager.subscribe("s1", "sub-1", 1L);
+            manager.subscribe("s1", "sub-2", 5L);
+            manager.unsubscribe("s1", "sub-1");
+
+            //then
+            verify(container, times(1)).addMessageListener(subscriber, new ChannelTopic("chat:room:shard:1"));
+            verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+            assertThat(manager.hasLocalSubscribers(1L)).isFalse();
+            assertThat(manager.hasLocalSubscribers(5L)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream 전송 모드")
+    class StreamMode {
+
+        private RedisChatSubscriptionManager manager;
+
+        @BeforeEach
+        void setup() {
+            manager = new RedisChatSubscriptionManager(containerProvider, subscriberProvider,
+                    new ChatRedisChannelResolver("room", 64), new ChatRedisStreamResolver("stream", 16, 10000));
+        }
+
+        @Test
+        @DisplayName("채널은 구독하지 않고 로컬 구독 수만 관리한다")
+        public void subscribe_noChannelSubscription() {
+            //when
+            manager.subscribe("s1", "sub-1", 10L);
+
+            //then
+            verify(container, never()).addMessageListener(any(), any(ChannelTopic.class));
+            assertThat(manager.hasLocalSubscribers(10L)).isTrue();
+            assertThat(manager.getSubscribedChannelCount()).isZero();
+
+            //when
+            manager.removeSession("s1");
+
+            //then
+            verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+            assertThat(manager.hasLocalSubscribers(10L)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.swyp.linkit.domain.chat.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.global.error.exception.JsonSerializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChatPayloadCodecs 테스트")
+class ChatPayloadCodecsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("바이너리 코덱은 메시지 페이로드를 그대로 복원하고 JSON보다 작다")
+    public void binary_roundTrip() {
+        //given
+        ChatPayloadCodecs binary = new ChatPayloadCodecs(objectMapper, "binary");
+        ChatPayloadCodecs json = new ChatPayloadCodecs(objectMapper, "json");
+        ChatPayloadResponseDto payload = ChatPayloadResponseDto.builder()
+                .roomId(1L)
+                .messageId(5_123_456_789_012L)
+                .senderId(10L)
+                .senderRole("MENTEE")
+                .text("안녕하세요 😀")
+                .sentAtEpochMs(1_767_225_600_000L)
+                .build();
+
+        //when
+        byte[] encoded = binary.encode(payload);
+        ChatPayloadResponseDto decoded = binary.decode(encoded);
+
+        //then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(payload);
+        assertThat(encoded.length).isLessThan(json.encode(payload).length / 2);
+    }
+
+    @Test
+    @DisplayName("읽음 이벤트(system)도 바이너리로 복원된다")
+    public void binary_readEvent() {
+        //given
+        ChatPayloadCodecs binary = new ChatPayloadCodecs(objectMapper, "binary");
+        ChatPayloadResponseDto payload = ChatPayloadResponseDto.builder()
+                .roomId(3L)
+                .readerId(20L)
+                .readUpToMessageId(99L)
+                .system(true)
+                .build();
+
+        //when
+        ChatPayloadResponseDto decoded = binary.decode(binary.encode(payload));
+
+        //then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("수신 측은 설정과 관계없이 첫 바이트로 형식을 판별한다 (롤링 배포 호환)")
+    public void decode_detectsFormat() {
+        //given
+        ChatPayloadCodecs jsonPublisher = new ChatPayloadCodecs(objectMapper, "json");
+        ChatPayloadCodecs binarySubscriber = new ChatPayloadCodecs(objectMapper, "binary");
+        ChatPayloadResponseDto payload = ChatPayloadResponseDto.builder().roomId(7L).text("hi").build();
+
+        //when
+        ChatPayloadResponseDto decoded = binarySubscriber.decode(jsonPublisher.encode(payload));
+
+        //then
+        assertThat(decoded.getRoomId()).isEqualTo(7L);
+        assertThat(decoded.getText()).isEqualTo("hi");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식은 예외")
+    public void decode_unknownFormat() {
+        ChatPayloadCodecs codecs = new ChatPayloadCodecs(objectMapper, "json");
+
+        assertThatThrownBy(() -> codecs.decode(new byte[]{0x01, 0x02}))
+                .isInstanceOf(JsonSerializationException.class);
+    }
+}
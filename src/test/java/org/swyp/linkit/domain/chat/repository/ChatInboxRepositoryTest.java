@@ -0,0 +1,176 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.swyp.linkit.domain.chat.dto.ChatInboxRowDto;
+import org.swyp.linkit.domain.chat.entity.ChatInbox;
+import org.swyp.linkit.domain.chat.entity.ChatInboxId;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.user.entity.OAuthProvider;
+import org.swyp.linkit.domain.user.entity.User;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ChatInboxRepository 단위 테스트")
+class ChatInboxRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ChatInboxRepository chatInboxRepository;
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final List<Long> roomIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        // USER_ID가 멘토인 채팅방 5개 (상대방 10~14)
+        for (int i = 0; i < 5; i++) {
+            ChatRoom room = em.persist(ChatRoom.create(USER_ID, 10L + i));
+            em.persist(ChatInbox.create(room, USER_ID, 10L + i));
+            em.persist(ChatInbox.create(room, 10L + i, USER_ID));
+            roomIds.add(room.getId());
+        }
+        em.flush();
+        em.clear();
+
+        // 채팅방 i에 i분 시점 메시지 → 최신순: 4, 3, 2, 1, 0
+        for (int i = 0; i < 5; i++) {
+            chatInboxRepository.applyNewMessage(roomIds.get(i), 100L + i, "message" + i,
+                    BASE.plusMinutes(i), 0, 1, LocalDateTime.now());
+        }
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("(sortAt, roomId) 커서로 최신순 페이지를 이어서 조회")
+    public void findVisibleByUserId_keysetPagination() {
+        //when
+        List<ChatInboxRowDto> first = chatInboxRepository.findVisibleByUserId(USER_ID, Limit.of(2));
+        ChatInbox last = first.get(first.size() - 1).getInbox();
+        List<ChatInboxRowDto> second = chatInboxRepository.findVisibleByUserIdBefore(
+                USER_ID, last.getSortAt(), last.getId().getChatRoomId(), Limit.of(2));
+
+        //then
+        assertThat(first).extracting(row -> row.getInbox().getId().getChatRoomId())
+                .containsExactly(roomIds.get(4), roomIds.get(3));
+        assertThat(second).extracting(row -> row.getInbox().getId().getChatRoomId())
+                .containsExactly(roomIds.get(2), roomIds.get(1));
+    }
+
+    @Test
+    @DisplayName("정렬 시간이 같으면 채팅방 ID 내림차순으로 누락 없이 조회")
+    public void findVisibleByUserIdBefore_tieBreaksByRoomId() {
+        //given: 두 채팅방의 마지막 메시지 시간이 동일
+        chatInboxRepository.applyNewMessage(roomIds.get(0), 200L, "same", BASE.plusHours(1), 0, 0, LocalDateTime.now());
+        chatInboxRepository.applyNewMessage(roomIds.get(1), 201L, "same", BASE.plusHours(1), 0, 0, LocalDateTime.now());
+        em.clear();
+
+        //when
+        List<ChatInboxRowDto> first = chatInboxRepository.findVisibleByUserId(USER_ID, Limit.of(1));
+        ChatInbox last = first.get(0).getInbox();
+        List<ChatInboxRowDto> second = chatInboxRepository.findVisibleByUserIdBefore(
+                USER_ID, last.getSortAt(), last.getId().getChatRoomId(), Limit.of(1));
+
+        //then
+        assertThat(first.get(0).getInbox().getId().getChatRoomId()).isEqualTo(roomIds.get(1));
+        assertThat(second.get(0).getInbox().getId().getChatRoomId()).isEqualTo(roomIds.get(0));
+    }
+
+    @Test
+    @DisplayName("새 메시지는 수신자의 읽지 않은 수만 증가시키고, 이전 메시지 ID로는 마지막 메시지가 되돌아가지 않는다")
+    public void applyNewMessage() {
+        //given
+        Long roomId = roomIds.get(0);
+
+        //when: 멘토(USER_ID)가 보낸 메시지 → 멘티 증가, 늦게 도착한 이전 메시지는 무시
+        chatInboxRepository.applyNewMessage(roomId, 300L, "latest", BASE.plusDays(1), 0, 1, LocalDateTime.now());
+        chatInboxRepository.applyNewMessage(roomId, 250L, "stale", BASE.plusDays(2), 0, 1, LocalDateTime.now());
+        em.clear();
+
+        //then
+        ChatInbox mentor = chatInboxRepository.findById(new ChatInboxId(USER_ID, roomId)).orElseThrow();
+        ChatInbox mentee = chatInboxRepository.findById(new ChatInboxId(10L, roomId)).orElseThrow();
+        assertThat(mentor.getUnreadCount()).isZero();
+        assertThat(mentee.getUnreadCount()).isEqualTo(3);
+        assertThat(mentee.getLastMessageId()).isEqualTo(300L);
+        assertThat(mentee.getLastMessagePreview()).isEqualTo("latest");
+        assertThat(mentee.getSortAt()).isEqualTo(BASE.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("숨긴 채팅방은 목록에서 제외되고 상대방 목록에는 남는다")
+    public void hideAll() {
+        //when
+        chatInboxRepository.hideAll(List.of(roomIds.get(4)), USER_ID, LocalDateTime.now());
+        em.clear();
+
+        //then
+        assertThat(chatInboxRepository.findVisibleByUserId(USER_ID, Limit.of(10)))
+                .extracting(row -> row.getInbox().getId().getChatRoomId())
+                .containsExactly(roomIds.get(3), roomIds.get(2), roomIds.get(1), roomIds.get(0));
+        assertThat(chatInboxRepository.findVisibleByUserId(14L, Limit.of(10))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("상대방 닉네임/프로필 이미지는 조회 시점의 사용자 정보로 채워진다")
+    public void findVisibleByUserId_readsCurrentPartnerProfile() {
+        //given: 실제 사용자와의 채팅방 생성 후 상대방 닉네임 변경
+        User partner = em.persist(User.create(OAuthProvider.KAKAO, "oauth-1", "partner@test.com",
+                "partner", "old.png", "oldNickname"));
+        ChatRoom room = em.persist(ChatRoom.create(USER_ID, partner.getId()));
+        em.persist(ChatInbox.create(room, USER_ID, partner.getId()));
+        em.flush();
+        chatInboxRepository.applyNewMessage(room.getId(), 500L, "hello", BASE.plusDays(1), 0, 1, LocalDateTime.now());
+        em.getEntityManager()
+                .createNativeQuery("UPDATE users SET nickname = 'newNickname', profile_image_url = 'new.png' WHERE user_id = :id")
+                .setParameter("id", partner.getId())
+                .executeUpdate();
+        em.clear();
+
+        //when
+        ChatInboxRowDto row = chatInboxRepository.findVisibleByUserId(USER_ID, Limit.of(1)).get(0);
+
+        //then
+        assertThat(row.getInbox().getId().getChatRoomId()).isEqualTo(room.getId());
+        assertThat(row.getPartnerNickname()).isEqualTo("newNickname");
+        assertThat(row.getPartnerProfileImageUrl()).isEqualTo("new.png");
+    }
+
+    @Test
+    @DisplayName("목록 행이 없는 기존 채팅방만 이관된다")
+    public void backfill() {
+        //given: 목록 행 없이 생성된 채팅방
+        ChatRoom legacy = em.persist(ChatRoom.create(USER_ID, 99L));
+        em.flush();
+        em.clear();
+
+        //when
+        int created = chatInboxRepository.backfillMentorRows() + chatInboxRepository.backfillMenteeRows();
+        em.clear();
+
+        //then
+        assertThat(created).isEqualTo(2);
+        ChatInbox mentor = chatInboxRepository.findById(new ChatInboxId(USER_ID, legacy.getId())).orElseThrow();
+        assertThat(mentor.isMentor()).isTrue();
+        assertThat(mentor.getPartnerId()).isEqualTo(99L);
+        assertThat(mentor.isHidden()).isFalse();
+        assertThat(chatInboxRepository.backfillMentorRows() + chatInboxRepository.backfillMenteeRows()).isZero();
+    }
+}
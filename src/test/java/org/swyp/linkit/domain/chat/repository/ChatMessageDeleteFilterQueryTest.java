@@ -0,0 +1,137 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제 이력이 늘어나도 메시지 페이지 조회가 SQL 한 번(NOT EXISTS 필터)으로 끝나는지 확인
+ * (기존 방식은 사용자의 전체 삭제 ID를 메모리로 가져와 List.contains로 필터링)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.swyp.linkit.domain.chat.repository.ChatMessageDeleteFilterQueryTest$SqlCapture")
+@Import(JpaAuditingConfig.class)
+@DisplayName("메시지 삭제 필터링 쿼리 테스트")
+class ChatMessageDeleteFilterQueryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int PAGE_SIZE = 30;
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    private Long roomId;
+    private Long otherRoomId;
+
+    @BeforeEach
+    void setup() {
+        ChatRoom room = em.persist(ChatRoom.create(USER_ID, 2L));
+        ChatRoom otherRoom = em.persist(ChatRoom.create(USER_ID, 3L));
+        em.flush();
+        em.clear();
+        roomId = room.getId();
+        otherRoomId = otherRoom.getId();
+
+        insertMessages(roomId, 500);
+    }
+
+    @Test
+    @DisplayName("삭제 이력이 100건에서 5000건으로 늘어도 페이지 조회는 NOT EXISTS 쿼리 한 번이다")
+    public void singleNotExistsQueryRegardlessOfDeletionCount() {
+        // given: 다른 채팅방 메시지 100건 삭제 + 현재 채팅방 메시지 일부 삭제
+        insertDeletions(insertMessages(otherRoomId, 100));
+        List<Long> roomMessageIds = jdbcTemplate.queryForList(
+                "SELECT chat_message_id FROM chat_message WHERE chat_room_id = ? ORDER BY chat_message_id DESC",
+                Long.class, roomId);
+        insertDeletions(roomMessageIds.subList(0, 10));
+
+        List<String> smallStatements = capturePages();
+
+        // when: 다른 채팅방의 삭제 이력이 5000건 이상으로 증가
+        insertDeletions(insertMessages(otherRoomId, 5000));
+
+        List<String> largeStatements = capturePages();
+
+        // then: 페이지당 SQL 한 번, 삭제 이력은 같은 쿼리의 NOT EXISTS 서브쿼리로만 조회
+        assertThat(smallStatements).hasSize(2)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase()).contains("not exists").contains("chat_message_delete"));
+        assertThat(largeStatements).isEqualTo(smallStatements);
+
+        // then: 삭제된 메시지는 제외되고 페이지는 가득 채워진다
+        List<ChatMessage> page = chatMessageRepository.findVisibleLatestByChatRoomId(roomId, USER_ID, Limit.of(PAGE_SIZE));
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page.get(0).getId()).isEqualTo(roomMessageIds.get(10));
+    }
+
+    // 최신 페이지 + 이전 페이지 조회 중 실행된 SQL
+    private List<String> capturePages() {
+        em.clear();
+        SqlCapture.STATEMENTS.clear();
+        List<ChatMessage> latest = chatMessageRepository.findVisibleLatestByChatRoomId(roomId, USER_ID, Limit.of(PAGE_SIZE));
+        Long cursor = latest.get(latest.size() - 1).getId();
+        chatMessageRepository.findVisibleByChatRoomIdAndIdLessThan(roomId, USER_ID, cursor, Limit.of(PAGE_SIZE));
+        return List.copyOf(SqlCapture.STATEMENTS);
+    }
+
+    private List<Long> insertMessages(Long chatRoomId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{chatRoomId, USER_ID, "MENTOR", "message" + i, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO chat_message (chat_room_id, sender_id, sender_role, content, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+                "SELECT chat_message_id FROM chat_message WHERE chat_room_id = ? ORDER BY chat_message_id DESC LIMIT ?",
+                Long.class, chatRoomId, count);
+    }
+
+    private void insertDeletions(List<Long> messageIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = messageIds.stream()
+                .map(id -> new Object[]{id, USER_ID, now, now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO chat_message_delete (chat_message_id, user_id, deleted_at, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록 (JdbcTemplate 직접 실행분은 제외)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.entity.ChatMessageDelete;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ChatMessageRepository 단위 테스트")
+class ChatMessageRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    private static final Long USER_ID = 1L;
+
+    private ChatRoom room;
+    private final List<Long> messageIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        room = ChatRoom.create(1L, 2L);
+        ChatRoom otherRoom = ChatRoom.create(3L, 4L);
+        em.persist(room);
+        em.persist(otherRoom);
+
+        // 두 채팅방의 메시지를 섞어서 저장
+        for (int i = 0; i < 10; i++) {
+            ChatMessage message = em.persist(ChatMessage.create(room, 1L, SenderRole.MENTOR, "message" + i));
+            messageIds.add(message.getId());
+            em.persist(ChatMessage.create(otherRoom, 3L, SenderRole.MENTOR, "other" + i));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("커서 없이 최신 메시지를 limit 만큼 최신순으로 조회")
+    public void findVisibleLatestByChatRoomId() {
+        //when
+        List<ChatMessage> sut = chatMessageRepository.findVisibleLatestByChatRoomId(room.getId(), USER_ID, Limit.of(3));
+
+        //then
+        assertThat(sut).extracting(ChatMessage::getId)
+                .containsExactly(messageIds.get(9), messageIds.get(8), messageIds.get(7));
+    }
+
+    @Test
+    @DisplayName("before 커서 이전의 메시지를 최신순으로 조회")
+    public void findVisibleByChatRoomIdAndIdLessThan() {
+        //when
+        List<ChatMessage> sut = chatMessageRepository
+                .findVisibleByChatRoomIdAndIdLessThan(room.getId(), USER_ID, messageIds.get(5), Limit.of(3));
+
+        //then
+        assertThat(sut).extracting(ChatMessage::getId)
+                .containsExactly(messageIds.get(4), messageIds.get(3), messageIds.get(2));
+        assertThat(sut).allMatch(m -> m.getChatRoom().getId().equals(room.getId()));
+    }
+
+    @Test
+    @DisplayName("after 커서 이후의 메시지를 생성순으로 조회")
+    public void findVisibleByChatRoomIdAndIdGreaterThan() {
+        //when
+        List<ChatMessage> sut = chatMessageRepository
+                .findVisibleByChatRoomIdAndIdGreaterThan(room.getId(), USER_ID, messageIds.get(7), Limit.of(5));
+
+        //then
+        assertThat(sut).extracting(ChatMessage::getId)
+                .containsExactly(messageIds.get(8), messageIds.get(9));
+    }
+
+    @Test
+    @DisplayName("사용자가 삭제한 메시지는 제외하고 limit 만큼 채워서 조회")
+    public void findVisible_excludesDeletedMessages() {
+        //given
+        // 최신 메시지 두 건을 USER_ID가 삭제, 다른 사용자의 삭제 기록은 영향 없음
+        em.persist(ChatMessageDelete.create(em.find(ChatMessage.class, messageIds.get(9)), USER_ID));
+        em.persist(ChatMessageDelete.create(em.find(ChatMessage.class, messageIds.get(8)), USER_ID));
+        em.persist(ChatMessageDelete.create(em.find(ChatMessage.class, messageIds.get(7)), 2L));
+        em.flush();
+        em.clear();
+
+        //when
+        List<ChatMessage> sut = chatMessageRepository.findVisibleLatestByChatRoomId(room.getId(), USER_ID, Limit.of(3));
+
+        //then
+        assertThat(sut).extracting(ChatMessage::getId)
+                .containsExactly(messageIds.get(7), messageIds.get(6), messageIds.get(5));
+    }
+}
@@ -0,0 +1,68 @@
+package org.swyp.linkit.domain.chat.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.swyp.linkit.domain.chat.entity.ChatRead;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+// upsert(ON DUPLICATE KEY UPDATE)는 MySQL 호환 모드 H2(application.yml)에서만 지원
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+@DisplayName("ChatReadRepository 단위 테스트")
+class ChatReadRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ChatReadRepository chatReadRepository;
+
+    private static final Long MENTOR_ID = 1L;
+    private static final Long MENTEE_ID = 2L;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        roomId = em.persist(ChatRoom.create(MENTOR_ID, MENTEE_ID)).getId();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("읽음 기록이 없으면 생성하고, 이후에는 더 큰 메시지 ID로만 전진한다")
+    public void upsertLastReadMessageId_createsThenAdvances() {
+        //when: 최초 읽음
+        chatReadRepository.upsertLastReadMessageId(roomId, MENTEE_ID, 10L, LocalDateTime.now());
+
+        //then
+        assertThat(lastReadMessageId()).isEqualTo(10L);
+
+        //when: 더 앞선 메시지와 이전 메시지를 차례로 읽음
+        chatReadRepository.upsertLastReadMessageId(roomId, MENTEE_ID, 20L, LocalDateTime.now());
+        chatReadRepository.upsertLastReadMessageId(roomId, MENTEE_ID, 15L, LocalDateTime.now());
+
+        //then: 읽음 위치는 되돌아가지 않음
+        assertThat(lastReadMessageId()).isEqualTo(20L);
+        assertThat(chatReadRepository.findAll()).hasSize(1);
+    }
+
+    private Long lastReadMessageId() {
+        em.clear();
+        return chatReadRepository.findById_ChatRoomIdAndId_UserId(roomId, MENTEE_ID)
+                .map(ChatRead::getLastReadMessageId)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,93 @@
+package org.swyp.linkit.domain.chat.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("채팅방 메시지 역색인 테스트")
+class RoomSearchIndexTest {
+
+    @Test
+    @DisplayName("한국어 bigram으로 띄어쓰기/조사와 무관하게 부분 일치한다")
+    public void search_matchesKoreanSubstring() {
+        //given
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add(1L, "내일 멘토링 일정 확인 부탁드립니다");
+        index.add(2L, "포트폴리오를 공유해 드릴게요");
+        index.add(3L, "멘토링일정은 다음 주로 옮길게요");
+
+        //when
+        List<Long> result = index.search(ChatSearchTokenizer.terms("멘토링 일정"), null, 10);
+
+        //then
+        assertThat(result).containsExactly(3L, 1L);
+        assertThat(index.search(ChatSearchTokenizer.terms("포트폴리오"), null, 10)).containsExactly(2L);
+        assertThat(index.search(ChatSearchTokenizer.terms("배포"), null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NFKC 정규화와 소문자화로 전각/대소문자 차이를 무시한다")
+    public void search_normalizesWidthAndCase() {
+        //given
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add(1L, "Spring Boot 질문");
+
+        //when & then
+        assertThat(index.search(ChatSearchTokenizer.terms("ｓｐｒｉｎｇ"), null, 10)).containsExactly(1L);
+        assertThat(index.search(ChatSearchTokenizer.terms("BOOT"), null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("before 커서 이전 후보만 최신순으로 limit개 반환한다")
+    public void search_pagesWithCursor() {
+        //given
+        RoomSearchIndex index = new RoomSearchIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.add(id, "회의 " + id);
+        }
+
+        //when
+        List<Long> first = index.search(ChatSearchTokenizer.terms("회의"), null, 3);
+        List<Long> second = index.search(ChatSearchTokenizer.terms("회의"), first.get(first.size() - 1), 3);
+
+        //then
+        assertThat(first).containsExactly(10L, 9L, 8L);
+        assertThat(second).containsExactly(7L, 6L, 5L);
+    }
+
+    @Test
+    @DisplayName("백필과 실시간 색인이 겹쳐 같은 메시지를 다시 색인해도 결과가 중복되지 않는다")
+    public void add_isIdempotentAndKeepsOrder() {
+        //given
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add(5L, "배포 완료");
+        index.add(2L, "배포 준비");
+        index.add(5L, "배포 완료");
+
+        //when
+        List<Long> result = index.search(ChatSearchTokenizer.terms("배포"), null, 10);
+
+        //then
+        assertThat(result).containsExactly(5L, 2L);
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 글자 구간만 있는 검색어는 term이 없고, 본문 확인은 모든 구간 포함 여부로 판단한다")
+    public void tokenizer_runsAndMatches() {
+        //when
+        Set<String> singleCharTerms = ChatSearchTokenizer.terms("a b 가");
+        List<String> runs = ChatSearchTokenizer.runs(ChatSearchTokenizer.normalize("멘토링, 일정!"));
+
+        //then
+        assertThat(singleCharTerms).isEmpty();
+        assertThat(runs).containsExactly("멘토링", "일정");
+        assertThat(ChatSearchTokenizer.matches("내일 멘토링 일정", runs)).isTrue();
+        // "멘토"+"토링"은 모두 있지만 "멘토링"은 없는 bigram 오탐
+        assertThat(ChatSearchTokenizer.matches("멘토 토링 일정", runs)).isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swyp.linkit.TestRedisConfig;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 삭제 시 실행되는 SQL 문 수가 삭제 건수와 무관하게 일정한지 확인
+ * (JDBC batch 는 한 번 prepare 한 문장을 여러 행에 재사용하므로 1회로 집계)
+ */
+@Import({TestRedisConfig.class, ChatDeleteQueryCountTest.QueryCountConfig.class})
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("채팅 일괄 삭제 쿼리 수 테스트")
+class ChatDeleteQueryCountTest {
+
+    private static final Long MENTOR_ID = 201L;
+    private static final Long MENTEE_ID = 202L;
+
+    @Autowired
+    ChatService chatService;
+
+    @Autowired
+    ChatRoomService chatRoomService;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        roomId = createRoom(MENTEE_ID);
+    }
+
+    @AfterEach
+    void cleanup() {
+        // 같은 H2 DB를 쓰는 다른 테스트에 영향을 주지 않도록 이 테스트의 데이터 정리
+        String rooms = "(SELECT chat_room_id FROM chat_room WHERE mentor_id = " + MENTOR_ID + ")";
+        jdbcTemplate.update("DELETE FROM chat_message_delete WHERE chat_message_id IN " +
+                "(SELECT chat_message_id FROM chat_message WHERE chat_room_id IN " + rooms + ")");
+        jdbcTemplate.update("DELETE FROM chat_message WHERE chat_room_id IN " + rooms);
+        jdbcTemplate.update("DELETE FROM chat_room_delete WHERE chat_room_id IN " + rooms);
+        jdbcTemplate.update("DELETE FROM chat_inbox WHERE chat_room_id IN " + rooms);
+        jdbcTemplate.update("DELETE FROM chat_room WHERE mentor_id = ?", MENTOR_ID);
+    }
+
+    @Test
+    @DisplayName("메시지 5건과 50건 삭제의 쿼리 수가 같다")
+    public void deleteMessages_constantQueryCount() {
+        //given
+        List<Long> messageIds = insertMessages(60);
+        chatService.assertParticipant(MENTEE_ID, roomId); // 참여자 캐시 적재
+
+        //when
+        int small = QueryCounter.count(() -> chatService.deleteMessages(roomId, MENTEE_ID, messageIds.subList(0, 5)));
+        int large = QueryCounter.count(() -> chatService.deleteMessages(roomId, MENTEE_ID, messageIds.subList(5, 55)));
+        // 이미 삭제한 메시지가 섞여 있어도 동일
+        int mixed = QueryCounter.count(() -> chatService.deleteMessages(roomId, MENTEE_ID, messageIds));
+
+        //then: 소속 검증 + 기존 삭제 조회 + batch insert
+        assertThat(small).isEqualTo(3);
+        assertThat(large).isEqualTo(small);
+        assertThat(mixed).isEqualTo(small);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_message_delete WHERE user_id = ? AND chat_message_id IN (" +
+                        String.join(",", messageIds.stream().map(String::valueOf).toList()) + ")",
+                Integer.class, MENTEE_ID)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("채팅방 2개와 20개 삭제의 쿼리 수가 같다")
+    public void deleteRooms_constantQueryCount() {
+        //given
+        List<Long> roomIds = new ArrayList<>();
+        for (long partnerId = 1_000; partnerId < 1_022; partnerId++) {
+            roomIds.add(createRoom(partnerId));
+        }
+
+        //when
+        int small = QueryCounter.count(() -> chatRoomService.deleteRooms(MENTOR_ID, roomIds.subList(0, 2)));
+        int large = QueryCounter.count(() -> chatRoomService.deleteRooms(MENTOR_ID, roomIds.subList(2, 22)));
+
+        //then: 참여자 검증 + 기존 삭제 조회 + batch insert + 목록 숨김
+        assertThat(small).isEqualTo(4);
+        assertThat(large).isEqualTo(small);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_room_delete WHERE user_id = ?", Integer.class, MENTOR_ID)).isEqualTo(22);
+    }
+
+    private Long createRoom(Long menteeId) {
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> chatRoomRepository.save(ChatRoom.create(MENTOR_ID, menteeId)).getId());
+    }
+
+    private List<Long> insertMessages(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = LongStream.range(0, count)
+                .mapToObj(i -> new Object[]{roomId, MENTOR_ID, "MENTOR", "message" + i, now, now})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO chat_message (chat_room_id, sender_id, sender_role, content, " +
+                "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+                "SELECT chat_message_id FROM chat_message WHERE chat_room_id = ? ORDER BY chat_message_id",
+                Long.class, roomId);
+    }
+
+    /**
+     * 측정 중인 스레드에서 prepare 된 SQL 문 수 집계
+     */
+    static class QueryCounter {
+
+        private static final AtomicInteger statements = new AtomicInteger();
+        private static volatile Thread target;
+
+        static int count(Runnable action) {
+            statements.set(0);
+            target = Thread.currentThread();
+            try {
+                action.run();
+            } finally {
+                target = null;
+            }
+            return statements.get();
+        }
+
+        static void onPrepare() {
+            if (Thread.currentThread() == target) {
+                statements.incrementAndGet();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class QueryCountConfig {
+
+        @Bean
+        static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return countingConnection(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                            QueryCounter.onPrepare();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
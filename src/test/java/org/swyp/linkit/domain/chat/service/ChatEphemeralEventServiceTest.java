@@ -0,0 +1,219 @@
+package org.swyp.linkit.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatEphemeralPayloadResponseDto;
+import org.swyp.linkit.domain.chat.entity.ChatEphemeralEventType;
+import org.swyp.linkit.domain.chat.redis.RedisChatEphemeralPublisher;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatEphemeralEventService 실시간 이벤트 테스트")
+class ChatEphemeralEventServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MENTOR_ID = 10L;
+    private static final Long MENTEE_ID = 20L;
+    // 테스트에서는 flush를 직접 호출
+    private static final long MANUAL_FLUSH_MS = 3_600_000L;
+
+    @Mock ChatParticipantCache chatParticipantCache;
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock RedisConnection connection;
+
+    private RedisChatEphemeralPublisher ephemeralPublisher;
+    private ChatEphemeralEventService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        ephemeralPublisher = new RedisChatEphemeralPublisher(redisTemplate, new ObjectMapper(), 4);
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("flush 전 같은 사용자의 입력 중 이벤트는 하나로 병합되고 입력 중지가 마지막이면 그것만 발행된다")
+    public void offer_coalescesByGroup() {
+        //given
+        service = newService(2000, 100);
+        when(chatParticipantCache.isParticipant(eq(ROOM_ID), anyLong())).thenReturn(true);
+
+        //when
+        for (int i = 0; i < 50; i++) {
+            service.submit(ROOM_ID, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+        }
+        service.submit(ROOM_ID, MENTEE_ID, ChatEphemeralEventType.TYPING_STOPPED, null);
+        service.submit(ROOM_ID, MENTOR_ID, ChatEphemeralEventType.SEEN, 100L);
+        service.flush();
+
+        //then: 같은 채팅방 -> 같은 샤드 채널로 1회 발행
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(connection, times(1)).publish(eq(ephemeralPublisher.channelOf(ROOM_ID).getBytes()), body.capture());
+        List<ChatEphemeralPayloadResponseDto> published = ephemeralPublisher.decode(body.getValue());
+        assertThat(published).extracting(ChatEphemeralPayloadResponseDto::getUserId, ChatEphemeralPayloadResponseDto::getType)
+                .containsExactlyInAnyOrder(
+                        tuple(MENTEE_ID, ChatEphemeralEventType.TYPING_STOPPED),
+                        tuple(MENTOR_ID, ChatEphemeralEventType.SEEN));
+        assertThat(service.getCoalescedCount()).isEqualTo(50);
+        assertThat(service.getPublishedEventCount()).isEqualTo(2);
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행 직후 같은 종류의 이벤트는 최소 간격 동안 다시 발행하지 않는다")
+    public void offer_rateLimitsRepeatedType() {
+        //given
+        service = newService(2000, 100);
+        when(chatParticipantCache.isParticipant(ROOM_ID, MENTEE_ID)).thenReturn(true);
+        service.submit(ROOM_ID, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+        service.flush();
+
+        //when
+        boolean repeated = service.submit(ROOM_ID, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+        boolean stopped = service.submit(ROOM_ID, MENTEE_ID, ChatEphemeralEventType.TYPING_STOPPED, null);
+
+        //then: 종류가 바뀐 입력 중지는 바로 전달
+        assertThat(repeated).isFalse();
+        assertThat(stopped).isTrue();
+        assertThat(service.getRateLimitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 키의 이벤트는 버리고, Redis 발행이 실패해도 예외 없이 버린다")
+    @SuppressWarnings("unchecked")
+    public void offer_dropsUnderBackPressure() {
+        //given
+        service = newService(2000, 2);
+        when(chatParticipantCache.isParticipant(anyLong(), eq(MENTEE_ID))).thenReturn(true);
+        service.submit(1L, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+        service.submit(2L, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+
+        //when
+        boolean overflow = service.submit(3L, MENTEE_ID, ChatEphemeralEventType.TYPING, null);
+        boolean existingKey = service.submit(1L, MENTEE_ID, ChatEphemeralEventType.TYPING_STOPPED, null);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).executePipelined(any(RedisCallback.class));
+        service.flush();
+
+        //then
+        assertThat(overflow).isFalse();
+        assertThat(existingKey).isTrue();
+        assertThat(service.getDroppedCount()).isEqualTo(1 + 2);
+        assertThat(service.getPublishedEventCount()).isZero();
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 예외가 발생한다")
+    public void submit_rejectsNonParticipant() {
+        //given
+        service = newService(2000, 100);
+        when(chatParticipantCache.isParticipant(ROOM_ID, 999L)).thenReturn(false);
+
+        //when & then
+        assertThatThrownBy(() -> service.submit(ROOM_ID, 999L, ChatEphemeralEventType.TYPING, null))
+                .isInstanceOf(ChatNotParticipantException.class);
+        assertThat(service.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 입력해도 키 입력마다 발행하지 않고 사용자별로 병합된다")
+    public void submit_concurrentKeystrokesAreCoalesced() throws Exception {
+        //given: 100개 채팅방 x 2명이 동시에 입력 (참여자 검증은 실제 로컬 캐시 적중 경로)
+        ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class, withSettings().stubOnly());
+        when(chatRoomRepository.findParticipantsById(anyLong())).thenAnswer(invocation -> {
+            Long roomId = invocation.getArgument(0);
+            return Optional.of(new ChatParticipantsDto(roomId, roomId * 2, roomId * 2 + 1));
+        });
+        ChatParticipantCache participantCache =
+                new ChatParticipantCache(chatRoomRepository, redisTemplate, 10000, Duration.ofHours(1));
+        service = new ChatEphemeralEventService(participantCache, ephemeralPublisher, MANUAL_FLUSH_MS, 2000, 10000);
+        int threads = 4;
+        int keystrokesPerThread = 5_000;
+        int rooms = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < keystrokesPerThread; i++) {
+                        long roomId = (seed * 31L + i) % rooms + 1;
+                        long userId = roomId * 2 + (i & 1);
+                        service.submit(roomId, userId, ChatEphemeralEventType.TYPING, null);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        service.flush();
+
+        //then: 접수된 키 입력은 (채팅방, 사용자)당 1건으로 병합되어 발행
+        long keystrokes = (long) threads * keystrokesPerThread;
+        int users = rooms * 2;
+        assertThat(service.getAcceptedCount()).isEqualTo(keystrokes);
+        assertThat(service.getCoalescedCount()).isEqualTo(keystrokes - users);
+        assertThat(service.getPublishedEventCount()).isEqualTo(users);
+        assertThat(service.getPublishedMessageCount()).isLessThan(service.getPublishedEventCount());
+        assertThat(service.getDroppedCount()).isZero();
+    }
+
+    private ChatEphemeralEventService newService(long minIntervalMs, int maxPending) {
+        return new ChatEphemeralEventService(chatParticipantCache, ephemeralPublisher,
+                MANUAL_FLUSH_MS, minIntervalMs, maxPending);
+    }
+}
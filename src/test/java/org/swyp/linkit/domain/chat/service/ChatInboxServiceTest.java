@@ -0,0 +1,79 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.swyp.linkit.domain.chat.repository.ChatInboxRepository;
+import org.swyp.linkit.global.error.exception.ChatInvalidCursorException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatInboxService 단위 테스트")
+class ChatInboxServiceTest {
+
+    @Mock
+    ChatInboxRepository chatInboxRepository;
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private ChatInboxService chatInboxService;
+
+    @BeforeEach
+    void setup() {
+        chatInboxService = new ChatInboxService(chatInboxRepository, redisTemplate, transactionManager, true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc_1", "1_2_3", "9223372036854775807_1", "-9223372036854775808_1"})
+    @DisplayName("형식이 잘못되었거나 시간 범위를 벗어난 커서는 CH007 예외로 거절한다")
+    public void getInbox_invalidCursor(String cursor) {
+        //when & then
+        assertThatThrownBy(() -> chatInboxService.getInbox(1L, cursor, 20))
+                .isInstanceOf(ChatInvalidCursorException.class);
+        verify(chatInboxRepository, never()).findVisibleByUserIdBefore(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이관 완료 표시 없이 기동할 때마다 락을 잡은 인스턴스가 이관을 다시 실행한다")
+    public void backfillOnStartup_runsEveryStartup() {
+        //given: 첫 기동은 락 획득, 두 번째 기동은 다른 인스턴스가 이미 실행 중
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("chat:inbox:backfill:lock"), anyString(), any(Duration.class)))
+                .thenReturn(true, true, false);
+
+        //when
+        chatInboxService.backfillOnStartup();
+        chatInboxService.backfillOnStartup();
+        chatInboxService.backfillOnStartup();
+
+        //then
+        verify(chatInboxRepository, times(2)).backfillMentorRows();
+        verify(chatInboxRepository, times(2)).backfillMenteeRows();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+}
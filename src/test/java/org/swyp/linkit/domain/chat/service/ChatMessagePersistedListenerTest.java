@@ -0,0 +1,70 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.domain.chat.event.ChatMessagesPersistedEvent;
+import org.swyp.linkit.domain.chat.search.ChatSearchIndex;
+import org.swyp.linkit.domain.chat.writebehind.PendingChatMessage;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessagePersistedListener 단위 테스트")
+class ChatMessagePersistedListenerTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MENTOR_ID = 10L;
+    private static final Long MENTEE_ID = 20L;
+
+    @Mock ChatSearchIndex chatSearchIndex;
+    @Mock ChatUnreadCountService chatUnreadCountService;
+    @Mock ChatNotificationService chatNotificationService;
+    @Mock ChatService chatService;
+
+    @InjectMocks
+    ChatMessagePersistedListener listener;
+
+    @Test
+    @DisplayName("보고 있던 수신자에게는 (채팅방, 수신자)별 마지막 메시지로 읽음 이벤트를 한 번 발행한다")
+    public void onMessagesPersisted_publishesReadEventForViewingRecipient() {
+        //given: 멘티가 보고 있는 동안 저장된 메시지 2건 + 보지 않을 때 저장된 메시지 1건
+        ChatMessagesPersistedEvent event = new ChatMessagesPersistedEvent(List.of(
+                message(101L, true),
+                message(102L, true),
+                message(103L, false)));
+
+        //when
+        listener.onMessagesPersisted(event);
+
+        //then
+        verify(chatSearchIndex, times(3)).onMessageSaved(eq(ROOM_ID), anyLong(), anyString());
+        verify(chatService).publishReadEvent(ROOM_ID, MENTEE_ID, 102L);
+        verify(chatService, never()).publishReadEvent(ROOM_ID, MENTEE_ID, 101L);
+        verify(chatUnreadCountService, times(1)).onMessageSaved(ROOM_ID, MENTEE_ID);
+        verify(chatNotificationService, times(1)).onMessageSaved(ROOM_ID, MENTOR_ID, MENTEE_ID);
+    }
+
+    private PendingChatMessage message(Long messageId, boolean recipientViewing) {
+        return PendingChatMessage.builder()
+                .messageId(messageId)
+                .roomId(ROOM_ID)
+                .senderId(MENTOR_ID)
+                .senderRole(SenderRole.MENTOR)
+                .content("message" + messageId)
+                .recipientId(MENTEE_ID)
+                .recipientViewing(recipientViewing)
+                .build();
+    }
+}
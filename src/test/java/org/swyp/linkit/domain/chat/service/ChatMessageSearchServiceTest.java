@@ -0,0 +1,136 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swyp.linkit.TestRedisConfig;
+import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatMessageSliceDto;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.global.error.exception.ChatInvalidSearchQueryException;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(TestRedisConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("채팅 메시지 검색 테스트")
+class ChatMessageSearchServiceTest {
+
+    private static final Long MENTOR_ID = 301L;
+    private static final Long MENTEE_ID = 302L;
+
+    @Autowired
+    ChatMessageSearchService chatMessageSearchService;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        roomId = new TransactionTemplate(transactionManager)
+                .execute(status -> chatRoomRepository.save(ChatRoom.create(MENTOR_ID, MENTEE_ID)).getId());
+    }
+
+    @AfterEach
+    void cleanup() {
+        // 같은 H2 DB를 쓰는 다른 테스트에 영향을 주지 않도록 이 테스트의 데이터 정리
+        String rooms = "(SELECT chat_room_id FROM chat_room WHERE mentor_id = " + MENTOR_ID + ")";
+        jdbcTemplate.update("DELETE FROM chat_message_delete WHERE chat_message_id IN " +
+                "(SELECT chat_message_id FROM chat_message WHERE chat_room_id IN " + rooms + ")");
+        jdbcTemplate.update("DELETE FROM chat_message WHERE chat_room_id IN " + rooms);
+        jdbcTemplate.update("DELETE FROM chat_room WHERE mentor_id = ?", MENTOR_ID);
+    }
+
+    @Test
+    @DisplayName("검색어를 포함한 메시지를 최신순으로 찾고 본인이 삭제한 메시지는 제외한다")
+    public void search_excludesDeletedMessages() {
+        //given
+        Long first = insertMessage("내일 멘토링 일정 확인 부탁드려요");
+        insertMessage("포트폴리오 리뷰 감사합니다");
+        Long deleted = insertMessage("멘토링 일정은 오후 3시입니다");
+        Long latest = insertMessage("멘토링일정 변경됐어요");
+        jdbcTemplate.update("INSERT INTO chat_message_delete (user_id, chat_message_id, deleted_at, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?)", MENTEE_ID, deleted, LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+
+        //when
+        ChatMessageSliceDto menteeResult = chatMessageSearchService.search(roomId, MENTEE_ID, "멘토링 일정", null, 20);
+        ChatMessageSliceDto mentorResult = chatMessageSearchService.search(roomId, MENTOR_ID, "멘토링 일정", null, 20);
+
+        //then
+        assertThat(ids(menteeResult)).containsExactly(latest, first);
+        assertThat(ids(mentorResult)).containsExactly(latest, deleted, first);
+        assertThat(menteeResult.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("nextCursor로 다음 페이지를 조회하고, 색인 이후 저장된 메시지도 검색 전에 따라잡는다")
+    public void search_pagesAndCatchesUp() {
+        //given
+        Long m1 = insertMessage("스프링 배포 질문 1");
+        Long m2 = insertMessage("스프링 배포 질문 2");
+        Long m3 = insertMessage("스프링 배포 질문 3");
+        chatMessageSearchService.search(roomId, MENTOR_ID, "배포", null, 20); // 색인 빌드
+
+        // 다른 인스턴스에서 저장된 메시지 (이 인스턴스 색인에는 아직 없음)
+        Long m4 = insertMessage("스프링 배포 질문 4");
+
+        //when
+        ChatMessageSliceDto firstPage = chatMessageSearchService.search(roomId, MENTOR_ID, "스프링 배포", null, 2);
+        ChatMessageSliceDto secondPage = chatMessageSearchService.search(
+                roomId, MENTOR_ID, "스프링 배포", firstPage.getNextCursor(), 2);
+
+        //then
+        assertThat(ids(firstPage)).containsExactly(m4, m3);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(ids(secondPage)).containsExactly(m2, m1);
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("참여자가 아니거나 색인할 수 없는 검색어면 예외가 발생한다")
+    public void search_rejectsInvalidRequests() {
+        //when & then
+        assertThatThrownBy(() -> chatMessageSearchService.search(roomId, 999L, "멘토링", null, 20))
+                .isInstanceOf(ChatNotParticipantException.class);
+        assertThatThrownBy(() -> chatMessageSearchService.search(roomId, MENTOR_ID, "가 a", null, 20))
+                .isInstanceOf(ChatInvalidSearchQueryException.class);
+        assertThatThrownBy(() -> chatMessageSearchService.search(roomId, MENTOR_ID, " ", null, 20))
+                .isInstanceOf(ChatInvalidSearchQueryException.class);
+    }
+
+    private Long insertMessage(String content) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO chat_message (chat_room_id, sender_id, sender_role, content, " +
+                "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", roomId, MENTOR_ID, "MENTOR", content, now, now);
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(chat_message_id) FROM chat_message WHERE chat_room_id = ?", Long.class, roomId);
+    }
+
+    private List<Long> ids(ChatMessageSliceDto slice) {
+        return slice.getMessages().stream().map(ChatMessageDto::getMessageId).toList();
+    }
+}
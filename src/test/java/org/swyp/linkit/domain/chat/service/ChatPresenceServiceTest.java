@@ -0,0 +1,133 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swyp.linkit.domain.chat.redis.RedisChatRepository;
+import org.swyp.linkit.domain.chat.redis.RedisChatRepository.Presence;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatPresenceService 단위 테스트")
+class ChatPresenceServiceTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    RedisChatRepository redisChatRepository;
+
+    private ChatPresenceService presenceService;
+
+    @BeforeEach
+    void setup() {
+        presenceService = new ChatPresenceService(redisChatRepository, "node-1", TTL, TTL);
+    }
+
+    @Test
+    @DisplayName("heartbeat는 로컬 세션과 입장 정보를 한 번에 갱신한다")
+    @SuppressWarnings("unchecked")
+    public void heartbeat_refreshesLocalPresence() {
+        //given
+        presenceService.connect("s1", 1L);
+        presenceService.connect("s2", 2L);
+        presenceService.enter("s1", 1L, 10L);
+
+        //when
+        presenceService.heartbeat();
+
+        //then
+        ArgumentCaptor<Map<String, Long>> sessions = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Collection<Presence>> presences = ArgumentCaptor.forClass(Collection.class);
+        verify(redisChatRepository).heartbeat(eq("node-1"), sessions.capture(), presences.capture(), eq(TTL), eq(TTL));
+        assertThat(sessions.getValue()).containsOnlyKeys("s1", "s2");
+        assertThat(presences.getValue()).containsExactly(new Presence(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("같은 유저가 다른 채팅방에 입장하면 이전 입장 정보는 heartbeat 대상에서 빠진다")
+    @SuppressWarnings("unchecked")
+    public void enter_replacesPreviousPresence() {
+        //given
+        presenceService.connect("s1", 1L);
+        presenceService.connect("s2", 1L);
+
+        //when
+        presenceService.enter("s1", 1L, 10L);
+        presenceService.enter("s2", 1L, 20L);
+        presenceService.heartbeat();
+
+        //then
+        ArgumentCaptor<Collection<Presence>> presences = ArgumentCaptor.forClass(Collection.class);
+        verify(redisChatRepository).heartbeat(eq("node-1"), any(), presences.capture(), eq(TTL), eq(TTL));
+        assertThat(presences.getValue()).containsExactly(new Presence(1L, 20L));
+        verify(redisChatRepository).enterChatRoom(1L, 20L, "s2", TTL);
+    }
+
+    @Test
+    @DisplayName("세션 해제 시 Redis 세션을 정리하고 이후 heartbeat에서 제외한다")
+    @SuppressWarnings("unchecked")
+    public void disconnect_removesSession() {
+        //given
+        presenceService.connect("s1", 1L);
+        presenceService.enter("s1", 1L, 10L);
+
+        //when
+        presenceService.disconnect("s1");
+        presenceService.disconnect("unknown");
+        presenceService.heartbeat();
+
+        //then
+        verify(redisChatRepository).unregisterSession("node-1", "s1");
+        verify(redisChatRepository, never()).unregisterSession("node-1", "unknown");
+        ArgumentCaptor<Map<String, Long>> sessions = ArgumentCaptor.forClass(Map.class);
+        verify(redisChatRepository).heartbeat(eq("node-1"), sessions.capture(), any(), eq(TTL), eq(TTL));
+        assertThat(sessions.getValue()).isEmpty();
+        assertThat(presenceService.getLocalSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat가 끊긴 노드의 세션을 정리한다")
+    public void sweepDeadNodes() {
+        //given
+        when(redisChatRepository.findDeadNodes("node-1")).thenReturn(Set.of("node-2"));
+        when(redisChatRepository.cleanupNode("node-2", TTL)).thenReturn(3);
+
+        //when
+        presenceService.sweepDeadNodes();
+
+        //then
+        verify(redisChatRepository).cleanupNode("node-2", TTL);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 입장 처리는 예외 없이 진행되고 미입장으로 간주한다")
+    public void redisFailure_isSwallowed() {
+        //given
+        doThrow(new IllegalStateException("redis down"))
+                .when(redisChatRepository).enterChatRoom(any(), any(), anyString(), any());
+        when(redisChatRepository.isUserInSpecificRoom(1L, 10L)).thenThrow(new IllegalStateException("redis down"));
+
+        //when
+        presenceService.enter("s1", 1L, 10L);
+
+        //then
+        assertThat(presenceService.isInRoom(1L, 10L)).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatReadCoalescer 단위 테스트")
+class ChatReadCoalescerTest {
+
+    @Mock
+    ChatService chatService;
+
+    private ChatReadCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("window 안의 연속된 읽음 요청은 한 번의 DB 반영과 한 번의 이벤트 발행으로 병합된다")
+    public void submit_coalescesBurst() {
+        //given
+        coalescer = new ChatReadCoalescer(chatService, 200, 1);
+        when(chatService.markAsRead(1L, 10L)).thenReturn(100L);
+        when(chatService.markAsRead(2L, 10L)).thenReturn(200L);
+
+        //when
+        for (int i = 0; i < 50; i++) {
+            coalescer.submit(1L, 10L);
+        }
+        coalescer.submit(2L, 10L);
+
+        //then
+        verify(chatService, timeout(2_000)).publishReadEvent(1L, 10L, 100L);
+        verify(chatService, timeout(2_000)).publishReadEvent(2L, 10L, 200L);
+        verify(chatService, times(1)).markAsRead(1L, 10L);
+        verify(chatService, times(1)).markAsRead(2L, 10L);
+        assertThat(coalescer.getSubmittedCount()).isEqualTo(51);
+        assertThat(coalescer.getFlushedCount()).isEqualTo(2);
+        assertThat(coalescer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 이후 들어온 요청은 새 window에서 더 앞선 읽음 위치로 반영된다")
+    public void submit_afterFlush_opensNewWindow() {
+        //given
+        coalescer = new ChatReadCoalescer(chatService, 50, 1);
+        AtomicLong lastMessageId = new AtomicLong(100L);
+        when(chatService.markAsRead(1L, 10L)).thenAnswer(invocation -> lastMessageId.get());
+
+        //when
+        coalescer.submit(1L, 10L);
+        verify(chatService, timeout(2_000)).publishReadEvent(1L, 10L, 100L);
+
+        lastMessageId.set(150L);
+        coalescer.submit(1L, 10L);
+
+        //then
+        verify(chatService, timeout(2_000)).publishReadEvent(1L, 10L, 150L);
+        verify(chatService, times(2)).markAsRead(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 즉시 예외가 발생하고 읽음 처리가 예약되지 않는다")
+    public void submit_notParticipant() {
+        //given
+        coalescer = new ChatReadCoalescer(chatService, 50, 1);
+        doThrow(new ChatNotParticipantException(1L, 99L)).when(chatService).assertParticipant(99L, 1L);
+
+        //when & then
+        assertThatThrownBy(() -> coalescer.submit(1L, 99L)).isInstanceOf(ChatNotParticipantException.class);
+        assertThat(coalescer.pendingCount()).isZero();
+        verify(chatService, never()).markAsRead(1L, 99L);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 읽음 처리를 즉시 반영한다")
+    public void shutdown_flushesPending() throws InterruptedException {
+        //given
+        coalescer = new ChatReadCoalescer(chatService, 60_000, 1);
+        when(chatService.markAsRead(1L, 10L)).thenReturn(100L);
+        coalescer.submit(1L, 10L);
+
+        //when
+        coalescer.shutdown();
+        coalescer = null;
+
+        //then
+        verify(chatService).markAsRead(1L, 10L);
+        verify(chatService).publishReadEvent(1L, 10L, 100L);
+    }
+}
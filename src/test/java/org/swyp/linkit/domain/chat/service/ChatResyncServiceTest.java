@@ -0,0 +1,185 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.ChatMessageDto;
+import org.swyp.linkit.domain.chat.dto.ChatResyncDto;
+import org.swyp.linkit.domain.chat.dto.response.ChatPayloadResponseDto;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.entity.ChatRead;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.domain.chat.redis.RedisChatReplayBuffer;
+import org.swyp.linkit.domain.chat.repository.ChatMessageDeleteRepository;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatReadRepository;
+import org.swyp.linkit.global.error.exception.ChatInvalidCursorException;
+import org.swyp.linkit.global.error.exception.ChatNotParticipantException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatResyncService 재연결 동기화 테스트")
+class ChatResyncServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MENTOR_ID = 10L;
+    private static final Long MENTEE_ID = 20L;
+
+    @Mock ChatParticipantCache chatParticipantCache;
+    @Mock RedisChatReplayBuffer replayBuffer;
+    @Mock ChatMessageRepository chatMessageRepository;
+    @Mock ChatMessageDeleteRepository chatMessageDeleteRepository;
+    @Mock ChatReadRepository chatReadRepository;
+
+    private ChatResyncService chatResyncService;
+
+    @BeforeEach
+    void setup() {
+        chatResyncService = new ChatResyncService(chatParticipantCache, replayBuffer, chatMessageRepository,
+                chatMessageDeleteRepository, chatReadRepository, 10);
+    }
+
+    @Test
+    @DisplayName("커서 메시지가 버퍼에 남아 있으면 DB 메시지 조회 없이 버퍼로 놓친 메시지와 읽음 이벤트를 채운다")
+    public void resync_servedFromBuffer() {
+        //given
+        when(chatParticipantCache.isParticipant(ROOM_ID, MENTEE_ID)).thenReturn(true);
+        when(replayBuffer.findAll(ROOM_ID)).thenReturn(List.of(
+                message(100L), message(101L), readEvent(MENTOR_ID, 100L),
+                message(103L), message(102L), readEvent(MENTOR_ID, 102L), message(101L)));
+        when(chatMessageDeleteRepository.findDeletedMessageIdsByUserIdAndMessageIdIn(eq(MENTEE_ID), anyCollection()))
+                .thenReturn(List.of(102L));
+
+        //when
+        ChatResyncDto result = chatResyncService.resync(ROOM_ID, MENTEE_ID, 100L, 50);
+
+        //then: 중복 제거 + ID 순 정렬 + 본인 삭제 제외, 읽음은 참여자별 최신 위치만
+        assertThat(result.isFromBuffer()).isTrue();
+        assertThat(result.getMessages()).extracting(ChatMessageDto::getMessageId).containsExactly(101L, 103L);
+        assertThat(result.getReadEvents()).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getReaderId()).isEqualTo(MENTOR_ID);
+                    assertThat(event.getReadUpToMessageId()).isEqualTo(102L);
+                });
+        assertThat(result.isHasNext()).isFalse();
+        verify(chatMessageRepository, never()).findVisibleByChatRoomIdAndIdGreaterThan(anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("공백이 버퍼보다 길면 DB에서 chunk 단위로 조회한다")
+    public void resync_fallsBackToDatabase() {
+        //given
+        when(chatParticipantCache.isParticipant(ROOM_ID, MENTEE_ID)).thenReturn(true);
+        when(replayBuffer.findAll(ROOM_ID)).thenReturn(List.of(message(500L), message(501L)));
+        List<ChatMessage> rows = LongStream.rangeClosed(11, 13).mapToObj(this::entity).toList();
+        when(chatMessageRepository.findVisibleByChatRoomIdAndIdGreaterThan(ROOM_ID, MENTEE_ID, 10L, Limit.of(3)))
+                .thenReturn(rows);
+        ChatRead read = ChatRead.create(room(), MENTOR_ID, 12L);
+        when(chatReadRepository.findById_ChatRoomIdAndLastReadMessageIdGreaterThan(ROOM_ID, 10L))
+                .thenReturn(List.of(read));
+
+        //when
+        ChatResyncDto result = chatResyncService.resync(ROOM_ID, MENTEE_ID, 10L, 2);
+
+        //then
+        assertThat(result.isFromBuffer()).isFalse();
+        assertThat(result.getMessages()).extracting(ChatMessageDto::getMessageId).containsExactly(11L, 12L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(12L);
+        assertThat(result.getReadEvents()).extracting(e -> e.getReadUpToMessageId()).containsExactly(12L);
+    }
+
+    @Test
+    @DisplayName("STOMP 동기화는 hasNext가 끝날 때까지 nextCursor로 이어서 chunk를 전달한다")
+    public void resyncChunks_followsCursor() {
+        //given
+        when(chatParticipantCache.isParticipant(ROOM_ID, MENTEE_ID)).thenReturn(true);
+        List<ChatPayloadResponseDto> buffer = new ArrayList<>();
+        LongStream.rangeClosed(100, 105).forEach(id -> buffer.add(message(id)));
+        when(replayBuffer.findAll(ROOM_ID)).thenReturn(buffer);
+
+        //when
+        List<ChatResyncDto> chunks = new ArrayList<>();
+        chatResyncService.resyncChunks(ROOM_ID, MENTEE_ID, 100L, 2, chunks::add);
+
+        //then
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks).flatExtracting(ChatResyncDto::getMessages)
+                .extracting(m -> ((ChatMessageDto) m).getMessageId())
+                .containsExactly(101L, 102L, 103L, 104L, 105L);
+        assertThat(chunks.get(2).isHasNext()).isFalse();
+        // 참여자 확인/버퍼 조회는 chunk 수와 무관하게 요청당 한 번
+        verify(chatParticipantCache, times(1)).isParticipant(ROOM_ID, MENTEE_ID);
+        verify(replayBuffer, times(1)).findAll(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니거나 커서가 없으면 예외가 발생한다")
+    public void resync_rejectsInvalidRequests() {
+        //given
+        when(chatParticipantCache.isParticipant(ROOM_ID, 999L)).thenReturn(false);
+        when(chatParticipantCache.isParticipant(ROOM_ID, MENTEE_ID)).thenReturn(true);
+
+        //when & then
+        assertThatThrownBy(() -> chatResyncService.resync(ROOM_ID, 999L, 1L, 10))
+                .isInstanceOf(ChatNotParticipantException.class);
+        assertThatThrownBy(() -> chatResyncService.resync(ROOM_ID, MENTEE_ID, null, 10))
+                .isInstanceOf(ChatInvalidCursorException.class);
+    }
+
+    private ChatPayloadResponseDto message(long messageId) {
+        return ChatPayloadResponseDto.builder()
+                .roomId(ROOM_ID)
+                .messageId(messageId)
+                .senderId(MENTOR_ID)
+                .senderRole(SenderRole.MENTOR.name())
+                .text("message" + messageId)
+                .sentAtEpochMs(1_705_651_200_000L + messageId)
+                .system(false)
+                .build();
+    }
+
+    private ChatPayloadResponseDto readEvent(Long readerId, long readUpTo) {
+        return ChatPayloadResponseDto.builder()
+                .roomId(ROOM_ID)
+                .readerId(readerId)
+                .readUpToMessageId(readUpTo)
+                .system(true)
+                .build();
+    }
+
+    private ChatRoom room() {
+        ChatRoom room = ChatRoom.create(MENTOR_ID, MENTEE_ID);
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        return room;
+    }
+
+    private ChatMessage entity(long messageId) {
+        ChatMessage message = ChatMessage.create(room(), MENTOR_ID, SenderRole.MENTOR, "message" + messageId);
+        ReflectionTestUtils.setField(message, "id", messageId);
+        ReflectionTestUtils.setField(message, "createdAt", LocalDateTime.now());
+        return message;
+    }
+}
@@ -0,0 +1,98 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.swyp.linkit.TestRedisConfig;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestRedisConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("ChatService 동시성 테스트")
+class ChatServiceConcurrencyTest {
+
+    private static final Long MENTOR_ID = 101L;
+    private static final Long MENTEE_ID = 102L;
+    private static final int MENTOR_SENDS = 30;
+    private static final int MENTEE_SENDS = 20;
+
+    @Autowired
+    ChatService chatService;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        roomId = new TransactionTemplate(transactionManager)
+                .execute(status -> chatRoomRepository.save(ChatRoom.create(MENTOR_ID, MENTEE_ID)).getId());
+    }
+
+    @Test
+    @DisplayName("같은 채팅방에 동시에 메시지를 보내도 읽지 않은 수와 마지막 메시지가 정확히 반영된다")
+    public void saveMessage_concurrentSends() throws InterruptedException {
+        //given
+        int total = MENTOR_SENDS + MENTEE_SENDS;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(total);
+        AtomicInteger failures = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < total; i++) {
+            Long senderId = i < MENTOR_SENDS ? MENTOR_ID : MENTEE_ID;
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    chatService.saveMessage(roomId, senderId, "message");
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(failures.get()).isZero();
+
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT unread_mentor_count, unread_mentee_count, last_message_id FROM chat_room WHERE chat_room_id = ?",
+                roomId);
+        Long maxMessageId = jdbcTemplate.queryForObject(
+                "SELECT MAX(chat_message_id) FROM chat_message WHERE chat_room_id = ?", Long.class, roomId);
+
+        // 멘토가 보낸 메시지는 멘티의 읽지 않은 수, 멘티가 보낸 메시지는 멘토의 읽지 않은 수
+        assertThat(((Number) room.get("unread_mentee_count")).intValue()).isEqualTo(MENTOR_SENDS);
+        assertThat(((Number) room.get("unread_mentor_count")).intValue()).isEqualTo(MENTEE_SENDS);
+        assertThat(((Number) room.get("last_message_id")).longValue()).isEqualTo(maxMessageId);
+    }
+}
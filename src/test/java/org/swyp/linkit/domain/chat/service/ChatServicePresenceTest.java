@@ -0,0 +1,110 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.swyp.linkit.domain.chat.cache.ChatParticipantCache;
+import org.swyp.linkit.domain.chat.dto.ChatParticipantsDto;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.redis.RedisChatPublisher;
+import org.swyp.linkit.domain.chat.repository.ChatDeleteJdbcRepository;
+import org.swyp.linkit.domain.chat.repository.ChatMessageDeleteRepository;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatReadRepository;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.domain.chat.search.ChatSearchIndex;
+import org.swyp.linkit.domain.chat.writebehind.ChatMessageIdGenerator;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatService presence 기반 알림/읽음 처리 테스트")
+class ChatServicePresenceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MENTOR_ID = 10L;
+    private static final Long MENTEE_ID = 20L;
+    private static final Long MESSAGE_ID = 100L;
+
+    @Mock ChatMessageRepository chatMessageRepository;
+    @Mock ChatRoomRepository chatRoomRepository;
+    @Mock ChatReadRepository chatReadRepository;
+    @Mock ChatMessageDeleteRepository chatMessageDeleteRepository;
+    @Mock ChatDeleteJdbcRepository chatDeleteJdbcRepository;
+    @Mock RedisChatPublisher redisChatPublisher;
+    @Mock ChatParticipantCache chatParticipantCache;
+    @Mock ChatUnreadCountService chatUnreadCountService;
+    @Mock ChatInboxService chatInboxService;
+    @Mock ChatPresenceService chatPresenceService;
+    @Mock ChatNotificationService chatNotificationService;
+    @Mock ChatSearchIndex chatSearchIndex;
+
+    private ChatService chatService;
+
+    @BeforeEach
+    void setup() {
+        chatService = new ChatService(chatMessageRepository, chatRoomRepository, chatReadRepository,
+                chatMessageDeleteRepository, chatDeleteJdbcRepository, redisChatPublisher, chatParticipantCache,
+                chatUnreadCountService, chatInboxService, chatPresenceService, chatNotificationService,
+                chatSearchIndex, new ChatMessageIdGenerator(0), Optional.empty());
+
+        when(chatParticipantCache.get(ROOM_ID))
+                .thenReturn(Optional.of(new ChatParticipantsDto(ROOM_ID, MENTOR_ID, MENTEE_ID)));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            ReflectionTestUtils.setField(message, "id", MESSAGE_ID);
+            return message;
+        });
+    }
+
+    @Test
+    @DisplayName("수신자가 채팅방을 보고 있으면 읽지 않은 수/알림 대신 읽음 위치를 전진시키고 읽음 이벤트를 발행한다")
+    public void saveMessage_recipientViewing() {
+        //given
+        when(chatPresenceService.findViewers(ROOM_ID, List.of(MENTEE_ID))).thenReturn(Set.of(MENTEE_ID));
+
+        //when
+        chatService.saveMessage(ROOM_ID, MENTOR_ID, "hello");
+
+        //then
+        verify(chatRoomRepository).applyNewMessage(eq(ROOM_ID), eq(MESSAGE_ID), any(), eq(0), eq(0), any());
+        verify(chatInboxService).onMessageSaved(eq(ROOM_ID), eq(MESSAGE_ID), eq("hello"), any(), eq(0), eq(0));
+        verify(chatReadRepository).upsertLastReadMessageId(eq(ROOM_ID), eq(MENTEE_ID), eq(MESSAGE_ID), any());
+        verify(redisChatPublisher).publish(argThat(payload -> payload.isSystem()
+                && MENTEE_ID.equals(payload.getReaderId()) && MESSAGE_ID.equals(payload.getReadUpToMessageId())));
+        verify(chatUnreadCountService, never()).onMessageSaved(anyLong(), anyLong());
+        verify(chatNotificationService, never()).onMessageSaved(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("수신자가 채팅방에 없으면 읽지 않은 수를 올리고 알림을 보낸다")
+    public void saveMessage_recipientAway() {
+        //given
+        when(chatPresenceService.findViewers(ROOM_ID, List.of(MENTEE_ID))).thenReturn(Set.of());
+
+        //when
+        chatService.saveMessage(ROOM_ID, MENTOR_ID, "hello");
+
+        //then
+        verify(chatRoomRepository).applyNewMessage(eq(ROOM_ID), eq(MESSAGE_ID), any(), eq(0), eq(1), any());
+        verify(chatInboxService).onMessageSaved(eq(ROOM_ID), eq(MESSAGE_ID), eq("hello"), any(), eq(0), eq(1));
+        verify(chatUnreadCountService).onMessageSaved(ROOM_ID, MENTEE_ID);
+        verify(chatNotificationService).onMessageSaved(ROOM_ID, MENTOR_ID, MENTEE_ID);
+        verify(chatReadRepository, never()).upsertLastReadMessageId(anyLong(), anyLong(), anyLong(), any());
+        verify(redisChatPublisher, never()).publish(any());
+    }
+}
@@ -0,0 +1,117 @@
+package org.swyp.linkit.domain.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.chat.entity.ChatMessage;
+import org.swyp.linkit.domain.chat.entity.ChatRead;
+import org.swyp.linkit.domain.chat.entity.ChatRoom;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.domain.chat.redis.RedisChatUnreadCounter;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.domain.chat.repository.ChatRoomRepository;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("ChatUnreadReconciler 테스트")
+class ChatUnreadReconcilerTest {
+
+    private static final Long MENTOR_ID = 1L;
+    private static final Long MENTEE_ID = 2L;
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    private final RedisChatUnreadCounter counter = Mockito.mock(RedisChatUnreadCounter.class);
+
+    private ChatUnreadReconciler reconciler;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setup() {
+        reconciler = new ChatUnreadReconciler(chatRoomRepository, chatMessageRepository, counter,
+                Mockito.mock(StringRedisTemplate.class), Duration.ofMinutes(10), Duration.ofMinutes(4));
+
+        room = em.persist(ChatRoom.create(MENTOR_ID, MENTEE_ID));
+        ChatMessage last = null;
+        // 멘토 3건, 멘티 2건 순서대로 전송
+        for (int i = 0; i < 5; i++) {
+            boolean fromMentor = i < 3;
+            last = em.persist(ChatMessage.create(room, fromMentor ? MENTOR_ID : MENTEE_ID,
+                    fromMentor ? SenderRole.MENTOR : SenderRole.MENTEE, "message" + i));
+            if (i == 1) {
+                // 멘티는 두 번째 메시지까지 읽음
+                em.persist(ChatRead.create(room, MENTEE_ID, last.getId()));
+            }
+        }
+        room.updateLastMessage(last.getId(), LocalDateTime.now());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("ChatRead 이후 상대방이 보낸 메시지 수로 Redis 카운터를 교정한다")
+    public void reconcile_overwritesWithChatReadBasedCount() {
+        //given: Redis에는 잘못된 값이 남아있음
+        when(counter.overwrite(anyLong(), anyLong(), anyLong())).thenReturn(7L);
+
+        //when
+        int corrected = reconciler.reconcile(LocalDateTime.now().minusMinutes(10));
+
+        //then
+        // 멘티: 읽은 이후 멘토 메시지 1건, 멘토: 읽음 기록 없음 -> 멘티 메시지 2건
+        verify(counter).overwrite(MENTEE_ID, room.getId(), 1L);
+        verify(counter).overwrite(MENTOR_ID, room.getId(), 2L);
+        assertThat(corrected).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 없는 채팅방은 교정 대상에서 제외한다")
+    public void reconcile_skipsInactiveRooms() {
+        //when
+        int corrected = reconciler.reconcile(LocalDateTime.now().plusMinutes(1));
+
+        //then
+        assertThat(corrected).isZero();
+        Mockito.verifyNoInteractions(counter);
+    }
+
+    @Test
+    @DisplayName("초기 적재는 chat_room의 참여자별 읽지 않은 수로 Redis 카운터를 채운다")
+    public void seed_overwritesFromChatRoomCounts() {
+        //given: 멘티 3건 읽지 않음, 읽지 않은 메시지가 없는 채팅방은 제외
+        chatRoomRepository.applyNewMessage(room.getId(), 100L, LocalDateTime.now(), 0, 3, LocalDateTime.now());
+        em.persist(ChatRoom.create(MENTOR_ID, 3L));
+        em.flush();
+        em.clear();
+
+        //when
+        int seeded = reconciler.seed();
+
+        //then
+        assertThat(seeded).isEqualTo(1);
+        verify(counter).overwrite(MENTEE_ID, room.getId(), 3L);
+        Mockito.verifyNoMoreInteractions(counter);
+    }
+}
@@ -0,0 +1,272 @@
+package org.swyp.linkit.domain.chat.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.swyp.linkit.TestRedisConfig;
+import org.swyp.linkit.domain.chat.entity.SenderRole;
+import org.swyp.linkit.domain.chat.event.ChatMessagesPersistedEvent;
+import org.swyp.linkit.domain.chat.redis.RedisChatMessageJournal;
+import org.swyp.linkit.domain.chat.repository.ChatMessageRepository;
+import org.swyp.linkit.global.error.exception.ChatWriteBackPressureException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Import(TestRedisConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("ChatMessageWriteBehindWriter 테스트")
+class ChatMessageWriteBehindWriterTest {
+
+    private static final Long MENTOR_ID = 1L;
+    private static final Long MENTEE_ID = 2L;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    private final ChatMessageIdGenerator idGenerator = new ChatMessageIdGenerator(0);
+    private final RedisChatMessageJournal journal = Mockito.mock(RedisChatMessageJournal.class);
+    private final AtomicLong journalSequence = new AtomicLong();
+    private final List<ChatMessagesPersistedEvent> events = new CopyOnWriteArrayList<>();
+    private final ApplicationEventPublisher eventPublisher = event -> events.add((ChatMessagesPersistedEvent) event);
+
+    private Long roomId;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM chat_read");
+        jdbcTemplate.update("DELETE FROM chat_message");
+        jdbcTemplate.update("DELETE FROM chat_room");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO chat_room (mentor_id, mentee_id, status, unread_mentor_count, " +
+                "unread_mentee_count, created_at, modified_at) VALUES (?, ?, 'OPEN', 0, 0, ?, ?)",
+                MENTOR_ID, MENTEE_ID, now, now);
+        roomId = jdbcTemplate.queryForObject("SELECT MAX(chat_room_id) FROM chat_room", Long.class);
+    }
+
+    @Test
+    @DisplayName("배치 저장 후 채팅방 집계가 반영되고, 재처리된 메시지는 중복 저장/집계되지 않는다")
+    public void flushBatch_isIdempotent() {
+        //given
+        PendingChatMessage first = message(MENTOR_ID, SenderRole.MENTOR, "hello");
+        PendingChatMessage second = message(MENTEE_ID, SenderRole.MENTEE, "hi");
+        PendingChatMessage third = message(MENTOR_ID, SenderRole.MENTOR, "bye");
+        ChatMessageWriteBehindWriter writer = writer(100);
+
+        //when
+        writer.start();
+        writer.enqueue(first);
+        writer.enqueue(second);
+        writer.enqueue(third);
+        writer.enqueue(first); // 저널 복구로 같은 메시지가 다시 들어온 경우
+        writer.stop();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_message WHERE chat_room_id = ?", Integer.class, roomId)).isEqualTo(3);
+
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT unread_mentor_count, unread_mentee_count, last_message_id FROM chat_room WHERE chat_room_id = ?",
+                roomId);
+        assertThat(((Number) room.get("unread_mentor_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) room.get("unread_mentee_count")).intValue()).isEqualTo(2);
+        assertThat(((Number) room.get("last_message_id")).longValue()).isEqualTo(third.getMessageId());
+
+        verify(journal, Mockito.times(4)).append(anyString());
+        verify(journal, Mockito.atLeastOnce()).removeAll(anyCollection());
+
+        // 커밋 이후 후속 처리 이벤트는 실제로 저장된 메시지만 한 번씩
+        assertThat(events.stream().flatMap(event -> event.messages().stream()).map(PendingChatMessage::getMessageId))
+                .containsExactly(first.getMessageId(), second.getMessageId(), third.getMessageId());
+    }
+
+    @Test
+    @DisplayName("제약 조건을 위반하는 메시지는 dead-letter로 옮기고 같은 배치의 나머지 메시지는 저장한다")
+    public void flushBatch_isolatesPoisonMessage() {
+        //given: 존재하지 않는 채팅방의 메시지 (FK 위반)
+        PendingChatMessage first = message(MENTOR_ID, SenderRole.MENTOR, "hello");
+        PendingChatMessage poison = PendingChatMessage.builder()
+                .messageId(idGenerator.nextId())
+                .roomId(roomId + 1_000)
+                .senderId(MENTOR_ID)
+                .senderRole(SenderRole.MENTOR)
+                .content("poison")
+                .createdAt(LocalDateTime.now())
+                .build();
+        PendingChatMessage third = message(MENTEE_ID, SenderRole.MENTEE, "hi");
+        ChatMessageWriteBehindWriter writer = writer(100);
+
+        //when: writer 시작 전에 적재해 세 메시지가 한 배치로 저장되도록 함
+        writer.enqueue(first);
+        writer.enqueue(poison);
+        writer.enqueue(third);
+        writer.start();
+        writer.stop();
+
+        //then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT chat_message_id FROM chat_message ORDER BY chat_message_id", Long.class))
+                .containsExactly(first.getMessageId(), third.getMessageId());
+        verify(journal).deadLetter(eq("2"), anyString(), anyString());
+        verify(journal, never()).deadLetter(eq("1"), anyString(), anyString());
+        assertThat(events.stream().flatMap(event -> event.messages().stream()).map(PendingChatMessage::getMessageId))
+                .containsExactly(first.getMessageId(), third.getMessageId());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 메시지와 배치 내 중복 메시지는 건너뛰고 새 메시지만 저장/집계한다")
+    public void flushBatch_skipsPersistedMessages() {
+        //given: 이전 배치에서 이미 커밋되었지만 저널에서 제거되지 않은 메시지
+        PendingChatMessage persisted = message(MENTOR_ID, SenderRole.MENTOR, "hello");
+        ChatMessageWriteBehindWriter first = writer(100);
+        first.start();
+        first.enqueue(persisted);
+        first.stop();
+        events.clear();
+
+        PendingChatMessage fresh = message(MENTEE_ID, SenderRole.MENTEE, "hi");
+        ChatMessageWriteBehindWriter writer = writer(100);
+
+        //when: 저널 복구된 메시지와 새 메시지, 같은 메시지의 재적재가 한 배치로 저장됨
+        writer.enqueue(persisted);
+        writer.enqueue(fresh);
+        writer.enqueue(fresh);
+        writer.start();
+        writer.stop();
+
+        //then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT chat_message_id FROM chat_message ORDER BY chat_message_id", Long.class))
+                .containsExactly(persisted.getMessageId(), fresh.getMessageId());
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT unread_mentor_count, unread_mentee_count FROM chat_room WHERE chat_room_id = ?", roomId);
+        assertThat(((Number) room.get("unread_mentor_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) room.get("unread_mentee_count")).intValue()).isEqualTo(1);
+        verify(journal, never()).deadLetter(anyString(), anyString(), anyString());
+        assertThat(events.stream().flatMap(event -> event.messages().stream()).map(PendingChatMessage::getMessageId))
+                .containsExactly(fresh.getMessageId());
+    }
+
+    @Test
+    @DisplayName("write-behind 메시지 ID는 동기 저장 ID와 겹치지 않는 범위이고, 저장된 뒤에는 동기 저장 모드 기동을 거부한다")
+    public void idRange_rejectsMixedMode() {
+        //given
+        ChatMessageIdRangeGuard guard = new ChatMessageIdRangeGuard(chatMessageRepository);
+        guard.afterPropertiesSet();
+        PendingChatMessage message = message(MENTOR_ID, SenderRole.MENTOR, "hello");
+        ChatMessageWriteBehindWriter writer = writer(100);
+
+        //when
+        writer.start();
+        writer.enqueue(message);
+        writer.stop();
+
+        //then
+        assertThat(message.getMessageId()).isGreaterThanOrEqualTo(ChatMessageIdGenerator.MIN_ID);
+        assertThatThrownBy(guard::afterPropertiesSet).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("채팅방을 보고 있던 수신자는 읽지 않은 수 대신 읽음 위치가 마지막 메시지까지 전진한다")
+    public void flushBatch_advancesReadForViewingRecipient() {
+        //given: 멘티가 채팅방을 보고 있는 동안 멘토가 두 건, 멘티가 자리를 비운 뒤 한 건
+        PendingChatMessage first = viewedMessage(MENTOR_ID, MENTEE_ID, "hello");
+        PendingChatMessage second = viewedMessage(MENTOR_ID, MENTEE_ID, "there");
+        PendingChatMessage third = message(MENTOR_ID, SenderRole.MENTOR, "bye");
+        ChatMessageWriteBehindWriter writer = writer(100);
+
+        //when
+        writer.start();
+        writer.enqueue(first);
+        writer.enqueue(second);
+        writer.enqueue(third);
+        writer.stop();
+
+        //then
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT unread_mentor_count, unread_mentee_count FROM chat_room WHERE chat_room_id = ?", roomId);
+        assertThat(((Number) room.get("unread_mentor_count")).intValue()).isZero();
+        assertThat(((Number) room.get("unread_mentee_count")).intValue()).isEqualTo(1);
+
+        Long lastRead = jdbcTemplate.queryForObject(
+                "SELECT last_read_message_id FROM chat_read WHERE chat_room_id = ? AND user_id = ?",
+                Long.class, roomId, MENTEE_ID);
+        assertThat(lastRead).isEqualTo(second.getMessageId());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 저널 기록을 되돌리고 back-pressure 예외를 던진다")
+    public void enqueue_backPressure() {
+        //given: writer 스레드를 시작하지 않아 큐가 비워지지 않음
+        ChatMessageWriteBehindWriter writer = writer(1);
+        writer.enqueue(message(MENTOR_ID, SenderRole.MENTOR, "first"));
+
+        //when & then
+        assertThatThrownBy(() -> writer.enqueue(message(MENTOR_ID, SenderRole.MENTOR, "second")))
+                .isInstanceOf(ChatWriteBackPressureException.class);
+        verify(journal).remove(anyString());
+    }
+
+    private ChatMessageWriteBehindWriter writer(int capacity) {
+        when(journal.findAll()).thenReturn(List.of());
+        when(journal.append(anyString())).thenAnswer(invocation -> String.valueOf(journalSequence.incrementAndGet()));
+        return new ChatMessageWriteBehindWriter(jdbcTemplate, transactionManager, journal, objectMapper,
+                eventPublisher, capacity, 10, 10, 10, 3);
+    }
+
+    private PendingChatMessage message(Long senderId, SenderRole role, String content) {
+        return PendingChatMessage.builder()
+                .messageId(idGenerator.nextId())
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderRole(role)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private PendingChatMessage viewedMessage(Long senderId, Long recipientId, String content) {
+        return PendingChatMessage.builder()
+                .messageId(idGenerator.nextId())
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderRole(SenderRole.MENTOR)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .recipientId(recipientId)
+                .recipientViewing(true)
+                .build();
+    }
+}
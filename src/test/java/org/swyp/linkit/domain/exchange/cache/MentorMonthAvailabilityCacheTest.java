@@ -0,0 +1,113 @@
+package org.swyp.linkit.domain.exchange.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.swyp.linkit.domain.exchange.dto.BookedTimeDto;
+import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
+import org.swyp.linkit.domain.exchange.event.SkillExchangeBookedEvent;
+import org.swyp.linkit.domain.exchange.repository.SkillExchangeRepository;
+import org.swyp.linkit.domain.exchange.slot.MonthSlotCalendar;
+import org.swyp.linkit.domain.user.event.AvailableScheduleChangedEvent;
+import org.swyp.linkit.domain.user.service.AvailableScheduleService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MentorMonthAvailabilityCache 단위 테스트")
+class MentorMonthAvailabilityCacheTest {
+
+    private static final Long MENTOR_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2026, 12);
+
+    private final AvailableScheduleService availableScheduleService = mock(AvailableScheduleService.class);
+    private final SkillExchangeRepository exchangeRepository = mock(SkillExchangeRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private MentorMonthAvailabilityCache cache;
+
+    @BeforeEach
+    void setup() {
+        // 12/1 10:00~12:00, 12/2 10:00~10:30, 12/3 10:00~12:00
+        MonthSlotCalendar operating = MonthSlotCalendar.empty(MONTH);
+        operating.add(MONTH.atDay(1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        operating.add(MONTH.atDay(2), LocalTime.of(10, 0), LocalTime.of(10, 30));
+        operating.add(MONTH.atDay(3), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        when(availableScheduleService.getOperatingCalendar(MENTOR_ID, MONTH)).thenReturn(operating);
+        cache = new MentorMonthAvailabilityCache(availableScheduleService, exchangeRepository, redisTemplate,
+                100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("가능 시간에서 그 달 예약을 한 번에 빼서 거래 시간만큼 연속 슬롯이 남은 날짜만 반환한다")
+    public void get_excludesFullyBookedDays() {
+        //given: 12/1 10:30~11:30 예약 (60분 연속 불가), 12/3 11:00~11:30 예약 (10:00~11:00 가능)
+        when(exchangeRepository.findBookedTimesByReceiverIdAndDateBetween(
+                MENTOR_ID, MONTH.atDay(1), MONTH.atDay(3), ExchangeStatus.CANCELED))
+                .thenReturn(List.of(
+                        new BookedTimeDto(MONTH.atDay(1), LocalTime.of(10, 30), LocalTime.of(11, 30)),
+                        new BookedTimeDto(MONTH.atDay(3), LocalTime.of(11, 0), LocalTime.of(11, 30))));
+
+        //when
+        List<LocalDate> hourly = cache.get(MENTOR_ID, MONTH, 2);
+        List<LocalDate> halfHourly = cache.get(MENTOR_ID, MONTH, 1);
+
+        //then
+        assertThat(hourly).containsExactly(MONTH.atDay(3));
+        assertThat(halfHourly).containsExactly(MONTH.atDay(1), MONTH.atDay(2), MONTH.atDay(3));
+        verify(exchangeRepository, times(2)).findBookedTimesByReceiverIdAndDateBetween(
+                MENTOR_ID, MONTH.atDay(1), MONTH.atDay(3), ExchangeStatus.CANCELED);
+    }
+
+    @Test
+    @DisplayName("같은 (멘토, 월, 거래 시간)은 캐시에서 반환하고 가능 시간이 없는 달은 예약을 조회하지 않는다")
+    public void get_cachesAndSkipsEmptyMonth() {
+        //given
+        YearMonth emptyMonth = MONTH.plusMonths(1);
+        when(availableScheduleService.getOperatingCalendar(MENTOR_ID, emptyMonth))
+                .thenReturn(MonthSlotCalendar.empty(emptyMonth));
+
+        //when
+        List<LocalDate> first = cache.get(MENTOR_ID, MONTH, 2);
+        List<LocalDate> second = cache.get(MENTOR_ID, MONTH, 2);
+        List<LocalDate> empty = cache.get(MENTOR_ID, emptyMonth, 2);
+
+        //then
+        assertThat(second).isSameAs(first).containsExactly(MONTH.atDay(1), MONTH.atDay(3));
+        assertThat(empty).isEmpty();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getLoadCount()).isEqualTo(2);
+        verify(exchangeRepository, times(1)).findBookedTimesByReceiverIdAndDateBetween(
+                anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("거래 신청/가능 일정 변경 이벤트는 멘토의 월 캐시를 비우고 다른 인스턴스에 무효화 메시지를 발행한다")
+    public void events_invalidateMentor() {
+        //given
+        cache.get(MENTOR_ID, MONTH, 2);
+
+        //when
+        cache.onBooked(new SkillExchangeBookedEvent(MENTOR_ID, MONTH.atDay(1)));
+        cache.get(MENTOR_ID, MONTH, 2);
+        cache.onScheduleChanged(new AvailableScheduleChangedEvent(MENTOR_ID));
+        cache.get(MENTOR_ID, MONTH, 2);
+
+        //then
+        assertThat(cache.getLoadCount()).isEqualTo(3);
+        verify(redisTemplate, times(2)).convertAndSend(MentorMonthAvailabilityCache.INVALIDATION_CHANNEL,
+                String.valueOf(MENTOR_ID));
+    }
+}
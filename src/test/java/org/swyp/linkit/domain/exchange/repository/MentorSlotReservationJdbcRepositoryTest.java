@@ -0,0 +1,66 @@
+package org.swyp.linkit.domain.exchange.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.swyp.linkit.domain.exchange.entity.MentorSlotReservation;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, MentorSlotReservationJdbcRepository.class})
+@DisplayName("MentorSlotReservationJdbcRepository 테스트")
+class MentorSlotReservationJdbcRepositoryTest {
+
+    private static final Long MENTOR_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2026, 12, 1);
+
+    @Autowired
+    MentorSlotReservationJdbcRepository jdbcRepository;
+
+    @Autowired
+    MentorSlotReservationRepository reservationRepository;
+
+    @Test
+    @DisplayName("슬롯 마스크를 다중 행 INSERT 한 번으로 점유하고, 겹치는 점유는 문장 전체가 중복 키로 실패한다")
+    public void reserve_rejectsOverlappingSlots() {
+        //given: 10:00 ~ 11:00 (슬롯 20, 21)
+        int inserted = jdbcRepository.reserve(MENTOR_ID, DATE, DaySlotMask.range(20, 22), 100L, LocalDateTime.now());
+
+        //when & then: 10:30 ~ 11:30 은 슬롯 21이 겹쳐 실패, 다른 멘토/날짜는 성공
+        assertThatThrownBy(() -> jdbcRepository.reserve(MENTOR_ID, DATE, DaySlotMask.range(21, 23), 101L, LocalDateTime.now()))
+                .isInstanceOf(DuplicateKeyException.class);
+        jdbcRepository.reserve(MENTOR_ID + 1, DATE, DaySlotMask.range(21, 23), 102L, LocalDateTime.now());
+        jdbcRepository.reserve(MENTOR_ID, DATE.plusDays(1), DaySlotMask.range(21, 23), 103L, LocalDateTime.now());
+
+        List<MentorSlotReservation> reserved = reservationRepository.findAllBySkillExchangeId(100L);
+        assertThat(inserted).isEqualTo(2);
+        assertThat(reserved).extracting(reservation -> reservation.getId().getSlotIndex()).containsExactlyInAnyOrder(20, 21);
+        assertThat(reservationRepository.findAllBySkillExchangeId(101L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래의 점유 슬롯을 해제하면 같은 슬롯을 다시 점유할 수 있다")
+    public void deleteAllBySkillExchangeId_releasesSlots() {
+        //given
+        jdbcRepository.reserve(MENTOR_ID, DATE, DaySlotMask.range(20, 22), 100L, LocalDateTime.now());
+
+        //when
+        int released = reservationRepository.deleteAllBySkillExchangeId(100L);
+        int reserved = jdbcRepository.reserve(MENTOR_ID, DATE, DaySlotMask.range(20, 22), 101L, LocalDateTime.now());
+
+        //then
+        assertThat(released).isEqualTo(2);
+        assertThat(reserved).isEqualTo(2);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.swyp.linkit.domain.exchange.dto.BookedTimeDto;
 import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
 import org.swyp.linkit.domain.exchange.entity.SkillExchange;
 import org.swyp.linkit.domain.user.entity.*;
@@ -94,6 +95,25 @@ class SkillExchangeRepositoryTest {
         assertNotNull(firstExchange.getReceiverSkill().getSkillName());
     }
 
+    @Test
+    @DisplayName("receiverId의 기간 내 예약 시간대를 취소 건을 제외하고 한 번에 조회")
+    public void findBookedTimesByReceiverIdAndDateBetween(){
+        //given
+        Long receiverId = receiver.getId();
+
+        //when
+        List<BookedTimeDto> sut = exchangeRepository.findBookedTimesByReceiverIdAndDateBetween(
+                receiverId, date.withDayOfMonth(1), date.withDayOfMonth(28), ExchangeStatus.CANCELED);
+        List<BookedTimeDto> otherMonth = exchangeRepository.findBookedTimesByReceiverIdAndDateBetween(
+                receiverId, date.plusMonths(1).withDayOfMonth(1), date.plusMonths(1).withDayOfMonth(31), ExchangeStatus.CANCELED);
+
+        //then
+        assertThat(sut).hasSize(4);
+        assertThat(sut).allMatch(booked -> booked.getScheduledDate().equals(date));
+        assertThat(sut).extracting(BookedTimeDto::getStartTime).doesNotContain(LocalTime.of(1, 0));
+        assertThat(otherMonth).isEmpty();
+    }
+
     private User createUser() {
         String uuid = UUID.randomUUID().toString();
         return User.create(
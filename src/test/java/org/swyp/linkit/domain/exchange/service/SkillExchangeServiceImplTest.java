@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.swyp.linkit.domain.credit.dto.CreditBalanceUpdateDto;
 import org.swyp.linkit.domain.credit.entity.Credit;
@@ -15,6 +17,7 @@ import org.swyp.linkit.domain.credit.entity.HistoryType;
 import org.swyp.linkit.domain.credit.entity.SupplyType;
 import org.swyp.linkit.domain.credit.service.CreditHistoryService;
 import org.swyp.linkit.domain.credit.service.CreditService;
+import org.swyp.linkit.domain.exchange.cache.MentorMonthAvailabilityCache;
 import org.swyp.linkit.domain.exchange.dto.SkillExchangeDto;
 import org.swyp.linkit.domain.exchange.dto.request.SkillExchangeRequestDto;
 import org.swyp.linkit.domain.exchange.dto.response.AvailableDatesResponseDto;
@@ -23,7 +26,10 @@ import org.swyp.linkit.domain.exchange.dto.response.SkillExchangeResponseDto;
 import org.swyp.linkit.domain.exchange.dto.response.SlotDto;
 import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
 import org.swyp.linkit.domain.exchange.entity.SkillExchange;
+import org.swyp.linkit.domain.exchange.event.SkillExchangeBookedEvent;
+import org.swyp.linkit.domain.exchange.repository.MentorSlotReservationJdbcRepository;
 import org.swyp.linkit.domain.exchange.repository.SkillExchangeRepository;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
 import org.swyp.linkit.domain.user.dto.AvailableScheduleDto;
 import org.swyp.linkit.domain.user.entity.*;
 import org.swyp.linkit.domain.user.service.AvailableScheduleService;
@@ -33,6 +39,7 @@ import org.swyp.linkit.global.error.exception.*;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,6 +68,15 @@ class SkillExchangeServiceImplTest {
     @Mock
     CreditHistoryService historyService;
 
+    @Mock
+    MentorMonthAvailabilityCache monthAvailabilityCache;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    MentorSlotReservationJdbcRepository slotReservationRepository;
+
 
     @InjectMocks
     SkillExchangeServiceImpl exchangeService;
@@ -78,6 +94,7 @@ class SkillExchangeServiceImplTest {
     class GetAvailableDates {
         private final User mentor = createUser();
         private final String month = "2026-02";
+        private final YearMonth yearMonth = YearMonth.of(2026, 2);
 
         @Nested
         @DisplayName("성공 케이스")
@@ -89,32 +106,36 @@ class SkillExchangeServiceImplTest {
                 // mentor 조회 Mock 처리
                 when(userService.getUserById(mentor.getId())).thenReturn(mentor);
 
-                // mentor 의 3개월치 데이터 Mock 처리
-                AvailableScheduleDto schedule1 = new AvailableScheduleDto(
-                        LocalDate.of(2026, 2, 1),
-                        "SUN", LocalTime.of(10, 0),
-                        LocalTime.of(11, 0));
-                AvailableScheduleDto schedule2 = new AvailableScheduleDto(
-                        LocalDate.of(2026, 2, 1),
-                        "SUN", LocalTime.of(11, 0),
-                        LocalTime.of(12, 0));
-                AvailableScheduleDto schedule3 = new AvailableScheduleDto(
-                        LocalDate.of(2026, 2, 6),
-                        "WED", LocalTime.of(10, 0),
-                        LocalTime.of(12, 0));
-
-                when(availableScheduleService.getExpandedSchedules(mentor.getId()))
-                        .thenReturn(List.of(schedule1, schedule2, schedule3));
+                // 해당 월의 (가능 시간 - 예약) 달력에서 30분 슬롯이 남은 날짜 Mock 처리
+                when(monthAvailabilityCache.get(mentor.getId(), yearMonth, 1))
+                        .thenReturn(List.of(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 6)));
                 // when
-                AvailableDatesResponseDto response = exchangeService.getAvailableDates(mentor.getId(), month);
+                AvailableDatesResponseDto response = exchangeService.getAvailableDates(mentor.getId(), null, month);
 
                 // then
-                // 중복 제거로 인해 2
-                assertThat(response.getAvailableDates()).hasSize(2);
+                assertThat(response.getAvailableDates()).containsExactly("2026-02-01", "2026-02-06");
                 assertThat(response.getAvailableDates().stream().allMatch(date -> date.startsWith(month))).isTrue();
 
                 verify(userService).getUserById(mentor.getId());
-                verify(availableScheduleService).getExpandedSchedules(mentor.getId());
+                verify(monthAvailabilityCache).get(mentor.getId(), yearMonth, 1);
+            }
+
+            @Test
+            @DisplayName("스킬 ID가 있으면 그 스킬의 거래 시간만큼 연속 슬롯이 남은 날짜를 반환")
+            public void success_withSkillDuration() {
+                // given
+                UserSkill skill = createUserSkill(90);
+                createUserProfile(mentor, List.of(skill));
+                when(userSkillService.getUserSkillWithProfileAndUser(skill.getId())).thenReturn(skill);
+                when(monthAvailabilityCache.get(mentor.getId(), yearMonth, 3))
+                        .thenReturn(List.of(LocalDate.of(2026, 2, 6)));
+
+                // when
+                AvailableDatesResponseDto response = exchangeService.getAvailableDates(mentor.getId(), skill.getId(), month);
+
+                // then
+                assertThat(response.getAvailableDates()).containsExactly("2026-02-06");
+                verify(userService, never()).getUserById(any());
             }
         }
 
@@ -130,7 +151,7 @@ class SkillExchangeServiceImplTest {
                         .when(userService).getUserById(mentor.getId());
 
                 // when && then
-                assertThatThrownBy(() -> exchangeService.getAvailableDates(mentor.getId(), month))
+                assertThatThrownBy(() -> exchangeService.getAvailableDates(mentor.getId(), null, month))
                         .isInstanceOf(MentorNotFoundException.class);
             }
 
@@ -140,12 +161,12 @@ class SkillExchangeServiceImplTest {
                 // given
                 // mentor 조회 Mock 처리
                 when(userService.getUserById(mentor.getId())).thenReturn(mentor);
-                // 3개월치 데이터 빈 데이터 처리
-                when(availableScheduleService.getExpandedSchedules(mentor.getId()))
+                // 예약 가능한 날짜가 없는 월 처리 (스케줄 없음 또는 전부 예약됨)
+                when(monthAvailabilityCache.get(mentor.getId(), yearMonth, 1))
                         .thenReturn(List.of());
 
                 // when && then
-                assertThatThrownBy(() -> exchangeService.getAvailableDates(mentor.getId(), month))
+                assertThatThrownBy(() -> exchangeService.getAvailableDates(mentor.getId(), null, month))
                         .isInstanceOf(ScheduleNotFoundException.class);
 
             }
@@ -188,7 +209,7 @@ class SkillExchangeServiceImplTest {
                         LocalDate.of(2026, 2, 4),
                         "WED", LocalTime.of(17, 30),
                         LocalTime.of(18, 0));
-                when(availableScheduleService.getExpandedSchedules(mentorUser.getId()))
+                when(availableScheduleService.rulesFor(mentorUser.getId(), date))
                         .thenReturn(List.of(schedule1, schedule2, schedule3, schedule4));
 
                 // 해당 날짜에 예약 조회 Mock 처리
@@ -277,7 +298,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentee.getId())).thenReturn(mentee);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 // 멘토의 가능한 시간 조회 Mock 처리 -> date 날에 [10:00 ~ 12:00], [13:00 ~ 13:30], [20:00 ~ 22:00]
                 AvailableScheduleDto schedule1 = new AvailableScheduleDto(
@@ -286,7 +307,7 @@ class SkillExchangeServiceImplTest {
                         date, "SUN", LocalTime.of(13, 0), LocalTime.of(13, 30));
                 AvailableScheduleDto schedule3 = new AvailableScheduleDto(
                         date, "SUN", LocalTime.of(20, 0), LocalTime.of(22, 0));
-                when(availableScheduleService.getExpandedSchedules(mentor.getId())).thenReturn(List.of(schedule1, schedule2, schedule3));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule1, schedule2, schedule3));
 
                 // 예약된 현황 조회 Mock 처리 -> date 날에 [10:00 ~ 10:30], [11:00 ~ 12:00]
                 SkillExchange exchange1 = createExchange(mentor, mentorSkill, LocalTime.of(10, 0), LocalTime.of(10, 30));
@@ -326,6 +347,10 @@ class SkillExchangeServiceImplTest {
                 // then
                 assertThat(sut.getSkillExchangeId()).isEqualTo(exchange.getId());
                 assertThat(sut.getExchangeStatus()).isEqualTo(ExchangeStatus.PENDING.getDescription());
+                // 20:00 ~ 21:00 -> 슬롯 40, 41 점유
+                verify(slotReservationRepository).reserve(eq(mentor.getId()), eq(date),
+                        eq(DaySlotMask.range(40, 42)), eq(exchange.getId()), any());
+                verify(eventPublisher).publishEvent(new SkillExchangeBookedEvent(mentor.getId(), date));
             }
         }
 
@@ -356,7 +381,7 @@ class SkillExchangeServiceImplTest {
 
                 // 멘토 스킬 조회 Mock 처리
                 doThrow(UserSkillNotFoundException.class).when(userSkillService)
-                        .getUserSkillWithProfileAndUserAndLock(mentorSkill.getId());
+                        .getUserSkillWithProfileAndUser(mentorSkill.getId());
 
                 SkillExchangeRequestDto requestDto = new SkillExchangeRequestDto(mentor.getId(), mentorSkill.getId(), "", date, startTime);
                 SkillExchangeDto skillExchangeDto = SkillExchangeDto.from(requestDto);
@@ -377,7 +402,7 @@ class SkillExchangeServiceImplTest {
                 User otherUser = createUser();
                 UserSkill otherUserSkill = createUserSkill(60);
                 createUserProfile(otherUser, List.of(otherUserSkill));
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(otherUserSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(otherUserSkill);
 
                 SkillExchangeRequestDto requestDto = new SkillExchangeRequestDto(mentor.getId(), mentorSkill.getId(), "", date, startTime);
                 SkillExchangeDto skillExchangeDto = SkillExchangeDto.from(requestDto);
@@ -397,7 +422,7 @@ class SkillExchangeServiceImplTest {
                 // 멘토 스킬 조회 미공개 skill로 Mock 처리
                 UserSkill unVisibleUserSkill = createUnVisibleUserSkill(60);
                 createUserProfile(mentor, List.of(unVisibleUserSkill));
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(unVisibleUserSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(unVisibleUserSkill);
 
                 SkillExchangeRequestDto requestDto = new SkillExchangeRequestDto(mentor.getId(), mentorSkill.getId(), "", date, startTime);
                 SkillExchangeDto skillExchangeDto = SkillExchangeDto.from(requestDto);
@@ -415,7 +440,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentor.getId())).thenReturn(mentor);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 SkillExchangeRequestDto requestDto = new SkillExchangeRequestDto(mentor.getId(), mentorSkill.getId(), "", date, startTime);
                 SkillExchangeDto skillExchangeDto = SkillExchangeDto.from(requestDto);
@@ -433,7 +458,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentee.getId())).thenReturn(mentee);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 // 멘토의 가능한 시간 조회 Mock 처리 -> date 날에 [10:00 ~ 12:00], [13:00 ~ 13:30], [23:30 ~ 1:00]
                 AvailableScheduleDto schedule1 = new AvailableScheduleDto(
@@ -442,7 +467,7 @@ class SkillExchangeServiceImplTest {
                         date, "SUN", LocalTime.of(13, 0), LocalTime.of(13, 30));
                 AvailableScheduleDto schedule3 = new AvailableScheduleDto(
                         date, "SUN", LocalTime.of(23, 30), LocalTime.of(1, 0));
-                when(availableScheduleService.getExpandedSchedules(mentor.getId())).thenReturn(List.of(schedule1, schedule2, schedule3));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule1, schedule2, schedule3));
 
                 // 예약된 현황 조회 Mock 처리 -> date 날에 [10:00 ~ 10:30], [11:00 ~ 12:00]
                 SkillExchange exchange1 = createExchange(mentor, mentorSkill, LocalTime.of(10, 0), LocalTime.of(10, 30));
@@ -468,7 +493,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentee.getId())).thenReturn(mentee);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 // 멘토의 가능한 시간 조회 Mock 처리 -> date 날에 [10:00 ~ 12:00], [13:00 ~ 13:30], [23:30 ~ 1:00]
                 AvailableScheduleDto schedule1 = new AvailableScheduleDto(
@@ -477,7 +502,7 @@ class SkillExchangeServiceImplTest {
                         date, "SUN", LocalTime.of(13, 0), LocalTime.of(13, 30));
                 AvailableScheduleDto schedule3 = new AvailableScheduleDto(
                         date, "SUN", LocalTime.of(23, 30), LocalTime.of(1, 0));
-                when(availableScheduleService.getExpandedSchedules(mentor.getId())).thenReturn(List.of(schedule1, schedule2, schedule3));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule1, schedule2, schedule3));
 
                 // 예약된 현황 조회 Mock 처리 -> date 날에 [10:00 ~ 10:30], [11:00 ~ 12:00]
                 SkillExchange exchange1 = createExchange(mentor, mentorSkill, LocalTime.of(10, 0), LocalTime.of(10, 30));
@@ -503,7 +528,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentee.getId())).thenReturn(mentee);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 // 멘토의 가능한 시간 조회 Mock 처리 -> date 날에 [10:00 ~ 12:00], [13:00 ~ 13:30], [23:30 ~ 1:00]
                 AvailableScheduleDto schedule1 = new AvailableScheduleDto(
@@ -512,7 +537,7 @@ class SkillExchangeServiceImplTest {
                         date, "SUN", LocalTime.of(13, 0), LocalTime.of(13, 30));
                 AvailableScheduleDto schedule3 = new AvailableScheduleDto(
                         date, "SUN", LocalTime.of(23, 30), LocalTime.of(1, 0));
-                when(availableScheduleService.getExpandedSchedules(mentor.getId())).thenReturn(List.of(schedule1, schedule2, schedule3));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule1, schedule2, schedule3));
 
                 // 예약된 현황 조회 Mock 처리 -> date 날에 [10:00 ~ 10:30], [11:00 ~ 12:00]
                 SkillExchange exchange1 = createExchange(mentor, mentorSkill, LocalTime.of(10, 0), LocalTime.of(10, 30));
@@ -530,6 +555,39 @@ class SkillExchangeServiceImplTest {
                         .isInstanceOf(AlreadyBookedExchangeTimeException.class);
             }
 
+            @Test
+            @DisplayName("동시 신청이 같은 슬롯을 먼저 점유해 중복 키가 발생하면 AlreadyBookedExchangeTimeException")
+            public void fail_SlotReservationConflict() {
+                // given
+                when(userService.getUserById(mentee.getId())).thenReturn(mentee);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
+
+                // 사전 검증 시점에는 비어 있는 시간 -> date 날에 [20:00 ~ 22:00], 예약 없음
+                AvailableScheduleDto schedule = new AvailableScheduleDto(
+                        date, "SUN", LocalTime.of(20, 0), LocalTime.of(22, 0));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule));
+                when(exchangeRepository.findAllByReceiverIdAndDate(mentor.getId(), date, ExchangeStatus.CANCELED))
+                        .thenReturn(List.of());
+
+                int amount = mentorSkill.getExchangeDuration() / CREDIT_EXCHANGE_RATE_MINUTES;
+                when(creditService.useCredit(mentee.getId(), amount)).thenReturn(CreditBalanceUpdateDto.of(menteeCredit, amount));
+                SkillExchange exchange = createExchange(mentor, mentorSkill, startTime, startTime.plusMinutes(60));
+                when(exchangeRepository.save(any(SkillExchange.class))).thenReturn(exchange);
+
+                // 다른 트랜잭션이 먼저 커밋한 슬롯 -> 다중 행 INSERT 중복 키
+                when(slotReservationRepository.reserve(eq(mentor.getId()), eq(date), anyLong(), eq(exchange.getId()), any()))
+                        .thenThrow(new DuplicateKeyException("Duplicate entry"));
+
+                SkillExchangeRequestDto requestDto = new SkillExchangeRequestDto(mentor.getId(), mentorSkill.getId(), "", date, startTime);
+                SkillExchangeDto skillExchangeDto = SkillExchangeDto.from(requestDto);
+
+                // when && then
+                assertThatThrownBy(() -> exchangeService.requestSkillExchange(mentee.getId(), skillExchangeDto))
+                        .isInstanceOf(AlreadyBookedExchangeTimeException.class);
+                verify(historyService, never()).createExchangeHistory(any(), any(), any(), any(), anyInt(), anyInt(), any());
+                verify(eventPublisher, never()).publishEvent(any(Object.class));
+            }
+
             @Test
             @DisplayName("멘티의 크레딧 부족으로 인한 NotEnoughCreditException")
             public void success() {
@@ -538,7 +596,7 @@ class SkillExchangeServiceImplTest {
                 when(userService.getUserById(mentee.getId())).thenReturn(mentee);
 
                 // 멘토 스킬 조회 Mock 처리
-                when(userSkillService.getUserSkillWithProfileAndUserAndLock(mentorSkill.getId())).thenReturn(mentorSkill);
+                when(userSkillService.getUserSkillWithProfileAndUser(mentorSkill.getId())).thenReturn(mentorSkill);
 
                 // 멘토의 가능한 시간 조회 Mock 처리 -> date 날에 [10:00 ~ 12:00], [13:00 ~ 13:30], [20:00 ~ 22:00]
                 AvailableScheduleDto schedule1 = new AvailableScheduleDto(
@@ -547,7 +605,7 @@ class SkillExchangeServiceImplTest {
                         date, "SUN", LocalTime.of(13, 0), LocalTime.of(13, 30));
                 AvailableScheduleDto schedule3 = new AvailableScheduleDto(
                         date, "SUN", LocalTime.of(20, 0), LocalTime.of(22, 0));
-                when(availableScheduleService.getExpandedSchedules(mentor.getId())).thenReturn(List.of(schedule1, schedule2, schedule3));
+                when(availableScheduleService.rulesFor(mentor.getId(), date)).thenReturn(List.of(schedule1, schedule2, schedule3));
 
                 // 예약된 현황 조회 Mock 처리 -> date 날에 [10:00 ~ 10:30], [11:00 ~ 12:00]
                 SkillExchange exchange1 = createExchange(mentor, mentorSkill, LocalTime.of(10, 0), LocalTime.of(10, 30));
@@ -15,13 +15,21 @@ import org.swyp.linkit.TestRedisConfig;
 import org.swyp.linkit.domain.credit.entity.Credit;
 import org.swyp.linkit.domain.exchange.dto.SkillExchangeDto;
 import org.swyp.linkit.domain.exchange.dto.request.SkillExchangeRequestDto;
+import org.swyp.linkit.domain.exchange.entity.ExchangeStatus;
 import org.swyp.linkit.domain.exchange.entity.SkillExchange;
+import org.swyp.linkit.domain.exchange.repository.MentorSlotReservationRepository;
+import org.swyp.linkit.domain.exchange.repository.SkillExchangeRepository;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
 import org.swyp.linkit.domain.user.entity.*;
+import org.swyp.linkit.global.error.exception.AlreadyBookedExchangeTimeException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -45,6 +53,12 @@ public class SkillExchangeServiceWithRepositoryTest {
     @Autowired
     private SkillExchangeService exchangeService;
 
+    @Autowired
+    private SkillExchangeRepository exchangeRepository;
+
+    @Autowired
+    private MentorSlotReservationRepository reservationRepository;
+
     private LocalTime startTime = LocalTime.of(10, 0);
     private LocalTime endTime = LocalTime.of(11, 0);
     private User mentee1;
@@ -88,8 +102,7 @@ public class SkillExchangeServiceWithRepositoryTest {
             em.persist(mentor);
 
             // 스킬 카테고리 생성
-            SkillCategory skillCategory = createSkillCategory();
-            em.persist(skillCategory);
+            SkillCategory skillCategory = getOrCreateSkillCategory();
 
             // 멘토 스킬 생성
             mentorSkill = createUserSkill(skillCategory, 60);
@@ -158,6 +171,106 @@ public class SkillExchangeServiceWithRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("슬롯 점유 스트레스 테스트: 겹치는 시간대 동시 신청에서도 중복 예약이 없고 실패는 모두 이미 예약된 시간으로 응답")
+    public void requestSkillExchange_slotReservationStress() throws InterruptedException {
+        // given: 10:00 ~ 22:00(24슬롯) 멘토의 60분 스킬에 멘티 48명이 30분 간격의 서로 겹치는 시작 시간으로 동시 신청
+        LocalDate date = LocalDate.now().plusDays(3);
+        BookingTarget target = createBookingTarget(48);
+
+        // when
+        StormResult result = runBookingStorm(target, date);
+
+        // then: 성공한 예약끼리 슬롯이 겹치지 않고, 점유 행 수 = 성공 수 x 2슬롯
+        long occupied = 0L;
+        List<SkillExchange> booked = exchangeRepository.findAllByReceiverIdAndDate(
+                target.mentor().getId(), date, ExchangeStatus.CANCELED);
+        for (SkillExchange exchange : booked) {
+            long slots = DaySlotMask.range(exchange.getStartTime(), exchange.getEndTime());
+            assertThat(occupied & slots).isZero();
+            occupied |= slots;
+        }
+        long reservations = reservationRepository.findAll().stream()
+                .filter(reservation -> reservation.getId().getMentorId().equals(target.mentor().getId()))
+                .count();
+
+        assertThat(result.success()).isBetween(1, 12).isEqualTo(booked.size());
+        assertThat(reservations).isEqualTo(result.success() * 2L);
+        assertThat(result.failures().keySet()).containsOnly(AlreadyBookedExchangeTimeException.class.getSimpleName());
+        assertThat(result.success() + result.failures().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(48);
+    }
+
+    private StormResult runBookingStorm(BookingTarget target, LocalDate date) throws InterruptedException {
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(target.mentees().size());
+        AtomicInteger successCount = new AtomicInteger();
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < target.mentees().size(); i++) {
+            // 시작 시간 10:00 ~ 21:00 (30분 간격 23가지)
+            LocalTime requestedStart = LocalTime.of(10, 0).plusMinutes(30L * (i % 23));
+            Long menteeId = target.mentees().get(i).getId();
+            SkillExchangeDto dto = SkillExchangeDto.from(new SkillExchangeRequestDto(
+                    target.mentor().getId(), target.skill().getId(), "메시지", date, requestedStart));
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    exchangeService.requestSkillExchange(menteeId, dto);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failures.merge(e.getClass().getSimpleName(), 1, Integer::sum);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+        return new StormResult(successCount.get(), failures);
+    }
+
+    private BookingTarget createBookingTarget(int menteeCount) {
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            List<User> mentees = new ArrayList<>();
+            for (int i = 0; i < menteeCount; i++) {
+                User mentee = createUser();
+                em.persist(mentee);
+                em.persist(createCredit(mentee));
+                mentees.add(mentee);
+            }
+
+            User targetMentor = createUser();
+            em.persist(targetMentor);
+            SkillCategory skillCategory = getOrCreateSkillCategory();
+            UserSkill skill = createUserSkill(skillCategory, 60);
+            em.persist(createUserProfile(targetMentor, List.of(skill)));
+            em.persist(skill);
+            for (AvailableSchedule availableSchedule : createAvailableSchedules(
+                    targetMentor, LocalTime.of(10, 0), LocalTime.of(22, 0))) {
+                em.persist(availableSchedule);
+            }
+
+            em.flush();
+            transactionManager.commit(status);
+            em.clear();
+            return new BookingTarget(targetMentor, skill, mentees);
+        } catch (Exception e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    private record BookingTarget(User mentor, UserSkill skill, List<User> mentees) {
+    }
+
+    private record StormResult(int success, Map<String, Integer> failures) {
+    }
+
     private List<AvailableSchedule> createAvailableSchedules(User user, LocalTime start, LocalTime end) {
         return List.of(
                 AvailableSchedule.create(user, Weekday.MON, start, end),
@@ -218,8 +331,17 @@ public class SkillExchangeServiceWithRepositoryTest {
                 false);
     }
 
-    private SkillCategory createSkillCategory() {
-        return SkillCategory.create(SkillCategoryType.DEVELOPMENT);
+    // 카테고리 코드가 유니크라서 커밋된 데이터가 남는 테스트끼리는 재사용
+    private SkillCategory getOrCreateSkillCategory() {
+        return em.createQuery("SELECT c FROM SkillCategory c WHERE c.categoryCode = :code", SkillCategory.class)
+                .setParameter("code", SkillCategoryType.DEVELOPMENT)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    SkillCategory skillCategory = SkillCategory.create(SkillCategoryType.DEVELOPMENT);
+                    em.persist(skillCategory);
+                    return skillCategory;
+                });
     }
 
     private SkillExchange createExchange(User receiverUser, User requester, UserSkill receiverSkill,
@@ -0,0 +1,98 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DaySlotMask 단위 테스트")
+class DaySlotMaskTest {
+
+    @Test
+    @DisplayName("구간을 30분 슬롯 비트로 변환하고 자정 종료는 하루 끝으로 본다")
+    public void range_convertsTimesToSlotBits() {
+        //given & when
+        long morning = DaySlotMask.range(LocalTime.of(10, 0), LocalTime.of(11, 30));
+        long lastHour = DaySlotMask.range(LocalTime.of(23, 0), LocalTime.MIDNIGHT);
+        long reversed = DaySlotMask.range(LocalTime.of(23, 30), LocalTime.of(1, 0));
+        long unaligned = DaySlotMask.range(LocalTime.of(10, 15), LocalTime.of(11, 15));
+
+        //then
+        assertThat(Long.numberOfTrailingZeros(morning)).isEqualTo(20);
+        assertThat(Long.bitCount(morning)).isEqualTo(3);
+        assertThat(lastHour).isEqualTo((1L << 46) | (1L << 47));
+        assertThat(reversed).isZero();
+        assertThat(unaligned).isEqualTo(1L << 21);
+        assertThat(DaySlotMask.range(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT)).isEqualTo(DaySlotMask.FULL_DAY);
+    }
+
+    @Test
+    @DisplayName("연속 슬롯 시작 위치는 예약을 피하고 자정을 넘지 않는다")
+    public void fitStarts_findsRuns() {
+        //given: 10:00 ~ 12:00 운영, 10:30 ~ 11:00 예약, 23:00 ~ 24:00 운영
+        long operating = DaySlotMask.range(20, 24) | DaySlotMask.range(46, 48);
+        long booked = DaySlotMask.range(21, 22);
+
+        //when
+        long oneHour = DaySlotMask.fitStarts(operating & ~booked, 2);
+
+        //then: 11:00, 23:00만 가능 (23:30 시작 1시간은 자정을 넘음)
+        assertThat(oneHour).isEqualTo((1L << 22) | (1L << 46));
+        assertThat(DaySlotMask.fitStarts(DaySlotMask.FULL_DAY, 48)).isEqualTo(1L);
+        assertThat(DaySlotMask.containsRun(operating, 46, 2)).isTrue();
+        assertThat(DaySlotMask.containsRun(operating, 47, 2)).isFalse();
+        assertThat(DaySlotMask.intersectsRun(booked, 20, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("무작위 스케줄에서 기존 Set<LocalTime> 방식과 같은 결과를 낸다")
+    public void fitStarts_matchesSetImplementation() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 2_000; trial++) {
+            //given
+            long operating = 0L;
+            long booked = 0L;
+            Set<LocalTime> operatingSet = new HashSet<>();
+            Set<LocalTime> bookedSet = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                int from = random.nextInt(48);
+                int to = Math.min(48, from + 1 + random.nextInt(8));
+                operating |= DaySlotMask.range(from, to);
+                addSlots(operatingSet, from, to);
+                int bookedFrom = random.nextInt(48);
+                int bookedTo = Math.min(48, bookedFrom + 1 + random.nextInt(3));
+                booked |= DaySlotMask.range(bookedFrom, bookedTo);
+                addSlots(bookedSet, bookedFrom, bookedTo);
+            }
+            int needed = 1 + random.nextInt(4);
+
+            //when
+            long starts = DaySlotMask.fitStarts(operating & ~booked, needed);
+
+            //then
+            for (LocalTime start : operatingSet) {
+                boolean expected = true;
+                for (int i = 0; i < needed; i++) {
+                    int index = DaySlotMask.indexOf(start) + i;
+                    LocalTime current = index < 48 ? DaySlotMask.timeOf(index) : null;
+                    if (current == null || bookedSet.contains(current) || !operatingSet.contains(current)) {
+                        expected = false;
+                        break;
+                    }
+                }
+                assertThat((starts & (1L << DaySlotMask.indexOf(start))) != 0).isEqualTo(expected);
+            }
+        }
+    }
+
+    private void addSlots(Set<LocalTime> slots, int from, int to) {
+        for (int i = from; i < to; i++) {
+            slots.add(DaySlotMask.timeOf(i));
+        }
+    }
+}
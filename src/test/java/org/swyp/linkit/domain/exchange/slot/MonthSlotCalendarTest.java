@@ -0,0 +1,48 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MonthSlotCalendar 단위 테스트")
+class MonthSlotCalendarTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+
+    @Test
+    @DisplayName("가능 시간에서 예약을 빼고 연속 슬롯이 들어가는 날짜만 반환한다")
+    public void datesFitting_excludesBookedDays() {
+        //given
+        MonthSlotCalendar operating = MonthSlotCalendar.empty(MONTH);
+        operating.add(LocalDate.of(2026, 2, 1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        operating.add(LocalDate.of(2026, 2, 6), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        operating.add(LocalDate.of(2026, 2, 28), LocalTime.of(23, 0), LocalTime.MIDNIGHT);
+        operating.add(LocalDate.of(2026, 3, 1), LocalTime.of(10, 0), LocalTime.of(12, 0));
+        MonthSlotCalendar booked = MonthSlotCalendar.empty(MONTH);
+        booked.add(LocalDate.of(2026, 2, 6), LocalTime.of(10, 30), LocalTime.of(11, 0));
+
+        //when
+        MonthSlotCalendar free = operating.andNot(booked);
+
+        //then
+        assertThat(free.datesWithSlots()).containsExactly(
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 6), LocalDate.of(2026, 2, 28));
+        assertThat(free.datesFitting(2)).containsExactly(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+        assertThat(free.datesFitting(3)).containsExactly(LocalDate.of(2026, 2, 1));
+        assertThat(free.toArray()).hasSize(28);
+        assertThat(free.maskOf(LocalDate.of(2026, 3, 1))).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 달의 달력과는 연산할 수 없다")
+    public void rejectsDifferentMonth() {
+        assertThatThrownBy(() -> MonthSlotCalendar.empty(MONTH).and(MonthSlotCalendar.empty(MONTH.plusMonths(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
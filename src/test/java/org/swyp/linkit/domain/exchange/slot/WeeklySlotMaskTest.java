@@ -0,0 +1,44 @@
+package org.swyp.linkit.domain.exchange.slot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WeeklySlotMask 단위 테스트")
+class WeeklySlotMaskTest {
+
+    @Test
+    @DisplayName("날짜의 요일 마스크를 반환하고 Redis 저장 문자열로 왕복해도 같은 값이다")
+    public void encodeDecode_roundTrip() {
+        //given
+        long[] days = new long[7];
+        days[0] = DaySlotMask.range(LocalTime.of(10, 0), LocalTime.of(12, 0));
+        days[6] = DaySlotMask.FULL_DAY;
+        WeeklySlotMask weekly = WeeklySlotMask.of(days);
+
+        //when
+        WeeklySlotMask decoded = WeeklySlotMask.decode(weekly.encode());
+
+        //then
+        assertThat(decoded).isEqualTo(weekly);
+        assertThat(decoded.maskOf(LocalDate.of(2026, 2, 2))).isEqualTo(days[0]);
+        assertThat(decoded.maskOf(DayOfWeek.SUNDAY)).isEqualTo(DaySlotMask.FULL_DAY);
+        assertThat(decoded.maskOf(DayOfWeek.WEDNESDAY)).isZero();
+        assertThat(WeeklySlotMask.decode(WeeklySlotMask.EMPTY.encode()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요일 수가 7이 아니거나 16진수가 아닌 값은 IllegalArgumentException")
+    public void decode_rejectsMalformedValue() {
+        assertThatThrownBy(() -> WeeklySlotMask.decode("1,2,3"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WeeklySlotMask.decode("0,0,0,0,0,0,zz"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,217 @@
+package org.swyp.linkit.domain.user.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+import org.swyp.linkit.domain.exchange.slot.WeeklySlotMask;
+import org.swyp.linkit.domain.user.entity.AvailableSchedule;
+import org.swyp.linkit.domain.user.entity.OAuthProvider;
+import org.swyp.linkit.domain.user.entity.User;
+import org.swyp.linkit.domain.user.entity.Weekday;
+import org.swyp.linkit.domain.user.event.AvailableScheduleChangedEvent;
+import org.swyp.linkit.domain.user.repository.AvailableScheduleRepository;
+import org.swyp.linkit.global.config.JpaAuditingConfig;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@RecordApplicationEvents
+@DisplayName("MentorAvailabilityCache 테스트")
+class MentorAvailabilityCacheTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    AvailableScheduleRepository availableScheduleRepository;
+
+    @Autowired
+    ApplicationEvents events;
+
+    private final StringRedisTemplate redisTemplate = Mockito.mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = Mockito.mock(ValueOperations.class);
+
+    private MentorAvailabilityCache cache;
+    private User mentor;
+
+    @BeforeEach
+    void setup() {
+        mentor = em.persist(User.create(OAuthProvider.KAKAO, "kakao-mentor", "mentor@example.com",
+                "mentor", "https://image", "mentor"));
+        mentor.addAvailableSchedule(AvailableSchedule.create(mentor, Weekday.MON, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        mentor.addAvailableSchedule(AvailableSchedule.create(mentor, Weekday.MON, LocalTime.of(11, 0), LocalTime.of(13, 0)));
+        mentor.addAvailableSchedule(AvailableSchedule.create(mentor, Weekday.SUN, LocalTime.of(22, 0), LocalTime.MIDNIGHT));
+        em.flush();
+        em.clear();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new MentorAvailabilityCache(availableScheduleRepository, redisTemplate, 100,
+                Duration.ofMinutes(10), Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("첫 조회만 DB 규칙을 요일별 마스크로 컴파일해 Redis에 저장하고 이후는 로컬 캐시에서 반환한다")
+    public void get_compilesOnceAndCaches() {
+        //when
+        WeeklySlotMask first = cache.get(mentor.getId());
+        WeeklySlotMask second = cache.get(mentor.getId());
+
+        //then
+        assertThat(first.maskOf(DayOfWeek.MONDAY)).isEqualTo(DaySlotMask.range(LocalTime.of(10, 0), LocalTime.of(13, 0)));
+        assertThat(first.maskOf(DayOfWeek.SUNDAY)).isEqualTo(DaySlotMask.range(LocalTime.of(22, 0), LocalTime.MIDNIGHT));
+        assertThat(first.maskOf(DayOfWeek.TUESDAY)).isZero();
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getDbLoadCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        verify(redisTemplate).execute(anyScript(), eq(List.of(key(), versionKey())),
+                eq(""), eq(first.encode()), eq(String.valueOf(Duration.ofHours(24).toMillis())));
+    }
+
+    @Test
+    @DisplayName("DB 조회 전에 읽은 버전을 조건으로 Redis에 저장한다 (그 사이 무효화되면 스크립트가 저장하지 않음)")
+    public void get_writesOnlyIfVersionUnchanged() {
+        //given: 다른 인스턴스에서 이미 3번 무효화됨
+        when(valueOperations.get(versionKey())).thenReturn("3");
+
+        //when
+        WeeklySlotMask loaded = cache.get(mentor.getId());
+
+        //then
+        verify(redisTemplate).execute(anyScript(), eq(List.of(key(), versionKey())),
+                eq("3"), eq(loaded.encode()), anyString());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis에 컴파일된 값이 있으면 DB를 조회하지 않고, 값이 깨져 있으면 DB에서 다시 적재한다")
+    public void get_usesRedisBeforeDatabase() {
+        //given
+        long[] days = new long[7];
+        days[2] = DaySlotMask.range(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        WeeklySlotMask stored = WeeklySlotMask.of(days);
+        when(valueOperations.get("mentor:availability:1000")).thenReturn(stored.encode());
+        when(valueOperations.get("mentor:availability:" + mentor.getId())).thenReturn("broken");
+
+        //when
+        WeeklySlotMask fromRedis = cache.get(1000L);
+        WeeklySlotMask fromDatabase = cache.get(mentor.getId());
+
+        //then
+        assertThat(fromRedis).isEqualTo(stored);
+        assertThat(fromDatabase.maskOf(DayOfWeek.MONDAY)).isNotZero();
+        assertThat(cache.getRedisHitCount()).isEqualTo(1);
+        assertThat(cache.getDbLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙이 없는 멘토도 빈 마스크로 캐싱해서 반복 조회하지 않는다")
+    public void get_cachesEmptyMentor() {
+        //when
+        WeeklySlotMask first = cache.get(mentor.getId() + 100);
+        cache.get(mentor.getId() + 100);
+
+        //then
+        assertThat(first.isEmpty()).isTrue();
+        assertThat(cache.getDbLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시와 Redis 키를 지우고 다른 인스턴스에 무효화 메시지를 발행한다")
+    public void invalidate_evictsAndPublishes() {
+        //given
+        cache.get(mentor.getId());
+
+        //when
+        cache.onScheduleChanged(new AvailableScheduleChangedEvent(mentor.getId()));
+        cache.get(mentor.getId());
+
+        //then
+        verify(redisTemplate).execute(anyScript(), eq(List.of(versionKey(), key())),
+                eq(String.valueOf(Duration.ofHours(24).toMillis())));
+        verify(redisTemplate).convertAndSend(MentorAvailabilityCache.INVALIDATION_CHANNEL, String.valueOf(mentor.getId()));
+        assertThat(cache.getDbLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 DB에서 적재해 응답하고 무효화는 로컬에서 처리한다")
+    public void redisFailure_fallsBackToDatabase() {
+        //given
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("redis down"));
+        when(redisTemplate.execute(anyScript(), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        //when
+        WeeklySlotMask loaded = cache.get(mentor.getId());
+        cache.invalidate(mentor.getId());
+
+        //then
+        assertThat(loaded.maskOf(DayOfWeek.MONDAY)).isNotZero();
+        assertThat(cache.getSize()).isZero();
+        // 버전을 알 수 없으면 이전 값이 남지 않도록 Redis에 저장하지 않음
+        verify(redisTemplate, never()).execute(anyScript(), eq(List.of(key(), versionKey())),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("User의 가능 일정 추가/제거는 flush 시점에 멘토 ID로 변경 이벤트를 발행한다")
+    public void scheduleChanges_publishEvents() {
+        //given
+        User managed = em.find(User.class, mentor.getId());
+        events.clear();
+
+        //when: 추가
+        managed.addAvailableSchedule(AvailableSchedule.create(managed, Weekday.WED, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        em.flush();
+
+        //then
+        assertThat(events.stream(AvailableScheduleChangedEvent.class))
+                .containsExactly(new AvailableScheduleChangedEvent(mentor.getId()));
+
+        //when: 전체 제거 (orphan 삭제, 연관관계가 끊긴 뒤에도 원래 멘토 ID로 발행)
+        events.clear();
+        managed.clearAvailableSchedules();
+        em.flush();
+
+        //then
+        assertThat(events.stream(AvailableScheduleChangedEvent.class))
+                .hasSize(4)
+                .allMatch(event -> event.mentorId().equals(mentor.getId()));
+    }
+
+    private String key() {
+        return "mentor:availability:" + mentor.getId();
+    }
+
+    private String versionKey() {
+        return "mentor:availability:version:" + mentor.getId();
+    }
+
+    // 캐시 스크립트는 RedisScript<Long> 이므로 타입을 지정한 matcher 사용 (raw 타입 unchecked 경고 방지)
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
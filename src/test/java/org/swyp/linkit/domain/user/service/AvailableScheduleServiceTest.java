@@ -0,0 +1,123 @@
+package org.swyp.linkit.domain.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.swyp.linkit.domain.exchange.slot.DaySlotMask;
+import org.swyp.linkit.domain.exchange.slot.MonthSlotCalendar;
+import org.swyp.linkit.domain.exchange.slot.WeeklySlotMask;
+import org.swyp.linkit.domain.user.cache.MentorAvailabilityCache;
+import org.swyp.linkit.domain.user.dto.AvailableScheduleDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AvailableScheduleService 단위 테스트")
+class AvailableScheduleServiceTest {
+
+    private static final Long MENTOR_ID = 1L;
+
+    @Mock
+    MentorAvailabilityCache mentorAvailabilityCache;
+
+    @InjectMocks
+    AvailableScheduleService availableScheduleService;
+
+    @Test
+    @DisplayName("특정 날짜 조회는 캐시된 그 요일 마스크의 구간에 날짜를 붙여 반환한다")
+    public void rulesFor_returnsWeekdayRules() {
+        // given
+        LocalDate wednesday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.WEDNESDAY));
+        when(mentorAvailabilityCache.get(MENTOR_ID)).thenReturn(weekly(DayOfWeek.WEDNESDAY,
+                DaySlotMask.range(LocalTime.of(10, 0), LocalTime.of(12, 0))
+                        | DaySlotMask.range(LocalTime.of(14, 0), LocalTime.of(15, 0))));
+
+        // when
+        List<AvailableScheduleDto> result = availableScheduleService.rulesFor(MENTOR_ID, wednesday);
+
+        // then
+        assertThat(result).extracting(AvailableScheduleDto::getStartTime)
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(14, 0));
+        assertThat(result).extracting(AvailableScheduleDto::getEndTime)
+                .containsExactly(LocalTime.of(12, 0), LocalTime.of(15, 0));
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.getDate()).isEqualTo(wednesday);
+            assertThat(dto.getDayOfWeek()).isEqualTo("WED");
+        });
+    }
+
+    @Test
+    @DisplayName("예약 가능 기간(2일 뒤 ~ 3개월) 밖의 날짜는 조회하지 않고 빈 목록을 반환한다")
+    public void rulesFor_outsideBookableWindow() {
+        // when
+        List<AvailableScheduleDto> tomorrow = availableScheduleService.rulesFor(MENTOR_ID, LocalDate.now().plusDays(1));
+        List<AvailableScheduleDto> farAway = availableScheduleService.rulesFor(MENTOR_ID, LocalDate.now().plusMonths(4));
+
+        // then
+        assertThat(tomorrow).isEmpty();
+        assertThat(farAway).isEmpty();
+        verify(mentorAvailabilityCache, never()).get(anyLong());
+    }
+
+    @Test
+    @DisplayName("월 달력은 예약 가능 기간(2일 뒤 ~ 3개월)에 속하는 날짜에만 요일 마스크를 채운다")
+    public void getOperatingCalendar_boundedByBookableWindow() {
+        // given: 매일 09:00~10:00
+        long mask = DaySlotMask.range(LocalTime.of(9, 0), LocalTime.of(10, 0));
+        long[] days = new long[7];
+        Arrays.fill(days, mask);
+        when(mentorAvailabilityCache.get(MENTOR_ID)).thenReturn(WeeklySlotMask.of(days));
+        LocalDate today = LocalDate.now();
+
+        // when
+        MonthSlotCalendar calendar = availableScheduleService.getOperatingCalendar(MENTOR_ID, YearMonth.from(today));
+
+        // then: 이번 달 중 2일 뒤부터만 채워짐
+        for (LocalDate date = today.withDayOfMonth(1); !date.isAfter(today.with(TemporalAdjusters.lastDayOfMonth()));
+             date = date.plusDays(1)) {
+            assertThat(calendar.maskOf(date)).isEqualTo(date.isBefore(today.plusDays(2)) ? 0L : mask);
+        }
+    }
+
+    @Test
+    @DisplayName("이어지거나 하루 끝까지 가는 구간은 하나로 합치고 자정 종료는 00:00으로 반환한다")
+    public void rulesFor_mergesAdjacentRuns() {
+        // given: 10:00~11:00 + 11:00~12:00, 22:00~24:00
+        LocalDate friday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+        when(mentorAvailabilityCache.get(MENTOR_ID)).thenReturn(weekly(DayOfWeek.FRIDAY,
+                DaySlotMask.range(LocalTime.of(10, 0), LocalTime.of(11, 0))
+                        | DaySlotMask.range(LocalTime.of(11, 0), LocalTime.of(12, 0))
+                        | DaySlotMask.range(LocalTime.of(22, 0), LocalTime.MIDNIGHT)));
+
+        // when
+        List<AvailableScheduleDto> result = availableScheduleService.rulesFor(MENTOR_ID, friday);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(result.get(0).getEndTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThat(result.get(1).getStartTime()).isEqualTo(LocalTime.of(22, 0));
+        assertThat(result.get(1).getEndTime()).isEqualTo(LocalTime.MIDNIGHT);
+    }
+
+    private WeeklySlotMask weekly(DayOfWeek dayOfWeek, long mask) {
+        long[] days = new long[7];
+        days[dayOfWeek.getValue() - 1] = mask;
+        return WeeklySlotMask.of(days);
+    }
+}
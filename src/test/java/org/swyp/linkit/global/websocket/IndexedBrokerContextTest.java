@@ -0,0 +1,31 @@
+package org.swyp.linkit.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.test.context.ActiveProfiles;
+import org.swyp.linkit.TestRedisConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestRedisConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.websocket.broker.mode=indexed")
+@DisplayName("indexed 브로커 모드 컨텍스트 테스트")
+class IndexedBrokerContextTest {
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    ExecutorSubscribableChannel clientOutboundChannel;
+
+    @Test
+    @DisplayName("indexed 모드에서도 컨텍스트가 뜨고 outbound 채널 executor는 TaskExecutor로 노출된다")
+    public void contextLoadsWithShardedOutboundExecutor() {
+        assertThat(clientOutboundChannel.getExecutor()).isInstanceOf(TaskExecutor.class);
+    }
+}
@@ -0,0 +1,86 @@
+package org.swyp.linkit.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IndexedSubscriptionRegistry 단위 테스트")
+class IndexedSubscriptionRegistryTest {
+
+    private final IndexedSubscriptionRegistry registry = new IndexedSubscriptionRegistry();
+
+    @Test
+    @DisplayName("destination이 정확히 일치하는 구독만 조회한다")
+    public void findSubscriptions_exactDestination() {
+        //given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/chat.room.1"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/chat.room.1"));
+        registry.registerSubscription(subscribe("s2", "sub-2", "/topic/chat.room.2"));
+
+        //when
+        MultiValueMap<String, String> result = registry.findSubscriptions(message("/topic/chat.room.1"));
+
+        //then
+        assertThat(result).containsOnlyKeys("s1", "s2");
+        assertThat(result.get("s2")).containsExactly("sub-1");
+    }
+
+    @Test
+    @DisplayName("구독 해제와 세션 종료 시 인덱스에서 제거된다")
+    public void unregister() {
+        //given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/chat.room.1"));
+        registry.registerSubscription(subscribe("s1", "sub-2", "/topic/notification.1"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/chat.room.1"));
+
+        //when
+        registry.unregisterSubscription(unsubscribe("s2", "sub-1"));
+        registry.unregisterAllSubscriptions("s1");
+
+        //then
+        assertThat(registry.findSubscriptions(message("/topic/chat.room.1"))).isEmpty();
+        assertThat(registry.getDestinationCount()).isZero();
+        assertThat(registry.getSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("패턴 구독도 매칭된다")
+    public void findSubscriptions_pattern() {
+        //given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/chat.room.*"));
+        registry.registerSubscription(subscribe("s2", "sub-1", "/topic/chat.room.7"));
+
+        //when
+        MultiValueMap<String, String> result = registry.findSubscriptions(message("/topic/chat.room.7"));
+
+        //then
+        assertThat(result).containsOnlyKeys("s1", "s2");
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
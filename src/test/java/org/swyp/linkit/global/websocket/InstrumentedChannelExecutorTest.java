@@ -0,0 +1,117 @@
+package org.swyp.linkit.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InstrumentedChannelExecutor 단위 테스트")
+class InstrumentedChannelExecutorTest {
+
+    @Test
+    @DisplayName("대기 중/실행 중 작업 수와 지연을 기록한다")
+    public void recordsQueueDepthAndLatency() throws Exception {
+        //given
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        ChannelExecutorMetrics metrics = new ChannelExecutorMetrics("inbound");
+        InstrumentedChannelExecutor executor = new InstrumentedChannelExecutor(single, metrics);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            //when: 첫 작업이 스레드를 점유한 동안 두 작업을 더 제출
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.execute(() -> { });
+            executor.execute(() -> { });
+
+            //then
+            assertThat(metrics.getActiveCount()).isEqualTo(1);
+            assertThat(metrics.getQueueDepth()).isEqualTo(2);
+
+            release.countDown();
+            single.shutdown();
+            assertThat(single.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            ChannelExecutorMetrics.Snapshot snapshot = metrics.snapshotAndReset();
+            assertThat(snapshot.queueDepth()).isZero();
+            assertThat(snapshot.activeCount()).isZero();
+            assertThat(snapshot.intervalCompleted()).isEqualTo(3);
+            assertThat(snapshot.maxWaitMicros()).isPositive();
+            assertThat(metrics.snapshotAndReset().intervalCompleted()).isZero();
+        } finally {
+            release.countDown();
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("세션 샤딩 executor와 함께 사용해도 세션별 전송 순서가 유지된다")
+    public void preservesSessionShardingWhenWrapped() throws Exception {
+        //given
+        SessionShardedExecutor sharded = new SessionShardedExecutor("test-outbound-", 4);
+        ChannelExecutorMetrics metrics = new ChannelExecutorMetrics("outbound");
+        ExecutorSubscribableChannel channel =
+                new ExecutorSubscribableChannel(new InstrumentedChannelExecutor(sharded, metrics));
+
+        int perSession = 200;
+        CountDownLatch done = new CountDownLatch(perSession * 3);
+        ConcurrentHashMap<String, List<Integer>> received = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, String> threads = new ConcurrentHashMap<>();
+        channel.subscribe(message -> {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            received.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add((Integer) message.getPayload());
+            threads.merge(sessionId, Thread.currentThread().getName(), (a, b) -> a.equals(b) ? a : "mixed");
+            done.countDown();
+        });
+
+        try {
+            //when
+            for (int i = 0; i < perSession; i++) {
+                for (String sessionId : List.of("s1", "s2", "s3")) {
+                    channel.send(message(sessionId, i));
+                }
+            }
+
+            //then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            for (String sessionId : List.of("s1", "s2", "s3")) {
+                assertThat(received.get(sessionId)).isSorted().hasSize(perSession);
+                assertThat(threads.get(sessionId)).startsWith("test-outbound-");
+            }
+            assertThat(metrics.snapshotAndReset().submitted()).isEqualTo(perSession * 3L);
+        } finally {
+            sharded.destroy();
+        }
+    }
+
+    private Message<Integer> message(String sessionId, int sequence) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(sequence, accessor.getMessageHeaders());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.swyp.linkit.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.swyp.linkit.global.config.StompPrincipal;
+import org.swyp.linkit.global.error.exception.ChatRateLimitedException;
+import org.swyp.linkit.global.handler.StompErrorHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("StompRateLimitInterceptor 단위 테스트")
+class StompRateLimitInterceptorTest {
+
+    private static final String SEND_DESTINATION = "/app/chat/send";
+    private static final String READ_DESTINATION = "/app/chat/room/1/read";
+    private static final String EVENT_DESTINATION = "/app/chat/room/1/event";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    @DisplayName("세션 버킷 용량을 넘은 SEND 프레임은 거부하고 다른 분류의 버킷에는 영향이 없다")
+    public void rejectsWhenSessionBucketIsEmpty() {
+        //given: 세션당 메시지 3건, 읽음 30건
+        StompRateLimitInterceptor interceptor = newInterceptor(3, 10);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", "10", SEND_DESTINATION), null);
+        }
+
+        //then
+        assertThatThrownBy(() -> interceptor.preSend(send("s1", "10", SEND_DESTINATION), null))
+                .isInstanceOf(ChatRateLimitedException.class);
+        interceptor.preSend(send("s1", "10", READ_DESTINATION), null);
+        assertThat(interceptor.getRejectedCount(StompFrameCategory.SEND)).isEqualTo(1);
+        assertThat(interceptor.getRejectedCount(StompFrameCategory.READ)).isZero();
+    }
+
+    @Test
+    @DisplayName("READ/EVENT 프레임은 제한을 넘으면 예외(ERROR 프레임) 없이 버려지고 세션 버킷은 유지된다")
+    public void dropsReadAndEventFramesWithoutError() {
+        //given: 세션당 읽음 30건, 이벤트 50건
+        StompRateLimitInterceptor interceptor = newInterceptor(3, 10);
+        for (int i = 0; i < 30; i++) {
+            assertThat(interceptor.preSend(send("s1", "10", READ_DESTINATION), null)).isNotNull();
+        }
+        for (int i = 0; i < 50; i++) {
+            assertThat(interceptor.preSend(send("s1", "10", EVENT_DESTINATION), null)).isNotNull();
+        }
+
+        //when
+        Message<?> droppedRead = interceptor.preSend(send("s1", "10", READ_DESTINATION), null);
+        Message<?> droppedEvent = interceptor.preSend(send("s1", "10", EVENT_DESTINATION), null);
+
+        //then: 연결이 끊기지 않으므로 세션 버킷이 남아 다음 프레임도 계속 제한됨
+        assertThat(droppedRead).isNull();
+        assertThat(droppedEvent).isNull();
+        assertThat(interceptor.preSend(send("s1", "10", EVENT_DESTINATION), null)).isNull();
+        assertThat(interceptor.getRejectedCount(StompFrameCategory.READ)).isEqualTo(1);
+        assertThat(interceptor.getRejectedCount(StompFrameCategory.EVENT)).isEqualTo(2);
+        assertThat(interceptor.getSessionCount()).isEqualTo(1);
+        interceptor.preSend(send("s1", "10", SEND_DESTINATION), null);
+    }
+
+    @Test
+    @DisplayName("사용자 버킷은 세션 여러 개의 전송량을 합산해서 제한한다")
+    public void rejectsWhenUserBucketIsEmptyAcrossSessions() {
+        //given: 세션당 3건, 사용자당 3 x 2 = 6건
+        StompRateLimitInterceptor interceptor = newInterceptor(3, 2);
+        for (String session : new String[]{"s1", "s2"}) {
+            for (int i = 0; i < 3; i++) {
+                interceptor.preSend(send(session, "10", SEND_DESTINATION), null);
+            }
+        }
+
+        //when & then: 새 세션이라도 같은 사용자면 거부, 다른 사용자는 허용
+        assertThatThrownBy(() -> interceptor.preSend(send("s3", "10", SEND_DESTINATION), null))
+                .isInstanceOf(ChatRateLimitedException.class);
+        interceptor.preSend(send("s4", "20", SEND_DESTINATION), null);
+    }
+
+    @Test
+    @DisplayName("SEND 외 프레임은 제한하지 않고, 연결이 끊기면 세션 버킷을 정리한다")
+    public void ignoresOtherFramesAndClearsSessionOnDisconnect() {
+        //given
+        StompRateLimitInterceptor interceptor = newInterceptor(1, 10);
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId("s1");
+        subscribe.setLeaveMutable(true);
+        Message<byte[]> subscribeMessage = MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders());
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            interceptor.preSend(subscribeMessage, null);
+        }
+        interceptor.preSend(send("s1", "10", SEND_DESTINATION), null);
+        interceptor.onDisconnect(new SessionDisconnectEvent(this, send("s1", "10", SEND_DESTINATION),
+                "s1", CloseStatus.NORMAL));
+
+        //then
+        assertThat(interceptor.getSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("거부 예외는 StompErrorHandler에서 CH010 ERROR 프레임으로 변환된다")
+    public void rejectionBecomesErrorFrame() {
+        //given
+        StompErrorHandler errorHandler = new StompErrorHandler();
+        MessageDeliveryException wrapped = new MessageDeliveryException(
+                send("s1", "10", SEND_DESTINATION), new ChatRateLimitedException(StompFrameCategory.SEND.name()));
+
+        //when
+        Message<byte[]> error = errorHandler.handleClientMessageProcessingError(null, wrapped);
+
+        //then
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(error);
+        assertThat(accessor.getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(accessor.getMessage()).isEqualTo("CH010");
+        assertThat(new String(error.getPayload(), StandardCharsets.UTF_8)).contains("\"code\":\"CH010\"");
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 동시 요청에서도 용량만큼만 허용하고 시간이 지나면 다시 채워진다")
+    public void tokenBucketIsExactUnderContention() throws Exception {
+        //given: 용량 1,000, 초당 1개 충전
+        long start = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(1000, 1, start);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                ready.await();
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryAcquire(start)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        assertThat(acquired.get()).isEqualTo(1000);
+        assertThat(bucket.tryAcquire(start)).isFalse();
+        assertThat(bucket.tryAcquire(start + TimeUnit.SECONDS.toNanos(2))).isTrue();
+    }
+
+    private StompRateLimitInterceptor newInterceptor(int sendCapacity, int userMultiplier) {
+        return new StompRateLimitInterceptor(redisTemplate, true, userMultiplier,
+                sendCapacity, 0.001, 30, 0.001, 10, 0.001, 50, 0.001, false);
+    }
+
+    private Message<byte[]> send(String sessionId, String userId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        accessor.setUser(new StompPrincipal(userId));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}